@@ -0,0 +1,205 @@
+package com.example.demo.UI;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.actors.planes.Boss;
+import com.example.demo.actors.planes.UserPlane;
+import com.example.demo.assets.SpriteAtlas;
+import com.example.demo.levels.GameSettings;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.WritableImage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a pulse with many glowing actors, the way each {@link GlowMode} shows them.
+ * <p>
+ * Half of the actors are user planes and half are bosses, and a share of them glows at the level they use when
+ * damaged or shielded. Every pulse moves each actor a little, copies the actors to the renderer and rasterises the
+ * actor layer with a snapshot, which also reads the frame back; that cost is the same for every mode. Moving matters:
+ * a cached view is only reused while it does not change other than by moving. Like {@code AtlasDrawBenchmark} this
+ * starts the JavaFX toolkit, so it needs a display or the Monocle headless platform bundled with the benchmarks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GlowPulseBenchmark {
+
+	private static final long SEED = 2024;
+	private static final double SCREEN_WIDTH = 1300;
+	private static final double SCREEN_HEIGHT = 750;
+	private static final int USER_PLANE_HEIGHT = 60;
+	private static final int BOSS_HEIGHT = 75;
+	private static final int WOBBLE = 10;
+
+	/**
+	 * A renderer showing a fixed set of actors, some of them glowing.
+	 */
+	@State(Scope.Benchmark)
+	public static class PulseState {
+
+		@Param({"200", "2000"})
+		int actors;
+
+		@Param({"0.1", "1.0"})
+		double glowingShare;
+
+		@Param({"NODES", "CANVAS"})
+		GameSettings.RenderMode renderer;
+
+		@Param({"EFFECT", "CACHED_EFFECT", "SPRITES"})
+		GlowMode glowMode;
+
+		private ActorRenderer actorRenderer;
+		private Node layer;
+		private Sprite[] sprites;
+		private SnapshotParameters parameters;
+		private WritableImage frame;
+		private int pulse;
+
+		/**
+		 * Starts the toolkit if needed, renders the glowing sprites and places the actors.
+		 *
+		 * @throws Exception if the toolkit cannot be started
+		 */
+		@Setup(Level.Trial)
+		public void prepare() throws Exception {
+			startToolkit();
+			onFxThread(() -> {
+				SpriteAtlas.getDefault().load();
+				if (glowMode == GlowMode.SPRITES) {
+					SpriteAtlas.getDefault().loadGlow(UserPlane.DAMAGE_GLOW_LEVEL, Boss.SHIELD_GLOW_LEVEL);
+				}
+				if (renderer == GameSettings.RenderMode.CANVAS) {
+					CanvasActorRenderer canvasRenderer = new CanvasActorRenderer(SCREEN_WIDTH, SCREEN_HEIGHT, glowMode);
+					actorRenderer = canvasRenderer;
+					layer = canvasRenderer.getLayer();
+				} else {
+					NodeActorRenderer nodeRenderer = new NodeActorRenderer(glowMode);
+					actorRenderer = nodeRenderer;
+					layer = nodeRenderer.getLayer();
+				}
+				SplittableRandom random = new SplittableRandom(SEED);
+				sprites = new Sprite[actors];
+				for (int i = 0; i < actors; i++) {
+					boolean boss = i % 2 == 1;
+					boolean glowing = random.nextDouble() < glowingShare;
+					sprites[i] = new Sprite(boss ? "bossplane.png" : "userplane.png", boss ? BOSS_HEIGHT : USER_PLANE_HEIGHT,
+							random.nextDouble() * SCREEN_WIDTH, random.nextDouble() * SCREEN_HEIGHT,
+							glowing ? (boss ? Boss.SHIELD_GLOW_LEVEL : UserPlane.DAMAGE_GLOW_LEVEL) : 0);
+					actorRenderer.addActor(sprites[i]);
+				}
+				parameters = new SnapshotParameters();
+				frame = new WritableImage((int) SCREEN_WIDTH, (int) SCREEN_HEIGHT);
+				return null;
+			});
+		}
+
+		/**
+		 * Moves every actor, brings the renderer up to date and rasterises the actor layer.
+		 *
+		 * @return the rasterised frame
+		 */
+		WritableImage pulse() {
+			pulse++;
+			for (Sprite sprite : sprites) {
+				sprite.wobble(pulse);
+			}
+			actorRenderer.render(1.0);
+			return layer.snapshot(parameters, frame);
+		}
+	}
+
+	/**
+	 * Runs one pulse on the JavaFX Application Thread.
+	 *
+	 * @param state the actors to show
+	 * @return the rasterised frame, so the work cannot be optimised away
+	 * @throws Exception if rendering fails
+	 */
+	@Benchmark
+	public WritableImage pulse(PulseState state) throws Exception {
+		return onFxThread(state::pulse);
+	}
+
+	/**
+	 * An actor that stays near its starting point and glows at a fixed level.
+	 */
+	static final class Sprite extends ActiveActor {
+
+		/**
+		 * Constructs a sprite.
+		 *
+		 * @param imageName the sprite's image
+		 * @param height    the drawn height
+		 * @param x         the starting X-coordinate
+		 * @param y         the starting Y-coordinate
+		 * @param glowLevel the glow level, 0 for none
+		 */
+		Sprite(String imageName, int height, double x, double y, double glowLevel) {
+			super(imageName, height, x, y);
+			if (glowLevel != 0) {
+				setGlow(glowLevel);
+			}
+		}
+
+		/**
+		 * Moves the sprite back and forth by a few pixels.
+		 *
+		 * @param pulse the number of the pulse
+		 */
+		void wobble(int pulse) {
+			savePreviousPosition();
+			setTranslateX(pulse % (2 * WOBBLE) - WOBBLE);
+		}
+	}
+
+	/**
+	 * Starts the JavaFX toolkit unless it is already running.
+	 */
+	private static void startToolkit() {
+		try {
+			Platform.startup(() -> {
+			});
+		} catch (IllegalStateException e) {
+			// already started by an earlier trial
+		}
+	}
+
+	/**
+	 * Runs a task on the JavaFX Application Thread and waits for its result.
+	 *
+	 * @param task the task to run
+	 * @param <T>  the type of the result
+	 * @return the result of the task
+	 * @throws Exception if the task fails or the wait is interrupted
+	 */
+	private static <T> T onFxThread(Callable<T> task) throws Exception {
+		FutureTask<T> future = new FutureTask<>(task);
+		Platform.runLater(future);
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof Exception cause ? cause : e;
+		}
+	}
+}
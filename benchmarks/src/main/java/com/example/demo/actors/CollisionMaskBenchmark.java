@@ -0,0 +1,109 @@
+package com.example.demo.actors;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.example.demo.actors.planes.planeFactory;
+import com.example.demo.actors.projectiles.projectileFactory;
+import com.example.demo.balance.Balance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures testing pairs of actors for a collision with hitboxes alone and with hitboxes followed by pixel masks.
+ * <p>
+ * Pairs are placed close enough that their drawn sprites always overlap and their hitboxes overlap about half the
+ * time, far more often than in a level where the spatial grid has already dropped distant pairs. The mask test only
+ * runs for those, so this is close to its worst case. Every pair mixes a projectile with a plane, like the collisions
+ * a level checks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionMaskBenchmark {
+
+	private static final long SEED = 2024;
+	private static final String[] PLANE_TYPES = {"enemy", "enemy2", "boss"};
+	private static final String[] PROJECTILE_TYPES = {"user", "enemy", "boss"};
+
+	/**
+	 * A fixed set of nearby plane and projectile pairs.
+	 */
+	@State(Scope.Thread)
+	public static class PairState {
+
+		@Param({"1000"})
+		int pairs;
+
+		ActiveActor[] planes;
+		ActiveActor[] projectiles;
+
+		/**
+		 * Places the pairs. Building the actors also builds their collision masks, outside the measurement.
+		 */
+		@Setup(Level.Trial)
+		public void placePairs() {
+			SplittableRandom random = new SplittableRandom(SEED);
+			planes = new ActiveActor[pairs];
+			projectiles = new ActiveActor[pairs];
+			for (int i = 0; i < pairs; i++) {
+				ActiveActor plane = planeFactory.createEnemyPlane(PLANE_TYPES[random.nextInt(PLANE_TYPES.length)],
+						0, 0, random.split(), Balance.DEFAULT);
+				ActiveActor projectile = projectileFactory.createProjectile(
+						PROJECTILE_TYPES[random.nextInt(PROJECTILE_TYPES.length)], 0, 0);
+				double x = plane.getX() + random.nextDouble(-projectile.getWidth(), plane.getWidth());
+				double y = plane.getY() + random.nextDouble(-projectile.getHeight(), plane.getHeight());
+				projectile.setLayoutX(x - projectile.getX() + projectile.getLayoutX());
+				projectile.setLayoutY(y - projectile.getY() + projectile.getLayoutY());
+				planes[i] = plane;
+				projectiles[i] = projectile;
+			}
+		}
+	}
+
+	/**
+	 * Tests every pair with the hitbox rectangles only.
+	 *
+	 * @param state the pairs to test
+	 * @return the number of colliding pairs
+	 */
+	@Benchmark
+	public int hitboxes(PairState state) {
+		int hits = 0;
+		for (int i = 0; i < state.pairs; i++) {
+			if (state.projectiles[i].hitboxesOverlap(state.planes[i])) {
+				hits++;
+			}
+		}
+		return hits;
+	}
+
+	/**
+	 * Tests every pair with the hitbox rectangles and, where they overlap, the pixel masks.
+	 *
+	 * @param state the pairs to test
+	 * @return the number of colliding pairs
+	 */
+	@Benchmark
+	public int masks(PairState state) {
+		int hits = 0;
+		for (int i = 0; i < state.pairs; i++) {
+			if (state.projectiles[i].intersects(state.planes[i])) {
+				hits++;
+			}
+		}
+		return hits;
+	}
+}
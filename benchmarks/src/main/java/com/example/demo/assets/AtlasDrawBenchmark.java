@@ -0,0 +1,180 @@
+package com.example.demo.assets;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures drawing a frame of many mixed sprites onto a canvas, from separate images or from the sprite atlas.
+ * <p>
+ * Sprites are drawn in random order, like actors of different kinds joining a level over time, so drawing from
+ * separate images switches texture on almost every call while the atlas keeps using one. Each frame is rasterised
+ * with a canvas snapshot, which also reads the frame back; that cost is the same for both sources.
+ * Unlike the tick benchmarks this one starts the JavaFX toolkit, so it needs a display or the Monocle headless
+ * platform bundled with the benchmarks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AtlasDrawBenchmark {
+
+	private static final long SEED = 2024;
+	private static final double SCREEN_WIDTH = 1300;
+	private static final double SCREEN_HEIGHT = 750;
+
+	/** The packed sprites and the heights they are drawn at in the game. */
+	private static final String[] SPRITE_NAMES = {
+			"bossplane.png", "enemyFire.png", "enemyplane.png", "enemyplane2.png",
+			"fireball.png", "heart.png", "userfire.png", "userplane.png"
+	};
+	private static final double[] SPRITE_HEIGHTS = {75, 30, 80, 80, 75, 50, 5, 60};
+
+	/**
+	 * Where the sprites are drawn from.
+	 */
+	public enum Source {
+
+		/** Every sprite is its own image. */
+		SEPARATE,
+
+		/** Every sprite is a region of an atlas page. */
+		ATLAS
+	}
+
+	/**
+	 * A canvas and a fixed, randomly mixed set of sprites to draw onto it.
+	 */
+	@State(Scope.Benchmark)
+	public static class DrawState {
+
+		@Param({"1000", "10000"})
+		int sprites;
+
+		@Param({"SEPARATE", "ATLAS"})
+		Source source;
+
+		private Canvas canvas;
+		private WritableImage frame;
+		private Image[] images;
+		private double[] sourceRects;
+		private double[] targetRects;
+
+		/**
+		 * Starts the toolkit if needed and prepares the sprites.
+		 *
+		 * @throws Exception if the toolkit cannot be started
+		 */
+		@Setup(Level.Trial)
+		public void prepare() throws Exception {
+			startToolkit();
+			onFxThread(() -> {
+				canvas = new Canvas(SCREEN_WIDTH, SCREEN_HEIGHT);
+				frame = new WritableImage((int) SCREEN_WIDTH, (int) SCREEN_HEIGHT);
+				SpriteAtlas atlas = SpriteAtlas.getDefault();
+				SplittableRandom random = new SplittableRandom(SEED);
+				images = new Image[sprites];
+				sourceRects = new double[sprites * 4];
+				targetRects = new double[sprites * 4];
+				for (int i = 0; i < sprites; i++) {
+					int sprite = random.nextInt(SPRITE_NAMES.length);
+					SpriteAtlas.Region region = atlas.getRegion(SPRITE_NAMES[sprite]);
+					if (source == Source.ATLAS) {
+						images[i] = atlas.getPage(region.getPage());
+						sourceRects[i * 4] = region.getX();
+						sourceRects[i * 4 + 1] = region.getY();
+					} else {
+						images[i] = SpriteCache.getImage(SpriteCache.IMAGE_LOCATION + SPRITE_NAMES[sprite]);
+					}
+					sourceRects[i * 4 + 2] = region.getWidth();
+					sourceRects[i * 4 + 3] = region.getHeight();
+					double height = SPRITE_HEIGHTS[sprite];
+					targetRects[i * 4] = random.nextDouble() * SCREEN_WIDTH;
+					targetRects[i * 4 + 1] = random.nextDouble() * SCREEN_HEIGHT;
+					targetRects[i * 4 + 2] = height * region.getWidth() / region.getHeight();
+					targetRects[i * 4 + 3] = height;
+				}
+				return null;
+			});
+		}
+
+		/**
+		 * Clears the canvas, draws every sprite and rasterises the frame.
+		 *
+		 * @return the rasterised frame
+		 */
+		WritableImage drawFrame() {
+			GraphicsContext graphics = canvas.getGraphicsContext2D();
+			graphics.clearRect(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
+			for (int i = 0; i < images.length; i++) {
+				int r = i * 4;
+				graphics.drawImage(images[i], sourceRects[r], sourceRects[r + 1], sourceRects[r + 2], sourceRects[r + 3],
+						targetRects[r], targetRects[r + 1], targetRects[r + 2], targetRects[r + 3]);
+			}
+			return canvas.snapshot(null, frame);
+		}
+	}
+
+	/**
+	 * Draws one frame on the JavaFX Application Thread.
+	 *
+	 * @param state the sprites to draw
+	 * @return the rasterised frame, so the work cannot be optimised away
+	 * @throws Exception if drawing fails
+	 */
+	@Benchmark
+	public WritableImage drawFrame(DrawState state) throws Exception {
+		return onFxThread(state::drawFrame);
+	}
+
+	/**
+	 * Starts the JavaFX toolkit unless it is already running.
+	 */
+	private static void startToolkit() {
+		try {
+			Platform.startup(() -> {
+			});
+		} catch (IllegalStateException e) {
+			// already started by an earlier trial
+		}
+	}
+
+	/**
+	 * Runs a task on the JavaFX Application Thread and waits for its result.
+	 *
+	 * @param task the task to run
+	 * @param <T>  the type of the result
+	 * @return the result of the task
+	 * @throws Exception if the task fails or the wait is interrupted
+	 */
+	private static <T> T onFxThread(Callable<T> task) throws Exception {
+		FutureTask<T> future = new FutureTask<>(task);
+		Platform.runLater(future);
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof Exception cause ? cause : e;
+		}
+	}
+}
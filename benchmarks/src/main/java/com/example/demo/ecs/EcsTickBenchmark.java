@@ -0,0 +1,160 @@
+package com.example.demo.ecs;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.example.demo.balance.Balance;
+import com.example.demo.levels.BenchmarkLevel;
+import com.example.demo.levels.GameSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of a full tick with the actor class hierarchy and with the entity-component-system.
+ * <p>
+ * Both sides keep the same population on screen: {@code enemies} basic enemy planes and {@code projectiles} user
+ * projectiles and, separately, enemy projectiles, scattered from a seeded random source and topped up before every
+ * tick. The class side is a {@link BenchmarkLevel}; the ECS side runs the same phases over prefab entities with the
+ * same sprites, hitboxes, masks and speeds.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EcsTickBenchmark {
+
+	private static final long SEED = 2024;
+	private static final double SCREEN_WIDTH = BenchmarkLevel.SCREEN_WIDTH;
+	private static final double SCREEN_HEIGHT = BenchmarkLevel.SCREEN_HEIGHT;
+	/** The range of Y-coordinates enemies use, see {@code LevelParent}. */
+	private static final double MAXIMUM_Y = SCREEN_HEIGHT - 150;
+
+	/**
+	 * The benchmark's population.
+	 */
+	@State(Scope.Thread)
+	public static class Population {
+
+		@Param({"50", "500", "5000"})
+		int enemies;
+
+		@Param({"200", "2000"})
+		int projectiles;
+	}
+
+	/**
+	 * A benchmark level with the population.
+	 */
+	public static class HierarchyState extends Population {
+
+		BenchmarkLevel level;
+
+		/**
+		 * Builds a fresh level.
+		 */
+		@Setup(Level.Iteration)
+		public void createLevel() {
+			level = new BenchmarkLevel(enemies, projectiles, SEED);
+		}
+	}
+
+	/**
+	 * An ECS simulation with the population.
+	 */
+	public static class EcsState extends Population {
+
+		EcsSimulation simulation;
+		Query enemyQuery;
+		Query userShotQuery;
+		Query enemyShotQuery;
+		SplittableRandom random;
+
+		/**
+		 * Builds a fresh simulation.
+		 */
+		@Setup(Level.Iteration)
+		public void createSimulation() {
+			simulation = new EcsSimulation(SEED, Balance.DEFAULT, SCREEN_WIDTH, SCREEN_HEIGHT,
+					GameSettings.getTickRate(), GameSettings.getDespawnMargin(),
+					GameSettings.getMaxProjectileLifetime());
+			simulation.spawnUser(Integer.MAX_VALUE);
+			World world = simulation.getWorld();
+			enemyQuery = world.query(Component.ENEMY);
+			userShotQuery = world.query(Component.PLAYER_SHOT);
+			enemyShotQuery = world.query(Component.ENEMY_SHOT);
+			random = new SplittableRandom(SEED);
+			replenish();
+		}
+
+		/**
+		 * Spawns entities until the population is complete again.
+		 */
+		void replenish() {
+			World world = simulation.getWorld();
+			ActorPrefabs prefabs = simulation.getPrefabs();
+			for (int i = enemyQuery.count(); i < enemies; i++) {
+				world.spawn(prefabs.getEnemyPlane(), randomX(), randomY());
+			}
+			for (int i = userShotQuery.count(); i < projectiles; i++) {
+				world.spawn(prefabs.getUserProjectile(), randomX(), randomY());
+			}
+			for (int i = enemyShotQuery.count(); i < projectiles; i++) {
+				world.spawn(prefabs.getEnemyProjectile(), randomX(), randomY());
+			}
+		}
+
+		/**
+		 * Returns a random X-coordinate on screen.
+		 *
+		 * @return an X-coordinate
+		 */
+		private double randomX() {
+			return random.nextDouble() * SCREEN_WIDTH;
+		}
+
+		/**
+		 * Returns a random Y-coordinate within the range enemies use.
+		 *
+		 * @return a Y-coordinate
+		 */
+		private double randomY() {
+			return random.nextDouble() * MAXIMUM_Y;
+		}
+	}
+
+	/**
+	 * Runs a tick of the level, which tops up its population in its spawn phase.
+	 *
+	 * @param state the level
+	 * @return the number of candidate pairs tested, so the work is not optimised away
+	 */
+	@Benchmark
+	public int classHierarchy(HierarchyState state) {
+		state.level.tick();
+		return state.level.getLastTickCandidatePairs();
+	}
+
+	/**
+	 * Tops up the population and runs a tick of the simulation.
+	 *
+	 * @param state the simulation
+	 * @return the number of entities, so the work is not optimised away
+	 */
+	@Benchmark
+	public int ecs(EcsState state) {
+		state.replenish();
+		state.simulation.tick();
+		return state.simulation.getWorld().size();
+	}
+}
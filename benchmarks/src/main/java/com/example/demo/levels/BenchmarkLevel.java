@@ -0,0 +1,174 @@
+package com.example.demo.levels;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.planes.planeFactory;
+import com.example.demo.actors.projectiles.projectileFactory;
+import com.example.demo.balance.Balance;
+import javafx.scene.Group;
+
+/**
+ * A headless level that keeps a fixed population of enemies and projectiles on screen.
+ * <p>
+ * Enemies and projectiles are scattered over the screen from a seeded random source, and every tick
+ * tops the population back up after kills, so a benchmark measures the same load on every iteration.
+ * The player cannot realistically lose and the level never ends. The class is final because its constructor already
+ * runs the level's spawning, which a subclass could not have prepared for.
+ */
+public final class BenchmarkLevel extends LevelParent {
+
+	/** The screen width of the game, see {@code Main}. */
+	public static final double SCREEN_WIDTH = 1300;
+	/** The screen height of the game, see {@code Main}. */
+	public static final double SCREEN_HEIGHT = 750;
+
+	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
+	private static final int PLAYER_INITIAL_HEALTH = Integer.MAX_VALUE;
+	private static final int KILLS_TO_ADVANCE = Integer.MAX_VALUE;
+	/** The player's health never runs out, so the view shows no hearts. */
+	private static final int HEARTS_DISPLAYED = 0;
+
+	private final int enemyCount;
+	private final int projectileCount;
+	private final SplittableRandom random;
+
+	/**
+	 * Constructs a benchmark level and fills it with its initial population.
+	 *
+	 * @param enemyCount      the number of enemy planes kept alive
+	 * @param projectileCount the number of user projectiles and of enemy projectiles kept alive
+	 * @param seed            the seed used to place actors and of the level's random source
+	 */
+	public BenchmarkLevel(int enemyCount, int projectileCount, long seed) {
+		super(BACKGROUND_IMAGE_NAME, SCREEN_HEIGHT, SCREEN_WIDTH, PLAYER_INITIAL_HEALTH, KILLS_TO_ADVANCE, seed, Balance.DEFAULT);
+		this.enemyCount = enemyCount;
+		this.projectileCount = projectileCount;
+		this.random = getRandom().stream(GameRandom.Stream.SPAWNING);
+		replenish();
+	}
+
+	/**
+	 * Destroys projectiles that have left the screen and adds actors until the population is complete again.
+	 * Enemies leaving the screen are already removed by the level itself.
+	 */
+	public void replenish() {
+		destroyOffscreen(getUserProjectiles());
+		destroyOffscreen(getEnemyProjectiles());
+		while (getEnemyUnits().size() < enemyCount) {
+			addEnemyUnit(planeFactory.createEnemyPlane("enemy", randomX(), randomY(),
+					getRandom().split(GameRandom.Stream.ENEMIES), getBalance()));
+		}
+		while (getUserProjectiles().size() < projectileCount) {
+			spawnUserProjectile(
+					projectileFactory.createProjectile(getProjectilePools(), "user", randomX(), randomY()));
+		}
+		while (getEnemyProjectiles().size() < projectileCount) {
+			spawnEnemyProjectile(
+					projectileFactory.createProjectile(getProjectilePools(), "enemy", randomX(), randomY()));
+		}
+	}
+
+	/**
+	 * Destroys a random share of every actor list except the player's.
+	 *
+	 * @param fraction the probability of each actor being destroyed, from 0 to 1
+	 */
+	public void destroyRandomActors(double fraction) {
+		destroyRandomActors(getEnemyUnits(), fraction);
+		destroyRandomActors(getUserProjectiles(), fraction);
+		destroyRandomActors(getEnemyProjectiles(), fraction);
+	}
+
+	/**
+	 * Destroys and removes the enemy projectiles beyond the given count, returning them to their pool.
+	 *
+	 * @param count the number of enemy projectiles to keep
+	 */
+	public void trimEnemyProjectiles(int count) {
+		List<ActiveActorDestructible> projectiles = getEnemyProjectiles();
+		for (int i = count; i < projectiles.size(); i++) {
+			projectiles.get(i).destroy();
+		}
+		removeAllDestroyedActors();
+	}
+
+	/**
+	 * Keeps the population constant instead of spawning enemies at random.
+	 */
+	@Override
+	protected void spawnEnemyUnits() {
+		replenish();
+	}
+
+	/**
+	 * The benchmark level never ends.
+	 */
+	@Override
+	protected void checkIfGameOver() {
+	}
+
+	/**
+	 * Not used, benchmark levels are never shown.
+	 */
+	@Override
+	protected void initializeFriendlyUnits() {
+	}
+
+	/**
+	 * Instantiates a view on a group of its own. Benchmarks never build the level's scene, so the view is only
+	 * created if one does.
+	 *
+	 * @return a new instance of LevelView
+	 */
+	@Override
+	protected LevelView instantiateLevelView() {
+		return new LevelView(new Group(), HEARTS_DISPLAYED);
+	}
+
+	/**
+	 * Destroys the actors of a list that are no longer on screen.
+	 *
+	 * @param actors the actors to check
+	 */
+	private void destroyOffscreen(List<ActiveActorDestructible> actors) {
+		for (ActiveActorDestructible actor : actors) {
+			if (actor.getX() < -actor.getWidth() || actor.getX() > SCREEN_WIDTH) {
+				actor.destroy();
+			}
+		}
+	}
+
+	/**
+	 * Destroys a random share of the actors of a list.
+	 *
+	 * @param actors   the actors to thin out
+	 * @param fraction the probability of each actor being destroyed
+	 */
+	private void destroyRandomActors(List<ActiveActorDestructible> actors, double fraction) {
+		for (ActiveActorDestructible actor : actors) {
+			if (random.nextDouble() < fraction) {
+				actor.destroy();
+			}
+		}
+	}
+
+	/**
+	 * Returns a random X-coordinate on screen.
+	 *
+	 * @return an X-coordinate
+	 */
+	private double randomX() {
+		return random.nextDouble() * SCREEN_WIDTH;
+	}
+
+	/**
+	 * Returns a random Y-coordinate within the range enemies use.
+	 *
+	 * @return a Y-coordinate
+	 */
+	private double randomY() {
+		return random.nextDouble() * getEnemyMaximumYPosition();
+	}
+}
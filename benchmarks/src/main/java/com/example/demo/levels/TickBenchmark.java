@@ -0,0 +1,154 @@
+package com.example.demo.levels;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the phases of a game tick, and a full tick, for growing numbers of actors.
+ * <p>
+ * Every benchmark runs against a {@link BenchmarkLevel} without a scene, so no JavaFX toolkit or display
+ * is needed. The level is rebuilt for every iteration from the same seed. {@code enemies} is the number of
+ * enemy planes and {@code projectiles} the number of user projectiles and, separately, of enemy projectiles.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TickBenchmark {
+
+	private static final long SEED = 2024;
+	/** Share of actors destroyed before each {@link #removeDestroyedActors(RemovalState)} call. */
+	private static final double DESTROYED_FRACTION = 0.1;
+
+	/**
+	 * A level populated with the benchmark's numbers of actors.
+	 */
+	@State(Scope.Thread)
+	public static class LevelState {
+
+		@Param({"5", "50", "500", "5000"})
+		int enemies;
+
+		@Param({"20", "200", "2000"})
+		int projectiles;
+
+		BenchmarkLevel level;
+
+		/**
+		 * Builds a fresh level with the benchmark's population.
+		 */
+		@Setup(Level.Iteration)
+		public void createLevel() {
+			level = new BenchmarkLevel(enemies, projectiles, SEED);
+		}
+	}
+
+	/**
+	 * A level whose collision passes use the benchmark's collision mode.
+	 */
+	public static class CollisionState extends LevelState {
+
+		@Param({"SEQUENTIAL", "PARALLEL"})
+		GameSettings.CollisionMode mode;
+
+		/**
+		 * Selects the collision mode for the iteration.
+		 */
+		@Setup(Level.Iteration)
+		public void selectMode() {
+			GameSettings.setCollisionMode(mode);
+		}
+	}
+
+	/**
+	 * A level in which a share of the actors is freshly destroyed before every call.
+	 */
+	public static class RemovalState extends LevelState {
+
+		/**
+		 * Tops the population up and destroys a share of it, so every call removes a similar number of actors.
+		 * This runs outside the measured time.
+		 */
+		@Setup(Level.Invocation)
+		public void prepareRemoval() {
+			level.replenish();
+			level.destroyRandomActors(DESTROYED_FRACTION);
+		}
+	}
+
+	/**
+	 * Moves every actor by one tick.
+	 *
+	 * @param state the level to update
+	 * @return the level, so the work cannot be optimised away
+	 */
+	@Benchmark
+	public LevelParent updateActors(LevelState state) {
+		state.level.updateActors();
+		return state.level;
+	}
+
+	/**
+	 * Tests user projectiles against enemy planes, sequentially or on the fork/join pool.
+	 *
+	 * @param state the level to test
+	 * @return the level, so the work cannot be optimised away
+	 */
+	@Benchmark
+	public LevelParent handleCollisions(CollisionState state) {
+		state.level.handleCollisions(state.level.getUserProjectiles(), state.level.getEnemyUnits());
+		return state.level;
+	}
+
+	/**
+	 * Removes the destroyed actors from every list and returns destroyed projectiles to their pools.
+	 *
+	 * @param state the level to clean up
+	 * @return the level, so the work cannot be optimised away
+	 */
+	@Benchmark
+	public LevelParent removeDestroyedActors(RemovalState state) {
+		state.level.removeAllDestroyedActors();
+		return state.level;
+	}
+
+	/**
+	 * Lets every enemy try to fire. The projectiles fired are dropped again afterwards so the
+	 * population stays the same; that clean-up is part of the measured time but is small.
+	 *
+	 * @param state the level whose enemies fire
+	 * @return the number of enemy projectiles fired
+	 */
+	@Benchmark
+	public int generateEnemyFire(LevelState state) {
+		state.level.generateEnemyFire();
+		int fired = state.level.getEnemyProjectiles().size() - state.projectiles;
+		state.level.trimEnemyProjectiles(state.projectiles);
+		return fired;
+	}
+
+	/**
+	 * Runs one complete tick: spawning, movement, firing, collisions and removal.
+	 *
+	 * @param state the level to advance
+	 * @return the number of candidate pairs tested during the tick
+	 */
+	@Benchmark
+	public int tick(LevelState state) {
+		state.level.tick();
+		return state.level.getLastTickCandidatePairs();
+	}
+}
@@ -0,0 +1,91 @@
+package com.example.demo.levels;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.example.demo.levels.waves.SpawnSchedule;
+import com.example.demo.levels.waves.WaveScript;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures loading a wave script: parsing and checking its text, and compiling it into a spawn schedule the way a
+ * level does when it is created.
+ * <p>
+ * The generated scripts mix every formation, random lanes and several enemy types. With 10000 waves a script sends
+ * 40000 enemies, several hours of play, so the time to load it bounds the hitch a long level can cause.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaveScriptBenchmark {
+
+	private static final long SEED = 2024;
+	private static final String[] FORMATIONS = {"line", "column", "stagger", "vee"};
+	private static final double MAXIMUM_Y = 600;
+	private static final int TICK_RATE = 60;
+
+	/**
+	 * A generated script, as text and parsed.
+	 */
+	@State(Scope.Thread)
+	public static class ScriptState {
+
+		@Param({"100", "10000"})
+		int waves;
+
+		String text;
+		WaveScript script;
+
+		/**
+		 * Generates the script.
+		 */
+		@Setup(Level.Trial)
+		public void generate() {
+			SplittableRandom random = new SplittableRandom(SEED);
+			StringBuilder builder = new StringBuilder("name Benchmark\nbackground background1.jpg\nkills 10\nlanes 8\n");
+			for (int i = 0; i < waves; i++) {
+				builder.append("wave at=").append(i * 1.5)
+						.append(" type=").append(random.nextBoolean() ? "enemy" : "enemy,enemy2")
+						.append(" count=4 formation=").append(FORMATIONS[random.nextInt(FORMATIONS.length)])
+						.append(" lane=random interval=0.5 # wave ").append(i).append('\n');
+			}
+			text = builder.toString();
+			script = WaveScript.parse(text, "benchmark.waves");
+		}
+	}
+
+	/**
+	 * Parses and checks the script.
+	 *
+	 * @param state the script to parse
+	 * @return the parsed script
+	 */
+	@Benchmark
+	public WaveScript parse(ScriptState state) {
+		return WaveScript.parse(state.text, "benchmark.waves");
+	}
+
+	/**
+	 * Compiles the parsed script into a spawn schedule.
+	 *
+	 * @param state the script to compile
+	 * @return the schedule
+	 */
+	@Benchmark
+	public SpawnSchedule compile(ScriptState state) {
+		return state.script.compile(new SplittableRandom(SEED), MAXIMUM_Y, TICK_RATE);
+	}
+}
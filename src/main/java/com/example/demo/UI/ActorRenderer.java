@@ -0,0 +1,69 @@
+package com.example.demo.UI;
+
+import java.util.List;
+
+import com.example.demo.actors.ActiveActor;
+
+/**
+ * The view layer of a level: mirrors the level's actors on screen.
+ * <p>
+ * Actors are plain simulation objects, so a level tells its renderer when an actor appears or
+ * disappears and asks it to bring the display up to date once per frame. The {@link #NONE} renderer
+ * draws nothing and is used while a level runs headless.
+ * <p>
+ * When the simulation runs on its own thread the renderer is driven by {@link RenderSnapshot}s alone instead:
+ * the actors in a snapshot are the ones displayed, and the add and remove calls are not made.
+ */
+public interface ActorRenderer {
+
+	/** A renderer that ignores every call, used when a level runs without a scene. */
+	ActorRenderer NONE = new ActorRenderer() {
+	};
+
+	/**
+	 * Starts displaying an actor.
+	 *
+	 * @param actor the actor that joined the level
+	 */
+	default void addActor(ActiveActor actor) {
+	}
+
+	/**
+	 * Stops displaying an actor.
+	 *
+	 * @param actor the actor that left the level
+	 */
+	default void removeActor(ActiveActor actor) {
+	}
+
+	/**
+	 * Stops displaying several actors at once.
+	 * Renderers backed by a scene graph override this to detach all views in a single change.
+	 *
+	 * @param actors the actors that left the level
+	 */
+	default void removeActors(List<? extends ActiveActor> actors) {
+		for (int i = 0; i < actors.size(); i++) {
+			removeActor(actors.get(i));
+		}
+	}
+
+	/**
+	 * Copies the current state of every displayed actor to the screen.
+	 *
+	 * @param alpha the fraction of a tick elapsed since the last tick, from 0 to 1; actors are drawn
+	 *              this far between their previous and current positions
+	 */
+	default void render(double alpha) {
+	}
+
+	/**
+	 * Displays exactly the actors of a snapshot, starting to display those that are new and dropping those that
+	 * are gone since the previous snapshot. Only the snapshot is read, never the actors' changing state.
+	 *
+	 * @param snapshot the snapshot to draw
+	 * @param alpha    the fraction of a tick elapsed since the snapshot's tick, from 0 to 1
+	 */
+	default void render(RenderSnapshot snapshot, double alpha) {
+	}
+}
@@ -0,0 +1,297 @@
+package com.example.demo.UI;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.assets.SpriteAtlas;
+import com.example.demo.assets.SpriteCache;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+/**
+ * Renders every actor onto a single {@link Canvas}, redrawn completely once per frame.
+ * <p>
+ * The scene graph only ever holds the canvas, so its cost does not grow with the number of projectiles on screen.
+ * Actors are grouped into one batch per sprite, and each batch is drawn with consecutive {@code drawImage} calls
+ * of the same region of the {@link SpriteAtlas}, so the whole frame is normally drawn from a single texture. Batches are drawn in the order their sprite first appeared in the level, and actors within a
+ * batch in the order they joined, so overlapping actors of different sprites may stack differently than with the
+ * {@link NodeActorRenderer}. Sizes, interpolated positions and glow otherwise match it exactly. Glowing actors are
+ * drawn from the glowing atlas page with {@link GlowMode#SPRITES}, and with a shared effect otherwise; a canvas has
+ * no node cache, so {@link GlowMode#CACHED_EFFECT} is the same as {@link GlowMode#EFFECT} here.
+ */
+public class CanvasActorRenderer implements ActorRenderer {
+
+	private final Canvas canvas;
+	private final GraphicsContext graphics;
+	private final SpriteAtlas atlas;
+	private final GlowMode glowMode;
+	private final List<SpriteBatch> batches;
+	private final Map<String, SpriteBatch> batchesByImage;
+	private final Map<ActiveActor, Entry> entries;
+	/** The batch of every actor of the snapshot being drawn. */
+	private SpriteBatch[] snapshotBatches;
+
+	/**
+	 * Constructs a renderer drawing onto a canvas of the given size.
+	 *
+	 * @param width    the width of the canvas, normally the screen width
+	 * @param height   the height of the canvas, normally the screen height
+	 * @param glowMode how glowing actors are drawn
+	 */
+	public CanvasActorRenderer(double width, double height, GlowMode glowMode) {
+		this.canvas = new Canvas(width, height);
+		this.graphics = canvas.getGraphicsContext2D();
+		this.atlas = SpriteAtlas.getDefault();
+		this.glowMode = glowMode;
+		this.batches = new ArrayList<>();
+		this.batchesByImage = new HashMap<>();
+		this.entries = new IdentityHashMap<>();
+		this.snapshotBatches = new SpriteBatch[0];
+	}
+
+	/**
+	 * Returns the canvas the actors are drawn on, to be placed in the level's scene.
+	 *
+	 * @return the actor layer
+	 */
+	public Canvas getLayer() {
+		return canvas;
+	}
+
+	/**
+	 * Adds an actor to the batch of its sprite.
+	 *
+	 * @param actor the actor that joined the level
+	 */
+	@Override
+	public void addActor(ActiveActor actor) {
+		SpriteBatch batch = batchesByImage.get(actor.getImageName());
+		if (batch == null) {
+			batch = createBatch(actor.getImageName());
+			batchesByImage.put(actor.getImageName(), batch);
+			batches.add(batch);
+		}
+		Entry entry = new Entry(actor);
+		Entry previous = entries.put(actor, entry);
+		if (previous != null) {
+			previous.removed = true;
+		}
+		batch.add(entry);
+	}
+
+	/**
+	 * Stops drawing an actor. Its batch forgets it during the next frame.
+	 *
+	 * @param actor the actor that left the level
+	 */
+	@Override
+	public void removeActor(ActiveActor actor) {
+		Entry entry = entries.remove(actor);
+		if (entry != null) {
+			entry.removed = true;
+		}
+	}
+
+	/**
+	 * Clears the canvas and draws every actor at its interpolated position, one sprite batch at a time.
+	 *
+	 * @param alpha the fraction of a tick elapsed since the last tick
+	 */
+	@Override
+	public void render(double alpha) {
+		graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+		for (int i = 0; i < batches.size(); i++) {
+			batches.get(i).draw(alpha);
+		}
+	}
+
+	/**
+	 * Clears the canvas and draws every actor of a snapshot at its interpolated position, one sprite batch at a time.
+	 * Batches are created for new sprites as they appear; actors are drawn in snapshot order within their batch.
+	 *
+	 * @param snapshot the snapshot to draw
+	 * @param alpha    the fraction of a tick elapsed since the snapshot's tick
+	 */
+	@Override
+	public void render(RenderSnapshot snapshot, double alpha) {
+		graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+		int n = snapshot.size();
+		if (snapshotBatches.length < n) {
+			snapshotBatches = new SpriteBatch[Math.max(n, snapshotBatches.length * 2)];
+		}
+		for (int i = 0; i < n; i++) {
+			String imageName = snapshot.getActor(i).getImageName();
+			SpriteBatch batch = batchesByImage.get(imageName);
+			if (batch == null) {
+				batch = createBatch(imageName);
+				batchesByImage.put(imageName, batch);
+				batches.add(batch);
+			}
+			snapshotBatches[i] = batch;
+		}
+		for (int b = 0; b < batches.size(); b++) {
+			SpriteBatch batch = batches.get(b);
+			for (int i = 0; i < n; i++) {
+				if (snapshotBatches[i] == batch) {
+					batch.drawSprite(snapshot.getInterpolatedX(i, alpha), snapshot.getInterpolatedY(i, alpha),
+							snapshot.getActor(i).getHeight(), snapshot.getGlowLevel(i));
+				}
+			}
+		}
+		Arrays.fill(snapshotBatches, 0, n, null);
+	}
+
+	/**
+	 * Creates the batch of a sprite, drawing from its atlas region, or from the whole image if it is not packed.
+	 *
+	 * @param imageName the sprite, relative to {@link SpriteCache#IMAGE_LOCATION}
+	 * @return the new, empty batch
+	 */
+	private SpriteBatch createBatch(String imageName) {
+		SpriteAtlas.Region region = atlas.getRegion(imageName);
+		if (region == null) {
+			Image image = SpriteCache.getImage(SpriteCache.IMAGE_LOCATION + imageName);
+			return new SpriteBatch(image, -1, 0, 0, image.getWidth(), image.getHeight());
+		}
+		return new SpriteBatch(atlas.getPage(region.getPage()), region.getPage(), region.getX(), region.getY(),
+				region.getWidth(), region.getHeight());
+	}
+
+	/**
+	 * An actor being drawn. Removal only marks the entry, so the same actor can rejoin in the same frame,
+	 * e.g. a pooled projectile, without being confused with its old entry.
+	 */
+	private static final class Entry {
+
+		private final ActiveActor actor;
+		private boolean removed;
+
+		/**
+		 * Constructs an entry for an actor.
+		 *
+		 * @param actor the actor to draw
+		 */
+		Entry(ActiveActor actor) {
+			this.actor = actor;
+		}
+	}
+
+	/**
+	 * The actors sharing one sprite, packed at the start of an array.
+	 */
+	private final class SpriteBatch {
+
+		private static final int INITIAL_CAPACITY = 16;
+
+		private final Image image;
+		private final int page;
+		private final double sourceX;
+		private final double sourceY;
+		private final double sourceWidth;
+		private final double sourceHeight;
+		private final double aspectRatio;
+		private Entry[] entries;
+		private int size;
+		private Image glowImage;
+		private double glowImageLevel;
+
+		/**
+		 * Constructs an empty batch.
+		 *
+		 * @param image        the image holding the sprite drawn for every actor of the batch
+		 * @param page         the atlas page the image is, or -1 if the sprite is not packed
+		 * @param sourceX      the left edge of the sprite in the image
+		 * @param sourceY      the top edge of the sprite in the image
+		 * @param sourceWidth  the width of the sprite
+		 * @param sourceHeight the height of the sprite
+		 */
+		SpriteBatch(Image image, int page, double sourceX, double sourceY, double sourceWidth, double sourceHeight) {
+			this.image = image;
+			this.page = page;
+			this.sourceX = sourceX;
+			this.sourceY = sourceY;
+			this.sourceWidth = sourceWidth;
+			this.sourceHeight = sourceHeight;
+			this.aspectRatio = sourceWidth / sourceHeight;
+			this.entries = new Entry[INITIAL_CAPACITY];
+		}
+
+		/**
+		 * Appends an actor to the batch.
+		 *
+		 * @param entry the actor's entry
+		 */
+		void add(Entry entry) {
+			if (size == entries.length) {
+				entries = Arrays.copyOf(entries, size * 2);
+			}
+			entries[size++] = entry;
+		}
+
+		/**
+		 * Draws every actor of the batch, dropping removed actors on the way while keeping the order of the others.
+		 * Each sprite is scaled to the actor's height with its aspect ratio preserved, like a fitted
+		 * {@link javafx.scene.image.ImageView}.
+		 *
+		 * @param alpha the fraction of a tick elapsed since the last tick
+		 */
+		void draw(double alpha) {
+			int kept = 0;
+			for (int i = 0; i < size; i++) {
+				Entry entry = entries[i];
+				if (entry.removed) {
+					continue;
+				}
+				entries[kept++] = entry;
+				ActiveActor actor = entry.actor;
+				drawSprite(actor.getInterpolatedX(alpha), actor.getInterpolatedY(alpha), actor.getHeight(),
+						actor.getGlowLevel());
+			}
+			Arrays.fill(entries, kept, size, null);
+			size = kept;
+		}
+
+		/**
+		 * Draws the batch's sprite once.
+		 *
+		 * @param x         the X-coordinate of the sprite's left edge
+		 * @param y         the Y-coordinate of the sprite's top edge
+		 * @param height    the drawn height; the width follows from the sprite's aspect ratio
+		 * @param glowLevel the glow level, 0 for none
+		 */
+		void drawSprite(double x, double y, double height, double glowLevel) {
+			if (glowLevel == 0) {
+				graphics.drawImage(image, sourceX, sourceY, sourceWidth, sourceHeight, x, y, height * aspectRatio,
+						height);
+			} else if (glowMode == GlowMode.SPRITES && page >= 0) {
+				graphics.drawImage(glowImage(glowLevel), sourceX, sourceY, sourceWidth, sourceHeight, x, y,
+						height * aspectRatio, height);
+			} else {
+				graphics.setEffect(SharedEffects.glow(glowLevel));
+				graphics.drawImage(image, sourceX, sourceY, sourceWidth, sourceHeight, x, y, height * aspectRatio,
+						height);
+				graphics.setEffect(null);
+			}
+		}
+
+		/**
+		 * Returns the glowing copy of the batch's atlas page, remembering it for the next actor of the same level.
+		 *
+		 * @param level the glow level
+		 * @return the glowing page
+		 */
+		private Image glowImage(double level) {
+			if (glowImage == null || glowImageLevel != level) {
+				glowImage = atlas.getGlowPage(page, level);
+				glowImageLevel = level;
+			}
+			return glowImage;
+		}
+	}
+}
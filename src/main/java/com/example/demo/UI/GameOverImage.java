@@ -1,5 +1,6 @@
 package com.example.demo.UI;
 
+import com.example.demo.assets.SpriteCache;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
@@ -19,7 +20,7 @@ public class GameOverImage extends ImageView {
 	 * @param yPosition the Y position where the image should be placed
 	 */
 	public GameOverImage(double xPosition, double yPosition) {
-		Image gameOverImg = new Image(getClass().getResource(IMAGE_NAME).toExternalForm(), 700, 700, true, true);
+		Image gameOverImg = SpriteCache.getImage(IMAGE_NAME, 700, 700, true, true);
 		setImage(gameOverImg);
 		setLayoutX(xPosition);
 		setLayoutY(yPosition);
@@ -0,0 +1,25 @@
+package com.example.demo.UI;
+
+/**
+ * How the renderers show an actor that glows, e.g. the user's plane after a hit or the boss while shielded.
+ */
+public enum GlowMode {
+
+	/**
+	 * A shared {@link javafx.scene.effect.Glow} effect is applied to the actor while it glows. The effect is
+	 * rendered offscreen again on every pulse.
+	 */
+	EFFECT,
+
+	/**
+	 * Like {@link #EFFECT}, but the glowing view of the {@link NodeActorRenderer} is cached as a bitmap, so the
+	 * effect is only rendered again when the view changes other than by moving.
+	 */
+	CACHED_EFFECT,
+
+	/**
+	 * The actor is drawn from a glowing copy of its atlas page, rendered once at load, so no effect is rendered
+	 * per pulse.
+	 */
+	SPRITES
+}
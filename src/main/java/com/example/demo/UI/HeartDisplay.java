@@ -1,6 +1,6 @@
 package com.example.demo.UI;
 
-import javafx.scene.image.Image;
+import com.example.demo.assets.SpriteAtlas;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
@@ -9,7 +9,7 @@ import javafx.scene.layout.HBox;
  */
 public class HeartDisplay {
 
-	private static final String HEART_IMAGE_NAME = "/com/example/demo/images/heart.png";
+	private static final String HEART_IMAGE_NAME = "heart.png";
 	private static final int HEART_HEIGHT = 50;
 	private static final int INDEX_OF_FIRST_ITEM = 0;
 
@@ -44,10 +44,11 @@ public class HeartDisplay {
 
 	/**
 	 * Initializes the hearts by creating ImageView objects for each heart.
+	 * All hearts show the heart's region of the sprite atlas.
 	 */
 	private void initializeHearts() {
 		for (int i = 0; i < numberOfHeartsToDisplay; i++) {
-			ImageView heart = new ImageView(new Image(getClass().getResource(HEART_IMAGE_NAME).toExternalForm()));
+			ImageView heart = SpriteAtlas.getDefault().createImageView(HEART_IMAGE_NAME);
 			heart.setFitHeight(HEART_HEIGHT);
 			heart.setPreserveRatio(true);
 			container.getChildren().add(heart);
@@ -0,0 +1,233 @@
+package com.example.demo.UI;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.assets.SpriteAtlas;
+import javafx.scene.CacheHint;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+
+/**
+ * Renders every actor as its own {@link ImageView} inside a dedicated {@link Group}.
+ * All views show regions of the {@link SpriteAtlas}, so they share a single texture.
+ * <p>
+ * Views are created when an actor joins the level, or when drawing snapshots when it first appears in one, and
+ * are only written to while rendering, so the simulation never touches the scene graph directly. A view's glow is
+ * only changed when the actor's glow level changes, in the way the renderer's {@link GlowMode} selects.
+ */
+public class NodeActorRenderer implements ActorRenderer {
+
+	private final SpriteAtlas atlas;
+	private final GlowMode glowMode;
+	private final Group layer;
+	private final Map<ActiveActor, ActorView> views;
+	private final Set<Node> removedViews;
+	private long snapshotFrame;
+
+	/**
+	 * Constructs a renderer with an empty actor layer.
+	 *
+	 * @param glowMode how glowing actors are shown
+	 */
+	public NodeActorRenderer(GlowMode glowMode) {
+		this.atlas = SpriteAtlas.getDefault();
+		this.glowMode = glowMode;
+		this.layer = new Group();
+		this.views = new IdentityHashMap<>();
+		this.removedViews = new HashSet<>();
+	}
+
+	/**
+	 * Returns the group holding the actor views, to be placed in the level's scene.
+	 *
+	 * @return the actor layer
+	 */
+	public Group getLayer() {
+		return layer;
+	}
+
+	/**
+	 * Creates a view for an actor and adds it to the actor layer.
+	 *
+	 * @param actor the actor that joined the level
+	 */
+	@Override
+	public void addActor(ActiveActor actor) {
+		ActorView actorView = createView(actor);
+		syncView(actor, actorView, 1.0);
+		views.put(actor, actorView);
+		layer.getChildren().add(actorView.view);
+	}
+
+	/**
+	 * Removes an actor's view from the actor layer.
+	 *
+	 * @param actor the actor that left the level
+	 */
+	@Override
+	public void removeActor(ActiveActor actor) {
+		ActorView actorView = views.remove(actor);
+		if (actorView != null) {
+			layer.getChildren().remove(actorView.view);
+		}
+	}
+
+	/**
+	 * Removes the views of several actors from the actor layer in a single scene graph change.
+	 *
+	 * @param actors the actors that left the level
+	 */
+	@Override
+	public void removeActors(List<? extends ActiveActor> actors) {
+		for (int i = 0; i < actors.size(); i++) {
+			ActorView actorView = views.remove(actors.get(i));
+			if (actorView != null) {
+				removedViews.add(actorView.view);
+			}
+		}
+		if (!removedViews.isEmpty()) {
+			layer.getChildren().removeAll(removedViews);
+			removedViews.clear();
+		}
+	}
+
+	/**
+	 * Copies the interpolated position and glow of every actor to its view.
+	 *
+	 * @param alpha the fraction of a tick elapsed since the last tick
+	 */
+	@Override
+	public void render(double alpha) {
+		views.forEach((actor, actorView) -> syncView(actor, actorView, alpha));
+	}
+
+	/**
+	 * Copies the interpolated position and glow of every actor in a snapshot to its view, creating views for
+	 * actors seen for the first time and removing the views of actors no longer in the snapshot.
+	 *
+	 * @param snapshot the snapshot to draw
+	 * @param alpha    the fraction of a tick elapsed since the snapshot's tick
+	 */
+	@Override
+	public void render(RenderSnapshot snapshot, double alpha) {
+		long frame = ++snapshotFrame;
+		for (int i = 0, n = snapshot.size(); i < n; i++) {
+			ActiveActor actor = snapshot.getActor(i);
+			ActorView actorView = views.get(actor);
+			if (actorView == null) {
+				actorView = createView(actor);
+				views.put(actor, actorView);
+				layer.getChildren().add(actorView.view);
+			}
+			actorView.frame = frame;
+			syncView(actorView, snapshot.getInterpolatedX(i, alpha), snapshot.getInterpolatedY(i, alpha),
+					snapshot.getGlowLevel(i));
+		}
+		Iterator<ActorView> iterator = views.values().iterator();
+		while (iterator.hasNext()) {
+			ActorView actorView = iterator.next();
+			if (actorView.frame != frame) {
+				removedViews.add(actorView.view);
+				iterator.remove();
+			}
+		}
+		if (!removedViews.isEmpty()) {
+			layer.getChildren().removeAll(removedViews);
+			removedViews.clear();
+		}
+	}
+
+	/**
+	 * Creates the view of an actor, not yet in the actor layer.
+	 *
+	 * @param actor the actor to show
+	 * @return the view
+	 */
+	private ActorView createView(ActiveActor actor) {
+		ImageView view = atlas.createImageView(actor.getImageName());
+		view.setFitHeight(actor.getHeight());
+		view.setPreserveRatio(true);
+		return new ActorView(view, atlas.getRegion(actor.getImageName()));
+	}
+
+	/**
+	 * Copies the state of a single actor to its view.
+	 *
+	 * @param actor     the actor to read from
+	 * @param actorView the view to write to
+	 * @param alpha     the fraction of a tick elapsed since the last tick
+	 */
+	private void syncView(ActiveActor actor, ActorView actorView, double alpha) {
+		syncView(actorView, actor.getInterpolatedX(alpha), actor.getInterpolatedY(alpha), actor.getGlowLevel());
+	}
+
+	/**
+	 * Moves a view and changes its glow if needed.
+	 *
+	 * @param actorView the view to write to
+	 * @param x         the X-coordinate to show the actor at
+	 * @param y         the Y-coordinate to show the actor at
+	 * @param glowLevel the actor's glow level
+	 */
+	private void syncView(ActorView actorView, double x, double y, double glowLevel) {
+		ImageView view = actorView.view;
+		view.setTranslateX(x);
+		view.setTranslateY(y);
+		if (glowLevel != actorView.glowLevel) {
+			applyGlow(actorView, glowLevel);
+			actorView.glowLevel = glowLevel;
+		}
+	}
+
+	/**
+	 * Shows or hides an actor's glow, by swapping to the glowing atlas page or by setting a shared effect.
+	 * Sprites that are not packed in the atlas always use the effect.
+	 *
+	 * @param actorView the view of the actor
+	 * @param glowLevel the new glow level, 0 for none
+	 */
+	private void applyGlow(ActorView actorView, double glowLevel) {
+		ImageView view = actorView.view;
+		SpriteAtlas.Region region = actorView.region;
+		if (glowMode == GlowMode.SPRITES && region != null) {
+			view.setImage(glowLevel == 0 ? atlas.getPage(region.getPage())
+					: atlas.getGlowPage(region.getPage(), glowLevel));
+			return;
+		}
+		view.setEffect(glowLevel == 0 ? null : SharedEffects.glow(glowLevel));
+		if (glowMode == GlowMode.CACHED_EFFECT) {
+			view.setCache(glowLevel != 0);
+			view.setCacheHint(CacheHint.SPEED);
+		}
+	}
+
+	/**
+	 * The view of an actor and the glow it currently shows.
+	 */
+	private static final class ActorView {
+
+		private final ImageView view;
+		private final SpriteAtlas.Region region;
+		private double glowLevel;
+		/** The last snapshot frame the actor was in. */
+		private long frame;
+
+		/**
+		 * Constructs the state of a view that does not glow yet.
+		 *
+		 * @param view   the view showing the actor
+		 * @param region the actor's sprite in the atlas, or {@code null} if it is not packed
+		 */
+		ActorView(ImageView view, SpriteAtlas.Region region) {
+			this.view = view;
+			this.region = region;
+		}
+	}
+}
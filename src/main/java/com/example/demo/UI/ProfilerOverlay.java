@@ -0,0 +1,180 @@
+package com.example.demo.UI;
+
+import com.example.demo.profiling.FrameProfiler;
+import javafx.scene.control.Label;
+
+/**
+ * An on-screen panel showing the recent timings of a {@link FrameProfiler}, the size of the actor lists and the
+ * counts of the level's projectile pools, followed by an optional note, e.g. how the previous level ended and how
+ * long switching levels took.
+ * <p>
+ * The text is rebuilt a few times per second rather than every frame, so showing the overlay
+ * barely adds to the frame times it reports.
+ */
+public class ProfilerOverlay {
+
+	private static final long REFRESH_INTERVAL_NANOS = 250_000_000L;
+	private static final String STYLE = "-fx-font-family: monospace; -fx-font-size: 12px; -fx-text-fill: white;"
+			+ " -fx-background-color: rgba(0, 0, 0, 0.6); -fx-padding: 6;";
+
+	private final Label label;
+	private final StringBuilder text;
+	private String note;
+	private int liveProjectiles;
+	private int idleProjectiles;
+	private int projectileHighWaterMark;
+	private long projectilesCreated;
+	private long projectilesReused;
+	private long lastRefresh;
+
+	/**
+	 * Constructs a hidden overlay.
+	 *
+	 * @param xPosition the x-coordinate of the overlay's top-left corner
+	 * @param yPosition the y-coordinate of the overlay's top-left corner
+	 */
+	public ProfilerOverlay(double xPosition, double yPosition) {
+		this.label = new Label();
+		this.text = new StringBuilder();
+		label.setStyle(STYLE);
+		label.setLayoutX(xPosition);
+		label.setLayoutY(yPosition);
+		label.setMouseTransparent(true);
+		label.setVisible(false);
+	}
+
+	/**
+	 * Returns the node to add to the scene.
+	 *
+	 * @return the overlay's label
+	 */
+	public Label getNode() {
+		return label;
+	}
+
+	/**
+	 * Shows or hides the overlay. A shown overlay is refreshed on the next call to {@link #refresh}.
+	 *
+	 * @param visible whether the overlay is shown
+	 */
+	public void setVisible(boolean visible) {
+		label.setVisible(visible);
+		lastRefresh = 0;
+	}
+
+	/**
+	 * Sets the note shown below the counts. The overlay shows it from its next refresh on.
+	 *
+	 * @param note the note, or {@code null} for none
+	 */
+	public void setNote(String note) {
+		this.note = note;
+		lastRefresh = 0;
+	}
+
+	/**
+	 * Sets the counts of the level's projectile pools, summed over the projectile types, shown from the next
+	 * refresh on.
+	 *
+	 * @param live          the number of pooled projectiles in flight
+	 * @param idle          the number of projectiles waiting to be reused
+	 * @param highWaterMark the sum of the pools' high-water marks of live projectiles
+	 * @param created       the number of projectiles the pools have created
+	 * @param reused        the number of shots served with a reused projectile
+	 */
+	public void setPoolCounts(int live, int idle, int highWaterMark, long created, long reused) {
+		this.liveProjectiles = live;
+		this.idleProjectiles = idle;
+		this.projectileHighWaterMark = highWaterMark;
+		this.projectilesCreated = created;
+		this.projectilesReused = reused;
+	}
+
+	/**
+	 * Rewrites the overlay text if it is shown and has not been refreshed recently.
+	 *
+	 * @param profiler         the profiler whose timings are shown
+	 * @param friendlyUnits    the number of friendly units
+	 * @param enemyUnits       the number of enemy units
+	 * @param userProjectiles  the number of user projectiles
+	 * @param enemyProjectiles the number of enemy projectiles
+	 */
+	public void refresh(FrameProfiler profiler, int friendlyUnits, int enemyUnits, int userProjectiles,
+			int enemyProjectiles) {
+		if (beginRefresh()) {
+			appendCounts(profiler, friendlyUnits, enemyUnits, userProjectiles, enemyProjectiles);
+			appendNote();
+			label.setText(text.toString());
+		}
+	}
+
+	/**
+	 * Rewrites the overlay text if it is shown and has not been refreshed recently, adding how many snapshots of a
+	 * simulation running on its own thread were never drawn and how many frames drew a snapshot again.
+	 *
+	 * @param profiler         the profiler whose timings are shown
+	 * @param friendlyUnits    the number of friendly units
+	 * @param enemyUnits       the number of enemy units
+	 * @param userProjectiles  the number of user projectiles
+	 * @param enemyProjectiles the number of enemy projectiles
+	 * @param droppedSnapshots the number of snapshots replaced before any frame drew them
+	 * @param repeatedFrames   the number of frames that drew the same snapshot as the frame before
+	 */
+	public void refresh(FrameProfiler profiler, int friendlyUnits, int enemyUnits, int userProjectiles,
+			int enemyProjectiles, long droppedSnapshots, long repeatedFrames) {
+		if (beginRefresh()) {
+			appendCounts(profiler, friendlyUnits, enemyUnits, userProjectiles, enemyProjectiles);
+			text.append("\nsnapshots dropped ").append(droppedSnapshots)
+					.append("  repeated ").append(repeatedFrames);
+			appendNote();
+			label.setText(text.toString());
+		}
+	}
+
+	/**
+	 * Decides whether the overlay is due for a refresh, and if so clears its text.
+	 *
+	 * @return {@code true} if the overlay is shown and was not refreshed recently
+	 */
+	private boolean beginRefresh() {
+		long now = System.nanoTime();
+		if (!label.isVisible() || (lastRefresh != 0 && now - lastRefresh < REFRESH_INTERVAL_NANOS)) {
+			return false;
+		}
+		lastRefresh = now;
+		text.setLength(0);
+		return true;
+	}
+
+	/**
+	 * Appends the profiler summary, the actor counts and the pool counts to the overlay text.
+	 *
+	 * @param profiler         the profiler whose timings are shown
+	 * @param friendlyUnits    the number of friendly units
+	 * @param enemyUnits       the number of enemy units
+	 * @param userProjectiles  the number of user projectiles
+	 * @param enemyProjectiles the number of enemy projectiles
+	 */
+	private void appendCounts(FrameProfiler profiler, int friendlyUnits, int enemyUnits, int userProjectiles,
+			int enemyProjectiles) {
+		profiler.appendSummary(text);
+		text.append("friendly ").append(friendlyUnits)
+				.append("  enemies ").append(enemyUnits)
+				.append("\nuser shots ").append(userProjectiles)
+				.append("  enemy shots ").append(enemyProjectiles)
+				.append("\npooled live ").append(liveProjectiles)
+				.append("  idle ").append(idleProjectiles)
+				.append("  peak ").append(projectileHighWaterMark)
+				.append("\nshots created ").append(projectilesCreated)
+				.append("  reused ").append(projectilesReused);
+	}
+
+	/**
+	 * Appends the note, if there is one, to the overlay text.
+	 */
+	private void appendNote() {
+		if (note != null) {
+			text.append('\n').append(note);
+		}
+	}
+}
@@ -0,0 +1,319 @@
+package com.example.demo.UI;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.actors.projectiles.ProjectilePools;
+
+/**
+ * A copy of everything needed to draw the actors of one tick: each actor's current and previous position and its
+ * glow, in the order they were added, the values shown on the HUD, and the counts of the level's projectile pools
+ * shown on the profiler overlay.
+ * <p>
+ * The simulation thread fills a snapshot after its ticks and publishes it; from then on the snapshot is only read,
+ * on the JavaFX Application Thread, until it is handed back to be refilled. The actors themselves are only kept to
+ * identify them and for their sprite and size, which never change, so drawing a snapshot never reads state the
+ * simulation is changing. Actors are added in groups, e.g. one per actor list, whose sizes are kept for the
+ * profiler overlay. The arrays grow as needed and are reused, so refilling a snapshot allocates nothing once it is
+ * large enough.
+ */
+public final class RenderSnapshot {
+
+	private static final int INITIAL_CAPACITY = 64;
+	private static final int INITIAL_GROUPS = 4;
+
+	private ActiveActor[] actors;
+	private double[] xs;
+	private double[] ys;
+	private double[] previousXs;
+	private double[] previousYs;
+	private double[] glowLevels;
+	private int size;
+	private int[] groupSizes;
+	private int groupCount;
+	private long sequence;
+	private long tickTimeNanos;
+	private long publishedNanos;
+	private int playerHealth;
+	private int kills;
+	private int bossHealth;
+	private int liveProjectiles;
+	private int idleProjectiles;
+	private int projectileHighWaterMark;
+	private long projectilesCreated;
+	private long projectilesReused;
+
+	/**
+	 * Constructs an empty snapshot.
+	 */
+	public RenderSnapshot() {
+		this.actors = new ActiveActor[INITIAL_CAPACITY];
+		this.xs = new double[INITIAL_CAPACITY];
+		this.ys = new double[INITIAL_CAPACITY];
+		this.previousXs = new double[INITIAL_CAPACITY];
+		this.previousYs = new double[INITIAL_CAPACITY];
+		this.glowLevels = new double[INITIAL_CAPACITY];
+		this.groupSizes = new int[INITIAL_GROUPS];
+		this.bossHealth = -1;
+	}
+
+	/**
+	 * Empties the snapshot before it is refilled, forgetting its actors.
+	 */
+	public void clear() {
+		Arrays.fill(actors, 0, size, null);
+		size = 0;
+		groupCount = 0;
+	}
+
+	/**
+	 * Copies the drawing state of a group of actors.
+	 *
+	 * @param group the actors, e.g. one of the level's actor lists
+	 */
+	public void addGroup(List<? extends ActiveActor> group) {
+		int count = group.size();
+		if (size + count > actors.length) {
+			grow(size + count);
+		}
+		for (int i = 0; i < count; i++) {
+			ActiveActor actor = group.get(i);
+			actors[size] = actor;
+			xs[size] = actor.getX();
+			ys[size] = actor.getY();
+			previousXs[size] = actor.getInterpolatedX(0);
+			previousYs[size] = actor.getInterpolatedY(0);
+			glowLevels[size] = actor.getGlowLevel();
+			size++;
+		}
+		if (groupCount == groupSizes.length) {
+			groupSizes = Arrays.copyOf(groupSizes, groupCount * 2);
+		}
+		groupSizes[groupCount++] = count;
+	}
+
+	/**
+	 * Copies the player's values shown on the HUD and forgets any boss health copied before.
+	 *
+	 * @param playerHealth the player's health
+	 * @param kills        the player's number of kills
+	 */
+	public void setHud(int playerHealth, int kills) {
+		this.playerHealth = playerHealth;
+		this.kills = kills;
+		this.bossHealth = -1;
+	}
+
+	/**
+	 * Copies the health of the level's boss, shown on its health bar.
+	 *
+	 * @param bossHealth the boss's health
+	 */
+	public void setBossHealth(int bossHealth) {
+		this.bossHealth = bossHealth;
+	}
+
+	/**
+	 * Stamps the snapshot just before it is published.
+	 *
+	 * @param sequence       the number of snapshots published before this one
+	 * @param tickTimeNanos  the time the last tick in the snapshot was due, from {@link System#nanoTime()}
+	 * @param publishedNanos the time the snapshot is published, from {@link System#nanoTime()}
+	 */
+	public void stamp(long sequence, long tickTimeNanos, long publishedNanos) {
+		this.sequence = sequence;
+		this.tickTimeNanos = tickTimeNanos;
+		this.publishedNanos = publishedNanos;
+	}
+
+	/**
+	 * Returns the number of actors in the snapshot.
+	 *
+	 * @return the number of actors
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns an actor, to identify it and to read its sprite and size.
+	 *
+	 * @param index the index of the actor
+	 * @return the actor
+	 */
+	public ActiveActor getActor(int index) {
+		return actors[index];
+	}
+
+	/**
+	 * Returns the X-coordinate of an actor part way between the previous tick and the snapshot's tick.
+	 *
+	 * @param index the index of the actor
+	 * @param alpha the fraction of a tick elapsed since the snapshot's tick, from 0 to 1
+	 * @return the X-coordinate
+	 */
+	public double getInterpolatedX(int index, double alpha) {
+		double previous = previousXs[index];
+		return previous + (xs[index] - previous) * alpha;
+	}
+
+	/**
+	 * Returns the Y-coordinate of an actor part way between the previous tick and the snapshot's tick.
+	 *
+	 * @param index the index of the actor
+	 * @param alpha the fraction of a tick elapsed since the snapshot's tick, from 0 to 1
+	 * @return the Y-coordinate
+	 */
+	public double getInterpolatedY(int index, double alpha) {
+		double previous = previousYs[index];
+		return previous + (ys[index] - previous) * alpha;
+	}
+
+	/**
+	 * Returns the glow level of an actor.
+	 *
+	 * @param index the index of the actor
+	 * @return the glow level, 0 for none
+	 */
+	public double getGlowLevel(int index) {
+		return glowLevels[index];
+	}
+
+	/**
+	 * Returns the number of actors in a group.
+	 *
+	 * @param group the index of the group, in the order the groups were added
+	 * @return the number of actors, or 0 if the snapshot has fewer groups
+	 */
+	public int getGroupSize(int group) {
+		return group < groupCount ? groupSizes[group] : 0;
+	}
+
+	/**
+	 * Copies the counts of a level's projectile pools, summed over the projectile types.
+	 *
+	 * @param pools the pools of the level
+	 */
+	public void setPoolCounts(ProjectilePools pools) {
+		this.liveProjectiles = pools.getLiveCount();
+		this.idleProjectiles = pools.getIdleCount();
+		this.projectileHighWaterMark = pools.getHighWaterMark();
+		this.projectilesCreated = pools.getAllocationCount();
+		this.projectilesReused = pools.getAllocationsAvoided();
+	}
+
+	/**
+	 * Returns the player's health when the snapshot was taken.
+	 *
+	 * @return the player's health
+	 */
+	public int getPlayerHealth() {
+		return playerHealth;
+	}
+
+	/**
+	 * Returns the player's number of kills when the snapshot was taken.
+	 *
+	 * @return the number of kills
+	 */
+	public int getKills() {
+		return kills;
+	}
+
+	/**
+	 * Returns the boss's health when the snapshot was taken.
+	 *
+	 * @return the boss's health, or -1 if the level had no boss
+	 */
+	public int getBossHealth() {
+		return bossHealth;
+	}
+
+	/**
+	 * Returns the number of pooled projectiles in flight when the snapshot was taken.
+	 *
+	 * @return the live projectile count
+	 */
+	public int getLiveProjectiles() {
+		return liveProjectiles;
+	}
+
+	/**
+	 * Returns the number of projectiles waiting in the pools to be reused when the snapshot was taken.
+	 *
+	 * @return the idle projectile count
+	 */
+	public int getIdleProjectiles() {
+		return idleProjectiles;
+	}
+
+	/**
+	 * Returns the high-water marks of the pools, summed over the projectile types, when the snapshot was taken.
+	 *
+	 * @return the sum of the high-water marks
+	 */
+	public int getProjectileHighWaterMark() {
+		return projectileHighWaterMark;
+	}
+
+	/**
+	 * Returns the number of projectiles the pools had created when the snapshot was taken.
+	 *
+	 * @return the number of allocations
+	 */
+	public long getProjectilesCreated() {
+		return projectilesCreated;
+	}
+
+	/**
+	 * Returns the number of shots the pools had served with a reused projectile when the snapshot was taken.
+	 *
+	 * @return the number of allocations avoided
+	 */
+	public long getProjectilesReused() {
+		return projectilesReused;
+	}
+
+	/**
+	 * Returns the number of snapshots published before this one.
+	 *
+	 * @return the sequence number
+	 */
+	public long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * Returns the time the snapshot's last tick was due, to interpolate from.
+	 *
+	 * @return the time in nanoseconds, from {@link System#nanoTime()}
+	 */
+	public long getTickTimeNanos() {
+		return tickTimeNanos;
+	}
+
+	/**
+	 * Returns the time the snapshot was published.
+	 *
+	 * @return the time in nanoseconds, from {@link System#nanoTime()}
+	 */
+	public long getPublishedNanos() {
+		return publishedNanos;
+	}
+
+	/**
+	 * Grows the arrays to hold at least the given number of actors.
+	 *
+	 * @param capacity the number of actors needed
+	 */
+	private void grow(int capacity) {
+		int newCapacity = Math.max(capacity, actors.length * 2);
+		actors = Arrays.copyOf(actors, newCapacity);
+		xs = Arrays.copyOf(xs, newCapacity);
+		ys = Arrays.copyOf(ys, newCapacity);
+		previousXs = Arrays.copyOf(previousXs, newCapacity);
+		previousYs = Arrays.copyOf(previousYs, newCapacity);
+		glowLevels = Arrays.copyOf(glowLevels, newCapacity);
+	}
+}
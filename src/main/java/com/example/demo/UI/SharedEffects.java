@@ -0,0 +1,35 @@
+package com.example.demo.UI;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.scene.effect.Glow;
+
+/**
+ * Effect instances shared by every view and canvas that needs them, so that showing the same effect on many actors,
+ * or showing it again after every hit, never allocates a new one.
+ * <p>
+ * The shared effects must not be modified. Only used from the JavaFX Application Thread.
+ */
+public final class SharedEffects {
+
+	private static final Map<Double, Glow> GLOWS = new HashMap<>();
+
+	private SharedEffects() {
+	}
+
+	/**
+	 * Returns the shared glow effect of a level.
+	 *
+	 * @param level the glow level between 0 and 1
+	 * @return the shared effect
+	 */
+	public static Glow glow(double level) {
+		Glow glow = GLOWS.get(level);
+		if (glow == null) {
+			glow = new Glow(level);
+			GLOWS.put(level, glow);
+		}
+		return glow;
+	}
+}
@@ -1,6 +1,6 @@
 package com.example.demo.UI;
 
-import javafx.scene.image.Image;
+import com.example.demo.assets.SpriteCache;
 import javafx.scene.image.ImageView;
 
 /**
@@ -19,7 +19,7 @@ public class WinImage extends ImageView {
 	 * @param yPosition the y-coordinate of the image's position.
 	 */
 	public WinImage(double xPosition, double yPosition) {
-		this.setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+		this.setImage(SpriteCache.getImage(IMAGE_NAME));
 		this.setVisible(false);
 		this.setFitHeight(HEIGHT);
 		this.setFitWidth(WIDTH);
@@ -1,19 +1,56 @@
 package com.example.demo.actors;
 
-import javafx.scene.image.*;
+import com.example.demo.assets.CollisionMask;
+import com.example.demo.assets.SpriteCache;
 
 /**
  * Represents a base class for all active actors in the game, such as planes or projectiles.
- * This class extends {@link ImageView} to display the actor's image and provides
- * utility methods for movement.
+ * <p>
+ * An actor is a plain simulation object: it holds its position, hitbox size and visual state,
+ * but no JavaFX node. Levels can therefore be updated without a running JavaFX toolkit, and the
+ * scene graph is kept in sync with the actors by an {@link com.example.demo.UI.ActorRenderer}.
+ * Positions follow the same convention as a JavaFX node: a layout position set when the actor is
+ * placed, plus a translation accumulated by movement.
+ * <p>
+ * Movement is declared rather than scripted: an actor has a velocity and optional vertical bounds, and
+ * {@link #updatePosition()} applies them once per tick. Inside a level, actors are attached to a
+ * {@link KinematicsStore}, which keeps this state in primitive arrays and moves all actors in one pass;
+ * the accessors of an attached actor read and write its slot in the store.
  */
-public abstract class ActiveActor extends ImageView {
+public abstract class ActiveActor {
 
-	/** The folder location where all actor images are stored. */
-	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+	private final String imageName;
+	final double height;
+	final double width;
+	double layoutX;
+	double layoutY;
+	double translateX;
+	double translateY;
+	double previousX;
+	double previousY;
+	double velocityX;
+	double velocityY;
+	double minY;
+	double maxY;
+	BoundMode boundMode = BoundMode.NONE;
+	int health;
+	private double glowLevel;
+	private double hitboxOffsetX;
+	private double hitboxOffsetY;
+	private double hitboxWidth;
+	private double hitboxHeight;
+	/** The opaque pixels inside the hitbox, looked up when the hitbox is set. */
+	private CollisionMask collisionMask;
+
+	/** The store holding this actor's state while it is part of a level, otherwise {@code null}. */
+	KinematicsStore store;
+	/** The actor's slot in {@link #store}. */
+	int slot = -1;
 
 	/**
 	 * Constructs an {@code ActiveActor} with a specified image, size, and initial position.
+	 * The image itself is not loaded here; only its aspect ratio is read so the hitbox matches
+	 * what the renderer will draw.
 	 *
 	 * @param imageName   The name of the image file located in the image resources folder.
 	 * @param imageHeight The height of the actor's image. The width is adjusted automatically
@@ -22,36 +59,459 @@ public abstract class ActiveActor extends ImageView {
 	 * @param initialYPos The initial Y-coordinate where the actor will be placed.
 	 */
 	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-		this.setImage(new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm()));
-		this.setLayoutX(initialXPos);
-		this.setLayoutY(initialYPos);
-		this.setFitHeight(imageHeight);
-		this.setPreserveRatio(true);
+		this.imageName = imageName;
+		this.height = imageHeight;
+		this.width = imageHeight * SpriteCache.getAspectRatio(SpriteCache.IMAGE_LOCATION + imageName);
+		this.layoutX = initialXPos;
+		this.layoutY = initialYPos;
+		applyHitboxInsets(HitboxInsets.NONE);
+		savePreviousPosition();
+	}
+
+	/**
+	 * Runs the actor's own logic for the tick, before it moves. Subclasses override this to steer
+	 * by changing their velocity or to update effects; the default does nothing, and actors that
+	 * keep it are skipped by {@link KinematicsStore#updateBehaviors()}.
+	 */
+	public void updateBehavior() {
+	}
+
+	/**
+	 * Moves the actor by one tick: remembers its current position, moves it by its velocity and applies
+	 * its vertical bounds. {@link KinematicsStore#integrate()} performs the same step for attached actors.
+	 */
+	public void updatePosition() {
+		savePreviousPosition();
+		double translateY = getTranslateY();
+		double movedTranslateY = translateY + getVelocityY();
+		double movedY = getLayoutY() + movedTranslateY;
+		BoundMode mode = getBoundMode();
+		if (mode == BoundMode.CLAMP) {
+			if (movedY < getMinY() || movedY > getMaxY()) {
+				movedTranslateY = translateY;
+			}
+		} else if (mode == BoundMode.BOUNCE) {
+			if (movedY <= getMinY() || movedY >= getMaxY()) {
+				setVelocity(getVelocityX(), -getVelocityY());
+			}
+		}
+		setTranslateY(movedTranslateY);
+		setTranslateX(getTranslateX() + getVelocityX());
+	}
+
+	/**
+	 * Remembers the current position as the position at the start of the tick.
+	 * Renderers interpolate between this position and the current one.
+	 */
+	public void savePreviousPosition() {
+		if (store != null) {
+			store.previousX[slot] = getX();
+			store.previousY[slot] = getY();
+		} else {
+			previousX = getX();
+			previousY = getY();
+		}
+	}
+
+	/**
+	 * Returns the X-coordinate of the actor part way between the previous tick and the current one.
+	 *
+	 * @param alpha The fraction of a tick elapsed since the current position was reached, from 0 to 1.
+	 * @return The interpolated X-coordinate.
+	 */
+	public double getInterpolatedX(double alpha) {
+		double previous = store != null ? store.previousX[slot] : previousX;
+		return previous + (getX() - previous) * alpha;
+	}
+
+	/**
+	 * Returns the Y-coordinate of the actor part way between the previous tick and the current one.
+	 *
+	 * @param alpha The fraction of a tick elapsed since the current position was reached, from 0 to 1.
+	 * @return The interpolated Y-coordinate.
+	 */
+	public double getInterpolatedY(double alpha) {
+		double previous = store != null ? store.previousY[slot] : previousY;
+		return previous + (getY() - previous) * alpha;
+	}
+
+	/**
+	 * Returns the horizontal velocity of the actor.
+	 *
+	 * @return The distance moved to the right per tick.
+	 */
+	public double getVelocityX() {
+		return store != null ? store.velocityX[slot] : velocityX;
+	}
+
+	/**
+	 * Returns the vertical velocity of the actor.
+	 *
+	 * @return The distance moved downward per tick.
+	 */
+	public double getVelocityY() {
+		return store != null ? store.velocityY[slot] : velocityY;
+	}
+
+	/**
+	 * Sets the velocity the actor moves with every tick.
+	 *
+	 * @param velocityX The distance to move per tick. A positive value moves the actor to the right.
+	 * @param velocityY The distance to move per tick. A positive value moves the actor downward.
+	 */
+	protected void setVelocity(double velocityX, double velocityY) {
+		if (store != null) {
+			store.velocityX[slot] = velocityX;
+			store.velocityY[slot] = velocityY;
+		} else {
+			this.velocityX = velocityX;
+			this.velocityY = velocityY;
+		}
+	}
+
+	/**
+	 * Limits the vertical position of the actor's top edge.
+	 *
+	 * @param minY The smallest allowed Y-coordinate.
+	 * @param maxY The largest allowed Y-coordinate.
+	 * @param mode How the actor reacts when a move reaches the bounds.
+	 */
+	protected void setVerticalBounds(double minY, double maxY, BoundMode mode) {
+		if (store != null) {
+			store.minY[slot] = minY;
+			store.maxY[slot] = maxY;
+			store.boundMode[slot] = (byte) mode.ordinal();
+		} else {
+			this.minY = minY;
+			this.maxY = maxY;
+			this.boundMode = mode;
+		}
+	}
+
+	/**
+	 * Returns the smallest Y-coordinate the actor may move to.
+	 *
+	 * @return The upper vertical bound.
+	 */
+	private double getMinY() {
+		return store != null ? store.minY[slot] : minY;
+	}
+
+	/**
+	 * Returns the largest Y-coordinate the actor may move to.
+	 *
+	 * @return The lower vertical bound.
+	 */
+	private double getMaxY() {
+		return store != null ? store.maxY[slot] : maxY;
+	}
+
+	/**
+	 * Returns how the actor reacts to its vertical bounds.
+	 *
+	 * @return The bound mode.
+	 */
+	private BoundMode getBoundMode() {
+		return store != null ? KinematicsStore.BOUND_MODES[store.boundMode[slot]] : boundMode;
+	}
+
+	/**
+	 * Returns the hit points of the actor.
+	 *
+	 * @return The remaining health.
+	 */
+	protected int getHealth() {
+		return store != null ? store.health[slot] : health;
+	}
+
+	/**
+	 * Sets the hit points of the actor.
+	 *
+	 * @param health The remaining health.
+	 */
+	protected void setHealth(int health) {
+		if (store != null) {
+			store.health[slot] = health;
+		} else {
+			this.health = health;
+		}
+	}
+
+	/**
+	 * Checks whether this actor touches another actor: their hitboxes must overlap, and then an opaque pixel of
+	 * one sprite must cover an opaque pixel of the other inside both hitboxes. The cheap rectangle test rejects
+	 * almost every pair, so the pixel masks are only compared for actors that are already close.
+	 *
+	 * @param other The actor to test against.
+	 * @return {@code true} if the two actors collide.
+	 */
+	public boolean intersects(ActiveActor other) {
+		if (!hitboxesOverlap(other)) {
+			return false;
+		}
+		double x = getX();
+		double y = getY();
+		return getCollisionMask().overlaps(other.getCollisionMask(), (int) Math.round(other.getX() - x),
+				(int) Math.round(other.getY() - y));
+	}
+
+	/**
+	 * Checks whether the hitbox of this actor overlaps the hitbox of another actor.
+	 * Touching edges count as an overlap. Only the positions are read; the hitbox offsets and sizes are
+	 * fixed when the insets are set, so the test is a handful of additions and comparisons.
+	 *
+	 * @param other The actor to test against.
+	 * @return {@code true} if the two hitboxes overlap.
+	 */
+	public boolean hitboxesOverlap(ActiveActor other) {
+		double x = getX() + hitboxOffsetX;
+		double y = getY() + hitboxOffsetY;
+		double otherX = other.getX() + other.hitboxOffsetX;
+		double otherY = other.getY() + other.hitboxOffsetY;
+		return otherX + other.hitboxWidth >= x && otherY + other.hitboxHeight >= y
+				&& otherX <= x + hitboxWidth && otherY <= y + hitboxHeight;
+	}
+
+	/**
+	 * Returns the opaque pixels of the actor's sprite at its drawn size, clipped to its hitbox.
+	 * The mask is shared by every actor of the same type and size, so only the first one builds it.
+	 *
+	 * @return The actor's collision mask.
+	 */
+	public CollisionMask getCollisionMask() {
+		CollisionMask mask = collisionMask;
+		if (mask == null) {
+			mask = CollisionMask.forSprite(SpriteCache.IMAGE_LOCATION + imageName, width, height, hitboxOffsetX,
+					hitboxOffsetY, hitboxWidth, hitboxHeight);
+			collisionMask = mask;
+		}
+		return mask;
+	}
+
+	/**
+	 * Shrinks the actor's hitbox from the edges of its sprite. Actor types call this from their constructor,
+	 * which also builds the type's collision mask if no actor of the same type and size has done so yet.
+	 *
+	 * @param insets The shares of the drawn size removed from each edge.
+	 */
+	protected final void setHitboxInsets(HitboxInsets insets) {
+		applyHitboxInsets(insets);
+		getCollisionMask();
+	}
+
+	/**
+	 * Sets the hitbox offsets and size from insets and forgets the collision mask of the previous hitbox.
+	 *
+	 * @param insets The shares of the drawn size removed from each edge.
+	 */
+	private void applyHitboxInsets(HitboxInsets insets) {
+		this.hitboxOffsetX = width * insets.getLeft();
+		this.hitboxOffsetY = height * insets.getTop();
+		this.hitboxWidth = width * (1 - insets.getLeft() - insets.getRight());
+		this.hitboxHeight = height * (1 - insets.getTop() - insets.getBottom());
+		this.collisionMask = null;
+	}
+
+	/**
+	 * Returns the X-coordinate of the left edge of the actor's hitbox.
+	 *
+	 * @return The hitbox's left edge.
+	 */
+	public double getHitboxX() {
+		return getX() + hitboxOffsetX;
+	}
+
+	/**
+	 * Returns the Y-coordinate of the top edge of the actor's hitbox.
+	 *
+	 * @return The hitbox's top edge.
+	 */
+	public double getHitboxY() {
+		return getY() + hitboxOffsetY;
+	}
+
+	/**
+	 * Returns the width of the actor's hitbox.
+	 *
+	 * @return The width in px, at most the drawn width.
+	 */
+	public double getHitboxWidth() {
+		return hitboxWidth;
+	}
+
+	/**
+	 * Returns the height of the actor's hitbox.
+	 *
+	 * @return The height in px, at most the drawn height.
+	 */
+	public double getHitboxHeight() {
+		return hitboxHeight;
+	}
+
+	/**
+	 * Returns the name of the image file used to draw this actor.
+	 *
+	 * @return The image file name, relative to the image resources folder.
+	 */
+	public String getImageName() {
+		return imageName;
+	}
+
+	/**
+	 * Returns the drawn width of the actor.
+	 *
+	 * @return The width in px.
+	 */
+	public double getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the drawn height of the actor.
+	 *
+	 * @return The height in px.
+	 */
+	public double getHeight() {
+		return height;
+	}
+
+	/**
+	 * Returns the current X-coordinate of the actor's top-left corner.
+	 *
+	 * @return The layout X-coordinate plus the horizontal translation.
+	 */
+	public double getX() {
+		return store != null ? store.layoutX[slot] + store.translateX[slot] : layoutX + translateX;
+	}
+
+	/**
+	 * Returns the current Y-coordinate of the actor's top-left corner.
+	 *
+	 * @return The layout Y-coordinate plus the vertical translation.
+	 */
+	public double getY() {
+		return store != null ? store.layoutY[slot] + store.translateY[slot] : layoutY + translateY;
 	}
 
 	/**
-	 * Updates the position of the actor. Subclasses must implement this method to define
-	 * their specific movement behavior or updates per game frame.
+	 * Returns the X-coordinate the actor was placed at.
+	 *
+	 * @return The layout X-coordinate.
+	 */
+	public double getLayoutX() {
+		return store != null ? store.layoutX[slot] : layoutX;
+	}
+
+	/**
+	 * Sets the X-coordinate the actor is placed at.
+	 *
+	 * @param layoutX The layout X-coordinate.
+	 */
+	protected void setLayoutX(double layoutX) {
+		if (store != null) {
+			store.layoutX[slot] = layoutX;
+		} else {
+			this.layoutX = layoutX;
+		}
+	}
+
+	/**
+	 * Returns the Y-coordinate the actor was placed at.
+	 *
+	 * @return The layout Y-coordinate.
+	 */
+	public double getLayoutY() {
+		return store != null ? store.layoutY[slot] : layoutY;
+	}
+
+	/**
+	 * Sets the Y-coordinate the actor is placed at.
+	 *
+	 * @param layoutY The layout Y-coordinate.
+	 */
+	protected void setLayoutY(double layoutY) {
+		if (store != null) {
+			store.layoutY[slot] = layoutY;
+		} else {
+			this.layoutY = layoutY;
+		}
+	}
+
+	/**
+	 * Returns how far the actor has moved horizontally from its layout position.
+	 *
+	 * @return The horizontal translation.
+	 */
+	public double getTranslateX() {
+		return store != null ? store.translateX[slot] : translateX;
+	}
+
+	/**
+	 * Sets how far the actor has moved horizontally from its layout position.
+	 *
+	 * @param translateX The horizontal translation.
+	 */
+	protected void setTranslateX(double translateX) {
+		if (store != null) {
+			store.translateX[slot] = translateX;
+		} else {
+			this.translateX = translateX;
+		}
+	}
+
+	/**
+	 * Returns how far the actor has moved vertically from its layout position.
+	 *
+	 * @return The vertical translation.
 	 */
-	public abstract void updatePosition();
+	public double getTranslateY() {
+		return store != null ? store.translateY[slot] : translateY;
+	}
 
 	/**
-	 * Moves the actor horizontally by the specified distance.
+	 * Sets how far the actor has moved vertically from its layout position.
 	 *
-	 * @param horizontalMove The distance to move horizontally. A positive value moves
-	 *                       the actor to the right, and a negative value moves it to the left.
+	 * @param translateY The vertical translation.
 	 */
-	protected void moveHorizontally(double horizontalMove) {
-		this.setTranslateX(getTranslateX() + horizontalMove);
+	protected void setTranslateY(double translateY) {
+		if (store != null) {
+			store.translateY[slot] = translateY;
+		} else {
+			this.translateY = translateY;
+		}
 	}
 
 	/**
-	 * Moves the actor vertically by the specified distance.
+	 * Returns how long the actor has been part of its level.
 	 *
-	 * @param verticalMove The distance to move vertically. A positive value moves
-	 *                     the actor downward, and a negative value moves it upward.
+	 * @return The number of ticks the actor has moved since it joined the level, or 0 if it is not in a level.
+	 */
+	public int getAge() {
+		return store != null ? store.ages[slot] : 0;
+	}
+
+	/**
+	 * Returns the strength of the glow drawn around the actor.
+	 *
+	 * @return The glow level between 0 and 1, where 0 means the actor does not glow.
+	 */
+	public double getGlowLevel() {
+		return glowLevel;
+	}
+
+	/**
+	 * Makes the actor glow, e.g. to show a shield or invincibility.
+	 *
+	 * @param level The glow level between 0 and 1.
+	 */
+	protected void setGlow(double level) {
+		this.glowLevel = level;
+	}
+
+	/**
+	 * Removes any glow from the actor.
 	 */
-	protected void moveVertically(double verticalMove) {
-		this.setTranslateY(getTranslateY() + verticalMove);
+	protected void clearGlow() {
+		this.glowLevel = 0;
 	}
 }
@@ -14,6 +14,11 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	/** Tracks whether the actor has been penetrated (e.g., by projectiles). */
 	private boolean isPenetrated = false;
 
+	/** The list this actor belongs to, which is told when the actor is destroyed. */
+	ActorList owner;
+	/** The actor's index in {@link #owner}. */
+	int ownerIndex = -1;
+
 	/**
 	 * Constructs an {@code ActiveActorDestructible} with the specified image, size, and position.
 	 *
@@ -27,17 +32,13 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 		isDestroyed = false;
 	}
 
-	/**
-	 * Updates the position of the actor. Subclasses must provide their specific logic
-	 * for position updates, such as movement behavior.
-	 */
-	@Override
-	public abstract void updatePosition();
-
 	/**
 	 * Updates the actor's state, including position, effects, or any other game-specific behavior.
 	 */
-	public abstract void updateActor();
+	public void updateActor() {
+		updateBehavior();
+		updatePosition();
+	}
 
 	/**
 	 * Applies damage to the actor. Subclasses must implement the logic
@@ -56,11 +57,17 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 
 	/**
 	 * Sets the destroyed state of the actor.
+	 * A newly destroyed actor reports itself to the {@link ActorList} it belongs to once it is marked destroyed,
+	 * so the list and its listener already see it as destroyed.
 	 *
 	 * @param isDestroyed {@code true} if the actor is destroyed, otherwise {@code false}.
 	 */
 	protected void setDestroyed(boolean isDestroyed) {
+		boolean newlyDestroyed = isDestroyed && !this.isDestroyed;
 		this.isDestroyed = isDestroyed;
+		if (newlyDestroyed && owner != null) {
+			owner.actorDestroyed(this);
+		}
 	}
 
 	/**
@@ -0,0 +1,227 @@
+package com.example.demo.actors;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list of actors that keeps track of which of its members have been destroyed.
+ * <p>
+ * Every actor remembers the list it belongs to and its index in it. When an actor is destroyed it reports
+ * itself to its list, so {@link #removeDestroyed(List)} only visits the actors that died: each one is removed
+ * by moving the last actor into its place. A tick in which nothing died costs a single check and allocates
+ * nothing. The order of the remaining actors is not preserved by that removal.
+ * A {@link DestructionListener} can be told about every actor at the moment it is destroyed.
+ * An actor can belong to at most one list at a time.
+ */
+public class ActorList extends AbstractList<ActiveActorDestructible> implements RandomAccess {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private ActiveActorDestructible[] actors;
+	private int size;
+	private ActiveActorDestructible[] destroyed;
+	private int destroyedCount;
+	private DestructionListener destructionListener;
+
+	/**
+	 * Constructs an empty list.
+	 */
+	public ActorList() {
+		this.actors = new ActiveActorDestructible[INITIAL_CAPACITY];
+		this.destroyed = new ActiveActorDestructible[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Returns the actor at the given index.
+	 *
+	 * @param index the index of the actor
+	 * @return the actor at that index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	@Override
+	public ActiveActorDestructible get(int index) {
+		return actors[checkIndex(index)];
+	}
+
+	/**
+	 * Returns the number of actors in the list, including destroyed actors that have not been removed yet.
+	 *
+	 * @return the number of actors
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Appends an actor to the list. Only appending is supported.
+	 *
+	 * @param index the index to insert at, which must be the size of the list
+	 * @param actor the actor to add
+	 * @throws UnsupportedOperationException if the index is not the end of the list
+	 * @throws IllegalStateException if the actor already belongs to a list
+	 */
+	@Override
+	public void add(int index, ActiveActorDestructible actor) {
+		if (index != size) {
+			throw new UnsupportedOperationException("Actors can only be appended");
+		}
+		if (actor.owner != null) {
+			throw new IllegalStateException("Actor already belongs to a list");
+		}
+		if (size == actors.length) {
+			actors = Arrays.copyOf(actors, size * 2);
+		}
+		actors[size] = actor;
+		actor.owner = this;
+		actor.ownerIndex = size;
+		size++;
+		modCount++;
+		if (actor.isDestroyed()) {
+			recordDestroyed(actor);
+		}
+	}
+
+	/**
+	 * Removes the actor at the given index, shifting the following actors down.
+	 *
+	 * @param index the index of the actor to remove
+	 * @return the removed actor
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	@Override
+	public ActiveActorDestructible remove(int index) {
+		ActiveActorDestructible actor = actors[checkIndex(index)];
+		System.arraycopy(actors, index + 1, actors, index, size - index - 1);
+		actors[--size] = null;
+		for (int i = index; i < size; i++) {
+			actors[i].ownerIndex = i;
+		}
+		release(actor);
+		modCount++;
+		return actor;
+	}
+
+	/**
+	 * Removes every actor from the list.
+	 */
+	@Override
+	public void clear() {
+		for (int i = 0; i < size; i++) {
+			release(actors[i]);
+			actors[i] = null;
+		}
+		size = 0;
+		clearDestroyed();
+		modCount++;
+	}
+
+	/**
+	 * Sets the listener told about every actor of this list that becomes destroyed.
+	 *
+	 * @param destructionListener the listener, or {@code null} for none
+	 */
+	public void setDestructionListener(DestructionListener destructionListener) {
+		this.destructionListener = destructionListener;
+	}
+
+	/**
+	 * Checks whether any actor of the list has been destroyed since the last removal.
+	 *
+	 * @return {@code true} if {@link #removeDestroyed(List)} has actors to remove
+	 */
+	public boolean hasDestroyed() {
+		return destroyedCount > 0;
+	}
+
+	/**
+	 * Removes every destroyed actor from the list and appends it to the given list.
+	 * Only the actors that were destroyed are visited.
+	 *
+	 * @param removed the list receiving the removed actors
+	 * @return the number of actors removed
+	 */
+	public int removeDestroyed(List<? super ActiveActorDestructible> removed) {
+		int count = 0;
+		for (int i = 0; i < destroyedCount; i++) {
+			ActiveActorDestructible actor = destroyed[i];
+			if (actor.owner != this || !actor.isDestroyed()) {
+				continue;
+			}
+			int index = actor.ownerIndex;
+			int last = --size;
+			if (index != last) {
+				ActiveActorDestructible moved = actors[last];
+				actors[index] = moved;
+				moved.ownerIndex = index;
+			}
+			actors[last] = null;
+			release(actor);
+			removed.add(actor);
+			count++;
+		}
+		clearDestroyed();
+		if (count > 0) {
+			modCount++;
+		}
+		return count;
+	}
+
+	/**
+	 * Records that an actor of this list has just been destroyed and tells the listener.
+	 *
+	 * @param actor the destroyed actor
+	 */
+	void actorDestroyed(ActiveActorDestructible actor) {
+		recordDestroyed(actor);
+		if (destructionListener != null) {
+			destructionListener.actorDestroyed(actor);
+		}
+	}
+
+	/**
+	 * Remembers a destroyed actor for the next removal.
+	 *
+	 * @param actor the destroyed actor
+	 */
+	private void recordDestroyed(ActiveActorDestructible actor) {
+		if (destroyedCount == destroyed.length) {
+			destroyed = Arrays.copyOf(destroyed, destroyedCount * 2);
+		}
+		destroyed[destroyedCount++] = actor;
+	}
+
+	/**
+	 * Forgets the recorded destroyed actors.
+	 */
+	private void clearDestroyed() {
+		Arrays.fill(destroyed, 0, destroyedCount, null);
+		destroyedCount = 0;
+	}
+
+	/**
+	 * Detaches an actor from this list.
+	 *
+	 * @param actor the actor that left the list
+	 */
+	private static void release(ActiveActorDestructible actor) {
+		actor.owner = null;
+		actor.ownerIndex = -1;
+	}
+
+	/**
+	 * Checks that an index refers to an actor of the list.
+	 *
+	 * @param index the index to check
+	 * @return the index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	private int checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return index;
+	}
+}
@@ -0,0 +1,16 @@
+package com.example.demo.actors;
+
+/**
+ * How an actor reacts when a vertical move would take it past its vertical bounds.
+ */
+public enum BoundMode {
+
+	/** The actor has no vertical bounds. */
+	NONE,
+
+	/** A vertical move that would leave the bounds is cancelled, as for the user's plane and the boss. */
+	CLAMP,
+
+	/** The move is made, but the vertical velocity is reversed once a bound is reached. */
+	BOUNCE
+}
@@ -0,0 +1,15 @@
+package com.example.demo.actors;
+
+/**
+ * Listens for actors of an {@link ActorList} being destroyed.
+ */
+@FunctionalInterface
+public interface DestructionListener {
+
+	/**
+	 * Called once, at the moment an actor of the list becomes destroyed.
+	 *
+	 * @param actor the actor that was destroyed
+	 */
+	void actorDestroyed(ActiveActorDestructible actor);
+}
@@ -0,0 +1,74 @@
+package com.example.demo.actors;
+
+/**
+ * How far an actor's hitbox is shrunk from each edge of its drawn sprite, as fractions of the drawn size.
+ * <p>
+ * Sprites include transparent padding and shapes, like a plane's nose or a fireball's trail, that players do not
+ * expect to count as a hit. Each actor type declares its insets once, and they scale with the size the sprite is
+ * drawn at.
+ */
+public final class HitboxInsets {
+
+	/** Insets of a hitbox that covers the whole sprite. */
+	public static final HitboxInsets NONE = new HitboxInsets(0, 0, 0, 0);
+
+	private final double left;
+	private final double top;
+	private final double right;
+	private final double bottom;
+
+	/**
+	 * Constructs hitbox insets.
+	 *
+	 * @param left   the share of the width removed on the left
+	 * @param top    the share of the height removed at the top
+	 * @param right  the share of the width removed on the right
+	 * @param bottom the share of the height removed at the bottom
+	 * @throws IllegalArgumentException if an inset is negative or the insets leave no hitbox
+	 */
+	public HitboxInsets(double left, double top, double right, double bottom) {
+		if (left < 0 || top < 0 || right < 0 || bottom < 0 || left + right >= 1 || top + bottom >= 1) {
+			throw new IllegalArgumentException("Invalid hitbox insets: " + left + ", " + top + ", " + right + ", " + bottom);
+		}
+		this.left = left;
+		this.top = top;
+		this.right = right;
+		this.bottom = bottom;
+	}
+
+	/**
+	 * Returns the share of the width removed on the left.
+	 *
+	 * @return the left inset, from 0 to 1
+	 */
+	public double getLeft() {
+		return left;
+	}
+
+	/**
+	 * Returns the share of the height removed at the top.
+	 *
+	 * @return the top inset, from 0 to 1
+	 */
+	public double getTop() {
+		return top;
+	}
+
+	/**
+	 * Returns the share of the width removed on the right.
+	 *
+	 * @return the right inset, from 0 to 1
+	 */
+	public double getRight() {
+		return right;
+	}
+
+	/**
+	 * Returns the share of the height removed at the bottom.
+	 *
+	 * @return the bottom inset, from 0 to 1
+	 */
+	public double getBottom() {
+		return bottom;
+	}
+}
@@ -0,0 +1,253 @@
+package com.example.demo.actors;
+
+import java.util.Arrays;
+
+/**
+ * Structure-of-arrays storage for the position, velocity, size, health and age of a level's actors.
+ * <p>
+ * Each attached actor owns one slot, and all slots in use are packed at the start of the arrays.
+ * While an actor is attached, its getters and setters read and write its slot instead of its own fields,
+ * so behaviour code keeps working unchanged, while {@link #integrate()} moves every actor in one linear pass
+ * over primitive arrays. Detaching an actor copies its state back into the actor and moves the last slot
+ * into the freed one.
+ */
+public final class KinematicsStore {
+
+	private static final int INITIAL_CAPACITY = 64;
+	static final BoundMode[] BOUND_MODES = BoundMode.values();
+	private static final byte CLAMP = (byte) BoundMode.CLAMP.ordinal();
+	private static final byte BOUNCE = (byte) BoundMode.BOUNCE.ordinal();
+
+	/** Whether instances of a class override {@link ActiveActor#updateBehavior()}. */
+	private static final ClassValue<Boolean> HAS_BEHAVIOR = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return type.getMethod("updateBehavior").getDeclaringClass() != ActiveActor.class;
+			} catch (NoSuchMethodException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	};
+
+	ActiveActor[] actors;
+	double[] layoutX;
+	double[] layoutY;
+	double[] translateX;
+	double[] translateY;
+	double[] previousX;
+	double[] previousY;
+	double[] velocityX;
+	double[] velocityY;
+	double[] width;
+	double[] height;
+	double[] minY;
+	double[] maxY;
+	byte[] boundMode;
+	int[] health;
+	/** The number of ticks each actor has been moved since it was attached. */
+	int[] ages;
+	private boolean[] hasBehavior;
+	private int size;
+
+	/**
+	 * Constructs an empty store.
+	 */
+	public KinematicsStore() {
+		allocate(INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Moves the state of an actor into a free slot of this store.
+	 * An actor attached to another store is detached from it first.
+	 *
+	 * @param actor the actor that joined the level
+	 */
+	public void attach(ActiveActor actor) {
+		if (actor.store == this) {
+			return;
+		}
+		if (actor.store != null) {
+			actor.store.detach(actor);
+		}
+		if (size == actors.length) {
+			allocate(size * 2);
+		}
+		int slot = size++;
+		actors[slot] = actor;
+		layoutX[slot] = actor.layoutX;
+		layoutY[slot] = actor.layoutY;
+		translateX[slot] = actor.translateX;
+		translateY[slot] = actor.translateY;
+		previousX[slot] = actor.previousX;
+		previousY[slot] = actor.previousY;
+		velocityX[slot] = actor.velocityX;
+		velocityY[slot] = actor.velocityY;
+		width[slot] = actor.width;
+		height[slot] = actor.height;
+		minY[slot] = actor.minY;
+		maxY[slot] = actor.maxY;
+		boundMode[slot] = (byte) actor.boundMode.ordinal();
+		health[slot] = actor.health;
+		ages[slot] = 0;
+		hasBehavior[slot] = HAS_BEHAVIOR.get(actor.getClass());
+		actor.store = this;
+		actor.slot = slot;
+	}
+
+	/**
+	 * Copies the state of an actor back into the actor and frees its slot.
+	 * Actors that are not attached to this store are ignored.
+	 *
+	 * @param actor the actor that left the level
+	 */
+	public void detach(ActiveActor actor) {
+		if (actor.store != this) {
+			return;
+		}
+		int slot = actor.slot;
+		actor.layoutX = layoutX[slot];
+		actor.layoutY = layoutY[slot];
+		actor.translateX = translateX[slot];
+		actor.translateY = translateY[slot];
+		actor.previousX = previousX[slot];
+		actor.previousY = previousY[slot];
+		actor.velocityX = velocityX[slot];
+		actor.velocityY = velocityY[slot];
+		actor.minY = minY[slot];
+		actor.maxY = maxY[slot];
+		actor.boundMode = BOUND_MODES[boundMode[slot]];
+		actor.health = health[slot];
+		actor.store = null;
+		actor.slot = -1;
+
+		int last = --size;
+		if (slot != last) {
+			move(last, slot);
+		}
+		actors[last] = null;
+	}
+
+	/**
+	 * Detaches every actor, e.g. when the level ends.
+	 */
+	public void detachAll() {
+		while (size > 0) {
+			detach(actors[size - 1]);
+		}
+	}
+
+	/**
+	 * Runs {@link ActiveActor#updateBehavior()} for every attached actor that overrides it.
+	 * Actors that only fly straight or bounce are not visited at all.
+	 */
+	public void updateBehaviors() {
+		for (int i = 0; i < size; i++) {
+			if (hasBehavior[i]) {
+				actors[i].updateBehavior();
+			}
+		}
+	}
+
+	/**
+	 * Advances every attached actor by one tick.
+	 * Each actor remembers its current position as its previous one, moves by its velocity and then
+	 * applies its vertical bounds, exactly like {@link ActiveActor#updatePosition()}. Every actor also
+	 * grows one tick older.
+	 */
+	public void integrate() {
+		for (int i = 0; i < size; i++) {
+			double y = layoutY[i] + translateY[i];
+			previousX[i] = layoutX[i] + translateX[i];
+			previousY[i] = y;
+			double movedTranslateY = translateY[i] + velocityY[i];
+			double movedY = layoutY[i] + movedTranslateY;
+			byte mode = boundMode[i];
+			if (mode == CLAMP) {
+				if (movedY < minY[i] || movedY > maxY[i]) {
+					movedTranslateY = translateY[i];
+				}
+			} else if (mode == BOUNCE) {
+				if (movedY <= minY[i] || movedY >= maxY[i]) {
+					velocityY[i] = -velocityY[i];
+				}
+			}
+			translateY[i] = movedTranslateY;
+			translateX[i] += velocityX[i];
+			ages[i]++;
+		}
+	}
+
+	/**
+	 * Returns the number of attached actors.
+	 *
+	 * @return the number of slots in use
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Moves the contents of one slot into another and tells the owning actor its new slot.
+	 *
+	 * @param from the slot to move
+	 * @param to   the slot to move it to
+	 */
+	private void move(int from, int to) {
+		ActiveActor actor = actors[from];
+		actors[to] = actor;
+		layoutX[to] = layoutX[from];
+		layoutY[to] = layoutY[from];
+		translateX[to] = translateX[from];
+		translateY[to] = translateY[from];
+		previousX[to] = previousX[from];
+		previousY[to] = previousY[from];
+		velocityX[to] = velocityX[from];
+		velocityY[to] = velocityY[from];
+		width[to] = width[from];
+		height[to] = height[from];
+		minY[to] = minY[from];
+		maxY[to] = maxY[from];
+		boundMode[to] = boundMode[from];
+		health[to] = health[from];
+		ages[to] = ages[from];
+		hasBehavior[to] = hasBehavior[from];
+		actor.slot = to;
+	}
+
+	/**
+	 * Grows all arrays to the given capacity, keeping their contents.
+	 *
+	 * @param capacity the new number of slots
+	 */
+	private void allocate(int capacity) {
+		actors = actors == null ? new ActiveActor[capacity] : Arrays.copyOf(actors, capacity);
+		layoutX = grow(layoutX, capacity);
+		layoutY = grow(layoutY, capacity);
+		translateX = grow(translateX, capacity);
+		translateY = grow(translateY, capacity);
+		previousX = grow(previousX, capacity);
+		previousY = grow(previousY, capacity);
+		velocityX = grow(velocityX, capacity);
+		velocityY = grow(velocityY, capacity);
+		width = grow(width, capacity);
+		height = grow(height, capacity);
+		minY = grow(minY, capacity);
+		maxY = grow(maxY, capacity);
+		boundMode = boundMode == null ? new byte[capacity] : Arrays.copyOf(boundMode, capacity);
+		health = health == null ? new int[capacity] : Arrays.copyOf(health, capacity);
+		ages = ages == null ? new int[capacity] : Arrays.copyOf(ages, capacity);
+		hasBehavior = hasBehavior == null ? new boolean[capacity] : Arrays.copyOf(hasBehavior, capacity);
+	}
+
+	/**
+	 * Returns a copy of an array with the given length, or a new array if there is none yet.
+	 *
+	 * @param array    the array to grow, may be {@code null}
+	 * @param capacity the new length
+	 * @return the grown array
+	 */
+	private static double[] grow(double[] array, int capacity) {
+		return array == null ? new double[capacity] : Arrays.copyOf(array, capacity);
+	}
+}
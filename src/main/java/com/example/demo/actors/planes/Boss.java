@@ -3,8 +3,10 @@ package com.example.demo.actors.planes;
 import java.util.*;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.BoundMode;
+import com.example.demo.actors.HitboxInsets;
+import com.example.demo.actors.projectiles.ProjectilePools;
 import com.example.demo.actors.projectiles.projectileFactory;
-import javafx.scene.effect.Glow;
 
 /**
  * Represents a boss fighter plane with special behavior such as shield activation and unique movement patterns.
@@ -15,9 +17,9 @@ public class Boss extends FighterPlane {
 	private static final double INITIAL_X_POSITION = 900.0;
 	private static final double INITIAL_Y_POSITION = 400;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 75.0;
-	private static final double BOSS_FIRE_RATE = .04;
-	private static final double BOSS_SHIELD_PROBABILITY = .004;
 	private static final int IMAGE_HEIGHT = 75;
+	/** Excludes the tips of the wings and the tail. */
+	public static final HitboxInsets HITBOX_INSETS = new HitboxInsets(0.02, 0.15, 0.02, 0.15);
 	private static final int VERTICAL_VELOCITY = 8;
 	private static final int HEALTH = 25;
 	private static final int MOVE_FREQUENCY_PER_CYCLE = 5;
@@ -26,7 +28,12 @@ public class Boss extends FighterPlane {
 	private static final int Y_POSITION_UPPER_BOUND = 10;
 	private static final int Y_POSITION_LOWER_BOUND = 600;
 	private static final int MAX_FRAMES_WITH_SHIELD = 100;
+	/** The glow level of the boss while its shield is up. */
+	public static final double SHIELD_GLOW_LEVEL = 1;
 
+	private final SplittableRandom random;
+	private final double fireRate;
+	private final double shieldProbability;
 	private final List<Integer> movePattern;
 	private boolean isShielded;
 	private int consecutiveMovesInSameDirection;
@@ -35,47 +42,47 @@ public class Boss extends FighterPlane {
 
 	/**
 	 * Constructs a new Boss object with initial position, health, and move pattern.
+	 *
+	 * @param random            The random generator deciding the boss's moves, fire and shield.
+	 * @param fireRate          The chance per tick that the boss fires.
+	 * @param shieldProbability The chance per tick that the boss raises its shield.
 	 */
-	public Boss() {
+	public Boss(SplittableRandom random, double fireRate, double shieldProbability) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
+		setHitboxInsets(HITBOX_INSETS);
+		this.random = random;
+		this.fireRate = fireRate;
+		this.shieldProbability = shieldProbability;
 		movePattern = new ArrayList<>();
 		consecutiveMovesInSameDirection = 0;
 		indexOfCurrentMove = 0;
 		framesWithShieldActivated = 0;
 		isShielded = false;
+		setVerticalBounds(Y_POSITION_UPPER_BOUND, Y_POSITION_LOWER_BOUND, BoundMode.CLAMP);
 		initializeMovePattern();
 	}
 
 	/**
-	 * Updates the boss's position based on its move pattern.
-	 */
-	@Override
-	public void updatePosition() {
-		double initialTranslateY = getTranslateY();
-		moveVertically(getNextMove());
-		double currentPosition = getLayoutY() + getTranslateY();
-		if (currentPosition < Y_POSITION_UPPER_BOUND || currentPosition > Y_POSITION_LOWER_BOUND) {
-			setTranslateY(initialTranslateY);
-		}
-	}
-
-	/**
-	 * Updates the boss by updating its position and shield status.
+	 * Steers the boss along its move pattern and updates its shield status.
+	 * Moves that would take the boss out of its vertical bounds are cancelled.
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateBehavior() {
+		setVelocity(0, getNextMove());
 		updateShield();
 	}
 
 	/**
 	 * Fires a projectile if the boss decides to fire in the current frame.
 	 *
+	 * @param pools The projectile pools of the level the plane flies in.
 	 * @return A new projectile if the boss fires, or null if not.
 	 */
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		return bossFiresInCurrentFrame() ? projectileFactory.createProjectile("boss", 0, getProjectileInitialPosition()) : null;
+	public ActiveActorDestructible fireProjectile(ProjectilePools pools) {
+		return bossFiresInCurrentFrame()
+				? projectileFactory.createProjectile(pools, "boss", 0, getProjectileInitialPosition())
+				: null;
 	}
 
 	/**
@@ -98,7 +105,7 @@ public class Boss extends FighterPlane {
 			movePattern.add(-VERTICAL_VELOCITY);
 			movePattern.add(ZERO);
 		}
-		Collections.shuffle(movePattern);
+		shuffleMovePattern();
 	}
 
 	/**
@@ -119,7 +126,7 @@ public class Boss extends FighterPlane {
 		int currentMove = movePattern.get(indexOfCurrentMove);
 		consecutiveMovesInSameDirection++;
 		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern);
+			shuffleMovePattern();
 			consecutiveMovesInSameDirection = 0;
 			indexOfCurrentMove++;
 		}
@@ -129,13 +136,22 @@ public class Boss extends FighterPlane {
 		return currentMove;
 	}
 
+	/**
+	 * Shuffles the move pattern with the boss's own random generator (Fisher-Yates).
+	 */
+	private void shuffleMovePattern() {
+		for (int i = movePattern.size() - 1; i > 0; i--) {
+			Collections.swap(movePattern, i, random.nextInt(i + 1));
+		}
+	}
+
 	/**
 	 * Determines if the boss should fire a projectile in the current frame.
 	 *
 	 * @return True if the boss fires, otherwise false.
 	 */
 	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
+		return random.nextDouble() < fireRate;
 	}
 
 	/**
@@ -153,7 +169,7 @@ public class Boss extends FighterPlane {
 	 * @return True if the shield should be activated, otherwise false.
 	 */
 	private boolean shieldShouldBeActivated() {
-		return Math.random() < BOSS_SHIELD_PROBABILITY;
+		return random.nextDouble() < shieldProbability;
 	}
 
 	/**
@@ -170,7 +186,7 @@ public class Boss extends FighterPlane {
 	 */
 	private void activateShield() {
 		isShielded = true;
-		setEffect(new Glow(1));
+		setGlow(SHIELD_GLOW_LEVEL);
 	}
 
 	/**
@@ -179,7 +195,7 @@ public class Boss extends FighterPlane {
 	private void deactivateShield() {
 		isShielded = false;
 		framesWithShieldActivated = 0;
-		setEffect(null);
+		clearGlow();
 	}
 
 }
@@ -1,6 +1,10 @@
 package com.example.demo.actors.planes;
 
+import java.util.SplittableRandom;
+
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.HitboxInsets;
+import com.example.demo.actors.projectiles.ProjectilePools;
 import com.example.demo.actors.projectiles.projectileFactory;
 
 /**
@@ -10,52 +14,47 @@ public class EnemyPlane extends FighterPlane {
 
 	private static final String IMAGE_NAME = "enemyplane.png";
 	private static final int IMAGE_HEIGHT = 80;
+	/** Excludes the thin nose, the tail fin and the canopy above the fuselage. */
+	public static final HitboxInsets HITBOX_INSETS = new HitboxInsets(0.05, 0.35, 0.05, 0.1);
 	private static final int HORIZONTAL_VELOCITY = -6;
 	private static final double PROJECTILE_X_POSITION_OFFSET = -100.0;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 50.0;
 	private static final int INITIAL_HEALTH = 1;
-	private static final double FIRE_RATE = .01;
 	private static final String TYPE = "enemy";
 
+	private final SplittableRandom random;
+	private final double fireRate;
+
 	/**
 	 * Constructs a new EnemyPlane object with the specified initial position.
 	 *
 	 * @param initialXPos The initial X position of the enemy plane.
 	 * @param initialYPos The initial Y position of the enemy plane.
+	 * @param random      The random generator deciding when the plane fires.
+	 * @param fireRate    The chance per tick that the plane fires.
 	 */
-	public EnemyPlane(double initialXPos, double initialYPos) {
+	public EnemyPlane(double initialXPos, double initialYPos, SplittableRandom random, double fireRate) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
-	}
-
-	/**
-	 * Updates the position of the enemy plane by moving it horizontally at a fixed speed.
-	 */
-	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+		setHitboxInsets(HITBOX_INSETS);
+		this.random = random;
+		this.fireRate = fireRate;
+		setVelocity(HORIZONTAL_VELOCITY, 0);
 	}
 
 	/**
 	 * Fires a projectile from the enemy plane with a chance based on the fire rate.
 	 *
+	 * @param pools The projectile pools of the level the plane flies in.
 	 * @return A new projectile if the enemy plane fires, or null if it does not fire.
 	 */
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		if (Math.random() < FIRE_RATE) {
+	public ActiveActorDestructible fireProjectile(ProjectilePools pools) {
+		if (random.nextDouble() < fireRate) {
 			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
 			double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-			return projectileFactory.createProjectile(TYPE, projectileXPosition, projectileYPosition);
+			return projectileFactory.createProjectile(pools, TYPE, projectileXPosition, projectileYPosition);
 		}
 		return null;
 	}
 
-	/**
-	 * Updates the enemy plane by moving its position.
-	 */
-	@Override
-	public void updateActor() {
-		updatePosition();
-	}
-
 }
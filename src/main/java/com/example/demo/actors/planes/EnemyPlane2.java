@@ -1,6 +1,11 @@
 package com.example.demo.actors.planes;
 
+import java.util.SplittableRandom;
+
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.BoundMode;
+import com.example.demo.actors.HitboxInsets;
+import com.example.demo.actors.projectiles.ProjectilePools;
 import com.example.demo.actors.projectiles.projectileFactory;
 
 /**
@@ -10,65 +15,54 @@ public class EnemyPlane2 extends FighterPlane {
 
     private static final String IMAGE_NAME = "enemyplane2.png";
     private static final int IMAGE_HEIGHT = 80;
+    /** Excludes the thin nose, the tail fin and the canopy above the fuselage. */
+    public static final HitboxInsets HITBOX_INSETS = new HitboxInsets(0.05, 0.35, 0.05, 0.1);
     private static final int HORIZONTAL_VELOCITY = -3;
+    private static final int VERTICAL_SPEED = 5;
     private static final double PROJECTILE_X_POSITION_OFFSET = -100.0;
     private static final double PROJECTILE_Y_POSITION_OFFSET = 50.0;
     private static final int INITIAL_HEALTH = 2;
-    private static final double FIRE_RATE = .01;
     private static final int Y_POSITION_UPPER_BOUND = 0;
     private static final int Y_POSITION_LOWER_BOUND = 630;
-
-    private int vertical_velocity;
     private static final String TYPE = "enemy";
 
+    private final SplittableRandom random;
+    private final double fireRate;
+
     /**
      * Constructs a new EnemyPlane2 object with the specified initial position.
-     * The plane starts with a random vertical velocity either upwards or downwards.
+     * The plane starts with a random vertical velocity either upwards or downwards, and reverses it
+     * whenever it reaches the upper or lower bound while flying to the left at a fixed speed.
      *
      * @param initialXPos The initial X position of the enemy plane.
      * @param initialYPos The initial Y position of the enemy plane.
+     * @param random      The random generator choosing the initial direction and when the plane fires.
+     * @param fireRate    The chance per tick that the plane fires.
      */
-    public EnemyPlane2(double initialXPos, double initialYPos) {
+    public EnemyPlane2(double initialXPos, double initialYPos, SplittableRandom random, double fireRate) {
         super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
-        this.vertical_velocity = (Math.random() < 0.5) ? -5 : 5; // Random vertical velocity
-    }
-
-    /**
-     * Updates the position of the enemy plane by moving vertically within the set bounds
-     * and horizontally at a fixed speed.
-     */
-    @Override
-    public void updatePosition() {
-        setTranslateY(getTranslateY() + vertical_velocity);
-        double currentPosition = getLayoutY() + getTranslateY();
-        // Reverse vertical direction if the plane reaches the upper or lower bounds
-        if (currentPosition <= Y_POSITION_UPPER_BOUND || currentPosition >= Y_POSITION_LOWER_BOUND) {
-            vertical_velocity = -vertical_velocity;
-        }
-        moveHorizontally(HORIZONTAL_VELOCITY);
+        setHitboxInsets(HITBOX_INSETS);
+        this.random = random;
+        this.fireRate = fireRate;
+        double verticalVelocity = random.nextBoolean() ? -VERTICAL_SPEED : VERTICAL_SPEED; // Random vertical velocity
+        setVelocity(HORIZONTAL_VELOCITY, verticalVelocity);
+        setVerticalBounds(Y_POSITION_UPPER_BOUND, Y_POSITION_LOWER_BOUND, BoundMode.BOUNCE);
     }
 
     /**
      * Fires a projectile from the enemy plane with a chance based on the fire rate.
      *
+     * @param pools The projectile pools of the level the plane flies in.
      * @return A new projectile if the enemy plane fires, or null if it does not fire.
      */
     @Override
-    public ActiveActorDestructible fireProjectile() {
-        if (Math.random() < FIRE_RATE) {
+    public ActiveActorDestructible fireProjectile(ProjectilePools pools) {
+        if (random.nextDouble() < fireRate) {
             double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
             double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-            return projectileFactory.createProjectile(TYPE, projectileXPosition, projectileYPosition);
+            return projectileFactory.createProjectile(pools, TYPE, projectileXPosition, projectileYPosition);
         }
         return null;
     }
 
-    /**
-     * Updates the enemy plane by moving its position and potentially firing a projectile.
-     */
-    @Override
-    public void updateActor() {
-        updatePosition();
-    }
-
 }
@@ -1,14 +1,13 @@
 package com.example.demo.actors.planes;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.projectiles.ProjectilePools;
 
 /**
  * Represents an abstract class for a fighter plane, including functionality for health, damage handling, and firing projectiles.
  */
 public abstract class FighterPlane extends ActiveActorDestructible {
 
-	private int health;
-
 	/**
 	 * Constructs a new FighterPlane object with the specified image, position, and health.
 	 *
@@ -20,22 +19,23 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 */
 	public FighterPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
-		this.health = health;
+		setHealth(health);
 	}
 
 	/**
 	 * Abstract method that must be implemented by subclasses to define how the fighter plane fires projectiles.
 	 *
+	 * @param pools The projectile pools of the level the plane flies in.
 	 * @return A projectile fired by the fighter plane.
 	 */
-	public abstract ActiveActorDestructible fireProjectile();
+	public abstract ActiveActorDestructible fireProjectile(ProjectilePools pools);
 
 	/**
 	 * Handles the damage taken by the fighter plane, reducing its health and destroying it if health reaches zero.
 	 */
 	@Override
 	public void takeDamage() {
-		health--;
+		setHealth(getHealth() - 1);
 		if (healthAtZero()) {
 			this.destroy();
 		}
@@ -67,7 +67,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 * @return True if the health is zero, otherwise false.
 	 */
 	private boolean healthAtZero() {
-		return health == 0;
+		return getHealth() == 0;
 	}
 
 	/**
@@ -75,8 +75,9 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 *
 	 * @return The current health of the fighter plane.
 	 */
+	@Override
 	public int getHealth() {
-		return health;
+		return super.getHealth();
 	}
 
 }
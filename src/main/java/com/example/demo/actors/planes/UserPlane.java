@@ -1,8 +1,12 @@
 package com.example.demo.actors.planes;
 
+import java.util.function.LongSupplier;
+
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.BoundMode;
+import com.example.demo.actors.HitboxInsets;
+import com.example.demo.actors.projectiles.ProjectilePools;
 import com.example.demo.actors.projectiles.projectileFactory;
-import javafx.scene.effect.Glow;
 
 /**
  * Represents a user-controlled fighter plane with movement, firing, and damage-handling functionality.
@@ -15,19 +19,23 @@ public class UserPlane extends FighterPlane {
 	private static final double INITIAL_X_POSITION = 5.0;
 	private static final double INITIAL_Y_POSITION = 300.0;
 	private static final int IMAGE_HEIGHT = 60;
+	/** Excludes the tail fin above the fuselage. */
+	public static final HitboxInsets HITBOX_INSETS = new HitboxInsets(0.05, 0.25, 0.05, 0.1);
 	private static final int VERTICAL_VELOCITY = 8;
 	private static final int PROJECTILE_X_POSITION = 220;
 	private static final int PROJECTILE_Y_POSITION_OFFSET = 40;
 
-	private int velocityMultiplier;
 	private int numberOfKills;
 
 	private static final long FIRING_COOLDOWN_NANOS = 200_000_000; // Cooldown time for firing projectiles
 	private static final long I_FRAMES = 150_000_000; // Invincibility frames after taking damage
+	/** The glow level of the user's plane while it is invincible after a hit. */
+	public static final double DAMAGE_GLOW_LEVEL = 0.8;
 
-	private long lastHitTime = 0;
-	private long lastFireTime = 0;
+	private long lastHitTime = -I_FRAMES - 1;
+	private long lastFireTime = -FIRING_COOLDOWN_NANOS;
 	private long currentTime;
+	private LongSupplier clock = System::nanoTime;
 
 	/**
 	 * Constructs a user-controlled fighter plane with specified initial health.
@@ -36,49 +44,37 @@ public class UserPlane extends FighterPlane {
 	 */
 	public UserPlane(int initialHealth) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
-		velocityMultiplier = 0;
-	}
-
-	/**
-	 * Updates the position of the user plane based on its vertical movement.
-	 */
-	@Override
-	public void updatePosition() {
-		if (isMoving()) {
-			double initialTranslateY = getTranslateY();
-			this.moveVertically(VERTICAL_VELOCITY * velocityMultiplier);
-			double newPosition = getLayoutY() + getTranslateY();
-			if (newPosition < Y_UPPER_BOUND || newPosition > Y_LOWER_BOUND) {
-				this.setTranslateY(initialTranslateY);
-			}
-		}
+		setHitboxInsets(HITBOX_INSETS);
+		setVerticalBounds(Y_UPPER_BOUND, Y_LOWER_BOUND, BoundMode.CLAMP);
 	}
 
 	/**
-	 * Updates the actor, managing invincibility effects and other time-based mechanics.
+	 * Manages invincibility effects and other time-based mechanics.
+	 * Movement follows the velocity set by {@link #moveUp()}, {@link #moveDown()} and {@link #stop()}.
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
-		currentTime = System.nanoTime();
+	public void updateBehavior() {
+		currentTime = clock.getAsLong();
 		if (currentTime - lastHitTime > I_FRAMES) {
-			this.setEffect(null); // Remove visual glow effect after invincibility ends
+			this.clearGlow(); // Remove visual glow effect after invincibility ends
 		}
 	}
 
 	/**
 	 * Fires a projectile if the firing cooldown period has elapsed.
 	 *
+	 * @param pools The projectile pools of the level the plane flies in.
 	 * @return A projectile object, or {@code null} if the plane cannot fire.
 	 */
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		currentTime = System.nanoTime();
+	public ActiveActorDestructible fireProjectile(ProjectilePools pools) {
+		currentTime = clock.getAsLong();
 		if (currentTime - lastFireTime < FIRING_COOLDOWN_NANOS) {
 			return null; // Firing is on cooldown
 		}
 		lastFireTime = currentTime;
 		return projectileFactory.createProjectile(
+				pools,
 				"user",
 				PROJECTILE_X_POSITION,
 				getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET)
@@ -90,11 +86,11 @@ public class UserPlane extends FighterPlane {
 	 */
 	@Override
 	public void takeDamage() {
-		currentTime = System.nanoTime();
+		currentTime = clock.getAsLong();
 		if (currentTime - lastHitTime > I_FRAMES) {
 			super.takeDamage();
 			lastHitTime = currentTime;
-			setEffect(new Glow(0.8)); // Apply visual effect to indicate damage
+			setGlow(DAMAGE_GLOW_LEVEL); // Apply visual effect to indicate damage
 		}
 	}
 
@@ -109,21 +105,31 @@ public class UserPlane extends FighterPlane {
 	 * Moves the user plane upward by setting a negative velocity multiplier.
 	 */
 	public void moveUp() {
-		velocityMultiplier = -1;
+		setVelocityMultiplier(-1);
 	}
 
 	/**
 	 * Moves the user plane downward by setting a positive velocity multiplier.
 	 */
 	public void moveDown() {
-		velocityMultiplier = 1;
+		setVelocityMultiplier(1);
 	}
 
 	/**
 	 * Stops the vertical movement of the user plane.
 	 */
 	public void stop() {
-		velocityMultiplier = 0;
+		setVelocityMultiplier(0);
+	}
+
+	/**
+	 * Sets the clock used for the firing cooldown and invincibility frames.
+	 * Levels pass their simulation clock so that timing follows game ticks rather than wall time.
+	 *
+	 * @param clock A source of the current time in nanoseconds.
+	 */
+	public void setClock(LongSupplier clock) {
+		this.clock = clock;
 	}
 
 	/**
@@ -143,11 +149,11 @@ public class UserPlane extends FighterPlane {
 	}
 
 	/**
-	 * Checks if the user plane is currently moving.
+	 * Sets the direction of vertical movement.
 	 *
-	 * @return {@code true} if the plane is moving; {@code false} otherwise.
+	 * @param velocityMultiplier -1 to move up, 1 to move down or 0 to stop.
 	 */
-	private boolean isMoving() {
-		return velocityMultiplier != 0;
+	private void setVelocityMultiplier(int velocityMultiplier) {
+		setVelocity(0, VERTICAL_VELOCITY * velocityMultiplier);
 	}
 }
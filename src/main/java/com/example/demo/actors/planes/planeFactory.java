@@ -1,5 +1,9 @@
 package com.example.demo.actors.planes;
 
+import java.util.SplittableRandom;
+
+import com.example.demo.balance.Balance;
+
 /**
  * Factory class responsible for creating different types of fighter planes.
  * This class provides methods to create instances of various fighter plane types.
@@ -12,22 +16,43 @@ public class planeFactory {
      * @param type The type of plane to create (e.g., "enemy", "enemy2", "miniboss", "boss", "user").
      * @param x    The initial X-coordinate of the plane.
      * @param y    The initial Y-coordinate of the plane.
+     * @param random The plane's own random generator, deciding when it fires and how it moves.
+     * @param balance The tuning the plane takes its fire and shield rates from.
      * @return An instance of a {@code FighterPlane} based on the specified type.
      * @throws IllegalArgumentException If the specified plane type is unknown.
      */
-    public static FighterPlane createEnemyPlane(String type, double x, double y) {
+    public static FighterPlane createEnemyPlane(String type, double x, double y, SplittableRandom random,
+            Balance balance) {
         switch (type.toLowerCase()) {
             case "enemy":
-                return new EnemyPlane(x, y);
+                return new EnemyPlane(x, y, random, balance.get(Balance.Parameter.ENEMY_FIRE_RATE));
             case "enemy2":
-                return new EnemyPlane2(x, y);
+                return new EnemyPlane2(x, y, random, balance.get(Balance.Parameter.ENEMY2_FIRE_RATE));
             case "boss":
-                return new Boss();
+                return new Boss(random, balance.get(Balance.Parameter.BOSS_FIRE_RATE),
+                        balance.get(Balance.Parameter.BOSS_SHIELD_PROBABILITY));
             default:
                 throw new IllegalArgumentException("Unknown plane type: " + type);
         }
     }
 
+    /**
+     * Checks whether {@link #createEnemyPlane} knows a plane type, e.g. to validate a wave script before it is played.
+     *
+     * @param type The type of plane, case-insensitive.
+     * @return {@code true} if enemy planes of this type can be created.
+     */
+    public static boolean isEnemyType(String type) {
+        switch (type.toLowerCase()) {
+            case "enemy":
+            case "enemy2":
+            case "boss":
+                return true;
+            default:
+                return false;
+        }
+    }
+
     /**
      * Creates a user-controlled plane with the specified health.
      *
@@ -1,24 +1,28 @@
 package com.example.demo.actors.projectiles;
 
+import com.example.demo.actors.HitboxInsets;
+
 public class BossProjectile extends Projectile {
 	
 	private static final String IMAGE_NAME = "fireball.png";
 	private static final int IMAGE_HEIGHT = 75;
+	/** Covers the head of the fireball, not its trail. */
+	public static final HitboxInsets HITBOX_INSETS = new HitboxInsets(0, 0.25, 0.45, 0.15);
 	private static final int HORIZONTAL_VELOCITY = -15;
 	private static final int INITIAL_X_POSITION = 950;
 
 	public BossProjectile(double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos);
+		setHitboxInsets(HITBOX_INSETS);
+		setVelocity(HORIZONTAL_VELOCITY, 0);
 	}
 
+	/**
+	 * Boss projectiles are always fired from the same X-coordinate, so the requested X-coordinate is ignored.
+	 */
 	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
-	}
-	
-	@Override
-	public void updateActor() {
-		updatePosition();
+	protected void reset(double initialXPos, double initialYPos) {
+		super.reset(INITIAL_X_POSITION, initialYPos);
 	}
 	
 }
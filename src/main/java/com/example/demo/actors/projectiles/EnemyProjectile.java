@@ -1,23 +1,19 @@
 package com.example.demo.actors.projectiles;
 
+import com.example.demo.actors.HitboxInsets;
+
 public class EnemyProjectile extends Projectile {
 	
 	private static final String IMAGE_NAME = "enemyFire.png";
 	private static final int IMAGE_HEIGHT = 30;
+	/** Covers the bullet, not its flame trail. */
+	public static final HitboxInsets HITBOX_INSETS = new HitboxInsets(0, 0.15, 0.45, 0.15);
 	private static final int HORIZONTAL_VELOCITY = -10;
 
 	public EnemyProjectile(double initialXPos, double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
-	}
-
-	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
-	}
-
-	@Override
-	public void updateActor() {
-		updatePosition();
+		setHitboxInsets(HITBOX_INSETS);
+		setVelocity(HORIZONTAL_VELOCITY, 0);
 	}
 
 
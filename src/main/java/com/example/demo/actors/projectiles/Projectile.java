@@ -4,6 +4,9 @@ import com.example.demo.actors.ActiveActorDestructible;
 
 public abstract class Projectile extends ActiveActorDestructible {
 
+	private ProjectilePool pool;
+	private boolean inUse;
+
 	public Projectile(String imageName, int imageHeight, double initialXPos, double initialYPos) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
 	}
@@ -13,7 +16,58 @@ public abstract class Projectile extends ActiveActorDestructible {
 		this.destroy();
 	}
 
-	@Override
-	public abstract void updatePosition();
+	/**
+	 * Prepares a pooled projectile to be fired again from a new position.
+	 * Clears any movement, effects and destroyed state left over from its previous use.
+	 *
+	 * @param initialXPos The new initial X-coordinate of the projectile.
+	 * @param initialYPos The new initial Y-coordinate of the projectile.
+	 */
+	protected void reset(double initialXPos, double initialYPos) {
+		setLayoutX(initialXPos);
+		setLayoutY(initialYPos);
+		setTranslateX(0);
+		setTranslateY(0);
+		clearGlow();
+		setPenetrated(false);
+		setDestroyed(false);
+		savePreviousPosition();
+	}
+
+	/**
+	 * Returns the pool this projectile belongs to.
+	 *
+	 * @return The owning pool, or {@code null} if the projectile was not created by a pool.
+	 */
+	ProjectilePool getPool() {
+		return pool;
+	}
+
+	/**
+	 * Sets the pool this projectile belongs to.
+	 *
+	 * @param pool The owning pool.
+	 */
+	void setPool(ProjectilePool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Checks whether the projectile is currently handed out by its pool.
+	 *
+	 * @return {@code true} if the projectile is in use.
+	 */
+	boolean isInUse() {
+		return inUse;
+	}
+
+	/**
+	 * Marks the projectile as handed out by, or returned to, its pool.
+	 *
+	 * @param inUse {@code true} if the projectile is in use.
+	 */
+	void setInUse(boolean inUse) {
+		this.inUse = inUse;
+	}
 
 }
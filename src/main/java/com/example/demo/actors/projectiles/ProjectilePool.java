@@ -0,0 +1,157 @@
+package com.example.demo.actors.projectiles;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A pool of reusable projectiles of a single type.
+ * <p>
+ * Destroyed projectiles are handed back to the pool once they have been removed from the level,
+ * and are reset and reused the next time a projectile of the same type is fired. This keeps long
+ * fights from allocating a new node for every shot. The pool keeps at most {@link #getCapacity()}
+ * idle projectiles; anything released beyond that is left to the garbage collector.
+ */
+public class ProjectilePool {
+
+	/**
+	 * Creates a brand-new projectile when the pool has no idle projectile to reuse.
+	 */
+	@FunctionalInterface
+	interface ProjectileCreator {
+
+		/**
+		 * Creates a new projectile at the given position.
+		 *
+		 * @param x the initial X-coordinate of the projectile
+		 * @param y the initial Y-coordinate of the projectile
+		 * @return the new projectile
+		 */
+		Projectile create(double x, double y);
+	}
+
+	private final String type;
+	private final ProjectileCreator creator;
+	private final Deque<Projectile> idle;
+	private int capacity;
+	private int liveCount;
+	private int highWaterMark;
+	private long allocationCount;
+	private long allocationsAvoided;
+
+	/**
+	 * Constructs an empty pool for one projectile type.
+	 *
+	 * @param type     the projectile type served by this pool, as passed to {@link projectileFactory}
+	 * @param creator  creates new projectiles when no idle one is available
+	 * @param capacity the maximum number of idle projectiles to keep
+	 */
+	ProjectilePool(String type, ProjectileCreator creator, int capacity) {
+		this.type = type;
+		this.creator = creator;
+		this.capacity = capacity;
+		this.idle = new ArrayDeque<>();
+	}
+
+	/**
+	 * Hands out a projectile at the given position, reusing an idle one if possible.
+	 *
+	 * @param x the initial X-coordinate of the projectile
+	 * @param y the initial Y-coordinate of the projectile
+	 * @return a live projectile ready to be added to the level
+	 */
+	Projectile acquire(double x, double y) {
+		Projectile projectile = idle.pollFirst();
+		if (projectile == null) {
+			projectile = creator.create(x, y);
+			projectile.setPool(this);
+			allocationCount++;
+		} else {
+			projectile.reset(x, y);
+			allocationsAvoided++;
+		}
+		projectile.setInUse(true);
+		liveCount++;
+		highWaterMark = Math.max(highWaterMark, liveCount);
+		return projectile;
+	}
+
+	/**
+	 * Takes back a projectile that is no longer part of the level.
+	 * Releasing a projectile that is not in use has no effect.
+	 *
+	 * @param projectile the projectile to return to the pool
+	 */
+	void release(Projectile projectile) {
+		if (!projectile.isInUse()) {
+			return;
+		}
+		projectile.setInUse(false);
+		liveCount--;
+		if (idle.size() < capacity) {
+			idle.addFirst(projectile);
+		}
+	}
+
+	/**
+	 * Returns the projectile type served by this pool.
+	 *
+	 * @return the projectile type
+	 */
+	public String getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the maximum number of idle projectiles kept for reuse.
+	 *
+	 * @return the idle capacity
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns the number of projectiles currently handed out and not yet released.
+	 *
+	 * @return the live projectile count
+	 */
+	public int getLiveCount() {
+		return liveCount;
+	}
+
+	/**
+	 * Returns the number of projectiles waiting to be reused.
+	 *
+	 * @return the idle projectile count
+	 */
+	public int getIdleCount() {
+		return idle.size();
+	}
+
+	/**
+	 * Returns the highest number of projectiles that were live at the same time.
+	 *
+	 * @return the high-water mark of live projectiles
+	 */
+	public int getHighWaterMark() {
+		return highWaterMark;
+	}
+
+	/**
+	 * Returns the number of projectiles this pool had to create.
+	 *
+	 * @return the number of allocations
+	 */
+	public long getAllocationCount() {
+		return allocationCount;
+	}
+
+	/**
+	 * Returns the number of requests that were served by reusing an idle projectile.
+	 *
+	 * @return the number of allocations avoided
+	 */
+	public long getAllocationsAvoided() {
+		return allocationsAvoided;
+	}
+}
@@ -0,0 +1,130 @@
+package com.example.demo.actors.projectiles;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@link ProjectilePool}s of a game session, one per projectile type.
+ * <p>
+ * The pools belong to the levels that use them, not to a thread: a level hands its pools to its planes when they
+ * fire, and projectiles still flying when a level is left go back to them, so a session sharing one set across its
+ * levels starts every level after the first with projectiles to reuse. The pools are not thread-safe. Only the
+ * thread ticking a level may use them; a simulation thread of its own only hands them on when it leaves the level,
+ * before the next level starts.
+ */
+public class ProjectilePools {
+
+	/** Pools nothing: every projectile is created anew and left to the garbage collector once removed. */
+	public static final ProjectilePools NONE = new ProjectilePools();
+
+	private final Map<String, ProjectilePool> pools;
+
+	/**
+	 * Constructs empty pools for every projectile type.
+	 *
+	 * @param capacity the maximum number of idle projectiles kept per type
+	 * @throws IllegalArgumentException if the capacity is negative
+	 */
+	public ProjectilePools(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Pool capacity must not be negative: " + capacity);
+		}
+		this.pools = new LinkedHashMap<>();
+		pools.put("user", new ProjectilePool("user", UserProjectile::new, capacity));
+		pools.put("enemy", new ProjectilePool("enemy", EnemyProjectile::new, capacity));
+		pools.put("boss", new ProjectilePool("boss", (x, y) -> new BossProjectile(y), capacity));
+	}
+
+	/**
+	 * Constructs the pools of {@link #NONE}, which has no pool for any type.
+	 */
+	private ProjectilePools() {
+		this.pools = Collections.emptyMap();
+	}
+
+	/**
+	 * Returns the pool for the given type, if there is one.
+	 *
+	 * @param type the projectile type in lower case
+	 * @return the pool serving that type, or {@code null} if projectiles of that type are not pooled
+	 */
+	ProjectilePool find(String type) {
+		return pools.get(type);
+	}
+
+	/**
+	 * Returns the pools of every type, which expose their live, idle, high-water mark and allocation statistics.
+	 *
+	 * @return the pools, of user, enemy and boss projectiles in that order, or none for {@link #NONE}
+	 */
+	public Collection<ProjectilePool> getPools() {
+		return Collections.unmodifiableCollection(pools.values());
+	}
+
+	/**
+	 * Returns the number of projectiles handed out and not yet released, summed over the types.
+	 *
+	 * @return the live projectile count
+	 */
+	public int getLiveCount() {
+		int count = 0;
+		for (ProjectilePool pool : pools.values()) {
+			count += pool.getLiveCount();
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the number of projectiles waiting to be reused, summed over the types.
+	 *
+	 * @return the idle projectile count
+	 */
+	public int getIdleCount() {
+		int count = 0;
+		for (ProjectilePool pool : pools.values()) {
+			count += pool.getIdleCount();
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the high-water marks of live projectiles, summed over the types.
+	 *
+	 * @return the sum of the high-water marks
+	 */
+	public int getHighWaterMark() {
+		int count = 0;
+		for (ProjectilePool pool : pools.values()) {
+			count += pool.getHighWaterMark();
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the number of projectiles the pools had to create, summed over the types.
+	 *
+	 * @return the number of allocations
+	 */
+	public long getAllocationCount() {
+		long count = 0;
+		for (ProjectilePool pool : pools.values()) {
+			count += pool.getAllocationCount();
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the number of requests served by reusing an idle projectile, summed over the types.
+	 *
+	 * @return the number of allocations avoided
+	 */
+	public long getAllocationsAvoided() {
+		long count = 0;
+		for (ProjectilePool pool : pools.values()) {
+			count += pool.getAllocationsAvoided();
+		}
+		return count;
+	}
+}
@@ -1,23 +1,19 @@
 package com.example.demo.actors.projectiles;
 
+import com.example.demo.actors.HitboxInsets;
+
 public class UserProjectile extends Projectile {
 
 	private static final String IMAGE_NAME = "userfire.png";
 	private static final int IMAGE_HEIGHT = 5;
+	/** Excludes the transparent padding of the sprite. */
+	public static final HitboxInsets HITBOX_INSETS = new HitboxInsets(0.02, 0.05, 0.01, 0.1);
 	private static final int HORIZONTAL_VELOCITY = 15;
 
 	public UserProjectile(double initialXPos, double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
-	}
-
-	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
-	}
-	
-	@Override
-	public void updateActor() {
-		updatePosition();
+		setHitboxInsets(HITBOX_INSETS);
+		setVelocity(HORIZONTAL_VELOCITY, 0);
 	}
 	
 }
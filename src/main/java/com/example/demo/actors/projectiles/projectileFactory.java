@@ -1,8 +1,49 @@
 package com.example.demo.actors.projectiles;
 
+import com.example.demo.actors.ActiveActorDestructible;
+
+/**
+ * Factory class responsible for creating projectiles.
+ * <p>
+ * Projectiles are taken from the {@link ProjectilePools} a level passes in: destroyed projectiles handed back
+ * through {@link #releaseProjectile(ActiveActorDestructible)} are reset and reused for later shots of the same type.
+ * Pooling can be switched off with {@link #setPoolingEnabled(boolean)}, in which case every call creates
+ * a new projectile.
+ */
 public class projectileFactory {
+
+    private static volatile boolean poolingEnabled = true;
+
+    /**
+     * Creates a projectile based on the specified type, without pooling it.
+     *
+     * @param type The type of projectile to create ("user", "enemy" or "boss").
+     * @param x    The initial X-coordinate of the projectile.
+     * @param y    The initial Y-coordinate of the projectile.
+     * @return A new projectile of the specified type.
+     * @throws IllegalArgumentException If the specified projectile type is unknown.
+     */
     public static Projectile createProjectile(String type, double x, double y) {
-        switch (type.toLowerCase()) {
+        return createProjectile(ProjectilePools.NONE, type, x, y);
+    }
+
+    /**
+     * Creates a projectile based on the specified type.
+     *
+     * @param pools The pools of the level the projectile is fired in.
+     * @param type  The type of projectile to create ("user", "enemy" or "boss").
+     * @param x     The initial X-coordinate of the projectile.
+     * @param y     The initial Y-coordinate of the projectile.
+     * @return A projectile of the specified type, reused from the level's pool when possible.
+     * @throws IllegalArgumentException If the specified projectile type is unknown.
+     */
+    public static Projectile createProjectile(ProjectilePools pools, String type, double x, double y) {
+        String key = type.toLowerCase();
+        ProjectilePool pool = poolingEnabled ? pools.find(key) : null;
+        if (pool != null) {
+            return pool.acquire(x, y);
+        }
+        switch (key) {
             case "user":
                 return new UserProjectile(x,y);
             case "enemy":
@@ -13,4 +54,34 @@ public class projectileFactory {
                 throw new IllegalArgumentException("Unknown projectile type: " + type);
         }
     }
+
+    /**
+     * Hands a projectile that has been removed from the level back to its pool.
+     * Actors that are not pooled projectiles are ignored.
+     *
+     * @param actor The actor that is no longer part of the level.
+     */
+    public static void releaseProjectile(ActiveActorDestructible actor) {
+        if (actor instanceof Projectile projectile && projectile.getPool() != null) {
+            projectile.getPool().release(projectile);
+        }
+    }
+
+    /**
+     * Enables or disables projectile pooling.
+     *
+     * @param enabled {@code true} to reuse destroyed projectiles, {@code false} to always create new ones.
+     */
+    public static void setPoolingEnabled(boolean enabled) {
+        poolingEnabled = enabled;
+    }
+
+    /**
+     * Checks whether projectile pooling is enabled.
+     *
+     * @return {@code true} if destroyed projectiles are reused.
+     */
+    public static boolean isPoolingEnabled() {
+        return poolingEnabled;
+    }
 }
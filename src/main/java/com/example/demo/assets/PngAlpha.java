@@ -0,0 +1,291 @@
+package com.example.demo.assets;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * The alpha channel of a PNG image, decoded without a JavaFX toolkit.
+ * <p>
+ * Only what the game's sprites use is supported: 8-bit, non-interlaced greyscale or truecolour images, with or
+ * without alpha. Images without an alpha channel are fully opaque.
+ */
+final class PngAlpha {
+
+	private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+	private static final int IHDR = 0x49484452;
+	private static final int IDAT = 0x49444154;
+	private static final int IEND = 0x49454e44;
+	private static final int GREYSCALE = 0;
+	private static final int TRUECOLOUR = 2;
+	private static final int GREYSCALE_ALPHA = 4;
+	private static final int TRUECOLOUR_ALPHA = 6;
+
+	private final int width;
+	private final int height;
+	private final byte[] alpha;
+
+	/**
+	 * Constructs a decoded alpha channel.
+	 *
+	 * @param width  the width of the image
+	 * @param height the height of the image
+	 * @param alpha  the alpha of every pixel, row by row
+	 */
+	private PngAlpha(int width, int height, byte[] alpha) {
+		this.width = width;
+		this.height = height;
+		this.alpha = alpha;
+	}
+
+	/**
+	 * Decodes the alpha channel of a PNG resource.
+	 *
+	 * @param resourcePath the absolute resource path of the PNG image
+	 * @return the alpha channel
+	 * @throws IllegalArgumentException if the resource does not exist or is not a supported PNG image
+	 * @throws UncheckedIOException if the resource cannot be read
+	 */
+	static PngAlpha read(String resourcePath) {
+		try (InputStream in = PngAlpha.class.getResourceAsStream(resourcePath)) {
+			if (in == null) {
+				throw new IllegalArgumentException("Unknown image resource: " + resourcePath);
+			}
+			return read(new DataInputStream(in), resourcePath);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read image: " + resourcePath, e);
+		}
+	}
+
+	/**
+	 * Returns the width of the image.
+	 *
+	 * @return the width in pixels
+	 */
+	int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the height of the image.
+	 *
+	 * @return the height in pixels
+	 */
+	int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Returns the alpha of a pixel.
+	 *
+	 * @param x the column of the pixel
+	 * @param y the row of the pixel
+	 * @return the alpha, from 0 (transparent) to 255 (opaque)
+	 */
+	int getAlpha(int x, int y) {
+		return alpha[y * width + x] & 0xff;
+	}
+
+	/**
+	 * Reads the chunks of a PNG stream and decodes the alpha channel of its image data.
+	 *
+	 * @param data         the stream, positioned at the signature
+	 * @param resourcePath the resource path, for error messages
+	 * @return the alpha channel
+	 * @throws IllegalArgumentException if the stream is not a supported PNG image
+	 * @throws IOException if the stream cannot be read
+	 */
+	static PngAlpha read(DataInputStream data, String resourcePath) throws IOException {
+		byte[] signature = new byte[PNG_SIGNATURE.length];
+		data.readFully(signature);
+		if (!Arrays.equals(signature, PNG_SIGNATURE)) {
+			throw new IllegalArgumentException("Not a PNG image: " + resourcePath);
+		}
+		int width = 0;
+		int height = 0;
+		int colourType = -1;
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		while (true) {
+			int length;
+			try {
+				length = data.readInt();
+			} catch (EOFException e) {
+				break;
+			}
+			int type = data.readInt();
+			byte[] chunk = new byte[length];
+			data.readFully(chunk);
+			data.readInt(); // CRC
+			if (type == IHDR) {
+				DataInputStream header = new DataInputStream(new ByteArrayInputStream(chunk));
+				width = header.readInt();
+				height = header.readInt();
+				int bitDepth = header.readUnsignedByte();
+				colourType = header.readUnsignedByte();
+				header.readUnsignedByte(); // compression method
+				header.readUnsignedByte(); // filter method
+				int interlace = header.readUnsignedByte();
+				if (bitDepth != 8 || interlace != 0 || channels(colourType) == 0) {
+					throw new IllegalArgumentException("Unsupported PNG format: " + resourcePath);
+				}
+			} else if (type == IDAT) {
+				compressed.write(chunk);
+			} else if (type == IEND) {
+				break;
+			}
+		}
+		if (colourType < 0) {
+			throw new IllegalArgumentException("PNG image without header: " + resourcePath);
+		}
+		int channels = channels(colourType);
+		byte[] pixels = inflate(compressed.toByteArray(), height * (1 + width * channels), resourcePath);
+		return new PngAlpha(width, height, extractAlpha(pixels, width, height, channels, colourType));
+	}
+
+	/**
+	 * Returns the number of bytes per pixel of an 8-bit colour type.
+	 *
+	 * @param colourType the PNG colour type
+	 * @return the bytes per pixel, or 0 if the colour type is not supported
+	 */
+	private static int channels(int colourType) {
+		switch (colourType) {
+			case GREYSCALE:
+				return 1;
+			case TRUECOLOUR:
+				return 3;
+			case GREYSCALE_ALPHA:
+				return 2;
+			case TRUECOLOUR_ALPHA:
+				return 4;
+			default:
+				return 0;
+		}
+	}
+
+	/**
+	 * Inflates the image data.
+	 *
+	 * @param compressed   the concatenated content of the IDAT chunks
+	 * @param length       the expected number of bytes, including one filter byte per row
+	 * @param resourcePath the resource path, for error messages
+	 * @return the filtered scanlines
+	 */
+	private static byte[] inflate(byte[] compressed, int length, String resourcePath) {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(compressed);
+			byte[] scanlines = new byte[length];
+			int read = 0;
+			while (read < length && !inflater.finished()) {
+				int n = inflater.inflate(scanlines, read, length - read);
+				if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				read += n;
+			}
+			if (read < length) {
+				throw new IllegalArgumentException("Truncated PNG image data: " + resourcePath);
+			}
+			return scanlines;
+		} catch (DataFormatException e) {
+			throw new IllegalArgumentException("Corrupt PNG image data: " + resourcePath, e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	/**
+	 * Reverses the scanline filters and keeps the alpha of every pixel.
+	 *
+	 * @param scanlines  the filtered scanlines, each starting with its filter type
+	 * @param width      the width of the image
+	 * @param height     the height of the image
+	 * @param channels   the bytes per pixel
+	 * @param colourType the PNG colour type
+	 * @return the alpha of every pixel, row by row
+	 */
+	private static byte[] extractAlpha(byte[] scanlines, int width, int height, int channels, int colourType) {
+		boolean hasAlpha = colourType == GREYSCALE_ALPHA || colourType == TRUECOLOUR_ALPHA;
+		int stride = width * channels;
+		byte[] previous = new byte[stride];
+		byte[] current = new byte[stride];
+		byte[] alpha = new byte[width * height];
+		for (int y = 0; y < height; y++) {
+			int offset = y * (stride + 1);
+			int filter = scanlines[offset];
+			System.arraycopy(scanlines, offset + 1, current, 0, stride);
+			unfilter(filter, current, previous, channels);
+			for (int x = 0; x < width; x++) {
+				alpha[y * width + x] = hasAlpha ? current[x * channels + channels - 1] : (byte) 0xff;
+			}
+			byte[] swap = previous;
+			previous = current;
+			current = swap;
+		}
+		return alpha;
+	}
+
+	/**
+	 * Reverses the filter of one scanline in place.
+	 *
+	 * @param filter   the filter type of the scanline
+	 * @param line     the scanline
+	 * @param previous the unfiltered previous scanline, all zero for the first one
+	 * @param bpp      the bytes per pixel
+	 */
+	private static void unfilter(int filter, byte[] line, byte[] previous, int bpp) {
+		for (int i = 0; i < line.length; i++) {
+			int left = i >= bpp ? line[i - bpp] & 0xff : 0;
+			int up = previous[i] & 0xff;
+			int upLeft = i >= bpp ? previous[i - bpp] & 0xff : 0;
+			int predictor;
+			switch (filter) {
+				case 0:
+					predictor = 0;
+					break;
+				case 1:
+					predictor = left;
+					break;
+				case 2:
+					predictor = up;
+					break;
+				case 3:
+					predictor = (left + up) >>> 1;
+					break;
+				case 4:
+					predictor = paeth(left, up, upLeft);
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown PNG filter type: " + filter);
+			}
+			line[i] = (byte) (line[i] + predictor);
+		}
+	}
+
+	/**
+	 * Picks the neighbour closest to {@code left + up - upLeft}, as defined by the PNG specification.
+	 *
+	 * @param left   the byte to the left
+	 * @param up     the byte above
+	 * @param upLeft the byte above and to the left
+	 * @return the predicted byte
+	 */
+	private static int paeth(int left, int up, int upLeft) {
+		int estimate = left + up - upLeft;
+		int distanceLeft = Math.abs(estimate - left);
+		int distanceUp = Math.abs(estimate - up);
+		int distanceUpLeft = Math.abs(estimate - upLeft);
+		if (distanceLeft <= distanceUp && distanceLeft <= distanceUpLeft) {
+			return left;
+		}
+		return distanceUp <= distanceUpLeft ? up : upLeft;
+	}
+}
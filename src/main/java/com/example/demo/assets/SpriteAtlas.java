@@ -0,0 +1,363 @@
+package com.example.demo.assets;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.effect.Glow;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * Packs the game's sprites into a few large atlas pages, so every plane, projectile and heart on screen is drawn
+ * from the same texture.
+ * <p>
+ * The layout is computed from the PNG headers alone, so regions can be looked up without a JavaFX toolkit. The
+ * pages themselves are composed the first time they are needed, normally once at launch: every sprite is decoded,
+ * copied into its region and dropped again, so only the pages stay in memory. Sprites are placed on shelves sorted by
+ * height, with a transparent gutter around each one so that smooth scaling never picks up a neighbour's pixels.
+ * Full-screen images such as backgrounds are not packed and stay in the {@link SpriteCache}.
+ * <p>
+ * For actors that glow, the atlas can also hold glowing copies of its pages, one set per glow level, with every
+ * sprite at the same position as on the plain page.
+ */
+public final class SpriteAtlas {
+
+	/** The sprites packed into the default atlas, relative to {@link SpriteCache#IMAGE_LOCATION}. */
+	private static final String[] SPRITE_NAMES = {
+			"bossplane.png", "enemyFire.png", "enemyplane.png", "enemyplane2.png", "fireball.png",
+			"heart.png", "userfire.png", "userplane.png"
+	};
+
+	/** The largest width and height of a page, in pixels. */
+	private static final int MAX_PAGE_SIZE = 2048;
+
+	/** The transparent border kept around every sprite, in pixels. */
+	private static final int PADDING = 2;
+
+	/**
+	 * The rectangle a sprite occupies on an atlas page.
+	 */
+	public static final class Region {
+
+		private final int page;
+		private final int x;
+		private final int y;
+		private final int width;
+		private final int height;
+		private final Rectangle2D viewport;
+
+		/**
+		 * Constructs a region.
+		 *
+		 * @param page   the index of the page holding the sprite
+		 * @param x      the left edge of the sprite on the page
+		 * @param y      the top edge of the sprite on the page
+		 * @param width  the width of the sprite
+		 * @param height the height of the sprite
+		 */
+		Region(int page, int x, int y, int width, int height) {
+			this.page = page;
+			this.x = x;
+			this.y = y;
+			this.width = width;
+			this.height = height;
+			this.viewport = new Rectangle2D(x, y, width, height);
+		}
+
+		/**
+		 * Returns the index of the page holding the sprite.
+		 *
+		 * @return the page index
+		 */
+		public int getPage() {
+			return page;
+		}
+
+		/**
+		 * Returns the left edge of the sprite on its page.
+		 *
+		 * @return the X-coordinate in pixels
+		 */
+		public int getX() {
+			return x;
+		}
+
+		/**
+		 * Returns the top edge of the sprite on its page.
+		 *
+		 * @return the Y-coordinate in pixels
+		 */
+		public int getY() {
+			return y;
+		}
+
+		/**
+		 * Returns the width of the sprite.
+		 *
+		 * @return the width in pixels
+		 */
+		public int getWidth() {
+			return width;
+		}
+
+		/**
+		 * Returns the height of the sprite.
+		 *
+		 * @return the height in pixels
+		 */
+		public int getHeight() {
+			return height;
+		}
+
+		/**
+		 * Returns the region as an {@link ImageView} viewport.
+		 *
+		 * @return the viewport showing only this sprite
+		 */
+		public Rectangle2D getViewport() {
+			return viewport;
+		}
+	}
+
+	/**
+	 * Holds the default atlas, laid out the first time it is asked for.
+	 */
+	private static final class DefaultAtlas {
+
+		private static final SpriteAtlas INSTANCE = pack(SPRITE_NAMES);
+	}
+
+	private final Map<String, Region> regions;
+	private final int[] pageWidths;
+	private final int[] pageHeights;
+	private final Map<Double, Image[]> glowPages;
+	private Image[] pages;
+
+	/**
+	 * Constructs an atlas from a finished layout.
+	 *
+	 * @param regions     the region of every sprite, by image name
+	 * @param pageWidths  the used width of every page
+	 * @param pageHeights the used height of every page
+	 */
+	private SpriteAtlas(Map<String, Region> regions, int[] pageWidths, int[] pageHeights) {
+		this.regions = regions;
+		this.pageWidths = pageWidths;
+		this.pageHeights = pageHeights;
+		this.glowPages = new HashMap<>();
+	}
+
+	/**
+	 * Returns the atlas holding every sprite of the game.
+	 *
+	 * @return the shared default atlas
+	 */
+	public static SpriteAtlas getDefault() {
+		return DefaultAtlas.INSTANCE;
+	}
+
+	/**
+	 * Lays out an atlas for the given PNG sprites. No image is decoded.
+	 *
+	 * @param imageNames the sprites to pack, relative to {@link SpriteCache#IMAGE_LOCATION}
+	 * @return the atlas
+	 * @throws IllegalArgumentException if a sprite does not exist or does not fit on a page
+	 */
+	public static SpriteAtlas pack(String... imageNames) {
+		String[] sorted = imageNames.clone();
+		Arrays.sort(sorted, Comparator
+				.comparingInt((String name) -> -SpriteCache.getHeight(SpriteCache.IMAGE_LOCATION + name))
+				.thenComparing(Comparator.naturalOrder()));
+		Map<String, Region> regions = new HashMap<>();
+		List<Integer> pageWidths = new ArrayList<>();
+		List<Integer> pageHeights = new ArrayList<>();
+		int page = 0;
+		int pageWidth = 0;
+		int shelfX = 0;
+		int shelfY = 0;
+		int shelfHeight = 0;
+		for (String name : sorted) {
+			int width = SpriteCache.getWidth(SpriteCache.IMAGE_LOCATION + name);
+			int height = SpriteCache.getHeight(SpriteCache.IMAGE_LOCATION + name);
+			int cellWidth = width + 2 * PADDING;
+			int cellHeight = height + 2 * PADDING;
+			if (cellWidth > MAX_PAGE_SIZE || cellHeight > MAX_PAGE_SIZE) {
+				throw new IllegalArgumentException("Sprite too large for an atlas page: " + name);
+			}
+			if (shelfX + cellWidth > MAX_PAGE_SIZE) {
+				shelfY += shelfHeight;
+				shelfX = 0;
+				shelfHeight = 0;
+			}
+			if (shelfY + cellHeight > MAX_PAGE_SIZE) {
+				pageWidths.add(pageWidth);
+				pageHeights.add(shelfY);
+				page++;
+				pageWidth = 0;
+				shelfX = 0;
+				shelfY = 0;
+			}
+			regions.put(name, new Region(page, shelfX + PADDING, shelfY + PADDING, width, height));
+			shelfX += cellWidth;
+			shelfHeight = Math.max(shelfHeight, cellHeight);
+			pageWidth = Math.max(pageWidth, shelfX);
+		}
+		pageWidths.add(pageWidth);
+		pageHeights.add(shelfY + shelfHeight);
+		return new SpriteAtlas(regions, pageWidths.stream().mapToInt(Integer::intValue).toArray(),
+				pageHeights.stream().mapToInt(Integer::intValue).toArray());
+	}
+
+	/**
+	 * Returns the region of a packed sprite.
+	 *
+	 * @param imageName the sprite, relative to {@link SpriteCache#IMAGE_LOCATION}, e.g. {@code heart.png}
+	 * @return the sprite's region, or {@code null} if the sprite is not in this atlas
+	 */
+	public Region getRegion(String imageName) {
+		return regions.get(imageName);
+	}
+
+	/**
+	 * Returns the sprites packed into this atlas.
+	 *
+	 * @return the image names, relative to {@link SpriteCache#IMAGE_LOCATION}
+	 */
+	public Set<String> getImageNames() {
+		return Collections.unmodifiableSet(regions.keySet());
+	}
+
+	/**
+	 * Returns the number of pages of the atlas.
+	 *
+	 * @return the page count
+	 */
+	public int getPageCount() {
+		return pageHeights.length;
+	}
+
+	/**
+	 * Returns an atlas page, composing all pages first if that has not happened yet.
+	 * Needs a running JavaFX toolkit.
+	 *
+	 * @param page the index of the page
+	 * @return the page image
+	 */
+	public synchronized Image getPage(int page) {
+		if (pages == null) {
+			pages = compose();
+		}
+		return pages[page];
+	}
+
+	/**
+	 * Composes the atlas pages now, e.g. at launch, so that no sprite is decoded while a level is running.
+	 */
+	public void load() {
+		getPage(0);
+	}
+
+	/**
+	 * Returns a glowing copy of an atlas page, rendering the copies of all pages for that glow level first if that
+	 * has not happened yet. Needs to be called on the JavaFX Application Thread.
+	 *
+	 * @param page  the index of the page
+	 * @param level the glow level between 0 and 1
+	 * @return the glowing page image
+	 */
+	public synchronized Image getGlowPage(int page, double level) {
+		Image[] glowing = glowPages.get(level);
+		if (glowing == null) {
+			glowing = composeGlow(level);
+			glowPages.put(level, glowing);
+		}
+		return glowing[page];
+	}
+
+	/**
+	 * Renders the glowing copies of the pages for the given glow levels now, e.g. at launch, so that no actor
+	 * starting to glow has to wait for them. Needs to be called on the JavaFX Application Thread.
+	 *
+	 * @param levels the glow levels actors use
+	 */
+	public void loadGlow(double... levels) {
+		for (double level : levels) {
+			getGlowPage(0, level);
+		}
+	}
+
+	/**
+	 * Creates a view showing a sprite: the sprite's region of its atlas page, or the whole image from the
+	 * {@link SpriteCache} if the sprite is not packed.
+	 *
+	 * @param imageName the sprite, relative to {@link SpriteCache#IMAGE_LOCATION}
+	 * @return a new view of the sprite
+	 */
+	public ImageView createImageView(String imageName) {
+		Region region = regions.get(imageName);
+		if (region == null) {
+			return new ImageView(SpriteCache.getImage(SpriteCache.IMAGE_LOCATION + imageName));
+		}
+		ImageView view = new ImageView(getPage(region.getPage()));
+		view.setViewport(region.getViewport());
+		return view;
+	}
+
+	/**
+	 * Decodes every sprite once and copies it into its region.
+	 *
+	 * @return the composed pages
+	 */
+	private Image[] compose() {
+		WritableImage[] composed = new WritableImage[pageHeights.length];
+		for (int i = 0; i < composed.length; i++) {
+			composed[i] = new WritableImage(Math.max(1, pageWidths[i]), Math.max(1, pageHeights[i]));
+		}
+		for (Map.Entry<String, Region> entry : regions.entrySet()) {
+			Region region = entry.getValue();
+			PixelReader reader = SpriteCache.decodeUncached(SpriteCache.IMAGE_LOCATION + entry.getKey()).getPixelReader();
+			PixelWriter writer = composed[region.getPage()].getPixelWriter();
+			writer.setPixels(region.getX(), region.getY(), region.getWidth(), region.getHeight(), reader, 0, 0);
+		}
+		return composed;
+	}
+
+	/**
+	 * Renders every sprite once with a glow effect and copies it into its region. Sprites are rendered one at a
+	 * time, so the glow of one sprite never bleeds into its neighbours.
+	 *
+	 * @param level the glow level
+	 * @return the glowing pages
+	 */
+	private Image[] composeGlow(double level) {
+		WritableImage[] composed = new WritableImage[pageHeights.length];
+		for (int i = 0; i < composed.length; i++) {
+			composed[i] = new WritableImage(Math.max(1, pageWidths[i]), Math.max(1, pageHeights[i]));
+		}
+		Glow glow = new Glow(level);
+		SnapshotParameters parameters = new SnapshotParameters();
+		parameters.setFill(Color.TRANSPARENT);
+		for (Region region : regions.values()) {
+			ImageView view = new ImageView(getPage(region.getPage()));
+			view.setViewport(region.getViewport());
+			view.setEffect(glow);
+			parameters.setViewport(new Rectangle2D(0, 0, region.getWidth(), region.getHeight()));
+			PixelReader reader = view.snapshot(parameters, null).getPixelReader();
+			PixelWriter writer = composed[region.getPage()].getPixelWriter();
+			writer.setPixels(region.getX(), region.getY(), region.getWidth(), region.getHeight(), reader, 0, 0);
+		}
+		return composed;
+	}
+}
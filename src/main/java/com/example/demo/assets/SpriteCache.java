@@ -0,0 +1,243 @@
+package com.example.demo.assets;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.scene.image.Image;
+
+/**
+ * Process-wide registry of decoded sprite images.
+ * <p>
+ * Every image is keyed by its resource path and the size it was requested at, and is decoded
+ * only the first time it is asked for. Later requests share the same {@link Image} instance, so
+ * creating planes, projectiles or hearts during play never goes back to the image decoder.
+ * Hit, miss and decoded-byte counters make it easy to confirm that nothing is decoded on the hot path.
+ * <p>
+ * Sprite dimensions can also be looked up without decoding the image (and without a running JavaFX toolkit),
+ * which lets headless simulations size actor hitboxes exactly like the rendered sprites.
+ */
+public final class SpriteCache {
+
+	/** The folder location where all game images are stored. */
+	public static final String IMAGE_LOCATION = "/com/example/demo/images/";
+
+	/** Every image shipped in {@link #IMAGE_LOCATION}; decoded at natural size by {@link #preloadAll()}. */
+	private static final String[] IMAGE_NAMES = {
+			"background1.jpg", "background2.jpg", "backgroundboss.jpg",
+			"bossplane.png", "enemyFire.png", "enemyplane.png", "enemyplane2.png", "fireball.png",
+			"gameover.png", "heart.png", "userfire.png", "userplane.png", "youwin.png"
+	};
+
+	/** Number of bytes a decoded pixel occupies (32-bit ARGB). */
+	private static final int BYTES_PER_PIXEL = 4;
+
+	/** The eight signature bytes every PNG file starts with. */
+	private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+
+	private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+	private static final Map<String, int[]> SIZES = new ConcurrentHashMap<>();
+	private static final AtomicLong HITS = new AtomicLong();
+	private static final AtomicLong MISSES = new AtomicLong();
+	private static final AtomicLong DECODED_BYTES = new AtomicLong();
+
+	private SpriteCache() {
+	}
+
+	/**
+	 * Returns the image at the given resource path, decoded at its natural size.
+	 *
+	 * @param resourcePath the absolute resource path of the image, e.g. {@code /com/example/demo/images/heart.png}
+	 * @return the shared decoded image
+	 * @throws IllegalArgumentException if no resource exists at the given path
+	 */
+	public static Image getImage(String resourcePath) {
+		return getImage(resourcePath, 0, 0, false, false);
+	}
+
+	/**
+	 * Returns the image at the given resource path, decoded at the requested size.
+	 * Each distinct combination of path and size parameters is decoded once and shared afterwards.
+	 *
+	 * @param resourcePath    the absolute resource path of the image
+	 * @param requestedWidth  the width to decode the image at, or 0 for the natural width
+	 * @param requestedHeight the height to decode the image at, or 0 for the natural height
+	 * @param preserveRatio   whether to preserve the aspect ratio when scaling
+	 * @param smooth          whether to use a higher quality filter when scaling
+	 * @return the shared decoded image
+	 * @throws IllegalArgumentException if no resource exists at the given path
+	 */
+	public static Image getImage(String resourcePath, double requestedWidth, double requestedHeight,
+			boolean preserveRatio, boolean smooth) {
+		String key = resourcePath + '@' + requestedWidth + 'x' + requestedHeight
+				+ (preserveRatio ? ":ratio" : "") + (smooth ? ":smooth" : "");
+		Image image = IMAGES.get(key);
+		if (image != null) {
+			HITS.incrementAndGet();
+			return image;
+		}
+		return IMAGES.computeIfAbsent(key,
+				k -> decode(resourcePath, requestedWidth, requestedHeight, preserveRatio, smooth));
+	}
+
+	/**
+	 * Decodes every image in {@link #IMAGE_LOCATION} at its natural size.
+	 * Images that are already cached are not decoded again.
+	 */
+	public static void preloadAll() {
+		for (String imageName : IMAGE_NAMES) {
+			getImage(IMAGE_LOCATION + imageName);
+		}
+	}
+
+	/**
+	 * Decodes the given images at their natural size. Images that are already cached are not decoded again.
+	 * May be called from any thread, e.g. to decode the images of an upcoming level in the background.
+	 *
+	 * @param resourcePaths the absolute resource paths of the images
+	 * @throws IllegalArgumentException if no resource exists at one of the paths
+	 */
+	public static void preload(Collection<String> resourcePaths) {
+		for (String resourcePath : resourcePaths) {
+			getImage(resourcePath);
+		}
+	}
+
+	/**
+	 * Returns the width-to-height ratio of a PNG sprite.
+	 * Only the PNG header is read, so this neither decodes the image nor needs a JavaFX toolkit.
+	 *
+	 * @param resourcePath the absolute resource path of the PNG image
+	 * @return the natural width of the image divided by its natural height
+	 * @throws IllegalArgumentException if no resource exists at the given path or it is not a PNG image
+	 */
+	public static double getAspectRatio(String resourcePath) {
+		int[] size = SIZES.computeIfAbsent(resourcePath, SpriteCache::readSize);
+		return (double) size[0] / size[1];
+	}
+
+	/**
+	 * Returns the natural width of a PNG sprite, read from its header like {@link #getAspectRatio(String)}.
+	 *
+	 * @param resourcePath the absolute resource path of the PNG image
+	 * @return the width in pixels
+	 * @throws IllegalArgumentException if no resource exists at the given path or it is not a PNG image
+	 */
+	public static int getWidth(String resourcePath) {
+		return SIZES.computeIfAbsent(resourcePath, SpriteCache::readSize)[0];
+	}
+
+	/**
+	 * Returns the natural height of a PNG sprite, read from its header like {@link #getAspectRatio(String)}.
+	 *
+	 * @param resourcePath the absolute resource path of the PNG image
+	 * @return the height in pixels
+	 * @throws IllegalArgumentException if no resource exists at the given path or it is not a PNG image
+	 */
+	public static int getHeight(String resourcePath) {
+		return SIZES.computeIfAbsent(resourcePath, SpriteCache::readSize)[1];
+	}
+
+	/**
+	 * Returns the number of requests that were served from the cache.
+	 *
+	 * @return the cache hit count
+	 */
+	public static long getHitCount() {
+		return HITS.get();
+	}
+
+	/**
+	 * Returns the number of requests that had to decode an image.
+	 *
+	 * @return the cache miss count
+	 */
+	public static long getMissCount() {
+		return MISSES.get();
+	}
+
+	/**
+	 * Returns the total size of all decoded images, assuming 32-bit pixels.
+	 *
+	 * @return the decoded size in bytes
+	 */
+	public static long getDecodedBytes() {
+		return DECODED_BYTES.get();
+	}
+
+	/**
+	 * Returns the number of decoded images currently held by the cache.
+	 *
+	 * @return the number of cached images
+	 */
+	public static int size() {
+		return IMAGES.size();
+	}
+
+	/**
+	 * Reads the natural size of a PNG image from its IHDR chunk.
+	 *
+	 * @param resourcePath the absolute resource path of the PNG image
+	 * @return the natural width and height of the image
+	 */
+	private static int[] readSize(String resourcePath) {
+		try (InputStream in = SpriteCache.class.getResourceAsStream(resourcePath)) {
+			if (in == null) {
+				throw new IllegalArgumentException("Unknown image resource: " + resourcePath);
+			}
+			DataInputStream data = new DataInputStream(in);
+			byte[] signature = new byte[PNG_SIGNATURE.length];
+			data.readFully(signature);
+			if (!Arrays.equals(signature, PNG_SIGNATURE)) {
+				throw new IllegalArgumentException("Not a PNG image: " + resourcePath);
+			}
+			data.readInt(); // IHDR chunk length
+			data.readInt(); // IHDR chunk type
+			int width = data.readInt();
+			int height = data.readInt();
+			return new int[] {width, height};
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read image header: " + resourcePath, e);
+		}
+	}
+
+	/**
+	 * Decodes an image at its natural size without keeping it in the cache, e.g. to copy it into an atlas.
+	 *
+	 * @param resourcePath the absolute resource path of the image
+	 * @return the decoded image
+	 * @throws IllegalArgumentException if no resource exists at the given path
+	 */
+	static Image decodeUncached(String resourcePath) {
+		return decode(resourcePath, 0, 0, false, false);
+	}
+
+	/**
+	 * Decodes an image synchronously and records it in the statistics.
+	 *
+	 * @param resourcePath    the absolute resource path of the image
+	 * @param requestedWidth  the width to decode the image at, or 0 for the natural width
+	 * @param requestedHeight the height to decode the image at, or 0 for the natural height
+	 * @param preserveRatio   whether to preserve the aspect ratio when scaling
+	 * @param smooth          whether to use a higher quality filter when scaling
+	 * @return the decoded image
+	 */
+	private static Image decode(String resourcePath, double requestedWidth, double requestedHeight,
+			boolean preserveRatio, boolean smooth) {
+		URL url = SpriteCache.class.getResource(resourcePath);
+		if (url == null) {
+			throw new IllegalArgumentException("Unknown image resource: " + resourcePath);
+		}
+		Image image = new Image(url.toExternalForm(), requestedWidth, requestedHeight, preserveRatio, smooth);
+		MISSES.incrementAndGet();
+		DECODED_BYTES.addAndGet((long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL);
+		return image;
+	}
+}
@@ -0,0 +1,168 @@
+package com.example.demo.balance;
+
+import java.util.Arrays;
+
+/**
+ * The tuning values of the game: spawn chances, kill targets and the rates at which enemies fire and shield.
+ * <p>
+ * A {@code Balance} is immutable; {@link #with(Parameter, double)} returns a modified copy, so many variants can
+ * be simulated side by side on different threads. Levels and the enemies they spawn read their tuning from the
+ * balance they were created with, and {@link #DEFAULT} holds the values the game ships with.
+ */
+public final class Balance {
+
+	/**
+	 * A tunable value and its default.
+	 */
+	public enum Parameter {
+
+		/** The chance per free enemy slot and tick that an enemy spawns in level one. */
+		LEVEL_ONE_SPAWN_PROBABILITY(0.20),
+
+		/** The kills needed to leave level one. */
+		LEVEL_ONE_KILLS_TO_ADVANCE(10),
+
+		/** The chance per free enemy slot and tick that an enemy spawns in level two. */
+		LEVEL_TWO_SPAWN_PROBABILITY(0.20),
+
+		/** The share of enemies spawned in level two that are of the second, weaving type. */
+		LEVEL_TWO_ENEMY2_PROBABILITY(0.4),
+
+		/** The kills needed to leave level two. */
+		LEVEL_TWO_KILLS_TO_ADVANCE(15),
+
+		/** The chance per tick that a basic enemy fires. */
+		ENEMY_FIRE_RATE(.01),
+
+		/** The chance per tick that a weaving enemy fires. */
+		ENEMY2_FIRE_RATE(.01),
+
+		/** The chance per tick that the boss fires. */
+		BOSS_FIRE_RATE(.04),
+
+		/** The chance per tick that the boss raises its shield. */
+		BOSS_SHIELD_PROBABILITY(.004);
+
+		private final double defaultValue;
+
+		/**
+		 * Constructs a parameter.
+		 *
+		 * @param defaultValue the value the game ships with
+		 */
+		Parameter(double defaultValue) {
+			this.defaultValue = defaultValue;
+		}
+
+		/**
+		 * Returns the value the game ships with.
+		 *
+		 * @return the default value
+		 */
+		public double getDefaultValue() {
+			return defaultValue;
+		}
+	}
+
+	private static final Parameter[] PARAMETERS = Parameter.values();
+
+	/** The balance the game ships with. */
+	public static final Balance DEFAULT = new Balance(defaultValues());
+
+	private final double[] values;
+
+	/**
+	 * Constructs a balance from one value per parameter.
+	 *
+	 * @param values the values, indexed by parameter ordinal; not copied
+	 */
+	private Balance(double[] values) {
+		this.values = values;
+	}
+
+	/**
+	 * Returns the value of a parameter.
+	 *
+	 * @param parameter the parameter
+	 * @return its value
+	 */
+	public double get(Parameter parameter) {
+		return values[parameter.ordinal()];
+	}
+
+	/**
+	 * Returns the value of a whole-number parameter, such as a kill target.
+	 *
+	 * @param parameter the parameter
+	 * @return its value, rounded to the nearest integer
+	 */
+	public int getInt(Parameter parameter) {
+		return (int) Math.round(get(parameter));
+	}
+
+	/**
+	 * Returns a copy of this balance with one parameter changed.
+	 *
+	 * @param parameter the parameter to change
+	 * @param value     its new value
+	 * @return the modified balance
+	 */
+	public Balance with(Parameter parameter, double value) {
+		double[] copy = values.clone();
+		copy[parameter.ordinal()] = value;
+		return new Balance(copy);
+	}
+
+	/**
+	 * Describes how this balance differs from {@link #DEFAULT}.
+	 *
+	 * @return e.g. {@code "BOSS_FIRE_RATE=0.06"}, or {@code "default"} if nothing differs
+	 */
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder();
+		for (Parameter parameter : PARAMETERS) {
+			if (get(parameter) != parameter.getDefaultValue()) {
+				if (text.length() > 0) {
+					text.append(", ");
+				}
+				text.append(parameter.name()).append('=').append(get(parameter));
+			}
+		}
+		return text.length() == 0 ? "default" : text.toString();
+	}
+
+	/**
+	 * Compares the values of two balances.
+	 *
+	 * @param other the object to compare with
+	 * @return {@code true} if {@code other} is a balance with the same values
+	 */
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof Balance balance && Arrays.equals(values, balance.values);
+	}
+
+	/**
+	 * Returns a hash code consistent with {@link #equals(Object)}.
+	 *
+	 * @return the hash code
+	 */
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(values);
+	}
+
+	/**
+	 * Collects the default value of every parameter.
+	 *
+	 * @return the default values, indexed by parameter ordinal
+	 */
+	private static double[] defaultValues() {
+		double[] values = new double[PARAMETERS.length];
+		for (Parameter parameter : PARAMETERS) {
+			values[parameter.ordinal()] = parameter.getDefaultValue();
+		}
+		return values;
+	}
+}
@@ -0,0 +1,85 @@
+package com.example.demo.collision;
+
+import java.util.Arrays;
+
+/**
+ * Reusable buffer holding the candidate ids returned by a {@link SpatialHashGrid} query.
+ * <p>
+ * Ids are de-duplicated while they are collected, so an actor spanning several cells is only
+ * reported once, and are sorted in ascending order once the query completes. A buffer is not
+ * thread-safe; each thread querying a grid needs its own.
+ */
+public class CandidateBuffer {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private int[] ids;
+	private int[] marks;
+	private int size;
+	private int stamp;
+
+	/**
+	 * Constructs an empty candidate buffer.
+	 */
+	public CandidateBuffer() {
+		ids = new int[INITIAL_CAPACITY];
+		marks = new int[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Returns the number of candidates collected by the last query.
+	 *
+	 * @return the number of candidates
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the candidate id at the given position.
+	 *
+	 * @param index the position of the candidate, from 0 to {@link #size()} - 1
+	 * @return the candidate id
+	 */
+	public int get(int index) {
+		return ids[index];
+	}
+
+	/**
+	 * Clears the buffer before a new query.
+	 */
+	void begin() {
+		size = 0;
+		stamp++;
+		if (stamp == Integer.MAX_VALUE) {
+			Arrays.fill(marks, 0);
+			stamp = 1;
+		}
+	}
+
+	/**
+	 * Adds an id to the buffer unless it was already added during the current query.
+	 *
+	 * @param id the candidate id
+	 */
+	void offer(int id) {
+		if (id >= marks.length) {
+			marks = Arrays.copyOf(marks, Math.max(id + 1, marks.length * 2));
+		}
+		if (marks[id] == stamp) {
+			return;
+		}
+		marks[id] = stamp;
+		if (size == ids.length) {
+			ids = Arrays.copyOf(ids, size * 2);
+		}
+		ids[size++] = id;
+	}
+
+	/**
+	 * Sorts the collected ids in ascending order.
+	 */
+	void finish() {
+		Arrays.sort(ids, 0, size);
+	}
+}
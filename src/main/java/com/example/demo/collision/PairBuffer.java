@@ -0,0 +1,100 @@
+package com.example.demo.collision;
+
+import java.util.Arrays;
+
+/**
+ * Reusable buffer of colliding pairs, stored as two parallel arrays of indices.
+ * <p>
+ * Each pair holds the index of an actor in the list that was inserted into the grid and the index of an actor
+ * in the list that queried it. A buffer is not thread-safe; each task collecting pairs needs its own.
+ */
+public class PairBuffer {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private int[] inserted;
+	private int[] queried;
+	private int size;
+
+	/**
+	 * Constructs an empty pair buffer.
+	 */
+	public PairBuffer() {
+		inserted = new int[INITIAL_CAPACITY];
+		queried = new int[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Returns the number of pairs in the buffer.
+	 *
+	 * @return the number of pairs
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the index of the inserted actor of a pair.
+	 *
+	 * @param index the position of the pair
+	 * @return the index of the actor in the inserted list
+	 */
+	public int getInserted(int index) {
+		return inserted[index];
+	}
+
+	/**
+	 * Returns the index of the querying actor of a pair.
+	 *
+	 * @param index the position of the pair
+	 * @return the index of the actor in the querying list
+	 */
+	public int getQueried(int index) {
+		return queried[index];
+	}
+
+	/**
+	 * Removes every pair.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Appends a pair.
+	 *
+	 * @param insertedIndex the index of the actor in the inserted list
+	 * @param queriedIndex  the index of the actor in the querying list
+	 */
+	void add(int insertedIndex, int queriedIndex) {
+		ensureCapacity(size + 1);
+		inserted[size] = insertedIndex;
+		queried[size] = queriedIndex;
+		size++;
+	}
+
+	/**
+	 * Appends every pair of another buffer, keeping their order.
+	 *
+	 * @param other the buffer to copy from
+	 */
+	void addAll(PairBuffer other) {
+		ensureCapacity(size + other.size);
+		System.arraycopy(other.inserted, 0, inserted, size, other.size);
+		System.arraycopy(other.queried, 0, queried, size, other.size);
+		size += other.size;
+	}
+
+	/**
+	 * Grows the arrays so they can hold at least the given number of pairs.
+	 *
+	 * @param capacity the number of pairs needed
+	 */
+	private void ensureCapacity(int capacity) {
+		if (capacity > inserted.length) {
+			int newCapacity = Math.max(capacity, inserted.length * 2);
+			inserted = Arrays.copyOf(inserted, newCapacity);
+			queried = Arrays.copyOf(queried, newCapacity);
+		}
+	}
+}
@@ -0,0 +1,165 @@
+package com.example.demo.collision;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.example.demo.actors.ActiveActor;
+
+/**
+ * Finds colliding pairs on several threads of a {@link ForkJoinPool}.
+ * <p>
+ * The querying actors are split into fixed-size chunks. Each chunk queries the (already filled, read-only)
+ * grid with its own {@link CandidateBuffer} and records its hits in its own {@link PairBuffer}. The chunk
+ * buffers are then concatenated in chunk order, so the resulting pairs are in exactly the order a sequential
+ * scan would visit them: by querying actor, then by ascending inserted actor. Only detection runs in parallel;
+ * applying damage is left to the caller, on its own thread.
+ * Chunk buffers are kept between calls, so a detector should be owned by a single caller.
+ */
+public class ParallelCollisionDetector {
+
+	private final ForkJoinPool pool;
+	private final int chunkSize;
+	private final List<PairBuffer> chunkPairs;
+	private final List<CandidateBuffer> chunkCandidates;
+	private int[] chunkCandidateCounts;
+	private int lastCandidateCount;
+
+	/**
+	 * Constructs a detector.
+	 *
+	 * @param pool      the pool running the detection tasks
+	 * @param chunkSize the number of querying actors handled by one task
+	 * @throws IllegalArgumentException if the chunk size is not positive
+	 */
+	public ParallelCollisionDetector(ForkJoinPool pool, int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+		}
+		this.pool = pool;
+		this.chunkSize = chunkSize;
+		this.chunkPairs = new ArrayList<>();
+		this.chunkCandidates = new ArrayList<>();
+		this.chunkCandidateCounts = new int[0];
+	}
+
+	/**
+	 * Finds every pair of an inserted actor and a querying actor whose hitboxes overlap.
+	 *
+	 * @param grid     the grid holding the inserted actors, by index in {@code inserted}
+	 * @param inserted the actors that were inserted into the grid
+	 * @param querying the actors to test against the grid
+	 * @param pairs    the buffer receiving the pairs in sequential order; its previous content is discarded
+	 */
+	public void detect(SpatialHashGrid grid, List<? extends ActiveActor> inserted,
+			List<? extends ActiveActor> querying, PairBuffer pairs) {
+		int chunks = (querying.size() + chunkSize - 1) / chunkSize;
+		while (chunkPairs.size() < chunks) {
+			chunkPairs.add(new PairBuffer());
+			chunkCandidates.add(new CandidateBuffer());
+		}
+		if (chunkCandidateCounts.length < chunks) {
+			chunkCandidateCounts = new int[chunks];
+		}
+		pool.invoke(new DetectTask(grid, inserted, querying, chunkCandidateCounts, 0, chunks));
+		pairs.clear();
+		lastCandidateCount = 0;
+		for (int chunk = 0; chunk < chunks; chunk++) {
+			pairs.addAll(chunkPairs.get(chunk));
+			lastCandidateCount += chunkCandidateCounts[chunk];
+		}
+	}
+
+	/**
+	 * Returns the number of candidates that reached the exact intersection test during the last call.
+	 *
+	 * @return the candidate count of the last detection
+	 */
+	public int getLastCandidateCount() {
+		return lastCandidateCount;
+	}
+
+	/**
+	 * Tests one chunk of querying actors against the grid.
+	 *
+	 * @param grid      the grid holding the inserted actors
+	 * @param inserted  the actors that were inserted into the grid
+	 * @param querying  the actors to test against the grid
+	 * @param chunk     the chunk to test
+	 * @return the number of candidates tested
+	 */
+	private int detectChunk(SpatialHashGrid grid, List<? extends ActiveActor> inserted,
+			List<? extends ActiveActor> querying, int chunk) {
+		PairBuffer pairs = chunkPairs.get(chunk);
+		CandidateBuffer candidates = chunkCandidates.get(chunk);
+		pairs.clear();
+		int candidateCount = 0;
+		int end = Math.min(querying.size(), (chunk + 1) * chunkSize);
+		for (int q = chunk * chunkSize; q < end; q++) {
+			ActiveActor actor = querying.get(q);
+			double x = actor.getHitboxX();
+			double y = actor.getHitboxY();
+			grid.query(x, y, x + actor.getHitboxWidth(), y + actor.getHitboxHeight(), candidates);
+			candidateCount += candidates.size();
+			for (int i = 0; i < candidates.size(); i++) {
+				int other = candidates.get(i);
+				if (actor.intersects(inserted.get(other))) {
+					pairs.add(other, q);
+				}
+			}
+		}
+		return candidateCount;
+	}
+
+	/**
+	 * Splits a range of chunks in half until a single chunk is left, which is then tested.
+	 * Tasks only live for one pass and are never serialized.
+	 */
+	@SuppressWarnings("serial")
+	private final class DetectTask extends RecursiveAction {
+
+		private final SpatialHashGrid grid;
+		private final List<? extends ActiveActor> inserted;
+		private final List<? extends ActiveActor> querying;
+		private final int[] candidateCounts;
+		private final int firstChunk;
+		private final int endChunk;
+
+		/**
+		 * Constructs a task for a range of chunks.
+		 *
+		 * @param grid            the grid holding the inserted actors
+		 * @param inserted        the actors that were inserted into the grid
+		 * @param querying        the actors to test against the grid
+		 * @param candidateCounts receives the candidate count of each chunk
+		 * @param firstChunk      the first chunk of the range
+		 * @param endChunk        the chunk after the last chunk of the range
+		 */
+		DetectTask(SpatialHashGrid grid, List<? extends ActiveActor> inserted, List<? extends ActiveActor> querying,
+				int[] candidateCounts, int firstChunk, int endChunk) {
+			this.grid = grid;
+			this.inserted = inserted;
+			this.querying = querying;
+			this.candidateCounts = candidateCounts;
+			this.firstChunk = firstChunk;
+			this.endChunk = endChunk;
+		}
+
+		/**
+		 * Tests the chunk, or forks the two halves of the range.
+		 */
+		@Override
+		protected void compute() {
+			if (endChunk - firstChunk <= 1) {
+				if (firstChunk < endChunk) {
+					candidateCounts[firstChunk] = detectChunk(grid, inserted, querying, firstChunk);
+				}
+				return;
+			}
+			int middle = (firstChunk + endChunk) >>> 1;
+			invokeAll(new DetectTask(grid, inserted, querying, candidateCounts, firstChunk, middle),
+					new DetectTask(grid, inserted, querying, candidateCounts, middle, endChunk));
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package com.example.demo.collision;
+
+import java.util.Arrays;
+
+/**
+ * A uniform grid used as a collision broadphase.
+ * <p>
+ * The grid covers the visible screen in square cells. Actors are inserted by id together with their
+ * bounding box and are stored in every cell the box overlaps; anything outside the screen is clamped
+ * into the border cells. A query then only returns the ids stored in the cells overlapped by the query box,
+ * so the exact intersection test is only run for actors that are actually near each other.
+ * The grid is meant to be cleared and refilled once per collision pass.
+ */
+public class SpatialHashGrid {
+
+	private static final int INITIAL_CELL_CAPACITY = 8;
+
+	private final double cellSize;
+	private final int columns;
+	private final int rows;
+	private final int[][] cells;
+	private final int[] cellSizes;
+	private final int[] usedCells;
+	private int usedCellCount;
+
+	/**
+	 * Constructs a grid covering an area of the given size.
+	 *
+	 * @param width    the width of the area covered by the grid, in px
+	 * @param height   the height of the area covered by the grid, in px
+	 * @param cellSize the width and height of a single cell, in px
+	 */
+	public SpatialHashGrid(double width, double height, double cellSize) {
+		this.cellSize = cellSize;
+		this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+		this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+		this.cells = new int[columns * rows][INITIAL_CELL_CAPACITY];
+		this.cellSizes = new int[columns * rows];
+		this.usedCells = new int[columns * rows];
+	}
+
+	/**
+	 * Removes every id from the grid. Only the cells used since the last clear are touched.
+	 */
+	public void clear() {
+		for (int i = 0; i < usedCellCount; i++) {
+			cellSizes[usedCells[i]] = 0;
+		}
+		usedCellCount = 0;
+	}
+
+	/**
+	 * Inserts an id into every cell overlapped by the given bounding box.
+	 *
+	 * @param id   the id to insert, usually the index of the actor in its list
+	 * @param minX the left edge of the bounding box
+	 * @param minY the top edge of the bounding box
+	 * @param maxX the right edge of the bounding box
+	 * @param maxY the bottom edge of the bounding box
+	 */
+	public void insert(int id, double minX, double minY, double maxX, double maxY) {
+		int firstColumn = column(minX);
+		int lastColumn = column(maxX);
+		int firstRow = row(minY);
+		int lastRow = row(maxY);
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int column = firstColumn; column <= lastColumn; column++) {
+				add(row * columns + column, id);
+			}
+		}
+	}
+
+	/**
+	 * Collects the ids stored in every cell overlapped by the given bounding box.
+	 * Each id is reported once, in ascending order.
+	 *
+	 * @param minX       the left edge of the query box
+	 * @param minY       the top edge of the query box
+	 * @param maxX       the right edge of the query box
+	 * @param maxY       the bottom edge of the query box
+	 * @param candidates the buffer receiving the candidate ids; its previous content is discarded
+	 */
+	public void query(double minX, double minY, double maxX, double maxY, CandidateBuffer candidates) {
+		candidates.begin();
+		int firstColumn = column(minX);
+		int lastColumn = column(maxX);
+		int firstRow = row(minY);
+		int lastRow = row(maxY);
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int column = firstColumn; column <= lastColumn; column++) {
+				int cell = row * columns + column;
+				int[] ids = cells[cell];
+				for (int i = 0, n = cellSizes[cell]; i < n; i++) {
+					candidates.offer(ids[i]);
+				}
+			}
+		}
+		candidates.finish();
+	}
+
+	/**
+	 * Adds an id to a single cell, growing the cell if needed.
+	 *
+	 * @param cell the index of the cell
+	 * @param id   the id to add
+	 */
+	private void add(int cell, int id) {
+		int size = cellSizes[cell];
+		if (size == 0) {
+			usedCells[usedCellCount++] = cell;
+		}
+		if (size == cells[cell].length) {
+			cells[cell] = Arrays.copyOf(cells[cell], size * 2);
+		}
+		cells[cell][size] = id;
+		cellSizes[cell] = size + 1;
+	}
+
+	/**
+	 * Converts an X-coordinate to a column, clamped to the grid.
+	 *
+	 * @param x the X-coordinate
+	 * @return the column containing the coordinate
+	 */
+	private int column(double x) {
+		return clamp((int) Math.floor(x / cellSize), columns);
+	}
+
+	/**
+	 * Converts a Y-coordinate to a row, clamped to the grid.
+	 *
+	 * @param y the Y-coordinate
+	 * @return the row containing the coordinate
+	 */
+	private int row(double y) {
+		return clamp((int) Math.floor(y / cellSize), rows);
+	}
+
+	/**
+	 * Clamps a cell coordinate to the range {@code [0, count - 1]}.
+	 *
+	 * @param value the cell coordinate
+	 * @param count the number of cells along the axis
+	 * @return the clamped cell coordinate
+	 */
+	private static int clamp(int value, int count) {
+		return value < 0 ? 0 : Math.min(value, count - 1);
+	}
+}
@@ -1,7 +1,8 @@
 package com.example.demo.controller;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.Observable;
 import java.util.Observer;
 
@@ -9,23 +10,63 @@ import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.stage.Stage;
+import com.example.demo.UI.GlowMode;
+import com.example.demo.actors.planes.Boss;
+import com.example.demo.actors.planes.UserPlane;
+import com.example.demo.actors.projectiles.ProjectilePools;
+import com.example.demo.assets.CollisionMask;
+import com.example.demo.assets.SpriteAtlas;
+import com.example.demo.assets.SpriteCache;
+import com.example.demo.levels.GameSettings;
+import com.example.demo.levels.LevelDefinition;
+import com.example.demo.levels.LevelOutcome;
 import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.LevelRegistry;
+import com.example.demo.replay.InputRecorder;
+import com.example.demo.replay.InputReplay;
+import com.example.demo.replay.LevelReplay;
 
 /**
  * The {@code Controller} class serves as the main game controller responsible
  * for managing level transitions and game initialization.
  * <p>
- * This class uses reflection to dynamically load and instantiate level classes.
+ * Levels are created through the {@link LevelRegistry}, without reflection.
  * It also acts as an {@link Observer} to respond to level events and transitions.
+ * While a level is played, the images of the level after it are decoded in the background, so moving on
+ * to it neither reads nor decodes any image. How long each transition takes is measured in
+ * {@link #getTransitionMetrics()}, and shown in the next level's profiler overlay. All levels of the session share
+ * one set of projectile pools, so the projectiles left over from a level are reused by the next one, whichever
+ * thread runs it.
+ * <p>
+ * A session can be recorded to an input log with {@link GameSettings#getRecordPath()}, or replayed from one
+ * at real speed with {@link GameSettings#getReplayPath()}, in which case the keyboard only pauses the game.
  */
 public class Controller implements Observer {
 
-	/** The fully qualified class name for the first level. */
-	private static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.levels.LevelOne";
-
 	/** The primary stage for displaying the game. */
 	private final Stage stage;
 
+	/** Decodes the images of the next level while the current one is played. */
+	private final LevelPrefetcher prefetcher;
+
+	/** The measured durations of the level transitions. */
+	private final LevelTransitionMetrics transitionMetrics;
+
+	/** The projectile pools shared by every level of the session. */
+	private final ProjectilePools projectilePools;
+
+	/** The level currently shown. */
+	private LevelParent currentLevel;
+
+	/** Records the inputs of the session, or {@code null} if it is not recorded. */
+	private InputRecorder recorder;
+
+	/** The session being replayed, or {@code null} if the game is played from the keyboard. */
+	private InputReplay replay;
+
+	/** The index of the next recorded level to replay. */
+	private int replayLevelIndex;
+
 	/**
 	 * Initializes a new {@code Controller} with the given stage.
 	 *
@@ -33,60 +74,167 @@ public class Controller implements Observer {
 	 */
 	public Controller(Stage stage) {
 		this.stage = stage;
+		this.prefetcher = new LevelPrefetcher();
+		this.transitionMetrics = new LevelTransitionMetrics();
+		this.projectilePools = new ProjectilePools(GameSettings.getProjectilePoolCapacity());
 	}
 
 	/**
-	 * Launches the game by starting the first level.
+	 * Launches the game by starting the first level, or the one chosen through {@link GameSettings#getStartLevel()}.
+	 * The sprite atlas, the images shown in every level and those of the first level are decoded up front, so that
+	 * no image decoding happens while a level is running; the images of later levels are decoded in the background.
 	 *
-	 * @throws ClassNotFoundException    if the level class cannot be found
-	 * @throws NoSuchMethodException     if the level constructor is not found
-	 * @throws InstantiationException    if the level class cannot be instantiated
-	 * @throws IllegalAccessException    if access to the constructor is denied
-	 * @throws InvocationTargetException if the constructor throws an exception
+	 * @throws IllegalArgumentException if a replayed log or {@link GameSettings#getStartLevel()} names an unknown level
 	 */
-	public void launchGame() throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-
+	public void launchGame() {
 		stage.show();
-		goToLevel(LEVEL_ONE_CLASS_NAME);
+		startSession();
+		LevelDefinition firstLevel = replay != null && !replay.getLevels().isEmpty()
+				? LevelRegistry.get(replay.getLevels().get(0).getLevelClassName())
+				: GameSettings.getStartLevel() != null ? LevelRegistry.get(GameSettings.getStartLevel())
+				: LevelRegistry.getFirstLevel();
+		SpriteAtlas.getDefault().load();
+		CollisionMask.preload(SpriteAtlas.getDefault().getImageNames());
+		if (GameSettings.getGlowMode() == GlowMode.SPRITES) {
+			SpriteAtlas.getDefault().loadGlow(UserPlane.DAMAGE_GLOW_LEVEL, Boss.SHIELD_GLOW_LEVEL);
+		}
+		SpriteCache.preload(LevelRegistry.getCommonImagePaths());
+		SpriteCache.preload(firstLevel.getImagePaths());
+		goToLevel(firstLevel);
+	}
+
+	/**
+	 * Returns the measured durations of the level transitions of this session.
+	 *
+	 * @return the transition metrics
+	 */
+	public LevelTransitionMetrics getTransitionMetrics() {
+		return transitionMetrics;
+	}
+
+	/**
+	 * Ends the session: if it is being recorded, marks where the current level was left and closes the log.
+	 *
+	 * @throws IOException if the log cannot be written
+	 */
+	public void endSession() throws IOException {
+		if (recorder == null) {
+			return;
+		}
+		if (currentLevel != null && currentLevel.getOutcome() == LevelOutcome.IN_PROGRESS) {
+			recorder.end(currentLevel.getTickCount());
+		}
+		recorder.close();
+	}
+
+	/**
+	 * Opens the input log to replay or to record to, if one was requested.
+	 * Replaying restores the recorded seed, so the levels play out as they were recorded.
+	 * If the log cannot be opened, an error is shown and the game is played normally.
+	 */
+	private void startSession() {
+		Path replayPath = GameSettings.getReplayPath();
+		Path recordPath = GameSettings.getRecordPath();
+		try {
+			if (replayPath != null) {
+				replay = InputReplay.read(replayPath);
+				GameSettings.setSeed(replay.getSeed());
+			} else if (recordPath != null) {
+				recorder = new InputRecorder(recordPath, GameSettings.getSeed(), GameSettings.getTickRate(),
+						stage.getHeight(), stage.getWidth());
+				Runtime.getRuntime().addShutdownHook(new Thread(this::closeRecorder));
+			}
+		} catch (IOException | IllegalArgumentException e) {
+			showError(e);
+		}
+	}
+
+	/**
+	 * Closes the recorder when the application exits, so no recorded input is lost.
+	 * Runs in a shutdown hook, where there is nobody left to report a failure to.
+	 */
+	private void closeRecorder() {
+		try {
+			recorder.close();
+		} catch (IOException e) {
+			// the log keeps everything flushed before the failure
+		}
+	}
+
+	/**
+	 * Hooks a new level up to the session's recording or replay.
+	 *
+	 * @param level     the level about to start
+	 * @param className the fully qualified class name of the level
+	 * @throws UncheckedIOException if the recording cannot be written
+	 */
+	private void attachSession(LevelParent level, String className) {
+		if (recorder != null) {
+			try {
+				recorder.startLevel(className);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			level.setInputListener(recorder);
+		}
+		if (replay != null && replayLevelIndex < replay.getLevels().size()) {
+			LevelReplay levelReplay = replay.getLevels().get(replayLevelIndex++);
+			if (levelReplay.getLevelClassName().equals(className)) {
+				level.setInputSource(levelReplay);
+			}
+		}
 	}
 
 	/**
-	 * Transitions to the specified level by dynamically loading the level class.
+	 * Shows an error dialog naming the failure.
 	 *
-	 * @param className the fully qualified name of the level class
-	 * @throws ClassNotFoundException    if the specified level class cannot be found
-	 * @throws NoSuchMethodException     if the constructor with the specified signature is not found
-	 * @throws InstantiationException    if the level class cannot be instantiated
-	 * @throws IllegalAccessException    if access to the constructor is denied
-	 * @throws InvocationTargetException if the constructor throws an exception
+	 * @param e the failure
 	 */
-	private void goToLevel(String className) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-		Class<?> myClass = Class.forName(className);
-		Constructor<?> constructor = myClass.getConstructor(double.class, double.class);
-		LevelParent myLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth());
+	private void showError(Exception e) {
+		Alert alert = new Alert(AlertType.ERROR);
+		alert.setContentText(e.getClass().toString() + ": " + e.getMessage());
+		alert.show();
+	}
+
+	/**
+	 * Shows the given level and starts it with the session's projectile pools, then starts decoding the images of
+	 * the level after it.
+	 *
+	 * @param definition the level to show
+	 */
+	private void goToLevel(LevelDefinition definition) {
+		LevelParent myLevel = definition.create(stage.getHeight(), stage.getWidth());
 		myLevel.addObserver(this);
+		myLevel.setProjectilePools(projectilePools);
+		attachSession(myLevel, definition.getClassName());
+		currentLevel = myLevel;
 		Scene scene = myLevel.initializeScene();
 		stage.setScene(scene);
 		myLevel.startGame();
+		if (definition.getNextLevelClassName() != null) {
+			prefetcher.prefetch(LevelRegistry.get(definition.getNextLevelClassName()));
+		}
 	}
 
 	/**
 	 * Handles updates from observed objects (levels) and transitions to the next level.
+	 * The time from the level's notification until the next level runs is recorded in the transition metrics,
+	 * which are shown with the finished level's despawn counts in the next level's profiler overlay.
 	 *
 	 * @param observable the observed object that triggered the update
 	 * @param arg        an argument passed by the observed object, typically the next level's class name
 	 */
 	@Override
 	public void update(Observable observable, Object arg) {
+		long start = System.nanoTime();
 		try {
-			goToLevel((String) arg);
-		} catch (ClassNotFoundException | NoSuchMethodException | SecurityException | InstantiationException
-				 | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-			Alert alert = new Alert(AlertType.ERROR);
-			alert.setContentText(e.getClass().toString());
-			alert.show();
+			LevelDefinition definition = LevelRegistry.get((String) arg);
+			boolean prefetched = prefetcher.await(definition);
+			goToLevel(definition);
+			transitionMetrics.record(System.nanoTime() - start, prefetched);
+			currentLevel.setProfilerNote(((LevelParent) observable).getWorldBounds() + "\n" + transitionMetrics);
+		} catch (IllegalArgumentException e) {
+			showError(e);
 		}
 	}
 }
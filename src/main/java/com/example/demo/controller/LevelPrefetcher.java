@@ -0,0 +1,76 @@
+package com.example.demo.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.example.demo.assets.SpriteCache;
+import com.example.demo.levels.LevelDefinition;
+
+/**
+ * Decodes the images of upcoming levels on a background thread while the current level is played.
+ * <p>
+ * The controller asks for the next level's images as soon as a level starts, and waits for them with
+ * {@link #await(LevelDefinition)} when the transition happens. By then the decoding has normally finished long
+ * ago, so the transition itself only builds the level and its scene. The prefetcher is used from the JavaFX
+ * Application Thread only; the decoding runs on a single daemon thread, so it never keeps the game from exiting.
+ */
+final class LevelPrefetcher {
+
+	private final ExecutorService executor;
+	private final Map<String, Future<?>> pending;
+
+	/**
+	 * Constructs a prefetcher with its own background thread.
+	 */
+	LevelPrefetcher() {
+		this.executor = Executors.newSingleThreadExecutor(task -> {
+			Thread thread = new Thread(task, "level-prefetch");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.pending = new HashMap<>();
+	}
+
+	/**
+	 * Starts decoding the images of a level in the background, unless that was already requested.
+	 *
+	 * @param definition the upcoming level
+	 */
+	void prefetch(LevelDefinition definition) {
+		pending.computeIfAbsent(definition.getClassName(),
+				className -> executor.submit(() -> SpriteCache.preload(definition.getImagePaths())));
+	}
+
+	/**
+	 * Makes sure the images of a level are decoded, waiting for its prefetch if it is still running.
+	 * A level that was never prefetched is decoded on the calling thread.
+	 *
+	 * @param definition the level about to be shown
+	 * @return {@code true} if the images were already decoded in the background, {@code false} if the caller had to wait
+	 * @throws IllegalArgumentException if one of the level's images does not exist
+	 */
+	boolean await(LevelDefinition definition) {
+		Future<?> prefetch = pending.remove(definition.getClassName());
+		if (prefetch == null) {
+			SpriteCache.preload(definition.getImagePaths());
+			return false;
+		}
+		boolean ready = prefetch.isDone();
+		try {
+			prefetch.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			SpriteCache.preload(definition.getImagePaths());
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+		return ready;
+	}
+}
@@ -0,0 +1,95 @@
+package com.example.demo.controller;
+
+/**
+ * Measures how long the switch from one level to the next takes on the JavaFX Application Thread,
+ * from the moment a level reports that it is finished until the next level is running.
+ * <p>
+ * It also counts the transitions that had to wait for the next level's images, which should not happen
+ * while the {@link LevelPrefetcher} keeps up. Only used from the JavaFX Application Thread.
+ */
+public final class LevelTransitionMetrics {
+
+	private int count;
+	private int prefetchMisses;
+	private long lastNanos;
+	private long maxNanos;
+	private long totalNanos;
+
+	/**
+	 * Constructs metrics with no transitions recorded. Only the {@link Controller} measures transitions.
+	 */
+	LevelTransitionMetrics() {
+	}
+
+	/**
+	 * Records one transition.
+	 *
+	 * @param nanos      the time the transition took, in nanoseconds
+	 * @param prefetched whether the next level's images had been decoded in the background beforehand
+	 */
+	void record(long nanos, boolean prefetched) {
+		count++;
+		if (!prefetched) {
+			prefetchMisses++;
+		}
+		lastNanos = nanos;
+		maxNanos = Math.max(maxNanos, nanos);
+		totalNanos += nanos;
+	}
+
+	/**
+	 * Returns the number of transitions recorded.
+	 *
+	 * @return the transition count
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * Returns the number of transitions that had to wait for images to be decoded.
+	 *
+	 * @return the prefetch miss count
+	 */
+	public int getPrefetchMisses() {
+		return prefetchMisses;
+	}
+
+	/**
+	 * Returns the duration of the most recent transition.
+	 *
+	 * @return the time in nanoseconds, or 0 if there was none yet
+	 */
+	public long getLastNanos() {
+		return lastNanos;
+	}
+
+	/**
+	 * Returns the duration of the slowest transition.
+	 *
+	 * @return the time in nanoseconds, or 0 if there was none yet
+	 */
+	public long getMaxNanos() {
+		return maxNanos;
+	}
+
+	/**
+	 * Returns the mean duration of all transitions.
+	 *
+	 * @return the time in nanoseconds, or 0 if there was none yet
+	 */
+	public long getMeanNanos() {
+		return count == 0 ? 0 : totalNanos / count;
+	}
+
+	/**
+	 * Returns a one-line summary of the recorded transitions.
+	 *
+	 * @return the summary
+	 */
+	@Override
+	public String toString() {
+		return String.format("level transitions: %d, last %.3f ms, mean %.3f ms, max %.3f ms, prefetch misses %d",
+				count, lastNanos / 1e6, getMeanNanos() / 1e6, maxNanos / 1e6, prefetchMisses);
+	}
+}
@@ -20,6 +20,9 @@ public class Main extends Application {
 	/** The title displayed in the game window's title bar. */
 	private static final String TITLE = "Sky Battle";
 
+	/** The game controller, kept to end the session when the application stops. */
+	private Controller myController;
+
 	/**
 	 * Starts the JavaFX application.
 	 * <p>
@@ -30,7 +33,6 @@ public class Main extends Application {
 	 */
 	@Override
 	public void start(Stage stage) {
-		Controller myController;
 		stage.setTitle(TITLE);
 		stage.setResizable(false);
 		stage.setHeight(SCREEN_HEIGHT);
@@ -42,6 +44,18 @@ public class Main extends Application {
 		myMenu.showMenu(SCREEN_WIDTH,SCREEN_HEIGHT);
 	}
 
+	/**
+	 * Ends the game session when the window is closed, e.g. to finish an input recording.
+	 *
+	 * @throws Exception if the session cannot be ended cleanly
+	 */
+	@Override
+	public void stop() throws Exception {
+		if (myController != null) {
+			myController.endSession();
+		}
+	}
+
 	/**
 	 * The main method launches the JavaFX application.
 	 *
@@ -12,8 +12,6 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.stage.Stage;
 
-import java.lang.reflect.InvocationTargetException;
-
 /**
  * The {@code MainMenu} class creates and displays the main menu for the Sky Battle game.
  * <p>
@@ -63,14 +61,7 @@ public class MainMenu {
         exitButton.setFont(new Font("Arial", 16));
         exitButton.setPrefWidth(150);
 
-        startButton.setOnAction(event -> {
-            try {
-                controller.launchGame();
-            } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException | IllegalAccessException |
-                     InvocationTargetException e) {
-                throw new RuntimeException("Failed to launch the game.", e);
-            }
-        });
+        startButton.setOnAction(event -> controller.launchGame());
 
         howToPlay.setOnAction(event -> showHowToPlay(screenWidth,screenHeight));
         exitButton.setOnAction(event -> stage.close());
@@ -0,0 +1,285 @@
+package com.example.demo.ecs;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import com.example.demo.actors.HitboxInsets;
+import com.example.demo.actors.planes.Boss;
+import com.example.demo.actors.planes.EnemyPlane;
+import com.example.demo.actors.planes.EnemyPlane2;
+import com.example.demo.actors.planes.UserPlane;
+import com.example.demo.actors.projectiles.BossProjectile;
+import com.example.demo.actors.projectiles.EnemyProjectile;
+import com.example.demo.actors.projectiles.UserProjectile;
+import com.example.demo.balance.Balance;
+
+/**
+ * The planes and projectiles of the game as component compositions.
+ * <p>
+ * Each prefab mirrors the class of the same name in {@code com.example.demo.actors}: the same sprite, size,
+ * hitbox, speed, health and muzzle position, with fire and shield chances taken from a {@link Balance}. Hitboxes
+ * and glow levels are the classes' own constants. Behaviour the classes implement in code becomes data: the
+ * player's firing delay is a {@link Component#TRIGGER} cooldown and its brief invincibility after a hit an
+ * {@link Component#INVINCIBILITY}, with the classes' nanosecond delays converted to ticks at the given tick rate.
+ * <p>
+ * The boss is the one approximation. It is a {@link Component#PATROL} that draws a new move, up, down or still with
+ * equal chance, every ten ticks. {@link Boss} holds its moves for as long but picks each one by
+ * reshuffling a list of fifteen, so its moves are as likely, yet it draws fourteen random numbers where the patrol
+ * draws one, and the same seed sends the two bosses along different paths.
+ */
+public final class ActorPrefabs {
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	private static final int ENEMY_HEIGHT = 80;
+	private static final double ENEMY_MUZZLE_X = -100.0;
+	private static final double ENEMY_MUZZLE_Y = 50.0;
+	private static final int ENEMY_VELOCITY = -6;
+	private static final int ENEMY2_VELOCITY = -3;
+	private static final int ENEMY2_VERTICAL_SPEED = 5;
+	private static final int ENEMY2_HEALTH = 2;
+	private static final int ENEMY2_MIN_Y = 0;
+	private static final int ENEMY2_MAX_Y = 630;
+
+	private static final int BOSS_HEIGHT = 75;
+	private static final double BOSS_X = 900.0;
+	private static final double BOSS_Y = 400;
+	private static final int BOSS_HEALTH = 25;
+	private static final int BOSS_SPEED = 8;
+	private static final int BOSS_MOVE_TICKS = 10;
+	private static final int BOSS_MIN_Y = 10;
+	private static final int BOSS_MAX_Y = 600;
+	private static final int BOSS_SHIELD_TICKS = 100;
+	/** The boss fires from X 950 whatever its position; it never moves sideways. */
+	private static final double BOSS_MUZZLE_X = 950 - BOSS_X;
+	private static final double BOSS_MUZZLE_Y = 75.0;
+
+	private static final int USER_HEIGHT = 60;
+	private static final double USER_X = 5.0;
+	private static final double USER_Y = 300.0;
+	private static final int USER_SPEED = 8;
+	private static final double USER_MIN_Y = 0;
+	private static final double USER_MAX_Y = 650.0;
+	/** The player fires from X 220 whatever its position; it never moves sideways. */
+	private static final double USER_MUZZLE_X = 220 - USER_X;
+	private static final double USER_MUZZLE_Y = 40;
+	private static final long USER_FIRING_COOLDOWN_NANOS = 200_000_000;
+	private static final long USER_I_FRAMES_NANOS = 150_000_000;
+
+	private static final int USER_PROJECTILE_HEIGHT = 5;
+	private static final int USER_PROJECTILE_VELOCITY = 15;
+	private static final int ENEMY_PROJECTILE_HEIGHT = 30;
+	private static final int ENEMY_PROJECTILE_VELOCITY = -10;
+	private static final int BOSS_PROJECTILE_HEIGHT = 75;
+	private static final int BOSS_PROJECTILE_VELOCITY = -15;
+
+	private final Prefab userPlane;
+	private final Prefab enemyPlane;
+	private final Prefab enemyPlane2;
+	private final Prefab boss;
+	private final Prefab userProjectile;
+	private final Prefab enemyProjectile;
+	private final Prefab bossProjectile;
+
+	/**
+	 * Builds the prefabs.
+	 *
+	 * @param balance            the tuning of the enemies
+	 * @param ticksPerSecond     the tick rate the timers are converted for
+	 * @param maxLifetimeTicks   the number of ticks after which a projectile is retired, or 0 for no limit
+	 * @throws IllegalArgumentException if the tick rate is not positive, or a sprite cannot be read
+	 */
+	public ActorPrefabs(Balance balance, int ticksPerSecond, int maxLifetimeTicks) {
+		if (ticksPerSecond <= 0) {
+			throw new IllegalArgumentException("Tick rate must be positive: " + ticksPerSecond);
+		}
+		long tickNanos = NANOS_PER_SECOND / ticksPerSecond;
+
+		this.userProjectile = projectile("UserProjectile", "userfire.png", USER_PROJECTILE_HEIGHT,
+				UserProjectile.HITBOX_INSETS, USER_PROJECTILE_VELOCITY, Component.PLAYER_SHOT, maxLifetimeTicks);
+		this.enemyProjectile = projectile("EnemyProjectile", "enemyFire.png", ENEMY_PROJECTILE_HEIGHT,
+				EnemyProjectile.HITBOX_INSETS, ENEMY_PROJECTILE_VELOCITY, Component.ENEMY_SHOT, maxLifetimeTicks);
+		this.bossProjectile = projectile("BossProjectile", "fireball.png", BOSS_PROJECTILE_HEIGHT,
+				BossProjectile.HITBOX_INSETS, BOSS_PROJECTILE_VELOCITY, Component.ENEMY_SHOT, maxLifetimeTicks);
+
+		this.enemyPlane = Prefab.of("EnemyPlane", "enemyplane.png", ENEMY_HEIGHT, EnemyPlane.HITBOX_INSETS,
+						Component.VELOCITY, Component.HEALTH, Component.GUN, Component.RANDOM_FIRE, Component.RANDOM, Component.INTRUDER,
+						Component.ENEMY)
+				.with(Field.VELOCITY_X, ENEMY_VELOCITY)
+				.with(Field.HEALTH, 1)
+				.with(Field.MUZZLE_X, ENEMY_MUZZLE_X)
+				.with(Field.MUZZLE_Y, ENEMY_MUZZLE_Y)
+				.with(Field.FIRE_RATE, balance.get(Balance.Parameter.ENEMY_FIRE_RATE))
+				.withAmmo(enemyProjectile);
+		this.enemyPlane2 = Prefab.of("EnemyPlane2", "enemyplane2.png", ENEMY_HEIGHT, EnemyPlane2.HITBOX_INSETS,
+						Component.VELOCITY, Component.BOUNDS, Component.HEALTH, Component.GUN, Component.RANDOM_FIRE,
+						Component.RANDOM, Component.INTRUDER, Component.ENEMY)
+				.with(Field.VELOCITY_X, ENEMY2_VELOCITY)
+				.with(Field.VELOCITY_Y, ENEMY2_VERTICAL_SPEED)
+				.with(Field.MIN_Y, ENEMY2_MIN_Y)
+				.with(Field.MAX_Y, ENEMY2_MAX_Y)
+				.with(Field.BOUND_MODE, Field.BOUNCE)
+				.with(Field.HEALTH, ENEMY2_HEALTH)
+				.with(Field.MUZZLE_X, ENEMY_MUZZLE_X)
+				.with(Field.MUZZLE_Y, ENEMY_MUZZLE_Y)
+				.with(Field.FIRE_RATE, balance.get(Balance.Parameter.ENEMY2_FIRE_RATE))
+				.withAmmo(enemyProjectile);
+		this.boss = Prefab.of("Boss", "bossplane.png", BOSS_HEIGHT, Boss.HITBOX_INSETS, Component.VELOCITY,
+						Component.BOUNDS, Component.PATROL, Component.HEALTH, Component.SHIELD, Component.GUN,
+						Component.RANDOM_FIRE, Component.RANDOM, Component.INTRUDER, Component.ENEMY)
+				.with(Field.MIN_Y, BOSS_MIN_Y)
+				.with(Field.MAX_Y, BOSS_MAX_Y)
+				.with(Field.BOUND_MODE, Field.CLAMP)
+				.with(Field.PATROL_SPEED, BOSS_SPEED)
+				.with(Field.PATROL_PERIOD, BOSS_MOVE_TICKS)
+				.with(Field.HEALTH, BOSS_HEALTH)
+				.with(Field.SHIELD_PROBABILITY, balance.get(Balance.Parameter.BOSS_SHIELD_PROBABILITY))
+				.with(Field.SHIELD_TICKS, -1)
+				.with(Field.SHIELD_DURATION, BOSS_SHIELD_TICKS)
+				.with(Field.SHIELD_GLOW, Boss.SHIELD_GLOW_LEVEL)
+				.with(Field.MUZZLE_X, BOSS_MUZZLE_X)
+				.with(Field.MUZZLE_Y, BOSS_MUZZLE_Y)
+				.with(Field.FIRE_RATE, balance.get(Balance.Parameter.BOSS_FIRE_RATE))
+				.withAmmo(bossProjectile);
+		this.userPlane = Prefab.of("UserPlane", "userplane.png", USER_HEIGHT, UserPlane.HITBOX_INSETS,
+						Component.VELOCITY, Component.BOUNDS, Component.PILOT, Component.HEALTH, Component.INVINCIBILITY, Component.GUN,
+						Component.TRIGGER, Component.PLAYER)
+				.with(Field.MIN_Y, USER_MIN_Y)
+				.with(Field.MAX_Y, USER_MAX_Y)
+				.with(Field.BOUND_MODE, Field.CLAMP)
+				.with(Field.PILOT_SPEED, USER_SPEED)
+				// UserPlane allows a hit once strictly more than the i-frames have passed, and a shot once
+				// at least the cooldown has
+				.with(Field.INVINCIBLE_DURATION, USER_I_FRAMES_NANOS / tickNanos + 1)
+				.with(Field.INVINCIBLE_GLOW, UserPlane.DAMAGE_GLOW_LEVEL)
+				.with(Field.COOLDOWN, (USER_FIRING_COOLDOWN_NANOS + tickNanos - 1) / tickNanos)
+				.with(Field.MUZZLE_X, USER_MUZZLE_X)
+				.with(Field.MUZZLE_Y, USER_MUZZLE_Y)
+				.withAmmo(userProjectile);
+	}
+
+	/**
+	 * Spawns the player.
+	 *
+	 * @param world  the world to spawn in
+	 * @param health the player's health
+	 * @return the player's handle
+	 */
+	public long spawnUserPlane(World world, int health) {
+		long user = world.spawn(userPlane, USER_X, USER_Y);
+		world.setInt(user, Field.HEALTH, health);
+		return user;
+	}
+
+	/**
+	 * Spawns an enemy plane of a type known to {@code planeFactory}.
+	 *
+	 * @param world  the world to spawn in
+	 * @param type   {@code "enemy"}, {@code "enemy2"} or {@code "boss"}, case-insensitive
+	 * @param x      the X-coordinate of the plane; the boss always starts at its own position
+	 * @param y      the Y-coordinate of the plane
+	 * @param random the source of the plane's random initial direction, if it has one
+	 * @return the plane's handle
+	 * @throws IllegalArgumentException if the type is unknown
+	 */
+	public long spawnEnemyPlane(World world, String type, double x, double y, SplittableRandom random) {
+		switch (type.toLowerCase(Locale.ROOT)) {
+			case "enemy":
+				return world.spawn(enemyPlane, x, y);
+			case "enemy2":
+				long plane = world.spawn(enemyPlane2, x, y);
+				if (random.nextBoolean()) {
+					world.setDouble(plane, Field.VELOCITY_Y, -ENEMY2_VERTICAL_SPEED);
+				}
+				return plane;
+			case "boss":
+				return world.spawn(boss, BOSS_X, BOSS_Y);
+			default:
+				throw new IllegalArgumentException("Unknown plane type: " + type);
+		}
+	}
+
+	/**
+	 * Returns the prefab of the player's plane, with a health of 0.
+	 *
+	 * @return the prefab
+	 */
+	public Prefab getUserPlane() {
+		return userPlane;
+	}
+
+	/**
+	 * Returns the prefab of the basic enemy plane.
+	 *
+	 * @return the prefab
+	 */
+	public Prefab getEnemyPlane() {
+		return enemyPlane;
+	}
+
+	/**
+	 * Returns the prefab of the bouncing enemy plane, heading down.
+	 *
+	 * @return the prefab
+	 */
+	public Prefab getEnemyPlane2() {
+		return enemyPlane2;
+	}
+
+	/**
+	 * Returns the prefab of the boss.
+	 *
+	 * @return the prefab
+	 */
+	public Prefab getBoss() {
+		return boss;
+	}
+
+	/**
+	 * Returns the prefab of the player's projectile.
+	 *
+	 * @return the prefab
+	 */
+	public Prefab getUserProjectile() {
+		return userProjectile;
+	}
+
+	/**
+	 * Returns the prefab of the enemy planes' projectile.
+	 *
+	 * @return the prefab
+	 */
+	public Prefab getEnemyProjectile() {
+		return enemyProjectile;
+	}
+
+	/**
+	 * Returns the prefab of the boss's projectile.
+	 *
+	 * @return the prefab
+	 */
+	public Prefab getBossProjectile() {
+		return bossProjectile;
+	}
+
+	/**
+	 * Builds a projectile prefab: a sprite flying straight on, destroyed by its first hit.
+	 *
+	 * @param name             the prefab's name
+	 * @param imageName        the sprite
+	 * @param imageHeight      the drawn height
+	 * @param insets           the hitbox insets
+	 * @param velocity         the horizontal speed
+	 * @param faction          the tag the projectile collides as
+	 * @param maxLifetimeTicks the number of ticks after which it is retired, or 0 for no limit
+	 * @return the prefab
+	 */
+	private static Prefab projectile(String name, String imageName, int imageHeight, HitboxInsets insets,
+			int velocity, Component faction, int maxLifetimeTicks) {
+		return Prefab.of(name, imageName, imageHeight, insets, Component.VELOCITY, Component.HEALTH,
+						Component.LIFETIME, faction)
+				.with(Field.VELOCITY_X, velocity)
+				.with(Field.HEALTH, 1)
+				.with(Field.MAX_AGE, maxLifetimeTicks);
+	}
+}
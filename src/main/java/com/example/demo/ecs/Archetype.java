@@ -0,0 +1,143 @@
+package com.example.demo.ecs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * All entities with exactly the same set of components, stored in {@link Chunk}s.
+ * <p>
+ * Entities are packed: every chunk but the last is full, and an entity's row in the archetype is its chunk index
+ * times {@link Chunk#CAPACITY} plus its row in the chunk. Removing an entity moves the archetype's last entity into
+ * its row. Emptied chunks are kept for reuse, so an archetype whose population only changes allocates nothing.
+ */
+public final class Archetype {
+
+	private static final int CHUNK_SHIFT = Integer.numberOfTrailingZeros(Chunk.CAPACITY);
+	private static final int ROW_MASK = Chunk.CAPACITY - 1;
+
+	private final int id;
+	private final long mask;
+	private final List<Chunk> chunks;
+	private int size;
+
+	/**
+	 * Constructs an empty archetype.
+	 *
+	 * @param id   the archetype's index in its world
+	 * @param mask the component mask shared by its entities
+	 */
+	Archetype(int id, long mask) {
+		this.id = id;
+		this.mask = mask;
+		this.chunks = new ArrayList<>();
+	}
+
+	/**
+	 * Returns the archetype's index in its world.
+	 *
+	 * @return the id
+	 */
+	int getId() {
+		return id;
+	}
+
+	/**
+	 * Returns the components of the archetype's entities.
+	 *
+	 * @return the component mask
+	 */
+	public long getMask() {
+		return mask;
+	}
+
+	/**
+	 * Checks whether the archetype's entities have a component.
+	 *
+	 * @param component the component
+	 * @return {@code true} if they have it
+	 */
+	public boolean has(Component component) {
+		return (mask & component.bit()) != 0;
+	}
+
+	/**
+	 * Returns the number of entities in the archetype.
+	 *
+	 * @return the number of entities
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of chunks holding entities.
+	 *
+	 * @return the number of chunks in use
+	 */
+	public int getChunkCount() {
+		return (size + ROW_MASK) >>> CHUNK_SHIFT;
+	}
+
+	/**
+	 * Returns a chunk.
+	 *
+	 * @param index the index of the chunk, below {@link #getChunkCount()}
+	 * @return the chunk
+	 */
+	public Chunk getChunk(int index) {
+		return chunks.get(index);
+	}
+
+	/**
+	 * Returns the chunk holding a row.
+	 *
+	 * @param row the row in the archetype
+	 * @return the chunk
+	 */
+	Chunk chunkOf(int row) {
+		return chunks.get(row >>> CHUNK_SHIFT);
+	}
+
+	/**
+	 * Converts a row in the archetype into the row in its chunk.
+	 *
+	 * @param row the row in the archetype
+	 * @return the row in the chunk
+	 */
+	static int rowInChunk(int row) {
+		return row & ROW_MASK;
+	}
+
+	/**
+	 * Appends an entity with every field zeroed.
+	 *
+	 * @param entity the entity's handle
+	 * @return the entity's row in the archetype
+	 */
+	int add(long entity) {
+		int chunkIndex = size >>> CHUNK_SHIFT;
+		if (chunkIndex == chunks.size()) {
+			chunks.add(new Chunk(mask));
+		}
+		chunks.get(chunkIndex).add(entity);
+		return size++;
+	}
+
+	/**
+	 * Removes the entity in a row by moving the last entity into it.
+	 *
+	 * @param row the row to remove
+	 * @return the handle of the entity moved into the row, or {@link EntityHandle#NONE} if the row was the last
+	 */
+	long remove(int row) {
+		int last = --size;
+		Chunk lastChunk = chunkOf(last);
+		long moved = EntityHandle.NONE;
+		if (row != last) {
+			lastChunk.copyRow(rowInChunk(last), chunkOf(row), rowInChunk(row));
+			moved = lastChunk.getEntity(rowInChunk(last));
+		}
+		lastChunk.removeLast();
+		return moved;
+	}
+}
@@ -0,0 +1,159 @@
+package com.example.demo.ecs;
+
+/**
+ * A fixed-size block of entities of one {@link Archetype}, stored column by column.
+ * <p>
+ * Every field of the archetype's components is a primitive array of {@link #CAPACITY} entries, indexed by the
+ * field's ordinal; the columns of fields the archetype does not have are {@code null}. Rows {@code 0} to
+ * {@link #size()} - 1 are in use and packed, so a system reads a column with a plain counted loop.
+ */
+public final class Chunk {
+
+	/** The number of entities a chunk holds. */
+	public static final int CAPACITY = 256;
+
+	private static final Field[] FIELDS = Field.values();
+
+	private final long mask;
+	private final long[] entities;
+	private final double[][] doubles;
+	private final int[][] ints;
+	private final long[][] longs;
+	private int size;
+
+	/**
+	 * Constructs an empty chunk with a column for every field of the given components.
+	 *
+	 * @param mask the component mask of the archetype
+	 */
+	Chunk(long mask) {
+		this.mask = mask;
+		this.entities = new long[CAPACITY];
+		this.doubles = new double[FIELDS.length][];
+		this.ints = new int[FIELDS.length][];
+		this.longs = new long[FIELDS.length][];
+		for (Field field : FIELDS) {
+			if ((mask & field.getComponent().bit()) == 0) {
+				continue;
+			}
+			switch (field.getType()) {
+				case DOUBLE:
+					doubles[field.ordinal()] = new double[CAPACITY];
+					break;
+				case INT:
+					ints[field.ordinal()] = new int[CAPACITY];
+					break;
+				default:
+					longs[field.ordinal()] = new long[CAPACITY];
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of rows in use.
+	 *
+	 * @return the number of entities in the chunk
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks whether the chunk's entities have a component.
+	 *
+	 * @param component the component
+	 * @return {@code true} if every row has the component
+	 */
+	public boolean has(Component component) {
+		return (mask & component.bit()) != 0;
+	}
+
+	/**
+	 * Returns the handle of the entity in a row.
+	 *
+	 * @param row the row
+	 * @return the entity's handle
+	 */
+	public long getEntity(int row) {
+		return entities[row];
+	}
+
+	/**
+	 * Returns the column of a double field.
+	 *
+	 * @param field the field
+	 * @return the column, or {@code null} if the chunk's entities do not have the field
+	 */
+	public double[] doubles(Field field) {
+		return doubles[field.ordinal()];
+	}
+
+	/**
+	 * Returns the column of an int field.
+	 *
+	 * @param field the field
+	 * @return the column, or {@code null} if the chunk's entities do not have the field
+	 */
+	public int[] ints(Field field) {
+		return ints[field.ordinal()];
+	}
+
+	/**
+	 * Returns the column of a long field.
+	 *
+	 * @param field the field
+	 * @return the column, or {@code null} if the chunk's entities do not have the field
+	 */
+	public long[] longs(Field field) {
+		return longs[field.ordinal()];
+	}
+
+	/**
+	 * Appends a row for an entity, with every field zeroed.
+	 *
+	 * @param entity the entity's handle
+	 * @return the new row
+	 */
+	int add(long entity) {
+		int row = size++;
+		entities[row] = entity;
+		for (int i = 0; i < FIELDS.length; i++) {
+			if (doubles[i] != null) {
+				doubles[i][row] = 0;
+			} else if (ints[i] != null) {
+				ints[i][row] = 0;
+			} else if (longs[i] != null) {
+				longs[i][row] = 0;
+			}
+		}
+		return row;
+	}
+
+	/**
+	 * Drops the last row.
+	 */
+	void removeLast() {
+		size--;
+	}
+
+	/**
+	 * Copies a row into a row of another chunk, or of this one. Only the fields both chunks have are copied,
+	 * together with the entity's handle.
+	 *
+	 * @param row       the row to copy
+	 * @param target    the chunk to copy to
+	 * @param targetRow the row to copy to
+	 */
+	void copyRow(int row, Chunk target, int targetRow) {
+		target.entities[targetRow] = entities[row];
+		for (int i = 0; i < FIELDS.length; i++) {
+			if (doubles[i] != null && target.doubles[i] != null) {
+				target.doubles[i][targetRow] = doubles[i][row];
+			} else if (ints[i] != null && target.ints[i] != null) {
+				target.ints[i][targetRow] = ints[i][row];
+			} else if (longs[i] != null && target.longs[i] != null) {
+				target.longs[i][targetRow] = longs[i][row];
+			}
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.example.demo.ecs;
+
+import java.util.Arrays;
+
+/**
+ * Spawns and despawns requested while systems iterate, applied together by {@link World#flush()}.
+ * <p>
+ * Moving entities between rows while a system walks a chunk would make it skip or repeat entities, so systems
+ * queue structural changes here instead. Despawns are applied before spawns; despawning an entity twice, or one
+ * that is already gone, does nothing. The buffers grow as needed and are reused, so queueing allocates nothing
+ * once they are large enough.
+ */
+public final class CommandBuffer {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private Prefab[] spawnPrefabs;
+	private double[] spawnXs;
+	private double[] spawnYs;
+	private int spawnCount;
+	private long[] despawns;
+	private int despawnCount;
+
+	/**
+	 * Constructs an empty buffer.
+	 */
+	CommandBuffer() {
+		this.spawnPrefabs = new Prefab[INITIAL_CAPACITY];
+		this.spawnXs = new double[INITIAL_CAPACITY];
+		this.spawnYs = new double[INITIAL_CAPACITY];
+		this.despawns = new long[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Queues a spawn.
+	 *
+	 * @param prefab the prefab to spawn
+	 * @param x      the X-coordinate of the new entity
+	 * @param y      the Y-coordinate of the new entity
+	 */
+	public void spawn(Prefab prefab, double x, double y) {
+		if (spawnCount == spawnPrefabs.length) {
+			int capacity = spawnCount * 2;
+			spawnPrefabs = Arrays.copyOf(spawnPrefabs, capacity);
+			spawnXs = Arrays.copyOf(spawnXs, capacity);
+			spawnYs = Arrays.copyOf(spawnYs, capacity);
+		}
+		spawnPrefabs[spawnCount] = prefab;
+		spawnXs[spawnCount] = x;
+		spawnYs[spawnCount] = y;
+		spawnCount++;
+	}
+
+	/**
+	 * Queues a despawn.
+	 *
+	 * @param entity the entity's handle
+	 */
+	public void despawn(long entity) {
+		if (despawnCount == despawns.length) {
+			despawns = Arrays.copyOf(despawns, despawnCount * 2);
+		}
+		despawns[despawnCount++] = entity;
+	}
+
+	/**
+	 * Checks whether anything is queued.
+	 *
+	 * @return {@code true} if there is nothing to apply
+	 */
+	public boolean isEmpty() {
+		return spawnCount == 0 && despawnCount == 0;
+	}
+
+	/**
+	 * Applies and forgets everything queued.
+	 *
+	 * @param world the world to change
+	 */
+	void apply(World world) {
+		for (int i = 0; i < despawnCount; i++) {
+			if (world.isAlive(despawns[i])) {
+				world.despawn(despawns[i]);
+			}
+		}
+		despawnCount = 0;
+		for (int i = 0; i < spawnCount; i++) {
+			world.spawn(spawnPrefabs[i], spawnXs[i], spawnYs[i]);
+			spawnPrefabs[i] = null;
+		}
+		spawnCount = 0;
+	}
+}
@@ -0,0 +1,75 @@
+package com.example.demo.ecs;
+
+/**
+ * The components an entity can be made of.
+ * <p>
+ * A component is a named group of {@link Field}s; the set of components an entity has decides which
+ * {@link Archetype} stores it. Components without fields are tags that only select entities, e.g. the faction an
+ * entity collides as.
+ */
+public enum Component {
+
+	/** Where the entity is, and where it was before the last move. */
+	POSITION,
+	/** How far the entity moves every tick. */
+	VELOCITY,
+	/** The vertical range the entity is kept in, and whether it stops or bounces at its edges. */
+	BOUNDS,
+	/** Vertical steering by the player. */
+	PILOT,
+	/** Vertical steering by random moves held for a number of ticks, like the boss. */
+	PATROL,
+	/** The part of the sprite that can be hit. */
+	HITBOX,
+	/** The hits the entity can take before it is destroyed. */
+	HEALTH,
+	/** A shield that randomly comes up for a number of ticks and blocks all damage. */
+	SHIELD,
+	/** A short period after every hit during which no further damage is taken. */
+	INVINCIBILITY,
+	/** Where projectiles leave the entity, and which projectile it fires. */
+	GUN,
+	/** Firing at random with a fixed chance per tick. */
+	RANDOM_FIRE,
+	/** Firing on request, at most once per cooldown. */
+	TRIGGER,
+	/** The entity's own random number generator. */
+	RANDOM,
+	/** The number of ticks the entity has lived, and how many it may live. */
+	LIFETIME,
+	/** An enemy that damages the player once it has crossed the screen. */
+	INTRUDER,
+	/** The prefab the entity was spawned from, giving its sprite and collision mask, and its glow. */
+	SPRITE,
+	/** Collides as the player. */
+	PLAYER,
+	/** Collides as an enemy plane. */
+	ENEMY,
+	/** Collides as a projectile fired by the player. */
+	PLAYER_SHOT,
+	/** Collides as a projectile fired by an enemy. */
+	ENEMY_SHOT;
+
+	/**
+	 * Returns the bit of this component in a component mask.
+	 *
+	 * @return a mask with only this component's bit set
+	 */
+	public long bit() {
+		return 1L << ordinal();
+	}
+
+	/**
+	 * Combines components into a mask.
+	 *
+	 * @param components the components
+	 * @return a mask with the bit of every given component set
+	 */
+	public static long mask(Component... components) {
+		long mask = 0;
+		for (Component component : components) {
+			mask |= component.bit();
+		}
+		return mask;
+	}
+}
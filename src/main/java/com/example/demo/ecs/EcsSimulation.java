@@ -0,0 +1,169 @@
+package com.example.demo.ecs;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.example.demo.balance.Balance;
+import com.example.demo.ecs.systems.CollisionSystem;
+import com.example.demo.ecs.systems.FiringSystem;
+import com.example.demo.ecs.systems.GameSystem;
+import com.example.demo.ecs.systems.LifetimeSystem;
+import com.example.demo.ecs.systems.MovementSystem;
+import com.example.demo.ecs.systems.ShieldSystem;
+import com.example.demo.levels.InputAction;
+
+/**
+ * The game's tick run over a {@link World} of prefab entities instead of actor objects.
+ * <p>
+ * The systems run in the order of the level's phases: shields and movement, firing, retiring and intruders, then
+ * the collision passes. The world is flushed after every system, so projectiles fired this tick can already hit
+ * and retired entities no longer collide. Spawning enemies is left to the caller. Only used from the thread running
+ * the simulation.
+ */
+public final class EcsSimulation {
+
+	private final World world;
+	private final ActorPrefabs prefabs;
+	private final SplittableRandom random;
+	private final LifetimeSystem lifetime;
+	private final CollisionSystem collisions;
+	private final List<GameSystem> systems;
+	private long user;
+	private long tickCount;
+
+	/**
+	 * Constructs an empty simulation.
+	 *
+	 * @param seed             the seed of the entities' random generators
+	 * @param balance          the tuning of the enemies
+	 * @param screenWidth      the width of the screen
+	 * @param screenHeight     the height of the screen
+	 * @param ticksPerSecond   the tick rate timers are converted for
+	 * @param despawnMargin    how far beyond each edge of the screen an entity may still be
+	 * @param maxLifetimeTicks the number of ticks after which a projectile is retired, or 0 for no limit
+	 */
+	public EcsSimulation(long seed, Balance balance, double screenWidth, double screenHeight, int ticksPerSecond,
+			double despawnMargin, int maxLifetimeTicks) {
+		this.world = new World(seed);
+		this.prefabs = new ActorPrefabs(balance, ticksPerSecond, maxLifetimeTicks);
+		this.random = new SplittableRandom(~seed);
+		this.lifetime = new LifetimeSystem(world, screenWidth, screenHeight, despawnMargin);
+		this.collisions = new CollisionSystem(world, screenWidth, screenHeight);
+		this.systems = List.of(new ShieldSystem(world), new MovementSystem(world), new FiringSystem(world),
+				lifetime, collisions);
+		this.user = EntityHandle.NONE;
+	}
+
+	/**
+	 * Runs one tick.
+	 */
+	public void tick() {
+		for (int i = 0; i < systems.size(); i++) {
+			systems.get(i).update();
+			world.flush();
+		}
+		tickCount++;
+	}
+
+	/**
+	 * Spawns the player's plane.
+	 *
+	 * @param health the player's health
+	 * @return the player's handle
+	 */
+	public long spawnUser(int health) {
+		user = prefabs.spawnUserPlane(world, health);
+		return user;
+	}
+
+	/**
+	 * Spawns an enemy plane.
+	 *
+	 * @param type the type of plane, as for {@code planeFactory}
+	 * @param x    the X-coordinate of the plane
+	 * @param y    the Y-coordinate of the plane
+	 * @return the plane's handle
+	 * @throws IllegalArgumentException if the type is unknown
+	 */
+	public long spawnEnemy(String type, double x, double y) {
+		return prefabs.spawnEnemyPlane(world, type, x, y, random);
+	}
+
+	/**
+	 * Applies a player input to the player's plane, if it is alive.
+	 *
+	 * @param action the input
+	 */
+	public void applyInput(InputAction action) {
+		if (!world.isAlive(user)) {
+			return;
+		}
+		switch (action) {
+			case MOVE_UP:
+				world.setInt(user, Field.PILOT_DIRECTION, -1);
+				break;
+			case MOVE_DOWN:
+				world.setInt(user, Field.PILOT_DIRECTION, 1);
+				break;
+			case STOP:
+				world.setInt(user, Field.PILOT_DIRECTION, 0);
+				break;
+			default:
+				world.setInt(user, Field.TRIGGER_PULLED, 1);
+		}
+	}
+
+	/**
+	 * Checks whether the player's plane is still alive.
+	 *
+	 * @return {@code true} if it has been spawned and not destroyed
+	 */
+	public boolean isUserAlive() {
+		return world.isAlive(user);
+	}
+
+	/**
+	 * Returns the world.
+	 *
+	 * @return the world
+	 */
+	public World getWorld() {
+		return world;
+	}
+
+	/**
+	 * Returns the prefabs entities are spawned from.
+	 *
+	 * @return the prefabs
+	 */
+	public ActorPrefabs getPrefabs() {
+		return prefabs;
+	}
+
+	/**
+	 * Returns the number of enemies destroyed by collisions.
+	 *
+	 * @return the kill count
+	 */
+	public long getKills() {
+		return collisions.getKills();
+	}
+
+	/**
+	 * Returns the system retiring entities, for its counts.
+	 *
+	 * @return the lifetime system
+	 */
+	public LifetimeSystem getLifetime() {
+		return lifetime;
+	}
+
+	/**
+	 * Returns the number of ticks run.
+	 *
+	 * @return the tick count
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+}
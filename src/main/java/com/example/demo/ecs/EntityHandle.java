@@ -0,0 +1,63 @@
+package com.example.demo.ecs;
+
+/**
+ * Packs and unpacks generational entity handles.
+ * <p>
+ * A handle is a {@code long} holding the entity's slot index in its low 32 bits and the slot's generation in its
+ * high 32 bits. A slot's generation is bumped every time its entity is despawned, so a handle kept after its entity
+ * is gone no longer matches the slot and is reported as dead even once the slot is reused, without any allocation.
+ */
+public final class EntityHandle {
+
+	/** A handle that never refers to an entity; generations start at 1. */
+	public static final long NONE = 0;
+
+	private static final long INDEX_MASK = 0xFFFF_FFFFL;
+
+	/**
+	 * Not instantiable.
+	 */
+	private EntityHandle() {
+	}
+
+	/**
+	 * Packs a handle.
+	 *
+	 * @param index      the slot index
+	 * @param generation the slot's generation
+	 * @return the handle
+	 */
+	public static long of(int index, int generation) {
+		return ((long) generation << 32) | (index & INDEX_MASK);
+	}
+
+	/**
+	 * Returns the slot index of a handle.
+	 *
+	 * @param handle the handle
+	 * @return the slot index
+	 */
+	public static int index(long handle) {
+		return (int) handle;
+	}
+
+	/**
+	 * Returns the generation of a handle.
+	 *
+	 * @param handle the handle
+	 * @return the generation
+	 */
+	public static int generation(long handle) {
+		return (int) (handle >>> 32);
+	}
+
+	/**
+	 * Formats a handle for messages.
+	 *
+	 * @param handle the handle
+	 * @return e.g. {@code "12v3"} for slot 12 in its third generation
+	 */
+	public static String toString(long handle) {
+		return index(handle) + "v" + generation(handle);
+	}
+}
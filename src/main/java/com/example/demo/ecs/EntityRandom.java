@@ -0,0 +1,69 @@
+package com.example.demo.ecs;
+
+/**
+ * The random number generator of entities with a {@link Component#RANDOM} component.
+ * <p>
+ * Each entity keeps the state of a SplitMix64 generator, the algorithm behind {@link java.util.SplittableRandom},
+ * in its {@link Field#RANDOM_STATE} column, so drawing a number is an update of that column and nothing is
+ * allocated per entity.
+ */
+public final class EntityRandom {
+
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+	private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+	/**
+	 * Not instantiable.
+	 */
+	private EntityRandom() {
+	}
+
+	/**
+	 * Draws a double between 0 (inclusive) and 1 (exclusive).
+	 *
+	 * @param states the random state column
+	 * @param row    the row of the entity
+	 * @return the double
+	 */
+	public static double nextDouble(long[] states, int row) {
+		return (next(states, row) >>> 11) * DOUBLE_UNIT;
+	}
+
+	/**
+	 * Draws an int between 0 (inclusive) and a bound (exclusive).
+	 *
+	 * @param states the random state column
+	 * @param row    the row of the entity
+	 * @param bound  the bound, positive
+	 * @return the int
+	 */
+	public static int nextInt(long[] states, int row, int bound) {
+		return (int) (((next(states, row) >>> 33) * bound) >>> 31);
+	}
+
+	/**
+	 * Draws a boolean.
+	 *
+	 * @param states the random state column
+	 * @param row    the row of the entity
+	 * @return the boolean
+	 */
+	public static boolean nextBoolean(long[] states, int row) {
+		return next(states, row) < 0;
+	}
+
+	/**
+	 * Advances an entity's state and returns the next 64 random bits.
+	 *
+	 * @param states the random state column
+	 * @param row    the row of the entity
+	 * @return the bits
+	 */
+	private static long next(long[] states, int row) {
+		long z = states[row] + GOLDEN_GAMMA;
+		states[row] = z;
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,141 @@
+package com.example.demo.ecs;
+
+/**
+ * The values stored for entities, each belonging to one {@link Component}.
+ * <p>
+ * Every field is a column of primitives in each {@link Chunk} whose archetype has the field's component, so a
+ * system iterating a query reads the fields it needs as plain arrays. Flags and counters are {@link Type#INT}
+ * columns; positions, speeds and chances are {@link Type#DOUBLE} columns.
+ */
+public enum Field {
+
+	/** The X-coordinate of the sprite's left edge. */
+	X(Component.POSITION, Type.DOUBLE),
+	/** The Y-coordinate of the sprite's top edge. */
+	Y(Component.POSITION, Type.DOUBLE),
+	/** The X-coordinate before the last move, for interpolation. */
+	PREVIOUS_X(Component.POSITION, Type.DOUBLE),
+	/** The Y-coordinate before the last move, for interpolation. */
+	PREVIOUS_Y(Component.POSITION, Type.DOUBLE),
+	/** The horizontal distance moved per tick. */
+	VELOCITY_X(Component.VELOCITY, Type.DOUBLE),
+	/** The vertical distance moved per tick. */
+	VELOCITY_Y(Component.VELOCITY, Type.DOUBLE),
+	/** The smallest Y-coordinate the entity may reach. */
+	MIN_Y(Component.BOUNDS, Type.DOUBLE),
+	/** The largest Y-coordinate the entity may reach. */
+	MAX_Y(Component.BOUNDS, Type.DOUBLE),
+	/** {@link #CLAMP} or {@link #BOUNCE}. */
+	BOUND_MODE(Component.BOUNDS, Type.INT),
+	/** The vertical speed of a piloted entity. */
+	PILOT_SPEED(Component.PILOT, Type.DOUBLE),
+	/** The direction the pilot steers: -1 up, 0 straight on, 1 down. */
+	PILOT_DIRECTION(Component.PILOT, Type.INT),
+	/** The vertical speed of a patrolling entity. */
+	PATROL_SPEED(Component.PATROL, Type.DOUBLE),
+	/** The current patrol move: -1 up, 0 still, 1 down. */
+	PATROL_MOVE(Component.PATROL, Type.INT),
+	/** The number of ticks left before the next patrol move is chosen. */
+	PATROL_TICKS_LEFT(Component.PATROL, Type.INT),
+	/** The number of ticks each patrol move is held. */
+	PATROL_PERIOD(Component.PATROL, Type.INT),
+	/** The hitbox's left edge, relative to the sprite. */
+	HITBOX_X(Component.HITBOX, Type.DOUBLE),
+	/** The hitbox's top edge, relative to the sprite. */
+	HITBOX_Y(Component.HITBOX, Type.DOUBLE),
+	/** The hitbox's width. */
+	HITBOX_WIDTH(Component.HITBOX, Type.DOUBLE),
+	/** The hitbox's height. */
+	HITBOX_HEIGHT(Component.HITBOX, Type.DOUBLE),
+	/** The hits left. */
+	HEALTH(Component.HEALTH, Type.INT),
+	/** The chance per tick that a lowered shield comes up. */
+	SHIELD_PROBABILITY(Component.SHIELD, Type.DOUBLE),
+	/** The number of ticks the shield has been up, or -1 while it is down. */
+	SHIELD_TICKS(Component.SHIELD, Type.INT),
+	/** The number of ticks the shield stays up. */
+	SHIELD_DURATION(Component.SHIELD, Type.INT),
+	/** The glow level while the shield is up. */
+	SHIELD_GLOW(Component.SHIELD, Type.DOUBLE),
+	/** The number of ticks of invincibility left. */
+	INVINCIBLE_TICKS_LEFT(Component.INVINCIBILITY, Type.INT),
+	/** The number of ticks of invincibility after a hit. */
+	INVINCIBLE_DURATION(Component.INVINCIBILITY, Type.INT),
+	/** The glow level while invincible. */
+	INVINCIBLE_GLOW(Component.INVINCIBILITY, Type.DOUBLE),
+	/** Where projectiles appear, relative to the entity's X-coordinate. */
+	MUZZLE_X(Component.GUN, Type.DOUBLE),
+	/** Where projectiles appear, relative to the entity's Y-coordinate. */
+	MUZZLE_Y(Component.GUN, Type.DOUBLE),
+	/** The id of the prefab fired, see {@link World#getPrefab(int)}. */
+	AMMO(Component.GUN, Type.INT),
+	/** The chance per tick of firing. */
+	FIRE_RATE(Component.RANDOM_FIRE, Type.DOUBLE),
+	/** The number of ticks between two shots. */
+	COOLDOWN(Component.TRIGGER, Type.INT),
+	/** The number of ticks before the next shot is allowed. */
+	COOLDOWN_LEFT(Component.TRIGGER, Type.INT),
+	/** 1 if a shot was requested since the last tick. */
+	TRIGGER_PULLED(Component.TRIGGER, Type.INT),
+	/** The state of the entity's SplitMix64 generator. */
+	RANDOM_STATE(Component.RANDOM, Type.LONG),
+	/** The number of ticks the entity has lived. */
+	AGE(Component.LIFETIME, Type.INT),
+	/** The number of ticks after which the entity is despawned, or 0 for no limit. */
+	MAX_AGE(Component.LIFETIME, Type.INT),
+	/** The X-coordinate the intruder entered at. */
+	ORIGIN_X(Component.INTRUDER, Type.DOUBLE),
+	/** The id of the entity's prefab, see {@link World#getPrefab(int)}. */
+	PREFAB(Component.SPRITE, Type.INT),
+	/** The glow level the sprite is drawn with, 0 for none. */
+	GLOW(Component.SPRITE, Type.DOUBLE);
+
+	/** {@link #BOUND_MODE} of an entity whose moves beyond its bounds are rejected. */
+	public static final int CLAMP = 0;
+	/** {@link #BOUND_MODE} of an entity that turns around at its bounds. */
+	public static final int BOUNCE = 1;
+
+	/**
+	 * The primitive type of a field's column.
+	 */
+	public enum Type {
+		/** A {@code double[]} column. */
+		DOUBLE,
+		/** An {@code int[]} column. */
+		INT,
+		/** A {@code long[]} column. */
+		LONG
+	}
+
+	private final Component component;
+	private final Type type;
+
+	/**
+	 * Constructs a field.
+	 *
+	 * @param component the component the field belongs to
+	 * @param type      the type of the field's column
+	 */
+	Field(Component component, Type type) {
+		this.component = component;
+		this.type = type;
+	}
+
+	/**
+	 * Returns the component the field belongs to.
+	 *
+	 * @return the component
+	 */
+	public Component getComponent() {
+		return component;
+	}
+
+	/**
+	 * Returns the primitive type of the field's column.
+	 *
+	 * @return the type
+	 */
+	public Type getType() {
+		return type;
+	}
+}
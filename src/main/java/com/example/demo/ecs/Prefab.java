@@ -0,0 +1,242 @@
+package com.example.demo.ecs;
+
+import java.util.Arrays;
+
+import com.example.demo.actors.HitboxInsets;
+import com.example.demo.assets.CollisionMask;
+import com.example.demo.assets.SpriteCache;
+
+/**
+ * A template entities are spawned from: a sprite, a set of components and the initial value of their fields.
+ * <p>
+ * Prefabs are immutable; {@link #with(Field, double)}, {@link #withComponents(Component...)} and
+ * {@link #withAmmo(Prefab)} return modified copies, so variants of a type are composed from a base prefab.
+ * Every prefab has a {@link Component#POSITION}, {@link Component#HITBOX} and {@link Component#SPRITE}; the hitbox
+ * and the collision mask follow from the sprite's drawn size and insets, as for actors.
+ */
+public final class Prefab {
+
+	private static final Field[] FIELDS = Field.values();
+	private static final long BASE_MASK = Component.mask(Component.POSITION, Component.HITBOX, Component.SPRITE);
+
+	private final String name;
+	private final String imageName;
+	private final double width;
+	private final double height;
+	private final CollisionMask collisionMask;
+	private final long mask;
+	private final double[] defaults;
+	private final Prefab ammo;
+
+	/**
+	 * Constructs a prefab.
+	 *
+	 * @param name          the prefab's name
+	 * @param imageName     the sprite, relative to {@link SpriteCache#IMAGE_LOCATION}
+	 * @param width         the drawn width
+	 * @param height        the drawn height
+	 * @param collisionMask the sprite's collision mask
+	 * @param mask          the components
+	 * @param defaults      the initial value of every field, by ordinal
+	 * @param ammo          the prefab fired, or {@code null}
+	 */
+	private Prefab(String name, String imageName, double width, double height, CollisionMask collisionMask, long mask,
+			double[] defaults, Prefab ammo) {
+		this.name = name;
+		this.imageName = imageName;
+		this.width = width;
+		this.height = height;
+		this.collisionMask = collisionMask;
+		this.mask = mask;
+		this.defaults = defaults;
+		this.ammo = ammo;
+	}
+
+	/**
+	 * Creates a prefab for a sprite drawn at a given height, keeping its aspect ratio.
+	 *
+	 * @param name        the prefab's name
+	 * @param imageName   the sprite, relative to {@link SpriteCache#IMAGE_LOCATION}
+	 * @param imageHeight the drawn height
+	 * @param insets      the shares of the drawn size removed from each edge to get the hitbox
+	 * @param components  the components besides position, hitbox and sprite
+	 * @return the prefab, with every other field 0
+	 * @throws IllegalArgumentException if the sprite does not exist or is not a supported PNG image
+	 */
+	public static Prefab of(String name, String imageName, double imageHeight, HitboxInsets insets,
+			Component... components) {
+		String resourcePath = SpriteCache.IMAGE_LOCATION + imageName;
+		double width = imageHeight * SpriteCache.getAspectRatio(resourcePath);
+		double hitboxX = width * insets.getLeft();
+		double hitboxY = imageHeight * insets.getTop();
+		double hitboxWidth = width * (1 - insets.getLeft() - insets.getRight());
+		double hitboxHeight = imageHeight * (1 - insets.getTop() - insets.getBottom());
+		CollisionMask collisionMask = CollisionMask.forSprite(resourcePath, width, imageHeight, hitboxX, hitboxY,
+				hitboxWidth, hitboxHeight);
+		double[] defaults = new double[FIELDS.length];
+		defaults[Field.HITBOX_X.ordinal()] = hitboxX;
+		defaults[Field.HITBOX_Y.ordinal()] = hitboxY;
+		defaults[Field.HITBOX_WIDTH.ordinal()] = hitboxWidth;
+		defaults[Field.HITBOX_HEIGHT.ordinal()] = hitboxHeight;
+		return new Prefab(name, imageName, width, imageHeight, collisionMask,
+				BASE_MASK | Component.mask(components), defaults, null);
+	}
+
+	/**
+	 * Returns a copy with a field's initial value changed.
+	 *
+	 * @param field the field
+	 * @param value the initial value; ints and longs are truncated
+	 * @return the copy
+	 * @throws IllegalArgumentException if the prefab does not have the field's component
+	 */
+	public Prefab with(Field field, double value) {
+		checkHas(field.getComponent());
+		double[] copy = Arrays.copyOf(defaults, defaults.length);
+		copy[field.ordinal()] = value;
+		return new Prefab(name, imageName, width, height, collisionMask, mask, copy, ammo);
+	}
+
+	/**
+	 * Returns a copy with more components, whose fields start at 0.
+	 *
+	 * @param components the components to add
+	 * @return the copy
+	 */
+	public Prefab withComponents(Component... components) {
+		return new Prefab(name, imageName, width, height, collisionMask, mask | Component.mask(components), defaults,
+				ammo);
+	}
+
+	/**
+	 * Returns a copy firing another prefab.
+	 *
+	 * @param projectile the prefab fired
+	 * @return the copy
+	 * @throws IllegalArgumentException if the prefab does not have a {@link Component#GUN}
+	 */
+	public Prefab withAmmo(Prefab projectile) {
+		checkHas(Component.GUN);
+		return new Prefab(name, imageName, width, height, collisionMask, mask, defaults, projectile);
+	}
+
+	/**
+	 * Returns the prefab's name.
+	 *
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the sprite.
+	 *
+	 * @return the image name, relative to {@link SpriteCache#IMAGE_LOCATION}
+	 */
+	public String getImageName() {
+		return imageName;
+	}
+
+	/**
+	 * Returns the drawn width.
+	 *
+	 * @return the width in px
+	 */
+	public double getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the drawn height.
+	 *
+	 * @return the height in px
+	 */
+	public double getHeight() {
+		return height;
+	}
+
+	/**
+	 * Returns the collision mask of the sprite clipped to the hitbox.
+	 *
+	 * @return the shared mask
+	 */
+	public CollisionMask getCollisionMask() {
+		return collisionMask;
+	}
+
+	/**
+	 * Returns the components of entities spawned from the prefab.
+	 *
+	 * @return the component mask
+	 */
+	public long getMask() {
+		return mask;
+	}
+
+	/**
+	 * Returns the initial value of a field.
+	 *
+	 * @param field the field
+	 * @return the value
+	 */
+	public double getDefault(Field field) {
+		return defaults[field.ordinal()];
+	}
+
+	/**
+	 * Returns the prefab fired.
+	 *
+	 * @return the projectile prefab, or {@code null} if none was set
+	 */
+	public Prefab getAmmo() {
+		return ammo;
+	}
+
+	/**
+	 * Writes the initial value of every field into a freshly added row.
+	 *
+	 * @param chunk the chunk
+	 * @param row   the row in the chunk
+	 */
+	void initialize(Chunk chunk, int row) {
+		for (Field field : FIELDS) {
+			if ((mask & field.getComponent().bit()) == 0) {
+				continue;
+			}
+			double value = defaults[field.ordinal()];
+			switch (field.getType()) {
+				case DOUBLE:
+					chunk.doubles(field)[row] = value;
+					break;
+				case INT:
+					chunk.ints(field)[row] = (int) value;
+					break;
+				default:
+					chunk.longs(field)[row] = (long) value;
+			}
+		}
+	}
+
+	/**
+	 * Checks that the prefab has a component.
+	 *
+	 * @param component the component
+	 * @throws IllegalArgumentException if it does not
+	 */
+	private void checkHas(Component component) {
+		if ((mask & component.bit()) == 0) {
+			throw new IllegalArgumentException("Prefab " + name + " has no " + component + " component");
+		}
+	}
+
+	/**
+	 * Returns the prefab's name.
+	 *
+	 * @return the name
+	 */
+	@Override
+	public String toString() {
+		return name;
+	}
+}
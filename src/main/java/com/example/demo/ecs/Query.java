@@ -0,0 +1,87 @@
+package com.example.demo.ecs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The archetypes whose entities have all of a set of components.
+ * <p>
+ * Queries are created and cached by their {@link World}, which adds every archetype created later that matches,
+ * so running a query never searches the archetypes. Systems iterate the matching archetypes and their chunks:
+ * <pre>
+ * for (int a = 0; a &lt; query.getArchetypeCount(); a++) {
+ *     Archetype archetype = query.getArchetype(a);
+ *     for (int c = 0; c &lt; archetype.getChunkCount(); c++) {
+ *         Chunk chunk = archetype.getChunk(c);
+ *         ...
+ *     }
+ * }
+ * </pre>
+ */
+public final class Query {
+
+	private final long mask;
+	private final List<Archetype> archetypes;
+
+	/**
+	 * Constructs a query without archetypes.
+	 *
+	 * @param mask the components required
+	 */
+	Query(long mask) {
+		this.mask = mask;
+		this.archetypes = new ArrayList<>();
+	}
+
+	/**
+	 * Returns the components the query requires.
+	 *
+	 * @return the component mask
+	 */
+	public long getMask() {
+		return mask;
+	}
+
+	/**
+	 * Returns the number of matching archetypes.
+	 *
+	 * @return the number of archetypes
+	 */
+	public int getArchetypeCount() {
+		return archetypes.size();
+	}
+
+	/**
+	 * Returns a matching archetype.
+	 *
+	 * @param index the index of the archetype
+	 * @return the archetype
+	 */
+	public Archetype getArchetype(int index) {
+		return archetypes.get(index);
+	}
+
+	/**
+	 * Counts the entities matching the query.
+	 *
+	 * @return the number of entities
+	 */
+	public int count() {
+		int count = 0;
+		for (int i = 0; i < archetypes.size(); i++) {
+			count += archetypes.get(i).size();
+		}
+		return count;
+	}
+
+	/**
+	 * Adds an archetype if it matches.
+	 *
+	 * @param archetype the new archetype
+	 */
+	void offer(Archetype archetype) {
+		if ((archetype.getMask() & mask) == mask) {
+			archetypes.add(archetype);
+		}
+	}
+}
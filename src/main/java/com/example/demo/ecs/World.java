@@ -0,0 +1,405 @@
+package com.example.demo.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * The entities of an entity-component-system simulation and the archetypes storing them.
+ * <p>
+ * An entity is a generational handle (see {@link EntityHandle}) to a slot recording which archetype and row hold
+ * its fields. Spawning, despawning and adding or removing components happen immediately and may move other
+ * entities between rows, so they must not be called while a system iterates a {@link Query}; systems use the
+ * {@link #commands() command buffer} instead, which {@link #flush()} applies. Every entity spawned with a
+ * {@link Component#RANDOM} component is seeded from the world's seed, in spawn order, so a world replays exactly.
+ * Only used from the thread running the simulation.
+ */
+public final class World {
+
+	private static final int INITIAL_SLOTS = 256;
+	private static final int NO_ARCHETYPE = -1;
+
+	private final List<Archetype> archetypes;
+	private final Map<Long, Archetype> archetypesByMask;
+	private final Map<Long, Query> queries;
+	private final List<Prefab> prefabs;
+	private final Map<Prefab, Integer> prefabIds;
+	private final CommandBuffer commands;
+	private final SplittableRandom random;
+	private int[] generations;
+	private int[] archetypeIds;
+	private int[] rows;
+	private int slotCount;
+	private int[] freeSlots;
+	private int freeSlotCount;
+	private int entityCount;
+
+	/**
+	 * Constructs an empty world.
+	 *
+	 * @param seed the seed of the entities' random generators
+	 */
+	public World(long seed) {
+		this.archetypes = new ArrayList<>();
+		this.archetypesByMask = new HashMap<>();
+		this.queries = new HashMap<>();
+		this.prefabs = new ArrayList<>();
+		this.prefabIds = new IdentityHashMap<>();
+		this.commands = new CommandBuffer();
+		this.random = new SplittableRandom(seed);
+		this.generations = new int[INITIAL_SLOTS];
+		this.archetypeIds = new int[INITIAL_SLOTS];
+		this.rows = new int[INITIAL_SLOTS];
+		this.freeSlots = new int[INITIAL_SLOTS];
+	}
+
+	/**
+	 * Spawns an entity from a prefab.
+	 *
+	 * @param prefab the prefab
+	 * @param x      the X-coordinate of the entity's sprite
+	 * @param y      the Y-coordinate of the entity's sprite
+	 * @return the entity's handle
+	 */
+	public long spawn(Prefab prefab, double x, double y) {
+		int prefabId = register(prefab);
+		int slot = allocateSlot();
+		long entity = EntityHandle.of(slot, generations[slot]);
+		Archetype archetype = archetypeFor(prefab.getMask());
+		int row = archetype.add(entity);
+		archetypeIds[slot] = archetype.getId();
+		rows[slot] = row;
+		entityCount++;
+
+		Chunk chunk = archetype.chunkOf(row);
+		int chunkRow = Archetype.rowInChunk(row);
+		prefab.initialize(chunk, chunkRow);
+		chunk.doubles(Field.X)[chunkRow] = x;
+		chunk.doubles(Field.Y)[chunkRow] = y;
+		chunk.doubles(Field.PREVIOUS_X)[chunkRow] = x;
+		chunk.doubles(Field.PREVIOUS_Y)[chunkRow] = y;
+		chunk.ints(Field.PREFAB)[chunkRow] = prefabId;
+		if (chunk.has(Component.INTRUDER)) {
+			chunk.doubles(Field.ORIGIN_X)[chunkRow] = x;
+		}
+		if (chunk.has(Component.GUN) && prefab.getAmmo() != null) {
+			chunk.ints(Field.AMMO)[chunkRow] = register(prefab.getAmmo());
+		}
+		if (chunk.has(Component.RANDOM)) {
+			chunk.longs(Field.RANDOM_STATE)[chunkRow] = random.nextLong();
+		}
+		return entity;
+	}
+
+	/**
+	 * Despawns an entity. The last entity of its archetype takes its row, and its handle becomes dead.
+	 *
+	 * @param entity the entity's handle
+	 * @throws IllegalArgumentException if the entity is not alive
+	 */
+	public void despawn(long entity) {
+		int slot = checkAlive(entity);
+		removeRow(archetypes.get(archetypeIds[slot]), rows[slot]);
+		generations[slot]++;
+		archetypeIds[slot] = NO_ARCHETYPE;
+		if (freeSlotCount == freeSlots.length) {
+			freeSlots = Arrays.copyOf(freeSlots, freeSlotCount * 2);
+		}
+		freeSlots[freeSlotCount++] = slot;
+		entityCount--;
+	}
+
+	/**
+	 * Checks whether a handle refers to a living entity.
+	 *
+	 * @param entity the handle
+	 * @return {@code true} if the entity has been spawned and not despawned
+	 */
+	public boolean isAlive(long entity) {
+		int slot = EntityHandle.index(entity);
+		return slot >= 0 && slot < slotCount && generations[slot] == EntityHandle.generation(entity)
+				&& archetypeIds[slot] != NO_ARCHETYPE;
+	}
+
+	/**
+	 * Checks whether an entity has a component.
+	 *
+	 * @param entity    the entity's handle
+	 * @param component the component
+	 * @return {@code true} if it has the component
+	 * @throws IllegalArgumentException if the entity is not alive
+	 */
+	public boolean has(long entity, Component component) {
+		return archetypes.get(archetypeIds[checkAlive(entity)]).has(component);
+	}
+
+	/**
+	 * Adds components to an entity, moving it to the matching archetype. The new fields start at 0.
+	 *
+	 * @param entity     the entity's handle
+	 * @param components the components to add
+	 * @throws IllegalArgumentException if the entity is not alive
+	 */
+	public void addComponents(long entity, Component... components) {
+		int slot = checkAlive(entity);
+		long mask = archetypes.get(archetypeIds[slot]).getMask();
+		changeArchetype(slot, mask | Component.mask(components));
+	}
+
+	/**
+	 * Removes components from an entity, moving it to the matching archetype.
+	 *
+	 * @param entity     the entity's handle
+	 * @param components the components to remove
+	 * @throws IllegalArgumentException if the entity is not alive, or if a position, hitbox or sprite would be
+	 *                                  removed
+	 */
+	public void removeComponents(long entity, Component... components) {
+		int slot = checkAlive(entity);
+		long removed = Component.mask(components);
+		if ((removed & Component.mask(Component.POSITION, Component.HITBOX, Component.SPRITE)) != 0) {
+			throw new IllegalArgumentException("Every entity needs a position, hitbox and sprite");
+		}
+		long mask = archetypes.get(archetypeIds[slot]).getMask();
+		changeArchetype(slot, mask & ~removed);
+	}
+
+	/**
+	 * Reads a double field of an entity. Systems read whole columns instead; this is for single entities.
+	 *
+	 * @param entity the entity's handle
+	 * @param field  the field
+	 * @return the value
+	 * @throws IllegalArgumentException if the entity is not alive or does not have the field
+	 */
+	public double getDouble(long entity, Field field) {
+		int slot = checkAlive(entity);
+		return column(slot, field).doubles(field)[Archetype.rowInChunk(rows[slot])];
+	}
+
+	/**
+	 * Writes a double field of an entity.
+	 *
+	 * @param entity the entity's handle
+	 * @param field  the field
+	 * @param value  the value
+	 * @throws IllegalArgumentException if the entity is not alive or does not have the field
+	 */
+	public void setDouble(long entity, Field field, double value) {
+		int slot = checkAlive(entity);
+		column(slot, field).doubles(field)[Archetype.rowInChunk(rows[slot])] = value;
+	}
+
+	/**
+	 * Reads an int field of an entity.
+	 *
+	 * @param entity the entity's handle
+	 * @param field  the field
+	 * @return the value
+	 * @throws IllegalArgumentException if the entity is not alive or does not have the field
+	 */
+	public int getInt(long entity, Field field) {
+		int slot = checkAlive(entity);
+		return column(slot, field).ints(field)[Archetype.rowInChunk(rows[slot])];
+	}
+
+	/**
+	 * Writes an int field of an entity.
+	 *
+	 * @param entity the entity's handle
+	 * @param field  the field
+	 * @param value  the value
+	 * @throws IllegalArgumentException if the entity is not alive or does not have the field
+	 */
+	public void setInt(long entity, Field field, int value) {
+		int slot = checkAlive(entity);
+		column(slot, field).ints(field)[Archetype.rowInChunk(rows[slot])] = value;
+	}
+
+	/**
+	 * Returns the query for entities having all of the given components, creating it on first use.
+	 *
+	 * @param components the components required
+	 * @return the cached query
+	 */
+	public Query query(Component... components) {
+		long mask = Component.mask(components);
+		Query query = queries.get(mask);
+		if (query == null) {
+			query = new Query(mask);
+			for (Archetype archetype : archetypes) {
+				query.offer(archetype);
+			}
+			queries.put(mask, query);
+		}
+		return query;
+	}
+
+	/**
+	 * Returns the buffer systems queue spawns and despawns in.
+	 *
+	 * @return the command buffer
+	 */
+	public CommandBuffer commands() {
+		return commands;
+	}
+
+	/**
+	 * Applies the spawns and despawns queued in the command buffer.
+	 */
+	public void flush() {
+		if (!commands.isEmpty()) {
+			commands.apply(this);
+		}
+	}
+
+	/**
+	 * Returns a prefab by the id stored in {@link Field#PREFAB} and {@link Field#AMMO}.
+	 *
+	 * @param id the prefab's id
+	 * @return the prefab
+	 */
+	public Prefab getPrefab(int id) {
+		return prefabs.get(id);
+	}
+
+	/**
+	 * Returns the number of living entities.
+	 *
+	 * @return the number of entities
+	 */
+	public int size() {
+		return entityCount;
+	}
+
+	/**
+	 * Returns the number of archetypes created so far.
+	 *
+	 * @return the number of archetypes
+	 */
+	public int getArchetypeCount() {
+		return archetypes.size();
+	}
+
+	/**
+	 * Returns the id of a prefab, registering it on first use.
+	 *
+	 * @param prefab the prefab
+	 * @return the prefab's id
+	 */
+	private int register(Prefab prefab) {
+		Integer id = prefabIds.get(prefab);
+		if (id == null) {
+			id = prefabs.size();
+			prefabs.add(prefab);
+			prefabIds.put(prefab, id);
+		}
+		return id;
+	}
+
+	/**
+	 * Takes a free slot, or a new one.
+	 *
+	 * @return the slot index
+	 */
+	private int allocateSlot() {
+		if (freeSlotCount > 0) {
+			return freeSlots[--freeSlotCount];
+		}
+		if (slotCount == generations.length) {
+			int capacity = slotCount * 2;
+			generations = Arrays.copyOf(generations, capacity);
+			archetypeIds = Arrays.copyOf(archetypeIds, capacity);
+			rows = Arrays.copyOf(rows, capacity);
+		}
+		generations[slotCount] = 1;
+		return slotCount++;
+	}
+
+	/**
+	 * Returns the archetype for a component mask, creating it and offering it to the queries on first use.
+	 *
+	 * @param mask the component mask
+	 * @return the archetype
+	 */
+	private Archetype archetypeFor(long mask) {
+		Archetype archetype = archetypesByMask.get(mask);
+		if (archetype == null) {
+			archetype = new Archetype(archetypes.size(), mask);
+			archetypes.add(archetype);
+			archetypesByMask.put(mask, archetype);
+			for (Query query : queries.values()) {
+				query.offer(archetype);
+			}
+		}
+		return archetype;
+	}
+
+	/**
+	 * Moves an entity to the archetype of another component mask, keeping the fields both have.
+	 *
+	 * @param slot the entity's slot
+	 * @param mask the new component mask
+	 */
+	private void changeArchetype(int slot, long mask) {
+		Archetype from = archetypes.get(archetypeIds[slot]);
+		if (from.getMask() == mask) {
+			return;
+		}
+		Archetype to = archetypeFor(mask);
+		int fromRow = rows[slot];
+		Chunk fromChunk = from.chunkOf(fromRow);
+		int toRow = to.add(fromChunk.getEntity(Archetype.rowInChunk(fromRow)));
+		fromChunk.copyRow(Archetype.rowInChunk(fromRow), to.chunkOf(toRow), Archetype.rowInChunk(toRow));
+		removeRow(from, fromRow);
+		archetypeIds[slot] = to.getId();
+		rows[slot] = toRow;
+	}
+
+	/**
+	 * Removes a row from an archetype and updates the slot of the entity moved into it.
+	 *
+	 * @param archetype the archetype
+	 * @param row       the row
+	 */
+	private void removeRow(Archetype archetype, int row) {
+		long moved = archetype.remove(row);
+		if (moved != EntityHandle.NONE) {
+			rows[EntityHandle.index(moved)] = row;
+		}
+	}
+
+	/**
+	 * Returns the chunk holding an entity, checking that it has a field.
+	 *
+	 * @param slot  the entity's slot
+	 * @param field the field
+	 * @return the chunk
+	 * @throws IllegalArgumentException if the entity does not have the field
+	 */
+	private Chunk column(int slot, Field field) {
+		Archetype archetype = archetypes.get(archetypeIds[slot]);
+		if (!archetype.has(field.getComponent())) {
+			throw new IllegalArgumentException("Entity has no " + field.getComponent() + " component");
+		}
+		return archetype.chunkOf(rows[slot]);
+	}
+
+	/**
+	 * Checks that a handle refers to a living entity.
+	 *
+	 * @param entity the handle
+	 * @return the entity's slot
+	 * @throws IllegalArgumentException if it does not
+	 */
+	private int checkAlive(long entity) {
+		if (!isAlive(entity)) {
+			throw new IllegalArgumentException("Entity " + EntityHandle.toString(entity) + " is not alive");
+		}
+		return EntityHandle.index(entity);
+	}
+}
@@ -0,0 +1,205 @@
+package com.example.demo.ecs.systems;
+
+import java.util.Arrays;
+
+import com.example.demo.assets.CollisionMask;
+import com.example.demo.collision.CandidateBuffer;
+import com.example.demo.collision.SpatialHashGrid;
+import com.example.demo.ecs.Archetype;
+import com.example.demo.ecs.Chunk;
+import com.example.demo.ecs.CommandBuffer;
+import com.example.demo.ecs.Component;
+import com.example.demo.ecs.Field;
+import com.example.demo.ecs.Query;
+import com.example.demo.ecs.World;
+
+/**
+ * Damages entities of opposing factions that touch.
+ * <p>
+ * The passes match the level's: player shots against enemies, enemy shots against the player, then the player
+ * against enemies. Like {@code LevelParent.handleCollisions}, the first group of a pass is put in a
+ * {@link SpatialHashGrid} and every entity of the second group is tested against its neighbours, first by hitbox
+ * and then by collision mask, and both entities of a touching pair take a hit. A raised shield or invincibility
+ * blocks the hit, and a hit starts the entity's invincibility. Entities whose health reaches 0 are despawned through
+ * the command buffer, so they still collide for the rest of the tick, as destroyed actors do.
+ */
+public final class CollisionSystem implements GameSystem {
+
+	private static final double CELL_SIZE = 100;
+	private static final int INITIAL_CAPACITY = 256;
+
+	private final World world;
+	private final SpatialHashGrid grid;
+	private final CandidateBuffer candidates;
+	private final Query players;
+	private final Query enemies;
+	private final Query playerShots;
+	private final Query enemyShots;
+	private Chunk[] insertedChunks;
+	private int[] insertedRows;
+	private int insertedCount;
+	private long kills;
+
+	/**
+	 * Constructs the system.
+	 *
+	 * @param world        the world whose entities collide
+	 * @param screenWidth  the width of the screen the grid covers
+	 * @param screenHeight the height of the screen the grid covers
+	 */
+	public CollisionSystem(World world, double screenWidth, double screenHeight) {
+		this.world = world;
+		this.grid = new SpatialHashGrid(screenWidth, screenHeight, CELL_SIZE);
+		this.candidates = new CandidateBuffer();
+		this.players = world.query(Component.POSITION, Component.HITBOX, Component.HEALTH, Component.PLAYER);
+		this.enemies = world.query(Component.POSITION, Component.HITBOX, Component.HEALTH, Component.ENEMY);
+		this.playerShots = world.query(Component.POSITION, Component.HITBOX, Component.HEALTH,
+				Component.PLAYER_SHOT);
+		this.enemyShots = world.query(Component.POSITION, Component.HITBOX, Component.HEALTH, Component.ENEMY_SHOT);
+		this.insertedChunks = new Chunk[INITIAL_CAPACITY];
+		this.insertedRows = new int[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Runs the three collision passes.
+	 */
+	@Override
+	public void update() {
+		collide(playerShots, enemies);
+		collide(enemyShots, players);
+		collide(players, enemies);
+	}
+
+	/**
+	 * Returns the number of enemies destroyed by collisions so far.
+	 *
+	 * @return the kill count
+	 */
+	public long getKills() {
+		return kills;
+	}
+
+	/**
+	 * Tests every entity of one group against the entities of another.
+	 *
+	 * @param inserted the group put in the grid
+	 * @param queried  the group whose entities query the grid
+	 */
+	private void collide(Query inserted, Query queried) {
+		grid.clear();
+		insertedCount = 0;
+		for (int a = 0; a < inserted.getArchetypeCount(); a++) {
+			Archetype archetype = inserted.getArchetype(a);
+			for (int c = 0; c < archetype.getChunkCount(); c++) {
+				insert(archetype.getChunk(c));
+			}
+		}
+		if (insertedCount == 0) {
+			return;
+		}
+		for (int a = 0; a < queried.getArchetypeCount(); a++) {
+			Archetype archetype = queried.getArchetype(a);
+			for (int c = 0; c < archetype.getChunkCount(); c++) {
+				query(archetype.getChunk(c));
+			}
+		}
+	}
+
+	/**
+	 * Puts the hitboxes of a chunk in the grid, remembering where each id comes from.
+	 *
+	 * @param chunk the chunk
+	 */
+	private void insert(Chunk chunk) {
+		double[] x = chunk.doubles(Field.X);
+		double[] y = chunk.doubles(Field.Y);
+		double[] hitboxX = chunk.doubles(Field.HITBOX_X);
+		double[] hitboxY = chunk.doubles(Field.HITBOX_Y);
+		double[] hitboxWidth = chunk.doubles(Field.HITBOX_WIDTH);
+		double[] hitboxHeight = chunk.doubles(Field.HITBOX_HEIGHT);
+		int n = chunk.size();
+		if (insertedCount + n > insertedRows.length) {
+			int capacity = Math.max(insertedRows.length * 2, insertedCount + n);
+			insertedChunks = Arrays.copyOf(insertedChunks, capacity);
+			insertedRows = Arrays.copyOf(insertedRows, capacity);
+		}
+		for (int i = 0; i < n; i++) {
+			double minX = x[i] + hitboxX[i];
+			double minY = y[i] + hitboxY[i];
+			grid.insert(insertedCount, minX, minY, minX + hitboxWidth[i], minY + hitboxHeight[i]);
+			insertedChunks[insertedCount] = chunk;
+			insertedRows[insertedCount] = i;
+			insertedCount++;
+		}
+	}
+
+	/**
+	 * Tests the entities of a chunk against their neighbours in the grid and damages touching pairs.
+	 *
+	 * @param chunk the chunk
+	 */
+	private void query(Chunk chunk) {
+		double[] x = chunk.doubles(Field.X);
+		double[] y = chunk.doubles(Field.Y);
+		double[] hitboxX = chunk.doubles(Field.HITBOX_X);
+		double[] hitboxY = chunk.doubles(Field.HITBOX_Y);
+		double[] hitboxWidth = chunk.doubles(Field.HITBOX_WIDTH);
+		double[] hitboxHeight = chunk.doubles(Field.HITBOX_HEIGHT);
+		int[] prefabs = chunk.ints(Field.PREFAB);
+		for (int i = 0, n = chunk.size(); i < n; i++) {
+			double minX = x[i] + hitboxX[i];
+			double minY = y[i] + hitboxY[i];
+			double maxX = minX + hitboxWidth[i];
+			double maxY = minY + hitboxHeight[i];
+			grid.query(minX, minY, maxX, maxY, candidates);
+			for (int k = 0; k < candidates.size(); k++) {
+				int id = candidates.get(k);
+				Chunk other = insertedChunks[id];
+				int row = insertedRows[id];
+				double otherX = other.doubles(Field.X)[row];
+				double otherY = other.doubles(Field.Y)[row];
+				double otherMinX = otherX + other.doubles(Field.HITBOX_X)[row];
+				double otherMinY = otherY + other.doubles(Field.HITBOX_Y)[row];
+				if (otherMinX + other.doubles(Field.HITBOX_WIDTH)[row] < minX
+						|| otherMinY + other.doubles(Field.HITBOX_HEIGHT)[row] < minY
+						|| otherMinX > maxX || otherMinY > maxY) {
+					continue;
+				}
+				CollisionMask mask = world.getPrefab(prefabs[i]).getCollisionMask();
+				CollisionMask otherMask = world.getPrefab(other.ints(Field.PREFAB)[row]).getCollisionMask();
+				if (mask.overlaps(otherMask, (int) Math.round(otherX - x[i]), (int) Math.round(otherY - y[i]))) {
+					damage(chunk, i);
+					damage(other, row);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Deals a hit to an entity unless its shield or invincibility blocks it, and despawns it when it runs out of
+	 * health.
+	 *
+	 * @param chunk the entity's chunk
+	 * @param row   the entity's row
+	 */
+	private void damage(Chunk chunk, int row) {
+		if (chunk.has(Component.SHIELD) && chunk.ints(Field.SHIELD_TICKS)[row] >= 0) {
+			return;
+		}
+		if (chunk.has(Component.INVINCIBILITY)) {
+			int[] ticksLeft = chunk.ints(Field.INVINCIBLE_TICKS_LEFT);
+			if (ticksLeft[row] > 0) {
+				return;
+			}
+			ticksLeft[row] = chunk.ints(Field.INVINCIBLE_DURATION)[row];
+			chunk.doubles(Field.GLOW)[row] = chunk.doubles(Field.INVINCIBLE_GLOW)[row];
+		}
+		if (--chunk.ints(Field.HEALTH)[row] == 0) {
+			CommandBuffer commands = world.commands();
+			commands.despawn(chunk.getEntity(row));
+			if (chunk.has(Component.ENEMY)) {
+				kills++;
+			}
+		}
+	}
+}
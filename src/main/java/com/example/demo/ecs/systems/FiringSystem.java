@@ -0,0 +1,106 @@
+package com.example.demo.ecs.systems;
+
+import com.example.demo.ecs.Archetype;
+import com.example.demo.ecs.Chunk;
+import com.example.demo.ecs.CommandBuffer;
+import com.example.demo.ecs.Component;
+import com.example.demo.ecs.EntityRandom;
+import com.example.demo.ecs.Field;
+import com.example.demo.ecs.Query;
+import com.example.demo.ecs.World;
+
+/**
+ * Fires projectiles from entities with a gun.
+ * <p>
+ * Entities firing at random roll their fire rate every tick; triggered ones fire when their trigger was pulled
+ * and their cooldown has run out. Projectiles are queued in the command buffer at the muzzle position, so they
+ * appear once the world is flushed.
+ */
+public final class FiringSystem implements GameSystem {
+
+	private final World world;
+	private final Query randomGuns;
+	private final Query triggeredGuns;
+
+	/**
+	 * Constructs the system.
+	 *
+	 * @param world the world whose entities fire
+	 */
+	public FiringSystem(World world) {
+		this.world = world;
+		this.randomGuns = world.query(Component.POSITION, Component.GUN, Component.RANDOM_FIRE, Component.RANDOM);
+		this.triggeredGuns = world.query(Component.POSITION, Component.GUN, Component.TRIGGER);
+	}
+
+	/**
+	 * Fires every gun that fires this tick.
+	 */
+	@Override
+	public void update() {
+		CommandBuffer commands = world.commands();
+		for (int a = 0; a < randomGuns.getArchetypeCount(); a++) {
+			Archetype archetype = randomGuns.getArchetype(a);
+			for (int c = 0; c < archetype.getChunkCount(); c++) {
+				fireAtRandom(archetype.getChunk(c), commands);
+			}
+		}
+		for (int a = 0; a < triggeredGuns.getArchetypeCount(); a++) {
+			Archetype archetype = triggeredGuns.getArchetype(a);
+			for (int c = 0; c < archetype.getChunkCount(); c++) {
+				fireTriggered(archetype.getChunk(c), commands);
+			}
+		}
+	}
+
+	/**
+	 * Fires the guns of a chunk that win their roll.
+	 *
+	 * @param chunk    the chunk
+	 * @param commands the buffer to queue projectiles in
+	 */
+	private void fireAtRandom(Chunk chunk, CommandBuffer commands) {
+		double[] fireRate = chunk.doubles(Field.FIRE_RATE);
+		long[] random = chunk.longs(Field.RANDOM_STATE);
+		for (int i = 0, n = chunk.size(); i < n; i++) {
+			if (EntityRandom.nextDouble(random, i) < fireRate[i]) {
+				fire(chunk, i, commands);
+			}
+		}
+	}
+
+	/**
+	 * Counts down the cooldowns of a chunk and fires the guns whose trigger is pulled and cooldown is over.
+	 *
+	 * @param chunk    the chunk
+	 * @param commands the buffer to queue projectiles in
+	 */
+	private void fireTriggered(Chunk chunk, CommandBuffer commands) {
+		int[] cooldown = chunk.ints(Field.COOLDOWN);
+		int[] cooldownLeft = chunk.ints(Field.COOLDOWN_LEFT);
+		int[] pulled = chunk.ints(Field.TRIGGER_PULLED);
+		for (int i = 0, n = chunk.size(); i < n; i++) {
+			if (cooldownLeft[i] > 0) {
+				cooldownLeft[i]--;
+			}
+			if (pulled[i] != 0 && cooldownLeft[i] == 0) {
+				fire(chunk, i, commands);
+				cooldownLeft[i] = cooldown[i];
+			}
+			pulled[i] = 0;
+		}
+	}
+
+	/**
+	 * Queues a projectile at an entity's muzzle.
+	 *
+	 * @param chunk    the chunk of the entity
+	 * @param row      the row of the entity
+	 * @param commands the buffer to queue the projectile in
+	 */
+	private void fire(Chunk chunk, int row, CommandBuffer commands) {
+		commands.spawn(world.getPrefab(chunk.ints(Field.AMMO)[row]),
+				chunk.doubles(Field.X)[row] + chunk.doubles(Field.MUZZLE_X)[row],
+				chunk.doubles(Field.Y)[row] + chunk.doubles(Field.MUZZLE_Y)[row]);
+	}
+}
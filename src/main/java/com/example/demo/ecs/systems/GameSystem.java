@@ -0,0 +1,15 @@
+package com.example.demo.ecs.systems;
+
+/**
+ * One step of an entity-component-system tick, run over the entities matching its queries.
+ * <p>
+ * A system builds its queries when it is constructed and reads and writes component columns directly. It must
+ * not spawn or despawn entities while iterating; it queues them in the world's command buffer instead.
+ */
+public interface GameSystem {
+
+	/**
+	 * Runs the system once.
+	 */
+	void update();
+}
@@ -0,0 +1,168 @@
+package com.example.demo.ecs.systems;
+
+import com.example.demo.ecs.Archetype;
+import com.example.demo.ecs.Chunk;
+import com.example.demo.ecs.CommandBuffer;
+import com.example.demo.ecs.Component;
+import com.example.demo.ecs.Field;
+import com.example.demo.ecs.Prefab;
+import com.example.demo.ecs.Query;
+import com.example.demo.ecs.World;
+
+/**
+ * Retires entities that have left the screen or lived too long, and intruders that got past the player.
+ * <p>
+ * Entities with a lifetime age by a tick every update and are despawned once they are entirely outside the screen
+ * and its margin, or older than their maximum age, like {@code WorldBounds} retires projectiles. An intruder that
+ * has crossed more than the screen's width deals the player a hit that ignores invincibility, and is despawned
+ * without counting as a kill.
+ */
+public final class LifetimeSystem implements GameSystem {
+
+	private final World world;
+	private final double screenWidth;
+	private final double minX;
+	private final double minY;
+	private final double maxX;
+	private final double maxY;
+	private final Query mortals;
+	private final Query intruders;
+	private final Query players;
+	private long outOfBounds;
+	private long expired;
+	private long intrusions;
+
+	/**
+	 * Constructs the system.
+	 *
+	 * @param world        the world whose entities are retired
+	 * @param screenWidth  the width of the screen
+	 * @param screenHeight the height of the screen
+	 * @param margin       how far beyond each edge of the screen an entity may still be
+	 * @throws IllegalArgumentException if the margin is negative
+	 */
+	public LifetimeSystem(World world, double screenWidth, double screenHeight, double margin) {
+		if (margin < 0) {
+			throw new IllegalArgumentException("Despawn margin must not be negative: " + margin);
+		}
+		this.world = world;
+		this.screenWidth = screenWidth;
+		this.minX = -margin;
+		this.minY = -margin;
+		this.maxX = screenWidth + margin;
+		this.maxY = screenHeight + margin;
+		this.mortals = world.query(Component.POSITION, Component.LIFETIME, Component.SPRITE);
+		this.intruders = world.query(Component.POSITION, Component.INTRUDER);
+		this.players = world.query(Component.HEALTH, Component.PLAYER);
+	}
+
+	/**
+	 * Ages and retires entities, and handles intruders.
+	 */
+	@Override
+	public void update() {
+		CommandBuffer commands = world.commands();
+		for (int a = 0; a < mortals.getArchetypeCount(); a++) {
+			Archetype archetype = mortals.getArchetype(a);
+			for (int c = 0; c < archetype.getChunkCount(); c++) {
+				retire(archetype.getChunk(c), commands);
+			}
+		}
+		for (int a = 0; a < intruders.getArchetypeCount(); a++) {
+			Archetype archetype = intruders.getArchetype(a);
+			for (int c = 0; c < archetype.getChunkCount(); c++) {
+				handleIntruders(archetype.getChunk(c), commands);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of entities retired for leaving the screen.
+	 *
+	 * @return the count
+	 */
+	public long getOutOfBoundsCount() {
+		return outOfBounds;
+	}
+
+	/**
+	 * Returns the number of entities retired for their age.
+	 *
+	 * @return the count
+	 */
+	public long getExpiredCount() {
+		return expired;
+	}
+
+	/**
+	 * Returns the number of intruders that got past the player.
+	 *
+	 * @return the count
+	 */
+	public long getIntrusionCount() {
+		return intrusions;
+	}
+
+	/**
+	 * Ages the entities of a chunk and despawns those out of bounds or too old.
+	 *
+	 * @param chunk    the chunk
+	 * @param commands the buffer to queue despawns in
+	 */
+	private void retire(Chunk chunk, CommandBuffer commands) {
+		double[] x = chunk.doubles(Field.X);
+		double[] y = chunk.doubles(Field.Y);
+		int[] age = chunk.ints(Field.AGE);
+		int[] maxAge = chunk.ints(Field.MAX_AGE);
+		int[] prefabs = chunk.ints(Field.PREFAB);
+		for (int i = 0, n = chunk.size(); i < n; i++) {
+			age[i]++;
+			Prefab prefab = world.getPrefab(prefabs[i]);
+			if (x[i] + prefab.getWidth() < minX || x[i] > maxX || y[i] + prefab.getHeight() < minY || y[i] > maxY) {
+				commands.despawn(chunk.getEntity(i));
+				outOfBounds++;
+			} else if (maxAge[i] > 0 && age[i] > maxAge[i]) {
+				commands.despawn(chunk.getEntity(i));
+				expired++;
+			}
+		}
+	}
+
+	/**
+	 * Despawns the intruders of a chunk that crossed the screen and damages the player for each.
+	 *
+	 * @param chunk    the chunk
+	 * @param commands the buffer to queue despawns in
+	 */
+	private void handleIntruders(Chunk chunk, CommandBuffer commands) {
+		double[] x = chunk.doubles(Field.X);
+		double[] originX = chunk.doubles(Field.ORIGIN_X);
+		for (int i = 0, n = chunk.size(); i < n; i++) {
+			if (Math.abs(x[i] - originX[i]) > screenWidth) {
+				commands.despawn(chunk.getEntity(i));
+				intrusions++;
+				damagePlayers(commands);
+			}
+		}
+	}
+
+	/**
+	 * Deals every player a hit, despawning those that run out of health.
+	 *
+	 * @param commands the buffer to queue despawns in
+	 */
+	private void damagePlayers(CommandBuffer commands) {
+		for (int a = 0; a < players.getArchetypeCount(); a++) {
+			Archetype archetype = players.getArchetype(a);
+			for (int c = 0; c < archetype.getChunkCount(); c++) {
+				Chunk chunk = archetype.getChunk(c);
+				int[] health = chunk.ints(Field.HEALTH);
+				for (int i = 0, n = chunk.size(); i < n; i++) {
+					if (--health[i] == 0) {
+						commands.despawn(chunk.getEntity(i));
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package com.example.demo.ecs.systems;
+
+import com.example.demo.ecs.Archetype;
+import com.example.demo.ecs.Chunk;
+import com.example.demo.ecs.Component;
+import com.example.demo.ecs.EntityRandom;
+import com.example.demo.ecs.Field;
+import com.example.demo.ecs.Query;
+import com.example.demo.ecs.World;
+
+/**
+ * Steers and moves entities.
+ * <p>
+ * Piloted entities take their vertical speed from their pilot's direction, patrolling ones pick a random move up,
+ * down or none every few ticks. Then every entity with a velocity moves, remembering where it was; a move leaving
+ * the vertical bounds is rejected for {@link Field#CLAMP} and turns the entity around for {@link Field#BOUNCE},
+ * exactly like {@code KinematicsStore.integrate}.
+ */
+public final class MovementSystem implements GameSystem {
+
+	private static final int PATROL_MOVES = 3;
+
+	private final Query pilots;
+	private final Query patrols;
+	private final Query movers;
+
+	/**
+	 * Constructs the system.
+	 *
+	 * @param world the world whose entities move
+	 */
+	public MovementSystem(World world) {
+		this.pilots = world.query(Component.VELOCITY, Component.PILOT);
+		this.patrols = world.query(Component.VELOCITY, Component.PATROL, Component.RANDOM);
+		this.movers = world.query(Component.POSITION, Component.VELOCITY);
+	}
+
+	/**
+	 * Steers, then moves every entity.
+	 */
+	@Override
+	public void update() {
+		for (int a = 0; a < pilots.getArchetypeCount(); a++) {
+			Archetype archetype = pilots.getArchetype(a);
+			for (int c = 0; c < archetype.getChunkCount(); c++) {
+				steerPilots(archetype.getChunk(c));
+			}
+		}
+		for (int a = 0; a < patrols.getArchetypeCount(); a++) {
+			Archetype archetype = patrols.getArchetype(a);
+			for (int c = 0; c < archetype.getChunkCount(); c++) {
+				steerPatrols(archetype.getChunk(c));
+			}
+		}
+		for (int a = 0; a < movers.getArchetypeCount(); a++) {
+			Archetype archetype = movers.getArchetype(a);
+			for (int c = 0; c < archetype.getChunkCount(); c++) {
+				move(archetype.getChunk(c));
+			}
+		}
+	}
+
+	/**
+	 * Sets the vertical speed of piloted entities from their pilots' directions.
+	 *
+	 * @param chunk the chunk to steer
+	 */
+	private static void steerPilots(Chunk chunk) {
+		double[] velocityY = chunk.doubles(Field.VELOCITY_Y);
+		double[] speed = chunk.doubles(Field.PILOT_SPEED);
+		int[] direction = chunk.ints(Field.PILOT_DIRECTION);
+		for (int i = 0, n = chunk.size(); i < n; i++) {
+			velocityY[i] = speed[i] * direction[i];
+		}
+	}
+
+	/**
+	 * Holds or changes the move of patrolling entities and sets their vertical speed from it.
+	 *
+	 * @param chunk the chunk to steer
+	 */
+	private static void steerPatrols(Chunk chunk) {
+		double[] velocityY = chunk.doubles(Field.VELOCITY_Y);
+		double[] speed = chunk.doubles(Field.PATROL_SPEED);
+		int[] move = chunk.ints(Field.PATROL_MOVE);
+		int[] ticksLeft = chunk.ints(Field.PATROL_TICKS_LEFT);
+		int[] period = chunk.ints(Field.PATROL_PERIOD);
+		long[] random = chunk.longs(Field.RANDOM_STATE);
+		for (int i = 0, n = chunk.size(); i < n; i++) {
+			if (ticksLeft[i] == 0) {
+				move[i] = EntityRandom.nextInt(random, i, PATROL_MOVES) - 1;
+				ticksLeft[i] = period[i];
+			}
+			ticksLeft[i]--;
+			velocityY[i] = speed[i] * move[i];
+		}
+	}
+
+	/**
+	 * Moves the entities of a chunk by their velocity, keeping bounded ones within their bounds.
+	 *
+	 * @param chunk the chunk to move
+	 */
+	private static void move(Chunk chunk) {
+		double[] x = chunk.doubles(Field.X);
+		double[] y = chunk.doubles(Field.Y);
+		double[] previousX = chunk.doubles(Field.PREVIOUS_X);
+		double[] previousY = chunk.doubles(Field.PREVIOUS_Y);
+		double[] velocityX = chunk.doubles(Field.VELOCITY_X);
+		double[] velocityY = chunk.doubles(Field.VELOCITY_Y);
+		int n = chunk.size();
+		if (!chunk.has(Component.BOUNDS)) {
+			for (int i = 0; i < n; i++) {
+				previousX[i] = x[i];
+				previousY[i] = y[i];
+				x[i] += velocityX[i];
+				y[i] += velocityY[i];
+			}
+			return;
+		}
+		double[] minY = chunk.doubles(Field.MIN_Y);
+		double[] maxY = chunk.doubles(Field.MAX_Y);
+		int[] mode = chunk.ints(Field.BOUND_MODE);
+		for (int i = 0; i < n; i++) {
+			previousX[i] = x[i];
+			previousY[i] = y[i];
+			double movedY = y[i] + velocityY[i];
+			if (mode[i] == Field.CLAMP) {
+				if (movedY < minY[i] || movedY > maxY[i]) {
+					movedY = y[i];
+				}
+			} else if (movedY <= minY[i] || movedY >= maxY[i]) {
+				velocityY[i] = -velocityY[i];
+			}
+			y[i] = movedY;
+			x[i] += velocityX[i];
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.example.demo.ecs.systems;
+
+import com.example.demo.ecs.Archetype;
+import com.example.demo.ecs.Chunk;
+import com.example.demo.ecs.Component;
+import com.example.demo.ecs.EntityRandom;
+import com.example.demo.ecs.Field;
+import com.example.demo.ecs.Query;
+import com.example.demo.ecs.World;
+
+/**
+ * Raises and lowers shields, and counts down invincibility after hits.
+ * <p>
+ * A lowered shield comes up with its probability each tick and stays up for its duration, as the boss's does;
+ * invincibility is started by {@link CollisionSystem} when an entity is hit. Both set the sprite's glow while they
+ * last.
+ */
+public final class ShieldSystem implements GameSystem {
+
+	private final Query shields;
+	private final Query invincibilities;
+
+	/**
+	 * Constructs the system.
+	 *
+	 * @param world the world whose entities are shielded
+	 */
+	public ShieldSystem(World world) {
+		this.shields = world.query(Component.SHIELD, Component.RANDOM, Component.SPRITE);
+		this.invincibilities = world.query(Component.INVINCIBILITY, Component.SPRITE);
+	}
+
+	/**
+	 * Updates every shield and invincibility.
+	 */
+	@Override
+	public void update() {
+		for (int a = 0; a < shields.getArchetypeCount(); a++) {
+			Archetype archetype = shields.getArchetype(a);
+			for (int c = 0; c < archetype.getChunkCount(); c++) {
+				updateShields(archetype.getChunk(c));
+			}
+		}
+		for (int a = 0; a < invincibilities.getArchetypeCount(); a++) {
+			Archetype archetype = invincibilities.getArchetype(a);
+			for (int c = 0; c < archetype.getChunkCount(); c++) {
+				updateInvincibility(archetype.getChunk(c));
+			}
+		}
+	}
+
+	/**
+	 * Keeps raised shields up until they are exhausted and rolls for lowered ones.
+	 *
+	 * @param chunk the chunk
+	 */
+	private static void updateShields(Chunk chunk) {
+		int[] ticks = chunk.ints(Field.SHIELD_TICKS);
+		int[] duration = chunk.ints(Field.SHIELD_DURATION);
+		double[] probability = chunk.doubles(Field.SHIELD_PROBABILITY);
+		double[] shieldGlow = chunk.doubles(Field.SHIELD_GLOW);
+		double[] glow = chunk.doubles(Field.GLOW);
+		long[] random = chunk.longs(Field.RANDOM_STATE);
+		for (int i = 0, n = chunk.size(); i < n; i++) {
+			if (ticks[i] >= 0) {
+				ticks[i]++;
+			} else if (EntityRandom.nextDouble(random, i) < probability[i]) {
+				ticks[i] = 0;
+				glow[i] = shieldGlow[i];
+			}
+			if (ticks[i] == duration[i]) {
+				ticks[i] = -1;
+				glow[i] = 0;
+			}
+		}
+	}
+
+	/**
+	 * Counts down invincibility and clears the glow once it ends.
+	 *
+	 * @param chunk the chunk
+	 */
+	private static void updateInvincibility(Chunk chunk) {
+		int[] ticksLeft = chunk.ints(Field.INVINCIBLE_TICKS_LEFT);
+		double[] glow = chunk.doubles(Field.GLOW);
+		for (int i = 0, n = chunk.size(); i < n; i++) {
+			if (ticksLeft[i] > 0 && --ticksLeft[i] == 0) {
+				glow[i] = 0;
+			}
+		}
+	}
+}
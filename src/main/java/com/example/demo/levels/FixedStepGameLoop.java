@@ -0,0 +1,93 @@
+package com.example.demo.levels;
+
+import java.util.function.DoubleConsumer;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * A fixed-timestep game loop built on {@link AnimationTimer}.
+ * <p>
+ * On every JavaFX pulse the time elapsed since the previous pulse is added to an accumulator, and one
+ * tick is run for every full tick duration it holds. The frame is then rendered with the fraction of a tick
+ * left in the accumulator, which renderers use to interpolate actors between their last two positions.
+ * The simulation therefore advances at exactly the tick rate while the display updates at the monitor's
+ * refresh rate, and a refresh-rate change never causes extra simulation steps.
+ * <p>
+ * If a frame falls more than {@code maxTicksPerFrame} ticks behind (e.g. after a stall), the backlog is dropped
+ * rather than simulated, so a slow frame cannot snowball into a burst of catch-up ticks.
+ */
+class FixedStepGameLoop extends AnimationTimer implements GameLoop {
+
+	private final long tickNanos;
+	private final int maxTicksPerFrame;
+	private final Runnable tick;
+	private final DoubleConsumer render;
+	private long previousFrameTime;
+	private long accumulator;
+	private boolean running;
+
+	/**
+	 * Constructs a fixed-step loop.
+	 *
+	 * @param tickNanos        the duration of a tick in nanoseconds
+	 * @param maxTicksPerFrame the number of ticks that may be run in a single frame to catch up
+	 * @param tick             runs one game tick
+	 * @param render           renders a frame given the interpolation factor between the last two ticks
+	 */
+	FixedStepGameLoop(long tickNanos, int maxTicksPerFrame, Runnable tick, DoubleConsumer render) {
+		this.tickNanos = tickNanos;
+		this.maxTicksPerFrame = maxTicksPerFrame;
+		this.tick = tick;
+		this.render = render;
+	}
+
+	/**
+	 * Runs the ticks that are due and renders the frame.
+	 *
+	 * @param now the timestamp of the current pulse in nanoseconds
+	 */
+	@Override
+	public void handle(long now) {
+		if (previousFrameTime == 0) {
+			previousFrameTime = now;
+		}
+		accumulator += now - previousFrameTime;
+		previousFrameTime = now;
+		int ticks = 0;
+		while (running && accumulator >= tickNanos && ticks < maxTicksPerFrame) {
+			tick.run();
+			accumulator -= tickNanos;
+			ticks++;
+		}
+		if (accumulator >= tickNanos) {
+			accumulator %= tickNanos;
+		}
+		if (running) {
+			render.accept((double) accumulator / tickNanos);
+		}
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		previousFrameTime = 0;
+		super.start();
+	}
+
+	@Override
+	public void pause() {
+		super.stop();
+	}
+
+	@Override
+	public void resume() {
+		previousFrameTime = 0;
+		super.start();
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		super.stop();
+	}
+}
@@ -0,0 +1,38 @@
+package com.example.demo.levels;
+
+/**
+ * Drives a level shown on screen: runs its ticks and renders its frames.
+ */
+interface GameLoop {
+
+	/**
+	 * Starts running the loop.
+	 */
+	void start();
+
+	/**
+	 * Pauses the loop. No ticks are run until {@link #resume()} is called,
+	 * and the time spent paused is not caught up afterwards.
+	 */
+	void pause();
+
+	/**
+	 * Resumes a paused loop.
+	 */
+	void resume();
+
+	/**
+	 * Stops the loop for good.
+	 */
+	void stop();
+
+	/**
+	 * Runs a task between two ticks, on the thread that runs the ticks. Loops ticking on the JavaFX thread run it at
+	 * once.
+	 *
+	 * @param task the task
+	 */
+	default void runInSimulation(Runnable task) {
+		task.run();
+	}
+}
@@ -0,0 +1,73 @@
+package com.example.demo.levels;
+
+import java.util.SplittableRandom;
+
+/**
+ * The random source of a level, replacing the shared {@link Math#random()} generator.
+ * <p>
+ * Each subsystem draws from its own {@link SplittableRandom} stream, split from the level's seed in a fixed
+ * order, so the streams are independent: an extra roll in one subsystem does not shift the numbers seen by
+ * another. Actors get a generator of their own split from their subsystem's stream when they are created.
+ * The same seed and the same inputs therefore always produce the same game. None of the generators are
+ * shared between threads or synchronised; a {@code GameRandom} belongs to the thread running its level.
+ */
+public final class GameRandom {
+
+	/**
+	 * The subsystems drawing random numbers, each with its own stream.
+	 */
+	public enum Stream {
+
+		/** Whether, where and what kind of enemies spawn. */
+		SPAWNING,
+
+		/** The behaviour of individual enemies: firing, shields, movement patterns and directions. */
+		ENEMIES
+	}
+
+	private final long seed;
+	private final SplittableRandom[] streams;
+
+	/**
+	 * Constructs a random source and splits one stream per subsystem from the seed.
+	 *
+	 * @param seed the seed of the level
+	 */
+	public GameRandom(long seed) {
+		this.seed = seed;
+		SplittableRandom root = new SplittableRandom(seed);
+		this.streams = new SplittableRandom[Stream.values().length];
+		for (int i = 0; i < streams.length; i++) {
+			streams[i] = root.split();
+		}
+	}
+
+	/**
+	 * Returns the seed this random source was created from.
+	 *
+	 * @return the seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Returns the generator of a subsystem.
+	 *
+	 * @param stream the subsystem
+	 * @return the subsystem's generator
+	 */
+	public SplittableRandom stream(Stream stream) {
+		return streams[stream.ordinal()];
+	}
+
+	/**
+	 * Splits a new, independent generator from a subsystem's stream, e.g. for an actor that has just been created.
+	 *
+	 * @param stream the subsystem
+	 * @return a new generator
+	 */
+	public SplittableRandom split(Stream stream) {
+		return streams[stream.ordinal()].split();
+	}
+}
@@ -0,0 +1,447 @@
+package com.example.demo.levels;
+
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import com.example.demo.UI.GlowMode;
+
+/**
+ * Game-wide settings that select how levels are run.
+ * <p>
+ * Defaults can be overridden on the command line through system properties, e.g.
+ * {@code -Dskybattle.loop=timeline}, {@code -Dskybattle.collisions=parallel},
+ * {@code -Dskybattle.renderer=canvas}, {@code -Dskybattle.glow=effect}, {@code -Dskybattle.seed=42}, {@code -Dskybattle.profiler=true}, {@code -Dskybattle.record=session.skyr},
+ * {@code -Dskybattle.replay=session.skyr}, {@code -Dskybattle.despawnMargin=100},
+ * {@code -Dskybattle.maxProjectileLifetime=600}, {@code -Dskybattle.projectilePoolCapacity=256},
+ * {@code -Dskybattle.keys=fire=j+space} or
+ * {@code -Dskybattle.level=Gauntlet}, or changed at runtime before a level is created.
+ */
+public final class GameSettings {
+
+	/**
+	 * The kind of game loop driving a level shown on screen.
+	 */
+	public enum LoopMode {
+
+		/** A {@link javafx.animation.Timeline} that ticks and renders once per key frame. */
+		TIMELINE,
+
+		/**
+		 * An {@link javafx.animation.AnimationTimer} that ticks at a fixed rate and renders every pulse,
+		 * interpolating actor positions between the last two ticks.
+		 */
+		FIXED_STEP,
+
+		/**
+		 * Ticks at a fixed rate on a dedicated simulation thread, which publishes a snapshot of every actor after
+		 * each batch of ticks; an {@link javafx.animation.AnimationTimer} renders the latest snapshot every pulse.
+		 */
+		THREADED
+	}
+
+	/**
+	 * How the collision passes of a level find colliding pairs.
+	 */
+	public enum CollisionMode {
+
+		/** Always test pairs on the simulation thread. */
+		SEQUENTIAL,
+
+		/** Always split pair tests across the common fork/join pool. */
+		PARALLEL,
+
+		/**
+		 * Test pairs in parallel only when a pass involves at least {@link #getParallelCollisionThreshold()} actors
+		 * and the common pool has more than one worker.
+		 */
+		AUTO
+	}
+
+	/**
+	 * How the actors of a level shown on screen are drawn. The HUD is made of scene graph nodes either way.
+	 */
+	public enum RenderMode {
+
+		/** One {@link javafx.scene.image.ImageView} per actor, see {@link com.example.demo.UI.NodeActorRenderer}. */
+		NODES,
+
+		/**
+		 * All actors drawn onto a single canvas every frame, batched by sprite,
+		 * see {@link com.example.demo.UI.CanvasActorRenderer}. Scales to many thousands of projectiles.
+		 */
+		CANVAS
+	}
+
+	/**
+	 * The number of game ticks per second (one tick every 50 ms). Speeds, fire and spawn chances and durations in
+	 * ticks are all tuned for this rate, so it is fixed; the fixed-step loops render smoothly at any display rate by
+	 * interpolating between ticks instead.
+	 */
+	public static final int TICK_RATE = 20;
+
+	/** The default number of ticks a fixed-step loop may run in one frame to catch up. */
+	public static final int DEFAULT_MAX_CATCH_UP_TICKS = 5;
+
+	/** The default number of actors in a collision pass from which {@link CollisionMode#AUTO} goes parallel. */
+	public static final int DEFAULT_PARALLEL_COLLISION_THRESHOLD = 2000;
+
+	/** The default distance beyond the screen edges at which projectiles are retired, in px. */
+	public static final int DEFAULT_DESPAWN_MARGIN = 100;
+
+	/** The default number of ticks after which a projectile is retired wherever it is (30 s). */
+	public static final int DEFAULT_MAX_PROJECTILE_LIFETIME = 600;
+
+	/** The default number of idle projectiles of each type kept for reuse. */
+	public static final int DEFAULT_PROJECTILE_POOL_CAPACITY = 256;
+
+	private static LoopMode loopMode = LoopMode.valueOf(
+			System.getProperty("skybattle.loop", LoopMode.FIXED_STEP.name()).toUpperCase(Locale.ROOT));
+	private static int maxCatchUpTicks = Integer.getInteger("skybattle.maxCatchUpTicks", DEFAULT_MAX_CATCH_UP_TICKS);
+	private static CollisionMode collisionMode = CollisionMode.valueOf(
+			System.getProperty("skybattle.collisions", CollisionMode.AUTO.name()).toUpperCase(Locale.ROOT));
+	private static int parallelCollisionThreshold = Integer.getInteger("skybattle.parallelCollisionThreshold",
+			DEFAULT_PARALLEL_COLLISION_THRESHOLD);
+
+	private static int despawnMargin = Integer.getInteger("skybattle.despawnMargin", DEFAULT_DESPAWN_MARGIN);
+	private static int maxProjectileLifetime = Integer.getInteger("skybattle.maxProjectileLifetime",
+			DEFAULT_MAX_PROJECTILE_LIFETIME);
+	private static int projectilePoolCapacity = Integer.getInteger("skybattle.projectilePoolCapacity",
+			DEFAULT_PROJECTILE_POOL_CAPACITY);
+
+	private static RenderMode renderMode = RenderMode.valueOf(
+			System.getProperty("skybattle.renderer", RenderMode.NODES.name()).toUpperCase(Locale.ROOT));
+	private static GlowMode glowMode = GlowMode.valueOf(
+			System.getProperty("skybattle.glow", GlowMode.SPRITES.name()).toUpperCase(Locale.ROOT));
+
+	private static KeyBindings keyBindings = KeyBindings.parse(System.getProperty("skybattle.keys", ""));
+
+	private static long seed = Long.getLong("skybattle.seed", new SplittableRandom().nextLong());
+	private static boolean profilerEnabled = Boolean.getBoolean("skybattle.profiler");
+	private static String startLevel = System.getProperty("skybattle.level");
+	private static Path recordPath = pathProperty("skybattle.record");
+	private static Path replayPath = pathProperty("skybattle.replay");
+
+	private GameSettings() {
+	}
+
+	/**
+	 * Returns the kind of game loop used by levels shown on screen.
+	 *
+	 * @return the loop mode
+	 */
+	public static LoopMode getLoopMode() {
+		return loopMode;
+	}
+
+	/**
+	 * Sets the kind of game loop used by levels shown on screen.
+	 *
+	 * @param mode the loop mode
+	 */
+	public static void setLoopMode(LoopMode mode) {
+		loopMode = mode;
+	}
+
+	/**
+	 * Returns the number of game ticks per second, {@link #TICK_RATE}.
+	 *
+	 * @return the tick rate in Hz
+	 */
+	public static int getTickRate() {
+		return TICK_RATE;
+	}
+
+	/**
+	 * Returns the number of ticks a fixed-step loop may run in one frame before it drops
+	 * the remaining backlog instead of trying to catch up.
+	 *
+	 * @return the catch-up limit in ticks per frame
+	 */
+	public static int getMaxCatchUpTicks() {
+		return maxCatchUpTicks;
+	}
+
+	/**
+	 * Sets the number of ticks a fixed-step loop may run in one frame.
+	 *
+	 * @param ticks the catch-up limit in ticks per frame
+	 * @throws IllegalArgumentException if the limit is not positive
+	 */
+	public static void setMaxCatchUpTicks(int ticks) {
+		if (ticks <= 0) {
+			throw new IllegalArgumentException("Catch-up limit must be positive: " + ticks);
+		}
+		maxCatchUpTicks = ticks;
+	}
+
+	/**
+	 * Returns how collision passes find colliding pairs.
+	 *
+	 * @return the collision mode
+	 */
+	public static CollisionMode getCollisionMode() {
+		return collisionMode;
+	}
+
+	/**
+	 * Sets how collision passes find colliding pairs. Takes effect from the next collision pass.
+	 *
+	 * @param mode the collision mode
+	 */
+	public static void setCollisionMode(CollisionMode mode) {
+		collisionMode = mode;
+	}
+
+	/**
+	 * Returns the number of actors in a collision pass, counting both sides, from which
+	 * {@link CollisionMode#AUTO} tests pairs in parallel.
+	 *
+	 * @return the parallel collision threshold
+	 */
+	public static int getParallelCollisionThreshold() {
+		return parallelCollisionThreshold;
+	}
+
+	/**
+	 * Sets the number of actors in a collision pass from which {@link CollisionMode#AUTO} tests pairs in parallel.
+	 *
+	 * @param actors the parallel collision threshold
+	 * @throws IllegalArgumentException if the threshold is negative
+	 */
+	public static void setParallelCollisionThreshold(int actors) {
+		if (actors < 0) {
+			throw new IllegalArgumentException("Parallel collision threshold must not be negative: " + actors);
+		}
+		parallelCollisionThreshold = actors;
+	}
+
+	/**
+	 * Returns how far beyond the screen edges a projectile may fly before it is retired.
+	 *
+	 * @return the despawn margin in px
+	 */
+	public static int getDespawnMargin() {
+		return despawnMargin;
+	}
+
+	/**
+	 * Sets how far beyond the screen edges a projectile may fly before it is retired. Takes effect for levels
+	 * created afterwards.
+	 *
+	 * @param margin the despawn margin in px
+	 * @throws IllegalArgumentException if the margin is negative
+	 */
+	public static void setDespawnMargin(int margin) {
+		if (margin < 0) {
+			throw new IllegalArgumentException("Despawn margin must not be negative: " + margin);
+		}
+		despawnMargin = margin;
+	}
+
+	/**
+	 * Returns the number of ticks after which a projectile is retired even if it is still on screen.
+	 *
+	 * @return the maximum projectile lifetime in ticks, or 0 for no limit
+	 */
+	public static int getMaxProjectileLifetime() {
+		return maxProjectileLifetime;
+	}
+
+	/**
+	 * Sets the number of ticks after which a projectile is retired even if it is still on screen. Takes effect for
+	 * levels created afterwards.
+	 *
+	 * @param ticks the maximum projectile lifetime in ticks, or 0 for no limit
+	 * @throws IllegalArgumentException if the lifetime is negative
+	 */
+	public static void setMaxProjectileLifetime(int ticks) {
+		if (ticks < 0) {
+			throw new IllegalArgumentException("Maximum projectile lifetime must not be negative: " + ticks);
+		}
+		maxProjectileLifetime = ticks;
+	}
+
+	/**
+	 * Returns the number of idle projectiles of each type a level's projectile pools keep for reuse.
+	 *
+	 * @return the pool capacity per projectile type
+	 */
+	public static int getProjectilePoolCapacity() {
+		return projectilePoolCapacity;
+	}
+
+	/**
+	 * Sets the number of idle projectiles of each type a level's projectile pools keep for reuse. Takes effect for
+	 * pools created afterwards, i.e. the next session, or the next level unless it shares its session's pools.
+	 *
+	 * @param capacity the pool capacity per projectile type
+	 * @throws IllegalArgumentException if the capacity is negative
+	 */
+	public static void setProjectilePoolCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Projectile pool capacity must not be negative: " + capacity);
+		}
+		projectilePoolCapacity = capacity;
+	}
+
+	/**
+	 * Returns how the actors of levels shown on screen are drawn.
+	 *
+	 * @return the render mode
+	 */
+	public static RenderMode getRenderMode() {
+		return renderMode;
+	}
+
+	/**
+	 * Sets how the actors of levels shown on screen are drawn. Takes effect for scenes built afterwards.
+	 *
+	 * @param mode the render mode
+	 */
+	public static void setRenderMode(RenderMode mode) {
+		renderMode = mode;
+	}
+
+	/**
+	 * Returns how the renderers show glowing actors.
+	 *
+	 * @return the glow mode
+	 */
+	public static GlowMode getGlowMode() {
+		return glowMode;
+	}
+
+	/**
+	 * Sets how the renderers show glowing actors. Takes effect for scenes built afterwards; glowing sprites
+	 * not rendered at launch are rendered the first time an actor needs them.
+	 *
+	 * @param mode the glow mode
+	 */
+	public static void setGlowMode(GlowMode mode) {
+		glowMode = mode;
+	}
+
+	/**
+	 * Returns the keys bound to the player's controls. The bindings are shared by every level, so changing them
+	 * rebinds the keys at once.
+	 *
+	 * @return the key bindings
+	 */
+	public static KeyBindings getKeyBindings() {
+		return keyBindings;
+	}
+
+	/**
+	 * Sets the keys bound to the player's controls. Takes effect for levels built afterwards.
+	 *
+	 * @param bindings the key bindings
+	 */
+	public static void setKeyBindings(KeyBindings bindings) {
+		keyBindings = bindings;
+	}
+
+	/**
+	 * Returns the level the game starts with, unless it replays a recording.
+	 *
+	 * @return the name of the level, as understood by {@link LevelRegistry#get(String)}, or {@code null} for the
+	 *         first level
+	 */
+	public static String getStartLevel() {
+		return startLevel;
+	}
+
+	/**
+	 * Sets the level the game starts with, e.g. to try out a wave script.
+	 *
+	 * @param levelName the name of the level, or {@code null} for the first level
+	 */
+	public static void setStartLevel(String levelName) {
+		startLevel = levelName;
+	}
+
+	/**
+	 * Returns the seed of the session. Levels are seeded with it unless they are given a seed of their own.
+	 * Unless set through {@code skybattle.seed}, a random seed is picked when the game starts.
+	 *
+	 * @return the session seed
+	 */
+	public static long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Sets the seed used by levels created from now on.
+	 *
+	 * @param sessionSeed the session seed
+	 */
+	public static void setSeed(long sessionSeed) {
+		seed = sessionSeed;
+	}
+
+	/**
+	 * Checks whether levels shown on screen start with the frame profiler and its overlay turned on.
+	 * The player can always toggle it with F3.
+	 *
+	 * @return {@code true} if profiling starts enabled
+	 */
+	public static boolean isProfilerEnabled() {
+		return profilerEnabled;
+	}
+
+	/**
+	 * Sets whether levels shown on screen start with the frame profiler turned on.
+	 *
+	 * @param enabled whether profiling starts enabled
+	 */
+	public static void setProfilerEnabled(boolean enabled) {
+		profilerEnabled = enabled;
+	}
+
+	/**
+	 * Returns the file the player's inputs are recorded to, if the session is being recorded.
+	 *
+	 * @return the input log to write, or {@code null} if nothing is recorded
+	 */
+	public static Path getRecordPath() {
+		return recordPath;
+	}
+
+	/**
+	 * Sets the file the inputs of the next session are recorded to.
+	 *
+	 * @param path the input log to write, or {@code null} to record nothing
+	 */
+	public static void setRecordPath(Path path) {
+		recordPath = path;
+	}
+
+	/**
+	 * Returns the input log replayed instead of reading the keyboard, if any.
+	 *
+	 * @return the input log to replay, or {@code null} to play normally
+	 */
+	public static Path getReplayPath() {
+		return replayPath;
+	}
+
+	/**
+	 * Sets the input log the next session replays instead of reading the keyboard.
+	 *
+	 * @param path the input log to replay, or {@code null} to play normally
+	 */
+	public static void setReplayPath(Path path) {
+		replayPath = path;
+	}
+
+	/**
+	 * Reads a file path from a system property.
+	 *
+	 * @param name the name of the property
+	 * @return the path, or {@code null} if the property is not set
+	 */
+	private static Path pathProperty(String name) {
+		String value = System.getProperty(name);
+		return value == null || value.isEmpty() ? null : Path.of(value);
+	}
+}
@@ -0,0 +1,23 @@
+package com.example.demo.levels;
+
+/**
+ * The player inputs that affect the game, independent of the keys they are bound to.
+ * <p>
+ * Every input reaches the level as one of these actions, between two ticks, so a recorded sequence of
+ * actions stamped with their tick reproduces the game exactly. Pausing is not an action: it only stops
+ * the game loop and never changes the game itself.
+ */
+public enum InputAction {
+
+	/** Start moving the player's plane up. */
+	MOVE_UP,
+
+	/** Start moving the player's plane down. */
+	MOVE_DOWN,
+
+	/** Stop moving the player's plane. */
+	STOP,
+
+	/** Fire a projectile from the player's plane. */
+	FIRE
+}
@@ -0,0 +1,28 @@
+package com.example.demo.levels;
+
+/**
+ * The controls the player holds down, independent of the keys they are bound to.
+ * <p>
+ * Controls describe the state of the keyboard; once per tick {@link KeyboardInput} turns that state into the
+ * {@link InputAction}s the level applies and records.
+ */
+public enum InputControl {
+
+	/** Move the player's plane up while held. */
+	MOVE_UP,
+
+	/** Move the player's plane down while held. */
+	MOVE_DOWN,
+
+	/** Fire whenever the player's plane is ready while held. */
+	FIRE;
+
+	/**
+	 * Returns the bit of this control in the bitsets of {@link InputState}.
+	 *
+	 * @return a mask with only this control's bit set
+	 */
+	long bit() {
+		return 1L << ordinal();
+	}
+}
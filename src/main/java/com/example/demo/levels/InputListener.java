@@ -0,0 +1,16 @@
+package com.example.demo.levels;
+
+/**
+ * Listens for the inputs applied to a level, e.g. to record them.
+ */
+@FunctionalInterface
+public interface InputListener {
+
+	/**
+	 * Called for every input the level applies, before it takes effect.
+	 *
+	 * @param tick   the number of ticks the level had run when the input arrived
+	 * @param action the input
+	 */
+	void inputApplied(long tick, InputAction action);
+}
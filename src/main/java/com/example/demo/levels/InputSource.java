@@ -0,0 +1,19 @@
+package com.example.demo.levels;
+
+import java.util.function.Consumer;
+
+/**
+ * Supplies the inputs of a level in place of the keyboard, e.g. when replaying a recording.
+ */
+@FunctionalInterface
+public interface InputSource {
+
+	/**
+	 * Hands over the inputs that arrived after the given number of ticks, in the order they arrived.
+	 * Called once before every tick.
+	 *
+	 * @param tick   the number of ticks the level has run so far
+	 * @param inputs receives the inputs to apply before the next tick
+	 */
+	void pollInputs(long tick, Consumer<InputAction> inputs);
+}
@@ -0,0 +1,74 @@
+package com.example.demo.levels;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The controls currently held, kept as a lock-free bitset with one bit per {@link InputControl}.
+ * <p>
+ * Key events only set or clear a bit, so handling an event costs the same however many arrive, and OS key repeat
+ * changes nothing. Every press is also latched until the next {@link #sample()}, so a tap shorter than a tick still
+ * counts for one tick. The keyboard writes from the JavaFX Application Thread while the level samples from whichever
+ * thread runs its ticks; headless drivers can press and release controls directly.
+ */
+public final class InputState {
+
+	private final AtomicLong held;
+	private final AtomicLong pressed;
+
+	/**
+	 * Constructs a state with no control held.
+	 */
+	public InputState() {
+		this.held = new AtomicLong();
+		this.pressed = new AtomicLong();
+	}
+
+	/**
+	 * Marks a control as held.
+	 *
+	 * @param control the control pressed
+	 */
+	public void press(InputControl control) {
+		long bit = control.bit();
+		held.getAndUpdate(bits -> bits | bit);
+		pressed.getAndUpdate(bits -> bits | bit);
+	}
+
+	/**
+	 * Marks a control as no longer held. A press not sampled yet still counts for the next tick.
+	 *
+	 * @param control the control released
+	 */
+	public void release(InputControl control) {
+		long bit = control.bit();
+		held.getAndUpdate(bits -> bits & ~bit);
+	}
+
+	/**
+	 * Releases every control, e.g. when the game loses the keyboard focus and would miss the key releases.
+	 */
+	public void releaseAll() {
+		held.set(0);
+	}
+
+	/**
+	 * Checks whether a control is held right now.
+	 *
+	 * @param control the control to check
+	 * @return {@code true} if the control is held
+	 */
+	public boolean isHeld(InputControl control) {
+		return (held.get() & control.bit()) != 0;
+	}
+
+	/**
+	 * Returns the controls active for the coming tick: those held now and those pressed since the last sample,
+	 * and clears the latched presses.
+	 *
+	 * @return the active controls, one bit per {@link InputControl}
+	 */
+	public long sample() {
+		long pressedSinceLastSample = pressed.getAndSet(0);
+		return held.get() | pressedSinceLastSample;
+	}
+}
@@ -0,0 +1,144 @@
+package com.example.demo.levels;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javafx.scene.input.KeyCode;
+
+/**
+ * Maps keys to the {@link InputControl}s they hold. Several keys may hold the same control.
+ * <p>
+ * The defaults are the arrow keys and W/S to move and space to fire. Escape pauses and F3 shows the profiler;
+ * those keys are handled by the level itself and cannot be bound.
+ */
+public final class KeyBindings {
+
+	private final Map<KeyCode, InputControl> controls;
+
+	/**
+	 * Constructs bindings with no key bound.
+	 */
+	public KeyBindings() {
+		this.controls = new EnumMap<>(KeyCode.class);
+	}
+
+	/**
+	 * Returns the default bindings.
+	 *
+	 * @return new bindings holding the default keys
+	 */
+	public static KeyBindings defaults() {
+		KeyBindings bindings = new KeyBindings();
+		bindings.bind(KeyCode.UP, InputControl.MOVE_UP);
+		bindings.bind(KeyCode.W, InputControl.MOVE_UP);
+		bindings.bind(KeyCode.DOWN, InputControl.MOVE_DOWN);
+		bindings.bind(KeyCode.S, InputControl.MOVE_DOWN);
+		bindings.bind(KeyCode.SPACE, InputControl.FIRE);
+		return bindings;
+	}
+
+	/**
+	 * Parses bindings such as {@code "move_up=i+up,fire=j"}: a comma-separated list of controls, each with the
+	 * {@link KeyCode} names of its keys joined by {@code +}. Controls not listed keep their default keys, and a
+	 * control listed without keys is left unbound.
+	 *
+	 * @param text the bindings to parse, or an empty string for the defaults
+	 * @return the parsed bindings
+	 * @throws IllegalArgumentException if a control or key is unknown or a key cannot be bound
+	 */
+	public static KeyBindings parse(String text) {
+		KeyBindings bindings = defaults();
+		for (String entry : text.split(",")) {
+			if (entry.isBlank()) {
+				continue;
+			}
+			int separator = entry.indexOf('=');
+			if (separator < 0) {
+				throw new IllegalArgumentException("Key binding must look like control=key+key: " + entry);
+			}
+			InputControl control = InputControl.valueOf(entry.substring(0, separator).trim().toUpperCase(Locale.ROOT));
+			for (KeyCode key : bindings.getKeys(control)) {
+				bindings.unbind(key);
+			}
+			for (String key : entry.substring(separator + 1).split("\\+")) {
+				if (!key.isBlank()) {
+					bindings.bind(KeyCode.valueOf(key.trim().toUpperCase(Locale.ROOT)), control);
+				}
+			}
+		}
+		return bindings;
+	}
+
+	/**
+	 * Binds a key to a control, replacing what the key was bound to before.
+	 *
+	 * @param key     the key
+	 * @param control the control the key holds
+	 * @throws IllegalArgumentException if the key is reserved by the level
+	 */
+	public void bind(KeyCode key, InputControl control) {
+		if (key == KeyCode.ESCAPE || key == KeyCode.F3) {
+			throw new IllegalArgumentException("Key is reserved: " + key);
+		}
+		controls.put(key, control);
+	}
+
+	/**
+	 * Removes the binding of a key.
+	 *
+	 * @param key the key
+	 */
+	public void unbind(KeyCode key) {
+		controls.remove(key);
+	}
+
+	/**
+	 * Returns the control a key holds.
+	 *
+	 * @param key the key
+	 * @return the control, or {@code null} if the key is not bound
+	 */
+	public InputControl getControl(KeyCode key) {
+		return controls.get(key);
+	}
+
+	/**
+	 * Returns the keys bound to a control.
+	 *
+	 * @param control the control
+	 * @return the keys, in {@link KeyCode} order
+	 */
+	public List<KeyCode> getKeys(InputControl control) {
+		List<KeyCode> keys = new ArrayList<>();
+		for (Map.Entry<KeyCode, InputControl> entry : controls.entrySet()) {
+			if (entry.getValue() == control) {
+				keys.add(entry.getKey());
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * Returns the bindings in the form read by {@link #parse(String)}.
+	 *
+	 * @return the bindings of every control
+	 */
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder();
+		for (InputControl control : InputControl.values()) {
+			if (text.length() > 0) {
+				text.append(',');
+			}
+			text.append(control.name().toLowerCase(Locale.ROOT)).append('=');
+			List<KeyCode> keys = getKeys(control);
+			for (int i = 0; i < keys.size(); i++) {
+				text.append(i == 0 ? "" : "+").append(keys.get(i).name().toLowerCase(Locale.ROOT));
+			}
+		}
+		return text.toString();
+	}
+}
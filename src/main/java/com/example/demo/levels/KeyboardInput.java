@@ -0,0 +1,62 @@
+package com.example.demo.levels;
+
+import java.util.function.Consumer;
+
+/**
+ * Turns the sampled {@link InputState} into the inputs of a level, once per tick.
+ * <p>
+ * Holding one movement control moves the plane that way; holding both or neither stops it, so releasing one of two
+ * held directions moves the plane the other way. A movement input is only applied when the direction changes.
+ * Holding fire asks for a shot on every tick and the plane's firing cooldown decides when one leaves. Because the
+ * result is a plain sequence of {@link InputAction}s, recordings and replays work exactly as for any other
+ * {@link InputSource}.
+ */
+public final class KeyboardInput implements InputSource {
+
+	private final InputState state;
+	private InputAction direction;
+
+	/**
+	 * Constructs a keyboard input with the plane standing still.
+	 *
+	 * @param state the controls written by the key handlers
+	 */
+	public KeyboardInput(InputState state) {
+		this.state = state;
+		this.direction = InputAction.STOP;
+	}
+
+	/**
+	 * Samples the held controls and hands over the inputs they call for.
+	 *
+	 * @param tick   the number of ticks the level has run so far
+	 * @param inputs receives the inputs to apply before the next tick
+	 */
+	@Override
+	public void pollInputs(long tick, Consumer<InputAction> inputs) {
+		long active = state.sample();
+		InputAction newDirection = directionOf(active);
+		if (newDirection != direction) {
+			direction = newDirection;
+			inputs.accept(newDirection);
+		}
+		if ((active & InputControl.FIRE.bit()) != 0) {
+			inputs.accept(InputAction.FIRE);
+		}
+	}
+
+	/**
+	 * Works out which way the plane should move.
+	 *
+	 * @param active the active controls
+	 * @return {@link InputAction#MOVE_UP}, {@link InputAction#MOVE_DOWN} or {@link InputAction#STOP}
+	 */
+	private static InputAction directionOf(long active) {
+		boolean up = (active & InputControl.MOVE_UP.bit()) != 0;
+		boolean down = (active & InputControl.MOVE_DOWN.bit()) != 0;
+		if (up == down) {
+			return InputAction.STOP;
+		}
+		return up ? InputAction.MOVE_UP : InputAction.MOVE_DOWN;
+	}
+}
@@ -1,7 +1,9 @@
 package com.example.demo.levels;
 
+import com.example.demo.UI.RenderSnapshot;
 import com.example.demo.actors.planes.FighterPlane;
 import com.example.demo.actors.planes.planeFactory;
+import com.example.demo.balance.Balance;
 import javafx.scene.control.ProgressBar;
 
 /**
@@ -12,6 +14,7 @@ public class LevelBoss extends LevelParent {
 
 	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/backgroundboss.jpg";
 	private static final int PLAYER_INITIAL_HEALTH = 5;
+	/** The boss, only ever read on the thread running the ticks. */
 	private FighterPlane boss;
 	private ProgressBar bossHealthBar;
 
@@ -22,7 +25,19 @@ public class LevelBoss extends LevelParent {
 	 * @param screenWidth the width of the game screen
 	 */
 	public LevelBoss(double screenHeight, double screenWidth) {
-		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, 1);
+		this(screenHeight, screenWidth, GameSettings.getSeed(), Balance.DEFAULT);
+	}
+
+	/**
+	 * Constructs a new LevelBoss with its own seed and tuning, e.g. for a simulation.
+	 *
+	 * @param screenHeight the height of the game screen
+	 * @param screenWidth the width of the game screen
+	 * @param seed the seed of the level's random source
+	 * @param balance the tuning of the level and the boss
+	 */
+	public LevelBoss(double screenHeight, double screenWidth, long seed, Balance balance) {
+		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, 1, seed, balance);
 	}
 
 	/**
@@ -31,7 +46,7 @@ public class LevelBoss extends LevelParent {
 	 */
 	@Override
 	protected void initializeFriendlyUnits() {
-		getRoot().getChildren().add(getUser());
+		getRenderer().addActor(getUser());
 		initializeBossHealthBar();
 	}
 
@@ -55,7 +70,6 @@ public class LevelBoss extends LevelParent {
 	 */
 	@Override
 	protected void checkIfGameOver() {
-		updateBossHealthBar();
 		if (userIsDestroyed()) {
 			loseGame();
 		}
@@ -71,17 +85,46 @@ public class LevelBoss extends LevelParent {
 	@Override
 	protected void spawnEnemyUnits() {
 		if (getCurrentNumberOfEnemies() == 0) {
-			boss = planeFactory.createEnemyPlane("boss", 0, 0);
+			boss = planeFactory.createEnemyPlane("boss", 0, 0, getRandom().split(GameRandom.Stream.ENEMIES), getBalance());
 			addEnemyUnit(boss);
 		}
 	}
 
 	/**
-	 * Updates the boss's health bar based on the current health of the boss.
-	 * The progress bar reflects the ratio of the boss's current health to its maximum health.
+	 * Copies the HUD values, including the boss's health once it has spawned.
+	 *
+	 * @param snapshot the snapshot receiving the values
+	 */
+	@Override
+	protected void captureHud(RenderSnapshot snapshot) {
+		super.captureHud(snapshot);
+		if (boss != null) {
+			snapshot.setBossHealth(boss.getHealth());
+		}
+	}
+
+	/**
+	 * Updates the HUD, including the boss health bar.
+	 *
+	 * @param snapshot the snapshot holding the values to show
 	 */
-	private void updateBossHealthBar() {
-		double healthRatio = boss.getHealth() / 25.0;
+	@Override
+	protected void updateHud(RenderSnapshot snapshot) {
+		super.updateHud(snapshot);
+		updateBossHealthBar(snapshot.getBossHealth());
+	}
+
+	/**
+	 * Updates the boss's health bar based on the captured health of the boss.
+	 * The progress bar reflects the ratio of the boss's health to its maximum health.
+	 *
+	 * @param bossHealth the boss's health, or -1 before it has spawned
+	 */
+	private void updateBossHealthBar(int bossHealth) {
+		if (bossHealth < 0) {
+			return;
+		}
+		double healthRatio = bossHealth / 25.0;
 		bossHealthBar.setProgress(healthRatio);
 	}
 
@@ -0,0 +1,117 @@
+package com.example.demo.levels;
+
+import java.util.List;
+
+import com.example.demo.assets.SpriteCache;
+import com.example.demo.balance.Balance;
+
+/**
+ * Describes one level of the game: how to create it, which level follows it and which images it shows.
+ * Definitions are looked up through {@link LevelRegistry}.
+ */
+public final class LevelDefinition {
+
+	private final String className;
+	private final String name;
+	private final LevelFactory factory;
+	private final String nextLevelClassName;
+	private final List<String> imagePaths;
+
+	/**
+	 * Constructs a level definition.
+	 *
+	 * @param levelClass         the class of the level
+	 * @param factory            creates instances of the level
+	 * @param nextLevelClassName the fully qualified class name of the following level, or {@code null} for the last one
+	 * @param imageNames         the images outside the sprite atlas the level shows in addition to the common ones,
+	 *                           relative to {@link SpriteCache#IMAGE_LOCATION}
+	 */
+	LevelDefinition(Class<? extends LevelParent> levelClass, LevelFactory factory, String nextLevelClassName,
+			String... imageNames) {
+		this.className = levelClass.getName();
+		this.name = levelClass.getSimpleName();
+		this.factory = factory;
+		this.nextLevelClassName = nextLevelClassName;
+		this.imagePaths = LevelRegistry.toImagePaths(imageNames);
+	}
+
+	/**
+	 * Constructs the definition of a level that is not identified by its class, e.g. a {@link ScriptedLevel}.
+	 *
+	 * @param name          the name the level is registered and recorded under
+	 * @param factory       creates instances of the level
+	 * @param nextLevelName the name of the following level, or {@code null} for the last one
+	 * @param imageNames    the images outside the sprite atlas the level shows in addition to the common ones,
+	 *                      relative to {@link SpriteCache#IMAGE_LOCATION}
+	 */
+	LevelDefinition(String name, LevelFactory factory, String nextLevelName, String... imageNames) {
+		this.className = name;
+		this.name = name;
+		this.factory = factory;
+		this.nextLevelClassName = nextLevelName;
+		this.imagePaths = LevelRegistry.toImagePaths(imageNames);
+	}
+
+	/**
+	 * Returns the fully qualified class name of the level, as passed to {@link LevelParent#goToNextLevel(String)}
+	 * and stored in input logs. Levels not identified by their class use their name instead.
+	 *
+	 * @return the class name
+	 */
+	public String getClassName() {
+		return className;
+	}
+
+	/**
+	 * Returns the short name of the level, e.g. {@code LevelOne}.
+	 *
+	 * @return the simple class name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the fully qualified class name, or the name, of the level that follows this one.
+	 *
+	 * @return the next level's class name, or {@code null} if this is the last level
+	 */
+	public String getNextLevelClassName() {
+		return nextLevelClassName;
+	}
+
+	/**
+	 * Returns the resource paths of the images outside the sprite atlas that this level shows in addition to
+	 * {@link LevelRegistry#getCommonImagePaths()}, starting with its background.
+	 *
+	 * @return an unmodifiable list of resource paths
+	 */
+	public List<String> getImagePaths() {
+		return imagePaths;
+	}
+
+	/**
+	 * Creates the level with the session seed from {@link GameSettings#getSeed()} and the default tuning,
+	 * like the game does.
+	 *
+	 * @param screenHeight the height of the game screen
+	 * @param screenWidth  the width of the game screen
+	 * @return the new level
+	 */
+	public LevelParent create(double screenHeight, double screenWidth) {
+		return factory.create(screenHeight, screenWidth, GameSettings.getSeed(), Balance.DEFAULT);
+	}
+
+	/**
+	 * Creates the level with its own seed and tuning, e.g. for a simulation.
+	 *
+	 * @param screenHeight the height of the game screen
+	 * @param screenWidth  the width of the game screen
+	 * @param seed         the seed of the level's random source
+	 * @param balance      the tuning of the level
+	 * @return the new level
+	 */
+	public LevelParent create(double screenHeight, double screenWidth, long seed, Balance balance) {
+		return factory.create(screenHeight, screenWidth, seed, balance);
+	}
+}
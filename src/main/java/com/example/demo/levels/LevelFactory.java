@@ -0,0 +1,21 @@
+package com.example.demo.levels;
+
+import com.example.demo.balance.Balance;
+
+/**
+ * Creates a level of one kind, without reflection.
+ */
+@FunctionalInterface
+public interface LevelFactory {
+
+	/**
+	 * Creates a level. Only plain objects are built; no image is decoded and no scene is created.
+	 *
+	 * @param screenHeight the height of the game screen
+	 * @param screenWidth  the width of the game screen
+	 * @param seed         the seed of the level's random source
+	 * @param balance      the tuning of the level
+	 * @return the new level
+	 */
+	LevelParent create(double screenHeight, double screenWidth, long seed, Balance balance);
+}
@@ -0,0 +1,19 @@
+package com.example.demo.levels;
+
+/**
+ * Describes how far a level has progressed.
+ */
+public enum LevelOutcome {
+
+	/** The level is still being played. */
+	IN_PROGRESS,
+
+	/** The player finished the level and moved on to the next one. */
+	ADVANCED,
+
+	/** The player won the game. */
+	WON,
+
+	/** The player's plane was destroyed. */
+	LOST
+}
@@ -1,13 +1,31 @@
 package com.example.demo.levels;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
+import com.example.demo.UI.ActorRenderer;
+import com.example.demo.UI.CanvasActorRenderer;
+import com.example.demo.UI.NodeActorRenderer;
+import com.example.demo.UI.ProfilerOverlay;
+import com.example.demo.UI.RenderSnapshot;
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.ActorList;
+import com.example.demo.actors.KinematicsStore;
+import com.example.demo.balance.Balance;
+import com.example.demo.assets.SpriteCache;
+import com.example.demo.collision.CandidateBuffer;
+import com.example.demo.collision.PairBuffer;
+import com.example.demo.collision.ParallelCollisionDetector;
+import com.example.demo.collision.SpatialHashGrid;
+import com.example.demo.profiling.FrameProfiler;
+import com.example.demo.profiling.TickPhase;
 import com.example.demo.actors.planes.FighterPlane;
 import com.example.demo.actors.planes.UserPlane;
 import com.example.demo.actors.planes.planeFactory;
-import javafx.animation.*;
+import com.example.demo.actors.projectiles.ProjectilePools;
+import com.example.demo.actors.projectiles.projectileFactory;
+import javafx.application.Platform;
 import javafx.event.EventHandler;
 import javafx.scene.Group;
 import javafx.scene.Scene;
@@ -15,7 +33,6 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.image.*;
 import javafx.scene.input.*;
-import javafx.util.Duration;
 
 
 /**
@@ -23,37 +40,97 @@ import javafx.util.Duration;
  * It manages the overall game state, actors (e.g., player, enemies, projectiles), and the game loop.
  *
  * Subclasses must define specific level behavior, including spawning enemies and checking for game-over conditions.
+ * <p>
+ * The game state lives entirely in plain actor objects, so a level can run in two ways. Calling
+ * {@link #initializeScene()} builds the JavaFX scene and a {@link GameLoop} that ticks the level and renders it.
+ * Without a scene, {@link #tick()} can be called directly to run the simulation headless, e.g. for
+ * benchmarks or bots, with no JavaFX toolkit involved.
+ * <p>
+ * With {@link GameSettings.LoopMode#THREADED} the ticks run on a simulation thread of their own. The level's
+ * actors then belong to that thread alone: the JavaFX thread only draws the {@link RenderSnapshot}s it publishes,
+ * and the scene changes at the end of the level are handed back to the JavaFX thread.
+ * <p>
+ * The projectiles fired in a level come from its {@link ProjectilePools}, which belong to the level rather than to
+ * the thread ticking it. A session can give all its levels the same pools with {@link #setProjectilePools}, so the
+ * projectiles still flying when a level is left are reused by the next one.
  */
 
 public abstract class LevelParent extends Observable {
 
 	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
-	private static final int MILLISECOND_DELAY = 50;
+	private static final double COLLISION_CELL_SIZE = 100;
+	private static final int PARALLEL_COLLISION_CHUNK_SIZE = 256;
+	private static final double PROFILER_OVERLAY_X_POSITION = 5;
+	private static final double PROFILER_OVERLAY_Y_POSITION = 90;
 	private final double screenHeight;
 	private final double screenWidth;
 	private final double enemyMaximumYPosition;
 
-	private final Group root;
-	private final Timeline timeline;
+	private final String backgroundImageName;
 	private final UserPlane user;
-	private final Scene scene;
-	private final ImageView background;
+	private Group root;
+	private GameLoop gameLoop;
+	private Scene scene;
+	private ImageView background;
+	private ActorRenderer renderer;
+	/** The renderer drawing published snapshots when the simulation runs on its own thread. */
+	private ActorRenderer snapshotRenderer;
+	private boolean simulationThreaded;
+	private SnapshotCounters snapshotCounters;
+	private boolean profilerShown;
+	/**
+	 * The HUD values drawn by a loop ticking on the JavaFX thread, and the final values shown when the level ends.
+	 * Only the thread running the ticks fills it.
+	 */
+	private RenderSnapshot hudSnapshot;
+
+	private final ActorList friendlyUnits;
+	private final ActorList enemyUnits;
+	private final ActorList userProjectiles;
+	private final ActorList enemyProjectiles;
+	private final List<ActiveActorDestructible> enemyUnitsView;
+	private final List<ActiveActorDestructible> removedActors;
+	private int lastTickRemovedActors;
+	private long lastTickRemovalNanos;
+	private final KinematicsStore kinematics;
+	private ProjectilePools projectilePools;
+
+	private final SpatialHashGrid collisionGrid;
+	private final CandidateBuffer collisionCandidates;
+	private final ParallelCollisionDetector parallelCollisionDetector;
+	private final PairBuffer collisionPairs;
+	private final WorldBounds worldBounds;
+	private int candidatePairsThisTick;
+	private int lastTickCandidatePairs;
+	private final FrameProfiler profiler;
+	private ProfilerOverlay profilerOverlay;
 
-	private final List<ActiveActorDestructible> friendlyUnits;
-	private final List<ActiveActorDestructible> enemyUnits;
-	private final List<ActiveActorDestructible> userProjectiles;
-	private final List<ActiveActorDestructible> enemyProjectiles;
+	private final GameRandom random;
+	private final Balance balance;
+	private final Consumer<InputAction> inputHandler;
+	private final InputState inputState;
+	private final KeyboardInput keyboardInput;
+	private final KeyBindings keyBindings;
+	private InputSource inputSource;
+	private InputListener inputListener;
+	private final long tickNanos;
+	private long tickCount;
+	private LevelOutcome outcome;
 
 	private int currentNumberOfEnemies;
 	private LevelView levelView;
 	private int killsToProgress;
 	private Label killCountLabel;
+	private int displayedKills;
 
 
 	private boolean isPaused = false;
 
 	/**
-	 * Constructs a {@code LevelParent} instance with basic game properties.
+	 * Constructs a {@code LevelParent} instance with basic game properties, seeded with the session seed
+	 * from {@link GameSettings#getSeed()} and tuned with {@link Balance#DEFAULT}. The level starts with projectile
+	 * pools of its own, of {@link GameSettings#getProjectilePoolCapacity()} projectiles per type.
+	 * No JavaFX objects are created here; the scene is only built by {@link #initializeScene()}.
 	 *
 	 * @param backgroundImageName The file path of the background image for the level.
 	 * @param screenHeight        The height of the game window.
@@ -62,28 +139,65 @@ public abstract class LevelParent extends Observable {
 	 * @param killsToProgress     The number of enemy kills needed to progress to the next level.
 	 */
 	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth, int killsToProgress) {
-		this.root = new Group();
-		this.scene = new Scene(root, screenWidth, screenHeight);
-		this.timeline = new Timeline();
+		this(backgroundImageName, screenHeight, screenWidth, playerInitialHealth, killsToProgress, GameSettings.getSeed(),
+				Balance.DEFAULT);
+	}
+
+	/**
+	 * Constructs a {@code LevelParent} instance whose random decisions are all derived from the given seed.
+	 * Two levels built with the same seed and balance and fed the same inputs play out identically.
+	 *
+	 * @param backgroundImageName The file path of the background image for the level.
+	 * @param screenHeight        The height of the game window.
+	 * @param screenWidth         The width of the game window.
+	 * @param playerInitialHealth The player's starting health.
+	 * @param killsToProgress     The number of enemy kills needed to progress to the next level.
+	 * @param seed                The seed of the level's {@link GameRandom}.
+	 * @param balance             The tuning of the level and its enemies.
+	 */
+	protected LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth,
+			int killsToProgress, long seed, Balance balance) {
+		this.random = new GameRandom(seed);
+		this.balance = balance;
+		this.inputHandler = this::applyInput;
+		this.inputState = new InputState();
+		this.keyboardInput = new KeyboardInput(inputState);
+		this.keyBindings = GameSettings.getKeyBindings();
+		this.backgroundImageName = backgroundImageName;
 		this.user = planeFactory.createUserPlane(playerInitialHealth);
-		this.friendlyUnits = new ArrayList<>();
-		this.enemyUnits = new ArrayList<>();
-		this.userProjectiles = new ArrayList<>();
-		this.enemyProjectiles = new ArrayList<>();
+		this.friendlyUnits = new ActorList();
+		this.enemyUnits = new ActorList();
+		this.userProjectiles = new ActorList();
+		this.enemyProjectiles = new ActorList();
+		this.enemyUnitsView = Collections.unmodifiableList(enemyUnits);
+		this.removedActors = new ArrayList<>();
+		enemyUnits.setDestructionListener(this::enemyDestroyed);
+		this.kinematics = new KinematicsStore();
+		this.projectilePools = new ProjectilePools(GameSettings.getProjectilePoolCapacity());
 		this.killsToProgress = killsToProgress;
 
-		this.background = new ImageView(new Image(getClass().getResource(backgroundImageName).toExternalForm()));
 		this.screenHeight = screenHeight;
 		this.screenWidth = screenWidth;
 		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
-		this.levelView = instantiateLevelView();
+		this.collisionGrid = new SpatialHashGrid(screenWidth, screenHeight, COLLISION_CELL_SIZE);
+		this.collisionCandidates = new CandidateBuffer();
+		this.parallelCollisionDetector = new ParallelCollisionDetector(ForkJoinPool.commonPool(), PARALLEL_COLLISION_CHUNK_SIZE);
+		this.collisionPairs = new PairBuffer();
+		this.worldBounds = new WorldBounds(screenWidth, screenHeight, GameSettings.getDespawnMargin(),
+				GameSettings.getMaxProjectileLifetime());
+		this.profiler = new FrameProfiler();
+		this.tickNanos = 1_000_000_000L / GameSettings.getTickRate();
+		this.renderer = ActorRenderer.NONE;
+		this.outcome = LevelOutcome.IN_PROGRESS;
 		this.currentNumberOfEnemies = 0;
-		initializeTimeline();
+		user.setClock(this::getSimulationTimeNanos);
 		friendlyUnits.add(user);
+		kinematics.attach(user);
 	}
 
 	/**
-	 * Initializes friendly units, such as the player's plane.
+	 * Initializes the display of friendly units, such as the player's plane.
+	 * Only called when the level is shown in a scene.
 	 */
 	protected abstract void initializeFriendlyUnits();
 
@@ -107,14 +221,23 @@ public abstract class LevelParent extends Observable {
 
 	/**
 	 * Initializes the scene with the background, player's plane, and HUD.
+	 * Must be called on the JavaFX Application Thread.
 	 *
 	 * @return The initialized {@link Scene} object for the level.
 	 */
 	public Scene initializeScene() {
+		root = new Group();
+		scene = new Scene(root, screenWidth, screenHeight);
+		background = new ImageView(SpriteCache.getImage(backgroundImageName));
+		levelView = instantiateLevelView();
+		hudSnapshot = new RenderSnapshot();
 		initializeBackground();
+		initializeRenderer();
+		initializeGameLoop();
 		initializeFriendlyUnits();
 		levelView.showHeartDisplay();
 		initializeKillProgressDisplay();
+		initializeProfilerOverlay();
 		return scene;
 	}
 
@@ -123,51 +246,132 @@ public abstract class LevelParent extends Observable {
 	 */
 	public void startGame() {
 		background.requestFocus();
-		timeline.play();
+		gameLoop.start();
 	}
 
 	/**
-	 * Transitions to the next level.
+	 * Transitions to the next level. The projectiles still flying go back to the level's pools, for the next level
+	 * to reuse if it shares them. In the threaded loop this runs on the simulation thread, which touches neither the
+	 * pools nor the projectiles afterwards, so the next level's thread can take them over.
 	 *
 	 * @param levelName The fully qualified class name of the next level.
 	 */
 	public void goToNextLevel(String levelName) {
-		timeline.stop();
-		setChanged();
-		notifyObservers(levelName);
+		if (outcome != LevelOutcome.IN_PROGRESS) {
+			return;
+		}
+		outcome = LevelOutcome.ADVANCED;
+		stopGameLoop();
+		kinematics.detachAll();
+		releaseProjectiles(userProjectiles);
+		releaseProjectiles(enemyProjectiles);
+		runOnFxThread(() -> {
+			setChanged();
+			notifyObservers(levelName);
+		});
 	}
 
 	/**
-	 * Updates all actors, projectiles, and game conditions during the game loop.
+	 * Advances the level by one game tick without rendering anything.
+	 * The game loop calls this at the tick rate; headless simulations call it directly.
+	 * The inputs for this tick are applied first: those of the level's {@link InputSource} if it has one,
+	 * otherwise those of the keyboard, sampled once from its {@link InputState}.
+	 * Once the level has been won, lost or left, further ticks do nothing.
 	 */
+	public void tick() {
+		if (outcome != LevelOutcome.IN_PROGRESS) {
+			return;
+		}
+		InputSource source = inputSource != null ? inputSource : keyboardInput;
+		source.pollInputs(tickCount, inputHandler);
+		tickCount++;
+		updateScene();
+	}
 
-	private void updateScene() {
+	/**
+	 * Updates all actors, projectiles, and game conditions during the game loop.
+	 * <p>
+	 * This method and the phases it runs are package-private so the benchmarks, which live in
+	 * the same package, can measure each phase on its own. Each phase is also timed by the level's
+	 * {@link FrameProfiler} while it is enabled.
+	 */
+	void updateScene() {
+		long time = profiler.begin();
 		spawnEnemyUnits();
+		time = profiler.record(TickPhase.SPAWN, time);
 		updateActors();
+		time = profiler.record(TickPhase.UPDATE_ACTORS, time);
 		generateEnemyFire();
+		time = profiler.record(TickPhase.ENEMY_FIRE, time);
 		updateNumberOfEnemies();
 		handleEnemyPenetration();
+		time = profiler.record(TickPhase.ENEMY_PENETRATION, time);
 		handleUserProjectileCollisions();
+		time = profiler.record(TickPhase.USER_PROJECTILE_COLLISIONS, time);
 		handleEnemyProjectileCollisions();
+		time = profiler.record(TickPhase.ENEMY_PROJECTILE_COLLISIONS, time);
 		handlePlaneCollisions();
+		time = profiler.record(TickPhase.PLANE_COLLISIONS, time);
+		lastTickCandidatePairs = candidatePairsThisTick;
+		candidatePairsThisTick = 0;
+		despawnProjectiles();
+		time = profiler.record(TickPhase.DESPAWN, time);
 		removeAllDestroyedActors();
-		updateLevelView();
+		time = profiler.record(TickPhase.REMOVE_DESTROYED, time);
 		checkIfGameOver();
+		profiler.record(TickPhase.CHECK_GAME_OVER, time);
 	}
 
 	/**
-	 * Initializes the game loop timeline to repeatedly update the scene at a fixed interval.
-	 * The loop runs indefinitely and updates the game state at regular intervals.
+	 * Initializes the game loop that repeatedly updates the scene at the tick rate and renders it.
+	 * The kind of loop is chosen by {@link GameSettings#getLoopMode()}.
 	 */
-	private void initializeTimeline() {
-		timeline.setCycleCount(Timeline.INDEFINITE);
-		KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
-		timeline.getKeyFrames().add(gameLoop);
+	private void initializeGameLoop() {
+		switch (GameSettings.getLoopMode()) {
+			case TIMELINE:
+				gameLoop = new TimelineGameLoop(tickNanos, this::tick, this::renderFrame);
+				break;
+			case THREADED:
+				snapshotRenderer = renderer;
+				renderer = ActorRenderer.NONE;
+				simulationThreaded = true;
+				snapshotCounters = new SnapshotCounters();
+				gameLoop = new ThreadedGameLoop(tickNanos, GameSettings.getMaxCatchUpTicks(), this::tick,
+						this::captureSnapshot, this::renderSnapshot);
+				break;
+			default:
+				gameLoop = new FixedStepGameLoop(tickNanos, GameSettings.getMaxCatchUpTicks(), this::tick,
+						this::renderFrame);
+				break;
+		}
+	}
+
+	/**
+	 * Creates the renderer selected by {@link GameSettings#getRenderMode()} and places its actor layer
+	 * above the background and below the HUD.
+	 */
+	private void initializeRenderer() {
+		switch (GameSettings.getRenderMode()) {
+			case CANVAS:
+				CanvasActorRenderer canvasRenderer = new CanvasActorRenderer(screenWidth, screenHeight,
+						GameSettings.getGlowMode());
+				root.getChildren().add(canvasRenderer.getLayer());
+				renderer = canvasRenderer;
+				break;
+			default:
+				NodeActorRenderer nodeRenderer = new NodeActorRenderer(GameSettings.getGlowMode());
+				root.getChildren().add(nodeRenderer.getLayer());
+				renderer = nodeRenderer;
+				break;
+		}
 	}
 
 	/**
 	 * Initializes the background image and sets up event listeners for key presses and releases.
 	 * Handles user controls like movement, shooting, and pausing the game.
+	 * Bound keys only press and release controls in the level's {@link InputState}, which is sampled at the
+	 * start of every tick; while an {@link InputSource} drives the level it is ignored, but pausing still works.
+	 * Losing the focus releases every control, since the key releases would be missed.
 	 */
 	private void initializeBackground() {
 		background.setFocusTraversable(true);
@@ -176,22 +380,28 @@ public abstract class LevelParent extends Observable {
 		background.setOnKeyPressed(new EventHandler<KeyEvent>() {
 			public void handle(KeyEvent e) {
 				KeyCode kc = e.getCode();
+				if (kc == KeyCode.F3) {
+					toggleProfiler();
+					return;
+				}
+				InputControl control = keyBindings.getControl(kc);
+				if (control != null) inputState.press(control);
 				if (isPaused) {
 					resumeGame();
 					return;
 				}
-				if (kc == KeyCode.UP) user.moveUp();
-				if (kc == KeyCode.DOWN) user.moveDown();
-				if (kc == KeyCode.SPACE) fireProjectile();
 				if (kc == KeyCode.ESCAPE) pauseGame();
 			}
 		});
 		background.setOnKeyReleased(new EventHandler<KeyEvent>() {
 			public void handle(KeyEvent e) {
-				KeyCode kc = e.getCode();
-				if (kc == KeyCode.UP || kc == KeyCode.DOWN) user.stop();
+				InputControl control = keyBindings.getControl(e.getCode());
+				if (control != null) inputState.release(control);
 			}
 		});
+		background.focusedProperty().addListener((observable, wasFocused, focused) -> {
+			if (!focused) inputState.releaseAll();
+		});
 		root.getChildren().add(background);
 	}
 
@@ -207,24 +417,122 @@ public abstract class LevelParent extends Observable {
 		root.getChildren().addAll( killCountLabel);
 	}
 
+	/**
+	 * Adds the profiler overlay on top of the HUD. It starts hidden unless profiling was requested
+	 * through {@link GameSettings#isProfilerEnabled()}.
+	 */
+	private void initializeProfilerOverlay() {
+		profilerOverlay = new ProfilerOverlay(PROFILER_OVERLAY_X_POSITION, PROFILER_OVERLAY_Y_POSITION);
+		root.getChildren().add(profilerOverlay.getNode());
+		if (GameSettings.isProfilerEnabled()) {
+			toggleProfiler();
+		}
+	}
+
+	/**
+	 * Sets a note shown at the bottom of the profiler overlay, e.g. how the previous level ended.
+	 * Must be called on the JavaFX Application Thread, after {@link #initializeScene()}.
+	 *
+	 * @param note the note, or {@code null} for none
+	 */
+	public void setProfilerNote(String note) {
+		profilerOverlay.setNote(note);
+	}
+
+	/**
+	 * Turns the frame profiler and its overlay on or off. The profiler is switched between two ticks, so a
+	 * simulation thread never records into it while its samples are discarded.
+	 */
+	private void toggleProfiler() {
+		boolean shown = !profilerShown;
+		profilerShown = shown;
+		gameLoop.runInSimulation(() -> profiler.setEnabled(shown));
+		profilerOverlay.setVisible(shown);
+	}
+
+	/**
+	 * Applies a player input to the level. Inputs take effect between ticks, and the {@link InputListener},
+	 * if any, is told about each one together with the current tick count, so a recording can replay them
+	 * at exactly the same point of the game.
+	 *
+	 * @param action The input to apply.
+	 */
+	public void applyInput(InputAction action) {
+		if (inputListener != null) {
+			inputListener.inputApplied(tickCount, action);
+		}
+		switch (action) {
+			case MOVE_UP:
+				user.moveUp();
+				break;
+			case MOVE_DOWN:
+				user.moveDown();
+				break;
+			case STOP:
+				user.stop();
+				break;
+			case FIRE:
+				fireProjectile();
+				break;
+		}
+	}
+
+	/**
+	 * Lets an {@link InputSource}, e.g. a replay, drive the level instead of the keyboard.
+	 * Its inputs are applied at the start of every tick.
+	 *
+	 * @param inputSource The source of the level's inputs, or {@code null} to use the keyboard.
+	 */
+	public void setInputSource(InputSource inputSource) {
+		this.inputSource = inputSource;
+	}
+
+	/**
+	 * Returns the controls held on the keyboard, sampled at the start of every tick unless an
+	 * {@link InputSource} drives the level. Headless drivers can press and release controls here too.
+	 *
+	 * @return The level's input state.
+	 */
+	public InputState getInputState() {
+		return inputState;
+	}
+
+	/**
+	 * Sets the listener told about every input applied to the level, e.g. an input recorder.
+	 *
+	 * @param inputListener The listener, or {@code null} for none.
+	 */
+	public void setInputListener(InputListener inputListener) {
+		this.inputListener = inputListener;
+	}
+
 	/**
 	 * Fires a projectile from the user's plane.
 	 * If the projectile is successfully created, it is added to the scene and tracked.
 	 */
 	private void fireProjectile() {
-		ActiveActorDestructible projectile = user.fireProjectile();
-		if (projectile == null) {
-			return;
+		ActiveActorDestructible projectile = user.fireProjectile(projectilePools);
+		if (projectile != null) {
+			spawnUserProjectile(projectile);
 		}
-		root.getChildren().add(projectile);
+	}
+
+	/**
+	 * Adds a projectile fired by the user to the game.
+	 *
+	 * @param projectile The projectile to spawn.
+	 */
+	void spawnUserProjectile(ActiveActorDestructible projectile) {
+		kinematics.attach(projectile);
+		renderer.addActor(projectile);
 		userProjectiles.add(projectile);
 	}
 
 	/**
 	 * Generates enemy projectiles.
 	 */
-	private void generateEnemyFire() {
-		enemyUnits.forEach(enemy -> spawnEnemyProjectile(((FighterPlane) enemy).fireProjectile()));
+	void generateEnemyFire() {
+		enemyUnits.forEach(enemy -> spawnEnemyProjectile(((FighterPlane) enemy).fireProjectile(projectilePools)));
 	}
 
 	/**
@@ -232,43 +540,75 @@ public abstract class LevelParent extends Observable {
 	 *
 	 * @param projectile The projectile to spawn.
 	 */
-	private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
+	void spawnEnemyProjectile(ActiveActorDestructible projectile) {
 		if (projectile != null) {
-			root.getChildren().add(projectile);
+			kinematics.attach(projectile);
+			renderer.addActor(projectile);
 			enemyProjectiles.add(projectile);
 		}
 	}
 
 	/**
 	 * Updates all actors in the game, including planes and projectiles.
+	 * Actors with behavior of their own, such as the boss, first run it and may change their velocity;
+	 * then all actors are moved together in one pass over the {@link KinematicsStore}, which also
+	 * remembers where each one started the tick so the renderer can interpolate its movement.
+	 */
+	void updateActors() {
+		kinematics.updateBehaviors();
+		kinematics.integrate();
+	}
+
+	/**
+	 * Retires the projectiles that have left the screen or outlived their maximum lifetime, so that long sessions
+	 * do not accumulate projectiles nobody can see. They are removed with the other destroyed actors.
+	 * Enemy planes are not retired here; they leave the level by getting past the player.
 	 */
-	private void updateActors() {
-		friendlyUnits.forEach(plane -> plane.updateActor());
-		enemyUnits.forEach(enemy -> enemy.updateActor());
-		userProjectiles.forEach(projectile -> projectile.updateActor());
-		enemyProjectiles.forEach(projectile -> projectile.updateActor());
+	void despawnProjectiles() {
+		worldBounds.retire(userProjectiles);
+		worldBounds.retire(enemyProjectiles);
 	}
 
 	/**
 	 * Removes all destroyed actors from the game world.
+	 * <p>
+	 * Only the actors destroyed during the tick are visited, and their views are detached from the scene
+	 * in one batch. Ticks in which nothing was destroyed return straight away without allocating anything.
+	 * The number of removed actors and the time taken are kept for {@link #getLastTickRemovedActors()}
+	 * and {@link #getLastTickRemovalNanos()}.
 	 */
-	private void removeAllDestroyedActors() {
-		removeDestroyedActors(friendlyUnits);
-		removeDestroyedActors(enemyUnits);
-		removeDestroyedActors(userProjectiles);
-		removeDestroyedActors(enemyProjectiles);
+	void removeAllDestroyedActors() {
+		if (!friendlyUnits.hasDestroyed() && !enemyUnits.hasDestroyed()
+				&& !userProjectiles.hasDestroyed() && !enemyProjectiles.hasDestroyed()) {
+			lastTickRemovedActors = 0;
+			lastTickRemovalNanos = 0;
+			return;
+		}
+		long start = System.nanoTime();
+		friendlyUnits.removeDestroyed(removedActors);
+		enemyUnits.removeDestroyed(removedActors);
+		userProjectiles.removeDestroyed(removedActors);
+		enemyProjectiles.removeDestroyed(removedActors);
+		renderer.removeActors(removedActors);
+		for (int i = 0; i < removedActors.size(); i++) {
+			ActiveActorDestructible actor = removedActors.get(i);
+			kinematics.detach(actor);
+			projectileFactory.releaseProjectile(actor);
+		}
+		lastTickRemovedActors = removedActors.size();
+		removedActors.clear();
+		lastTickRemovalNanos = System.nanoTime() - start;
 	}
 
 	/**
-	 * Removes destroyed actors from a given list.
+	 * Hands projectiles that are no longer part of the level back to the level's projectile pools.
+	 * The list is emptied as well, so the projectiles no longer belong to it when the pool reuses them.
 	 *
-	 * @param actors The list of actors to check for destruction.
+	 * @param projectiles The projectiles to release.
 	 */
-	private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
-		List<ActiveActorDestructible> destroyedActors = actors.stream().filter(actor -> actor.isDestroyed())
-				.collect(Collectors.toList());
-		root.getChildren().removeAll(destroyedActors);
-		actors.removeAll(destroyedActors);
+	private void releaseProjectiles(ActorList projectiles) {
+		projectiles.forEach(projectileFactory::releaseProjectile);
+		projectiles.clear();
 	}
 
 	/**
@@ -294,23 +634,70 @@ public abstract class LevelParent extends Observable {
 
 	/**
 	 * Handles collisions between two lists of actors.
+	 * <p>
+	 * The actors of the first list are placed in a spatial hash grid, so each actor of the second list
+	 * is only tested against the actors sharing a grid cell with it. Candidates are visited in list order,
+	 * which keeps damage being applied in exactly the same order as a full pairwise scan.
+	 * <p>
+	 * Depending on {@link GameSettings#getCollisionMode()} and the number of actors, the pair tests are
+	 * split across a fork/join pool. Damage is then applied afterwards on this thread, in the same order,
+	 * so both ways give identical results.
 	 *
 	 * @param actors1 The first list of actors to check for collisions.
 	 * @param actors2 The second list of actors to check for collisions.
 	 */
-	private void handleCollisions(List<ActiveActorDestructible> actors1,
+	void handleCollisions(List<ActiveActorDestructible> actors1,
 			List<ActiveActorDestructible> actors2) {
+		collisionGrid.clear();
+		for (int i = 0; i < actors1.size(); i++) {
+			ActiveActorDestructible actor = actors1.get(i);
+			double x = actor.getHitboxX();
+			double y = actor.getHitboxY();
+			collisionGrid.insert(i, x, y, x + actor.getHitboxWidth(), y + actor.getHitboxHeight());
+		}
+		if (useParallelCollisions(actors1.size() + actors2.size())) {
+			parallelCollisionDetector.detect(collisionGrid, actors1, actors2, collisionPairs);
+			candidatePairsThisTick += parallelCollisionDetector.getLastCandidateCount();
+			for (int i = 0; i < collisionPairs.size(); i++) {
+				actors2.get(collisionPairs.getQueried(i)).takeDamage();
+				actors1.get(collisionPairs.getInserted(i)).takeDamage();
+			}
+			return;
+		}
 		for (ActiveActorDestructible actor : actors2) {
-			for (ActiveActorDestructible otherActor : actors1) {
-				if (actor.getBoundsInParent().intersects(otherActor.getBoundsInParent())) {
+			double x = actor.getHitboxX();
+			double y = actor.getHitboxY();
+			collisionGrid.query(x, y, x + actor.getHitboxWidth(), y + actor.getHitboxHeight(), collisionCandidates);
+			candidatePairsThisTick += collisionCandidates.size();
+			for (int i = 0; i < collisionCandidates.size(); i++) {
+				ActiveActorDestructible otherActor = actors1.get(collisionCandidates.get(i));
+				if (actor.intersects(otherActor)) {
 					actor.takeDamage();
 					otherActor.takeDamage();
-					updateKillCount();
 				}
 			}
 		}
 	}
 
+	/**
+	 * Decides whether a collision pass should test its pairs in parallel.
+	 * In automatic mode this also needs a common pool that can actually run more than one task at a time.
+	 *
+	 * @param actorCount The number of actors in the pass, counting both lists.
+	 * @return {@code true} to use the fork/join pool.
+	 */
+	private boolean useParallelCollisions(int actorCount) {
+		switch (GameSettings.getCollisionMode()) {
+			case PARALLEL:
+				return true;
+			case AUTO:
+				return actorCount >= GameSettings.getParallelCollisionThreshold()
+						&& ForkJoinPool.getCommonPoolParallelism() > 1;
+			default:
+				return false;
+		}
+	}
+
 	/**
 	 * Checks if any enemy units have penetrated the player's defenses(gotten past the player).
 	 */
@@ -325,29 +712,116 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Updates the HUD and handles kill progress updates.
+	 * Draws a frame: brings the actors on screen up to date, then the HUD, and the profiler overlay if it is shown.
+	 *
+	 * @param alpha the fraction of a tick elapsed since the last tick
 	 */
-	private void updateLevelView() {
-		levelView.removeHearts(user.getHealth());
+	private void renderFrame(double alpha) {
+		profiler.pulse();
+		long time = profiler.begin();
+		renderer.render(alpha);
+		time = profiler.record(TickPhase.RENDER, time);
+		captureHud(hudSnapshot);
+		updateHud(hudSnapshot);
+		profiler.record(TickPhase.HUD, time);
+		if (profiler.isEnabled()) {
+			hudSnapshot.setPoolCounts(projectilePools);
+			showPoolCounts(hudSnapshot);
+			profilerOverlay.refresh(profiler, friendlyUnits.size(), enemyUnits.size(), userProjectiles.size(),
+					enemyProjectiles.size());
+		}
 	}
 
 	/**
-	 * Updates the player's kill count and updates the HUD accordingly.
+	 * Fills a snapshot with every actor of the level, friendly units first, then enemies, user projectiles and
+	 * enemy projectiles, and with the HUD values and the counts of the projectile pools. Runs on the simulation
+	 * thread after each batch of ticks. Once the level has ended its pools may already serve the next level, so they
+	 * are no longer read.
+	 *
+	 * @param snapshot the snapshot to fill
 	 */
-	private void updateKillCount() {
-		for (ActiveActorDestructible enemy : enemyUnits) {
-			if(!enemy.isPenetrated() && enemy.isDestroyed()){
-				user.incrementKillCount();
-			}
+	private void captureSnapshot(RenderSnapshot snapshot) {
+		snapshot.clear();
+		snapshot.addGroup(friendlyUnits);
+		snapshot.addGroup(enemyUnits);
+		snapshot.addGroup(userProjectiles);
+		snapshot.addGroup(enemyProjectiles);
+		captureHud(snapshot);
+		if (outcome == LevelOutcome.IN_PROGRESS) {
+			snapshot.setPoolCounts(projectilePools);
 		}
-		updateKillProgress();
 	}
 
 	/**
-	 * Updates the on-screen kill progress.
+	 * Draws a frame from the latest snapshot published by the simulation thread, then the HUD, and the profiler
+	 * overlay if it is shown. Counts snapshots that were replaced before being drawn and frames that had no new
+	 * snapshot to draw.
+	 *
+	 * @param snapshot the latest snapshot
+	 * @param alpha    the fraction of a tick elapsed since the snapshot's tick
 	 */
-	private void updateKillProgress() {
-		killCountLabel.setText("Kills: " + user.getNumberOfKills() + " / " + killsToProgress);
+	private void renderSnapshot(RenderSnapshot snapshot, double alpha) {
+		profiler.pulse();
+		snapshotCounters.frameDrawn(snapshot, profiler);
+		long time = profiler.begin();
+		snapshotRenderer.render(snapshot, alpha);
+		time = profiler.record(TickPhase.RENDER, time);
+		updateHud(snapshot);
+		profiler.record(TickPhase.HUD, time);
+		if (profilerShown) {
+			showPoolCounts(snapshot);
+			profilerOverlay.refresh(profiler, snapshot.getGroupSize(0), snapshot.getGroupSize(1),
+					snapshot.getGroupSize(2), snapshot.getGroupSize(3), snapshotCounters.getDroppedSnapshots(),
+					snapshotCounters.getRepeatedFrames());
+		}
+	}
+
+	/**
+	 * Hands the pool counts captured in a snapshot to the profiler overlay, which shows them from its next refresh.
+	 *
+	 * @param snapshot the snapshot holding the counts
+	 */
+	private void showPoolCounts(RenderSnapshot snapshot) {
+		profilerOverlay.setPoolCounts(snapshot.getLiveProjectiles(), snapshot.getIdleProjectiles(),
+				snapshot.getProjectileHighWaterMark(), snapshot.getProjectilesCreated(),
+				snapshot.getProjectilesReused());
+	}
+
+	/**
+	 * Copies the values shown on the HUD into a snapshot. Called on the thread running the ticks.
+	 *
+	 * @param snapshot the snapshot receiving the values
+	 */
+	protected void captureHud(RenderSnapshot snapshot) {
+		snapshot.setHud(user.getHealth(), user.getNumberOfKills());
+	}
+
+	/**
+	 * Updates the HUD from the values captured in a snapshot, never from the live game state, which may belong to
+	 * another thread. Called once per frame, and once more when the level ends.
+	 * The kill label is only rewritten when the kill count has changed.
+	 *
+	 * @param snapshot the snapshot holding the values to show
+	 */
+	protected void updateHud(RenderSnapshot snapshot) {
+		levelView.removeHearts(snapshot.getPlayerHealth());
+		int kills = snapshot.getKills();
+		if (kills != displayedKills) {
+			displayedKills = kills;
+			killCountLabel.setText("Kills: " + kills + " / " + killsToProgress);
+		}
+	}
+
+	/**
+	 * Counts a kill for the player when an enemy is destroyed, unless it was destroyed by getting past the player.
+	 * Each enemy is reported once, at the moment it is destroyed.
+	 *
+	 * @param enemy The enemy that was destroyed.
+	 */
+	private void enemyDestroyed(ActiveActorDestructible enemy) {
+		if (!enemy.isPenetrated()) {
+			user.incrementKillCount();
+		}
 	}
 
 	/**
@@ -365,9 +839,16 @@ public abstract class LevelParent extends Observable {
 	 * Displays end game options, such as exiting the game.
 	 */
 	protected void winGame() {
-		timeline.stop();
-		levelView.showWinImage();
-		showEndGameOptions();
+		outcome = LevelOutcome.WON;
+		stopGameLoop();
+		if (hasScene()) {
+			captureHud(hudSnapshot);
+			runOnFxThread(() -> {
+				updateHud(hudSnapshot);
+				levelView.showWinImage();
+				showEndGameOptions();
+			});
+		}
 	}
 
 	/**
@@ -375,9 +856,16 @@ public abstract class LevelParent extends Observable {
 	 * Displays end game options, such as exiting the game.
 	 */
 	protected void loseGame() {
-		timeline.stop();
-		levelView.showGameOverImage();
-		showEndGameOptions();
+		outcome = LevelOutcome.LOST;
+		stopGameLoop();
+		if (hasScene()) {
+			captureHud(hudSnapshot);
+			runOnFxThread(() -> {
+				updateHud(hudSnapshot);
+				levelView.showGameOverImage();
+				showEndGameOptions();
+			});
+		}
 	}
 
 	/**
@@ -409,14 +897,42 @@ public abstract class LevelParent extends Observable {
 
 	/**
 	 * Returns the user-controlled plane.
-	 * This plane represents the player's plane in the game.
+	 * This plane represents the player's plane in the game. It is public so simulated players can see where it is.
 	 *
 	 * @return The {@link UserPlane} controlled by the player.
 	 */
-	protected UserPlane getUser() {
+	public UserPlane getUser() {
 		return user;
 	}
 
+	/**
+	 * Returns the random source of the level. Every random decision of the level and its actors
+	 * must be drawn from it so the level can be reproduced from its seed.
+	 *
+	 * @return The level's {@link GameRandom}.
+	 */
+	protected GameRandom getRandom() {
+		return random;
+	}
+
+	/**
+	 * Returns the tuning the level and its enemies were created with.
+	 *
+	 * @return The level's {@link Balance}.
+	 */
+	protected Balance getBalance() {
+		return balance;
+	}
+
+	/**
+	 * Returns the renderer that displays the level's actors.
+	 *
+	 * @return The active {@link ActorRenderer}, or {@link ActorRenderer#NONE} when running headless.
+	 */
+	protected ActorRenderer getRenderer() {
+		return renderer;
+	}
+
 	/**
 	 * Returns the root node of the game scene.
 	 * The root node holds all visual elements of the game, such as planes, projectiles, and the background.
@@ -441,7 +957,62 @@ public abstract class LevelParent extends Observable {
 	 */
 	protected void addEnemyUnit(ActiveActorDestructible enemy) {
 		enemyUnits.add(enemy);
-		root.getChildren().add(enemy);
+		kinematics.attach(enemy);
+		renderer.addActor(enemy);
+	}
+
+	/**
+	 * Returns the live list of friendly units, including the user's plane.
+	 *
+	 * @return the friendly units of the level
+	 */
+	List<ActiveActorDestructible> getFriendlyUnits() {
+		return friendlyUnits;
+	}
+
+	/**
+	 * Returns the live list of enemy units.
+	 *
+	 * @return the enemy units of the level
+	 */
+	List<ActiveActorDestructible> getEnemyUnits() {
+		return enemyUnits;
+	}
+
+	/**
+	 * Returns a read-only view of the enemy units, e.g. for a simulated player picking its target.
+	 *
+	 * @return the enemy units of the level
+	 */
+	public List<ActiveActorDestructible> getEnemies() {
+		return enemyUnitsView;
+	}
+
+	/**
+	 * Returns the number of actors in the level: friendly and enemy units and all projectiles.
+	 *
+	 * @return the actor count
+	 */
+	public int getActorCount() {
+		return friendlyUnits.size() + enemyUnits.size() + userProjectiles.size() + enemyProjectiles.size();
+	}
+
+	/**
+	 * Returns the live list of projectiles fired by the user.
+	 *
+	 * @return the user's projectiles
+	 */
+	List<ActiveActorDestructible> getUserProjectiles() {
+		return userProjectiles;
+	}
+
+	/**
+	 * Returns the live list of projectiles fired by enemies.
+	 *
+	 * @return the enemies' projectiles
+	 */
+	List<ActiveActorDestructible> getEnemyProjectiles() {
+		return enemyProjectiles;
 	}
 
 	/**
@@ -468,6 +1039,101 @@ public abstract class LevelParent extends Observable {
 		return screenHeight;
 	}
 
+	/**
+	 * Returns the number of candidate pairs that reached the exact intersection test during the last tick,
+	 * summed over all collision passes.
+	 *
+	 * @return the candidate pair count of the last completed tick
+	 */
+	public int getLastTickCandidatePairs() {
+		return lastTickCandidatePairs;
+	}
+
+	/**
+	 * Returns the profiler timing the phases of this level's ticks and frames.
+	 * It is disabled unless the player turns it on, or it is enabled explicitly, e.g. by a headless run.
+	 *
+	 * @return the level's frame profiler
+	 */
+	public FrameProfiler getProfiler() {
+		return profiler;
+	}
+
+	/**
+	 * Returns the pools the level's projectiles are taken from and released to.
+	 *
+	 * @return the level's projectile pools
+	 */
+	public ProjectilePools getProjectilePools() {
+		return projectilePools;
+	}
+
+	/**
+	 * Makes the level take its projectiles from the given pools instead of its own, e.g. pools shared by all the
+	 * levels of a session. Must be called before the level's first tick.
+	 *
+	 * @param pools the projectile pools, or {@link ProjectilePools#NONE} to create every projectile anew
+	 */
+	public void setProjectilePools(ProjectilePools pools) {
+		this.projectilePools = pools;
+	}
+
+	/**
+	 * Returns the world bounds of the level, which count the projectiles retired so far.
+	 *
+	 * @return the level's world bounds
+	 */
+	public WorldBounds getWorldBounds() {
+		return worldBounds;
+	}
+
+	/**
+	 * Returns the number of destroyed actors removed from the level during the last tick.
+	 *
+	 * @return the removed actor count of the last completed tick
+	 */
+	public int getLastTickRemovedActors() {
+		return lastTickRemovedActors;
+	}
+
+	/**
+	 * Returns the time spent removing destroyed actors during the last tick.
+	 *
+	 * @return the removal time in nanoseconds, or 0 if nothing was removed
+	 */
+	public long getLastTickRemovalNanos() {
+		return lastTickRemovalNanos;
+	}
+
+	/**
+	 * Returns how the level has ended so far.
+	 *
+	 * @return {@link LevelOutcome#IN_PROGRESS} while the level is being played, otherwise how it ended
+	 */
+	public LevelOutcome getOutcome() {
+		return outcome;
+	}
+
+	/**
+	 * Returns the number of ticks the level has run.
+	 *
+	 * @return the tick count
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Returns the game time elapsed in the level, derived from the number of ticks run.
+	 * Time-based mechanics use this clock, so they behave the same whether the level runs
+	 * in real time or as fast as possible.
+	 *
+	 * @return the simulation time in nanoseconds
+	 */
+	public long getSimulationTimeNanos() {
+		return tickCount * tickNanos;
+	}
+
 	/**
 	 * checks if the user is destroyed
 	 *
@@ -485,21 +1151,54 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Pauses the game timeline.
+	 * Checks whether the level is being displayed in a JavaFX scene.
+	 *
+	 * @return {@code true} once {@link #initializeScene()} has been called
+	 */
+	private boolean hasScene() {
+		return scene != null;
+	}
+
+	/**
+	 * Runs a change to the scene on the JavaFX thread: later, if the simulation runs on its own thread, and at once
+	 * otherwise.
+	 *
+	 * @param task the change to make
+	 */
+	private void runOnFxThread(Runnable task) {
+		if (simulationThreaded) {
+			Platform.runLater(task);
+		} else {
+			task.run();
+		}
+	}
+
+	/**
+	 * Stops the game loop if the level has one.
+	 */
+	private void stopGameLoop() {
+		if (gameLoop != null) {
+			gameLoop.stop();
+		}
+	}
+
+	/**
+	 * Pauses the game loop.
 	 */
 	private void pauseGame() {
 		if (!isPaused) {
-			timeline.pause();
+			gameLoop.pause();
 			isPaused = true;
 		}
 	}
 
 	/**
-	 * Resumes the game timeline after being paused.
+	 * Resumes the game loop after being paused.
 	 */
 	private void resumeGame() {
 		if (isPaused) {
-			timeline.play();
+			profiler.resetPulse();
+			gameLoop.resume();
 			isPaused = false;
 		}
 	}
@@ -0,0 +1,123 @@
+package com.example.demo.levels;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.demo.assets.SpriteCache;
+import com.example.demo.levels.waves.WaveScript;
+
+/**
+ * The levels of the game, in playing order, each with a prebuilt factory.
+ * <p>
+ * Levels used to be created by loading their class by name and calling its constructor reflectively.
+ * The registry replaces that with plain constructor references, and also knows which level follows which and
+ * which images each level needs, so those images can be decoded before the level is shown. Sprites are not
+ * listed: they are all packed into the {@link com.example.demo.assets.SpriteAtlas} at launch.
+ * <p>
+ * Levels sent by a {@link WaveScript} are registered under the script's name after the built-in ones. They can be
+ * started with {@link GameSettings#getStartLevel()} and chain on to other levels through their {@code next} setting.
+ */
+public final class LevelRegistry {
+
+	/** Images outside the sprite atlas that every level may show. */
+	private static final List<String> COMMON_IMAGE_PATHS = toImagePaths("youwin.png");
+
+	private static final Map<String, LevelDefinition> LEVELS = new LinkedHashMap<>();
+
+	static {
+		register(new LevelDefinition(LevelOne.class, LevelOne::new, LevelTwo.class.getName(), "background1.jpg"));
+		register(new LevelDefinition(LevelTwo.class, LevelTwo::new, LevelBoss.class.getName(), "background2.jpg"));
+		register(new LevelDefinition(LevelBoss.class, LevelBoss::new, null, "backgroundboss.jpg"));
+		register(ScriptedLevel.define(WaveScript.load(WaveScript.SCRIPT_LOCATION + "gauntlet.waves")));
+	}
+
+	private LevelRegistry() {
+	}
+
+	/**
+	 * Returns the first level of the game.
+	 *
+	 * @return the definition of the first level
+	 */
+	public static LevelDefinition getFirstLevel() {
+		return LEVELS.values().iterator().next();
+	}
+
+	/**
+	 * Looks up a level by its fully qualified class name or by its short name.
+	 *
+	 * @param name the class name, e.g. {@code com.example.demo.levels.LevelOne}, or the short name {@code LevelOne}
+	 * @return the level's definition
+	 * @throws IllegalArgumentException if no such level is registered
+	 */
+	public static LevelDefinition get(String name) {
+		LevelDefinition definition = LEVELS.get(name);
+		if (definition == null) {
+			for (LevelDefinition candidate : LEVELS.values()) {
+				if (candidate.getName().equals(name)) {
+					return candidate;
+				}
+			}
+			throw new IllegalArgumentException("Unknown level: " + name + ", expected one of " + getNames());
+		}
+		return definition;
+	}
+
+	/**
+	 * Returns every registered level, the built-in ones first in playing order.
+	 *
+	 * @return an unmodifiable view of the definitions
+	 */
+	public static Collection<LevelDefinition> getAll() {
+		return Collections.unmodifiableCollection(LEVELS.values());
+	}
+
+	/**
+	 * Returns the short names of every registered level, the built-in ones first in playing order.
+	 *
+	 * @return the level names
+	 */
+	public static List<String> getNames() {
+		List<String> names = new ArrayList<>(LEVELS.size());
+		for (LevelDefinition definition : LEVELS.values()) {
+			names.add(definition.getName());
+		}
+		return names;
+	}
+
+	/**
+	 * Returns the resource paths of the images shown in every level.
+	 *
+	 * @return an unmodifiable list of resource paths
+	 */
+	public static List<String> getCommonImagePaths() {
+		return COMMON_IMAGE_PATHS;
+	}
+
+	/**
+	 * Adds a level to the registry.
+	 *
+	 * @param definition the level to add
+	 */
+	private static void register(LevelDefinition definition) {
+		LEVELS.put(definition.getClassName(), definition);
+	}
+
+	/**
+	 * Turns image file names into resource paths below {@link SpriteCache#IMAGE_LOCATION}.
+	 *
+	 * @param imageNames the image file names
+	 * @return an unmodifiable list of resource paths
+	 */
+	static List<String> toImagePaths(String... imageNames) {
+		List<String> paths = new ArrayList<>(imageNames.length);
+		for (String imageName : imageNames) {
+			paths.add(SpriteCache.IMAGE_LOCATION + imageName);
+		}
+		return Collections.unmodifiableList(paths);
+	}
+}
@@ -1,7 +1,10 @@
 package com.example.demo.levels;
 
+import java.util.SplittableRandom;
+
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.planes.planeFactory;
+import com.example.demo.balance.Balance;
 
 /**
  * Represents the second level in the game.
@@ -12,10 +15,7 @@ public class LevelTwo extends LevelParent {
     private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
     private static final String NEXT_LEVEL = "com.example.demo.levels.LevelBoss";
     private static final int TOTAL_ENEMIES = 5;
-    private static final int KILLS_TO_ADVANCE = 15;
-    private static final double ENEMY_SPAWN_PROBABILITY = 0.20;
     private static final int PLAYER_INITIAL_HEALTH = 5;
-    private static final double ENEMY2_SPAWN_PROBABILITY = 0.4;
 
     /**
      * Constructs a new LevelTwo with the specified screen height and width.
@@ -24,7 +24,20 @@ public class LevelTwo extends LevelParent {
      * @param screenWidth the width of the game screen
      */
     public LevelTwo(double screenHeight, double screenWidth) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, KILLS_TO_ADVANCE);
+        this(screenHeight, screenWidth, GameSettings.getSeed(), Balance.DEFAULT);
+    }
+
+    /**
+     * Constructs a new LevelTwo with its own seed and tuning, e.g. for a simulation.
+     *
+     * @param screenHeight the height of the game screen
+     * @param screenWidth the width of the game screen
+     * @param seed the seed of the level's random source
+     * @param balance the tuning of the level and its enemies
+     */
+    public LevelTwo(double screenHeight, double screenWidth, long seed, Balance balance) {
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH,
+                balance.getInt(Balance.Parameter.LEVEL_TWO_KILLS_TO_ADVANCE), seed, balance);
     }
 
     /**
@@ -47,7 +60,7 @@ public class LevelTwo extends LevelParent {
      */
     @Override
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
+        getRenderer().addActor(getUser());
     }
 
     /**
@@ -56,16 +69,21 @@ public class LevelTwo extends LevelParent {
      */
     @Override
     protected void spawnEnemyUnits() {
+        SplittableRandom spawnRandom = getRandom().stream(GameRandom.Stream.SPAWNING);
+        double spawnProbability = getBalance().get(Balance.Parameter.LEVEL_TWO_SPAWN_PROBABILITY);
+        double enemy2Probability = getBalance().get(Balance.Parameter.LEVEL_TWO_ENEMY2_PROBABILITY);
         int currentNumberOfEnemies = getCurrentNumberOfEnemies();
         for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-            if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-                if (Math.random() < ENEMY2_SPAWN_PROBABILITY) {
-                    double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-                    ActiveActorDestructible newEnemy = planeFactory.createEnemyPlane("enemy2", getScreenWidth(), newEnemyInitialYPosition);
+            if (spawnRandom.nextDouble() < spawnProbability) {
+                if (spawnRandom.nextDouble() < enemy2Probability) {
+                    double newEnemyInitialYPosition = spawnRandom.nextDouble() * getEnemyMaximumYPosition();
+                    ActiveActorDestructible newEnemy = planeFactory.createEnemyPlane("enemy2", getScreenWidth(), newEnemyInitialYPosition,
+                            getRandom().split(GameRandom.Stream.ENEMIES), getBalance());
                     addEnemyUnit(newEnemy);
                 } else {
-                    double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-                    ActiveActorDestructible newEnemy = planeFactory.createEnemyPlane("enemy", getScreenWidth(), newEnemyInitialYPosition);
+                    double newEnemyInitialYPosition = spawnRandom.nextDouble() * getEnemyMaximumYPosition();
+                    ActiveActorDestructible newEnemy = planeFactory.createEnemyPlane("enemy", getScreenWidth(), newEnemyInitialYPosition,
+                            getRandom().split(GameRandom.Stream.ENEMIES), getBalance());
                     addEnemyUnit(newEnemy);
                 }
             }
@@ -89,6 +107,6 @@ public class LevelTwo extends LevelParent {
      * @return true if the user has killed enough enemies to advance, false otherwise
      */
     private boolean userHasReachedKillTarget() {
-        return getUser().getNumberOfKills() >= KILLS_TO_ADVANCE;
+        return getUser().getNumberOfKills() >= getBalance().getInt(Balance.Parameter.LEVEL_TWO_KILLS_TO_ADVANCE);
     }
 }
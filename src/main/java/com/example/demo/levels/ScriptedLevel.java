@@ -0,0 +1,120 @@
+package com.example.demo.levels;
+
+import com.example.demo.actors.planes.planeFactory;
+import com.example.demo.assets.SpriteCache;
+import com.example.demo.balance.Balance;
+import com.example.demo.levels.waves.SpawnSchedule;
+import com.example.demo.levels.waves.WaveScript;
+
+/**
+ * A level whose enemies are sent by a {@link WaveScript}, so new levels need a script rather than a class.
+ * <p>
+ * The script is compiled into a {@link SpawnSchedule} when the level is created, drawing the random lanes and types
+ * from the level's spawning stream. Each tick the spawn phase only compares the next scheduled tick with the current
+ * one. The level is won when the player reaches the script's kill target or, for a script that does not loop, once
+ * every wave has been sent and no enemy is left.
+ */
+public class ScriptedLevel extends LevelParent {
+
+	private final WaveScript script;
+	private final SpawnSchedule schedule;
+	/** The index of the next spawn of the current pass. */
+	private int cursor;
+	/** The tick on which the current pass of a looping schedule started. */
+	private long passStartTick;
+
+	/**
+	 * Constructs a level playing a script.
+	 *
+	 * @param script       the script
+	 * @param screenHeight the height of the game screen
+	 * @param screenWidth  the width of the game screen
+	 * @param seed         the seed of the level's random source
+	 * @param balance      the tuning of the level's enemies
+	 */
+	public ScriptedLevel(WaveScript script, double screenHeight, double screenWidth, long seed, Balance balance) {
+		super(SpriteCache.IMAGE_LOCATION + script.getBackgroundImageName(), screenHeight, screenWidth,
+				script.getPlayerHealth(), script.getKillsToAdvance(), seed, balance);
+		this.script = script;
+		this.schedule = script.compile(getRandom().stream(GameRandom.Stream.SPAWNING), getEnemyMaximumYPosition(),
+				GameSettings.getTickRate());
+	}
+
+	/**
+	 * Describes a scripted level for the {@link LevelRegistry}, under the script's name.
+	 *
+	 * @param script the script
+	 * @return the level's definition
+	 */
+	static LevelDefinition define(WaveScript script) {
+		return new LevelDefinition(script.getName(),
+				(screenHeight, screenWidth, seed, balance) -> new ScriptedLevel(script, screenHeight, screenWidth, seed,
+						balance),
+				script.getNextLevelName(), script.getBackgroundImageName());
+	}
+
+	/**
+	 * Checks if the game is over.
+	 * The game is lost if the user's plane is destroyed, and won if the player reaches the kill target or
+	 * survives every wave.
+	 */
+	@Override
+	protected void checkIfGameOver() {
+		if (userIsDestroyed()) {
+			loseGame();
+		}
+		else if (getUser().getNumberOfKills() >= script.getKillsToAdvance() || allWavesCleared()) {
+			if (script.getNextLevelName() == null) {
+				winGame();
+			} else {
+				goToNextLevel(script.getNextLevelName());
+			}
+		}
+	}
+
+	/**
+	 * Initializes the friendly units.
+	 * Adds the user plane to the scene.
+	 */
+	@Override
+	protected void initializeFriendlyUnits() {
+		getRenderer().addActor(getUser());
+	}
+
+	/**
+	 * Spawns the enemies whose scheduled tick has passed, starting the next pass once a looping schedule is done.
+	 */
+	@Override
+	protected void spawnEnemyUnits() {
+		long tick = getTickCount() - passStartTick;
+		while (cursor < schedule.size() && schedule.getTick(cursor) < tick) {
+			addEnemyUnit(planeFactory.createEnemyPlane(schedule.getType(cursor), getScreenWidth(),
+					schedule.getY(cursor), getRandom().split(GameRandom.Stream.ENEMIES), getBalance()));
+			cursor++;
+		}
+		if (cursor == schedule.size() && schedule.getLoopPeriod() > 0 && tick >= schedule.getLoopPeriod()) {
+			cursor = 0;
+			passStartTick += schedule.getLoopPeriod();
+		}
+	}
+
+	/**
+	 * Instantiates the level view.
+	 * The level view displays the player's health and other game UI elements.
+	 *
+	 * @return a new instance of LevelView
+	 */
+	@Override
+	protected LevelView instantiateLevelView() {
+		return new LevelView(getRoot(), script.getPlayerHealth());
+	}
+
+	/**
+	 * Checks whether a script that plays once has sent all its waves and every enemy is gone.
+	 *
+	 * @return {@code true} if nothing is left to fight
+	 */
+	private boolean allWavesCleared() {
+		return schedule.getLoopPeriod() == 0 && cursor == schedule.size() && getCurrentNumberOfEnemies() == 0;
+	}
+}
@@ -0,0 +1,66 @@
+package com.example.demo.levels;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.example.demo.UI.RenderSnapshot;
+
+/**
+ * Hands {@link RenderSnapshot}s from the simulation thread to the JavaFX thread without either side waiting.
+ * <p>
+ * Three snapshots rotate between the writer, the reader and a middle slot. The writer fills its own snapshot and
+ * publishes it by swapping it into the middle slot; the reader swaps the middle snapshot out whenever a newer one
+ * has been published since it last looked. The middle slot's index and whether it holds an unread snapshot are kept
+ * in one atomic integer, so each hand-over is a single atomic swap and no snapshot is ever written while read.
+ * A snapshot the reader never swapped out is simply overwritten by a later one.
+ */
+final class SnapshotBuffer {
+
+	private static final int INDEX_MASK = 0b11;
+	private static final int FRESH = 0b100;
+
+	private final RenderSnapshot[] snapshots;
+	/** The index of the middle snapshot, with {@link #FRESH} set if it was published and not yet read. */
+	private final AtomicInteger middle;
+	private int writeIndex;
+	private int readIndex;
+
+	/**
+	 * Constructs a buffer of three empty snapshots.
+	 */
+	SnapshotBuffer() {
+		this.snapshots = new RenderSnapshot[] {new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()};
+		this.writeIndex = 0;
+		this.middle = new AtomicInteger(1);
+		this.readIndex = 2;
+	}
+
+	/**
+	 * Returns the snapshot the writer may fill. Only called by the writing thread.
+	 *
+	 * @return the writer's snapshot
+	 */
+	RenderSnapshot writable() {
+		return snapshots[writeIndex];
+	}
+
+	/**
+	 * Publishes the writer's snapshot and hands the writer the snapshot it replaces.
+	 * Only called by the writing thread.
+	 */
+	void publish() {
+		writeIndex = middle.getAndSet(writeIndex | FRESH) & INDEX_MASK;
+	}
+
+	/**
+	 * Returns the most recently published snapshot, or the one returned last time if nothing newer was published.
+	 * Only called by the reading thread; the snapshot stays valid until the next call.
+	 *
+	 * @return the latest snapshot
+	 */
+	RenderSnapshot latest() {
+		if ((middle.get() & FRESH) != 0) {
+			readIndex = middle.getAndSet(readIndex) & INDEX_MASK;
+		}
+		return snapshots[readIndex];
+	}
+}
@@ -0,0 +1,63 @@
+package com.example.demo.levels;
+
+import com.example.demo.UI.RenderSnapshot;
+import com.example.demo.profiling.FrameProfiler;
+import com.example.demo.profiling.TickPhase;
+
+/**
+ * Counts, on the JavaFX thread, how the frames drawn line up with the snapshots the simulation thread publishes:
+ * snapshots replaced in the {@link SnapshotBuffer} before any frame drew them, and frames that had no new snapshot
+ * and drew the previous one again. Each new snapshot's latency, from being published to being drawn, is recorded
+ * as {@link TickPhase#SNAPSHOT_LATENCY}.
+ */
+final class SnapshotCounters {
+
+	/** The sequence number of the last snapshot drawn; -1 before the first, whose sequence number is 0. */
+	private long drawnSequence;
+	private long droppedSnapshots;
+	private long repeatedFrames;
+
+	/**
+	 * Constructs counters that have not seen a frame yet.
+	 */
+	SnapshotCounters() {
+		this.drawnSequence = -1;
+	}
+
+	/**
+	 * Counts a frame about to draw a snapshot.
+	 *
+	 * @param snapshot the snapshot drawn
+	 * @param profiler the profiler recording the snapshot's latency if it is new
+	 * @return {@code true} if no frame drew the snapshot before
+	 */
+	boolean frameDrawn(RenderSnapshot snapshot, FrameProfiler profiler) {
+		long sequence = snapshot.getSequence();
+		if (sequence == drawnSequence) {
+			repeatedFrames++;
+			return false;
+		}
+		profiler.record(TickPhase.SNAPSHOT_LATENCY, snapshot.getPublishedNanos());
+		droppedSnapshots += sequence - drawnSequence - 1;
+		drawnSequence = sequence;
+		return true;
+	}
+
+	/**
+	 * Returns the number of snapshots no frame drew.
+	 *
+	 * @return the number of dropped snapshots
+	 */
+	long getDroppedSnapshots() {
+		return droppedSnapshots;
+	}
+
+	/**
+	 * Returns the number of frames that drew the same snapshot as the frame before.
+	 *
+	 * @return the number of repeated frames
+	 */
+	long getRepeatedFrames() {
+		return repeatedFrames;
+	}
+}
@@ -0,0 +1,195 @@
+package com.example.demo.levels;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.ObjDoubleConsumer;
+
+import com.example.demo.UI.RenderSnapshot;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+/**
+ * A game loop that runs the simulation on a dedicated thread and only renders on the JavaFX thread.
+ * <p>
+ * The simulation thread ticks at a fixed rate, sleeping until each tick is due, and after every batch of ticks
+ * captures the position of every actor into a {@link RenderSnapshot} and publishes it through a
+ * {@link SnapshotBuffer}. On every pulse an {@link AnimationTimer} draws the latest published snapshot, interpolated
+ * by the time elapsed since its tick, so a slow frame never delays a tick and a slow tick never blocks a frame.
+ * <p>
+ * As with {@link FixedStepGameLoop}, a simulation that falls more than {@code maxTicksPerBatch} ticks behind drops
+ * the backlog rather than simulating it. Work that must happen between ticks, such as switching the profiler, is
+ * handed to the simulation thread with {@link #runInSimulation(Runnable)} through a lock-free queue.
+ */
+class ThreadedGameLoop extends AnimationTimer implements GameLoop {
+
+	private static final String THREAD_NAME = "skybattle-simulation";
+
+	private final long tickNanos;
+	private final int maxTicksPerBatch;
+	private final Runnable tick;
+	private final Consumer<RenderSnapshot> capture;
+	private final ObjDoubleConsumer<RenderSnapshot> render;
+	private final SnapshotBuffer snapshots;
+	private final Queue<Runnable> tasks;
+	private final Thread thread;
+	private long sequence;
+	private volatile boolean running;
+	private volatile boolean paused;
+	/** Set by the simulation thread once it has published its last snapshot. */
+	private volatile boolean finished;
+
+	/**
+	 * Constructs a threaded loop. The simulation thread is only started by {@link #start()}.
+	 *
+	 * @param tickNanos        the duration of a tick in nanoseconds
+	 * @param maxTicksPerBatch the number of ticks that may be run back to back to catch up
+	 * @param tick             runs one game tick, on the simulation thread
+	 * @param capture          fills a snapshot with the current state of the level, on the simulation thread
+	 * @param render           draws a snapshot given the fraction of a tick elapsed since its tick, on the
+	 *                         JavaFX thread
+	 */
+	ThreadedGameLoop(long tickNanos, int maxTicksPerBatch, Runnable tick, Consumer<RenderSnapshot> capture,
+			ObjDoubleConsumer<RenderSnapshot> render) {
+		this.tickNanos = tickNanos;
+		this.maxTicksPerBatch = maxTicksPerBatch;
+		this.tick = tick;
+		this.capture = capture;
+		this.render = render;
+		this.snapshots = new SnapshotBuffer();
+		this.tasks = new ConcurrentLinkedQueue<>();
+		this.thread = new Thread(this::simulate, THREAD_NAME);
+		thread.setDaemon(true);
+	}
+
+	/**
+	 * Draws the latest published snapshot, and stops the timer once the last one has been drawn.
+	 *
+	 * @param now the timestamp of the current pulse in nanoseconds
+	 */
+	@Override
+	public void handle(long now) {
+		boolean done = finished;
+		RenderSnapshot snapshot = snapshots.latest();
+		double alpha = (double) (now - snapshot.getTickTimeNanos()) / tickNanos;
+		render.accept(snapshot, Math.max(0, Math.min(1, alpha)));
+		if (done) {
+			super.stop();
+		}
+	}
+
+	/**
+	 * Publishes the level as it starts, so the first frame has something to draw, then starts the simulation
+	 * thread and the timer. Called on the JavaFX thread.
+	 */
+	@Override
+	public void start() {
+		running = true;
+		publish(System.nanoTime());
+		thread.start();
+		super.start();
+	}
+
+	@Override
+	public void pause() {
+		paused = true;
+		super.stop();
+	}
+
+	@Override
+	public void resume() {
+		paused = false;
+		LockSupport.unpark(thread);
+		super.start();
+	}
+
+	/**
+	 * Stops the simulation after its current tick. Called from the simulation thread when the level ends, in which
+	 * case the timer keeps running until it has drawn the final snapshot, or from the JavaFX thread, which stops the
+	 * timer at once.
+	 */
+	@Override
+	public void stop() {
+		running = false;
+		LockSupport.unpark(thread);
+		if (Platform.isFxApplicationThread()) {
+			super.stop();
+		}
+	}
+
+	/**
+	 * Queues a task to run on the simulation thread between two ticks. Once the simulation has finished, the task
+	 * runs on the calling thread instead.
+	 *
+	 * @param task the task
+	 */
+	@Override
+	public void runInSimulation(Runnable task) {
+		tasks.add(task);
+		if (finished) {
+			runTasks();
+		} else {
+			LockSupport.unpark(thread);
+		}
+	}
+
+	/**
+	 * The body of the simulation thread: runs the ticks that are due, publishes a snapshot after each batch and
+	 * sleeps until the next tick, until the loop is stopped.
+	 */
+	private void simulate() {
+		try {
+			long next = System.nanoTime() + tickNanos;
+			while (running) {
+				runTasks();
+				if (paused) {
+					LockSupport.park(this);
+					next = System.nanoTime() + tickNanos;
+					continue;
+				}
+				long now = System.nanoTime();
+				if (now < next) {
+					LockSupport.parkNanos(this, next - now);
+					continue;
+				}
+				int ticks = 0;
+				while (running && !paused && now >= next && ticks < maxTicksPerBatch) {
+					tick.run();
+					next += tickNanos;
+					ticks++;
+				}
+				long tickTime = next - tickNanos;
+				if (now >= next) {
+					next += ((now - next) / tickNanos + 1) * tickNanos;
+				}
+				publish(tickTime);
+			}
+		} finally {
+			finished = true;
+			runTasks();
+		}
+	}
+
+	/**
+	 * Captures the level into the writable snapshot and publishes it.
+	 *
+	 * @param tickTime the time at which the last tick was due, from which frames interpolate
+	 */
+	private void publish(long tickTime) {
+		RenderSnapshot snapshot = snapshots.writable();
+		capture.accept(snapshot);
+		snapshot.stamp(sequence++, tickTime, System.nanoTime());
+		snapshots.publish();
+	}
+
+	/**
+	 * Runs every queued task.
+	 */
+	private void runTasks() {
+		Runnable task;
+		while ((task = tasks.poll()) != null) {
+			task.run();
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.example.demo.levels;
+
+import java.util.function.DoubleConsumer;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.util.Duration;
+
+/**
+ * A game loop built on a {@link Timeline} with a single key frame.
+ * Every key frame runs one tick and then renders it, so the display updates at the tick rate.
+ */
+class TimelineGameLoop implements GameLoop {
+
+	private final Timeline timeline;
+
+	/**
+	 * Constructs a timeline loop.
+	 *
+	 * @param tickNanos the duration of a tick in nanoseconds
+	 * @param tick      runs one game tick
+	 * @param render    renders a frame; always receives an interpolation factor of 1
+	 */
+	TimelineGameLoop(long tickNanos, Runnable tick, DoubleConsumer render) {
+		timeline = new Timeline();
+		timeline.setCycleCount(Timeline.INDEFINITE);
+		KeyFrame gameLoop = new KeyFrame(Duration.millis(tickNanos / 1_000_000.0), e -> {
+			tick.run();
+			render.accept(1.0);
+		});
+		timeline.getKeyFrames().add(gameLoop);
+	}
+
+	@Override
+	public void start() {
+		timeline.play();
+	}
+
+	@Override
+	public void pause() {
+		timeline.pause();
+	}
+
+	@Override
+	public void resume() {
+		timeline.play();
+	}
+
+	@Override
+	public void stop() {
+		timeline.stop();
+	}
+}
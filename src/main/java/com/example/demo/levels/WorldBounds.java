@@ -0,0 +1,190 @@
+package com.example.demo.levels;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.actors.ActiveActorDestructible;
+
+/**
+ * Retires actors that can no longer take part in a level: those that are entirely outside the screen plus a margin,
+ * and those that have been in the level for longer than a maximum number of ticks.
+ * <p>
+ * Retired actors are destroyed, so the level removes them at the end of the tick like any other destroyed actor and
+ * pooled projectiles go back to their pool. Every despawn is counted per actor type and reason, which shows whether
+ * the number of actors stays flat over a long session. Only used from the thread running the level.
+ */
+public final class WorldBounds {
+
+	/**
+	 * Why an actor was retired.
+	 */
+	public enum DespawnReason {
+
+		/** The actor was entirely outside the screen and its margin. */
+		OUT_OF_BOUNDS,
+
+		/** The actor had been in the level for longer than the maximum lifetime. */
+		EXPIRED
+	}
+
+	private static final DespawnReason[] REASONS = DespawnReason.values();
+
+	private final double minX;
+	private final double minY;
+	private final double maxX;
+	private final double maxY;
+	private final int maxLifetimeTicks;
+	private final Map<Class<?>, long[]> despawnCounts;
+	private long totalDespawns;
+
+	/**
+	 * Constructs world bounds around a screen.
+	 *
+	 * @param screenWidth      the width of the screen
+	 * @param screenHeight     the height of the screen
+	 * @param margin           how far beyond each edge of the screen an actor may still be
+	 * @param maxLifetimeTicks the number of ticks after which an actor is retired wherever it is, or 0 for no limit
+	 * @throws IllegalArgumentException if the margin or the lifetime is negative
+	 */
+	public WorldBounds(double screenWidth, double screenHeight, double margin, int maxLifetimeTicks) {
+		if (margin < 0) {
+			throw new IllegalArgumentException("Despawn margin must not be negative: " + margin);
+		}
+		if (maxLifetimeTicks < 0) {
+			throw new IllegalArgumentException("Maximum lifetime must not be negative: " + maxLifetimeTicks);
+		}
+		this.minX = -margin;
+		this.minY = -margin;
+		this.maxX = screenWidth + margin;
+		this.maxY = screenHeight + margin;
+		this.maxLifetimeTicks = maxLifetimeTicks;
+		this.despawnCounts = new HashMap<>();
+	}
+
+	/**
+	 * Destroys every actor of a list that is out of bounds or too old. Actors already destroyed are skipped.
+	 *
+	 * @param actors the actors to check
+	 * @return the number of actors retired
+	 */
+	public int retire(List<ActiveActorDestructible> actors) {
+		int retired = 0;
+		for (int i = 0; i < actors.size(); i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			if (actor.isDestroyed()) {
+				continue;
+			}
+			DespawnReason reason = reasonToRetire(actor);
+			if (reason != null) {
+				actor.destroy();
+				count(actor.getClass(), reason);
+				retired++;
+			}
+		}
+		return retired;
+	}
+
+	/**
+	 * Decides whether an actor should be retired.
+	 *
+	 * @param actor the actor to check
+	 * @return why the actor should be retired, or {@code null} if it may stay
+	 */
+	public DespawnReason reasonToRetire(ActiveActor actor) {
+		if (isOutOfBounds(actor)) {
+			return DespawnReason.OUT_OF_BOUNDS;
+		}
+		if (maxLifetimeTicks > 0 && actor.getAge() > maxLifetimeTicks) {
+			return DespawnReason.EXPIRED;
+		}
+		return null;
+	}
+
+	/**
+	 * Checks whether an actor's drawn sprite lies entirely outside the screen and its margin.
+	 *
+	 * @param actor the actor to check
+	 * @return {@code true} if no part of the actor is within the bounds
+	 */
+	public boolean isOutOfBounds(ActiveActor actor) {
+		double x = actor.getX();
+		double y = actor.getY();
+		return x + actor.getWidth() < minX || x > maxX || y + actor.getHeight() < minY || y > maxY;
+	}
+
+	/**
+	 * Returns the number of actors of a type retired for a reason.
+	 *
+	 * @param type   the class of the actors
+	 * @param reason why they were retired
+	 * @return the despawn count
+	 */
+	public long getDespawnCount(Class<? extends ActiveActor> type, DespawnReason reason) {
+		long[] counts = despawnCounts.get(type);
+		return counts == null ? 0 : counts[reason.ordinal()];
+	}
+
+	/**
+	 * Returns the number of actors retired per type, for all reasons together.
+	 *
+	 * @return the despawn counts by simple class name, sorted by name
+	 */
+	public Map<String, Long> getDespawnCounts() {
+		Map<String, Long> totals = new TreeMap<>();
+		for (Map.Entry<Class<?>, long[]> entry : despawnCounts.entrySet()) {
+			long total = 0;
+			for (long count : entry.getValue()) {
+				total += count;
+			}
+			totals.merge(entry.getKey().getSimpleName(), total, Long::sum);
+		}
+		return Collections.unmodifiableMap(totals);
+	}
+
+	/**
+	 * Returns the number of actors retired so far, of all types and for all reasons.
+	 *
+	 * @return the total despawn count
+	 */
+	public long getTotalDespawns() {
+		return totalDespawns;
+	}
+
+	/**
+	 * Returns a one-line summary of the despawns per type, e.g. for the console.
+	 *
+	 * @return the despawn counts, split by reason
+	 */
+	@Override
+	public String toString() {
+		StringBuilder summary = new StringBuilder("Despawns: ").append(totalDespawns);
+		Map<String, long[]> byName = new TreeMap<>();
+		for (Map.Entry<Class<?>, long[]> entry : despawnCounts.entrySet()) {
+			byName.put(entry.getKey().getSimpleName(), entry.getValue());
+		}
+		for (Map.Entry<String, long[]> entry : byName.entrySet()) {
+			summary.append(", ").append(entry.getKey());
+			for (DespawnReason reason : REASONS) {
+				summary.append(' ').append(reason.name().toLowerCase(Locale.ROOT)).append('=')
+						.append(entry.getValue()[reason.ordinal()]);
+			}
+		}
+		return summary.toString();
+	}
+
+	/**
+	 * Counts one despawn.
+	 *
+	 * @param type   the class of the retired actor
+	 * @param reason why it was retired
+	 */
+	private void count(Class<?> type, DespawnReason reason) {
+		despawnCounts.computeIfAbsent(type, t -> new long[REASONS.length])[reason.ordinal()]++;
+		totalDespawns++;
+	}
+}
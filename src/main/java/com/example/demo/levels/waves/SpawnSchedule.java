@@ -0,0 +1,83 @@
+package com.example.demo.levels.waves;
+
+/**
+ * A wave script compiled for one level: every enemy it spawns, sorted by the tick it appears on.
+ * <p>
+ * The spawns are held in parallel primitive arrays, so a level only has to compare the tick of the next spawn
+ * with the current tick to know whether anything is due. Ticks count from the start of the level, or of the current
+ * pass for a looping schedule. Positions are already resolved, so playing a schedule draws no random numbers.
+ */
+public final class SpawnSchedule {
+
+	private final int[] ticks;
+	private final byte[] types;
+	private final double[] positions;
+	private final String[] typeNames;
+	private final int loopPeriod;
+
+	/**
+	 * Constructs a schedule from its sorted spawns.
+	 *
+	 * @param ticks      the tick of every spawn, in ascending order
+	 * @param types      the index into {@code typeNames} of every spawn
+	 * @param positions  the Y-coordinate of every spawn
+	 * @param typeNames  the enemy types spawned
+	 * @param loopPeriod the number of ticks after which the schedule starts over, or 0 if it plays once
+	 */
+	SpawnSchedule(int[] ticks, byte[] types, double[] positions, String[] typeNames, int loopPeriod) {
+		this.ticks = ticks;
+		this.types = types;
+		this.positions = positions;
+		this.typeNames = typeNames;
+		this.loopPeriod = loopPeriod;
+	}
+
+	/**
+	 * Returns the number of spawns in one pass of the schedule.
+	 *
+	 * @return the number of spawns
+	 */
+	public int size() {
+		return ticks.length;
+	}
+
+	/**
+	 * Returns the tick on which a spawn is due.
+	 *
+	 * @param index the index of the spawn
+	 * @return the tick, counted from the start of the pass
+	 */
+	public int getTick(int index) {
+		return ticks[index];
+	}
+
+	/**
+	 * Returns the enemy type of a spawn, as understood by
+	 * {@link com.example.demo.actors.planes.planeFactory#createEnemyPlane}.
+	 *
+	 * @param index the index of the spawn
+	 * @return the enemy type
+	 */
+	public String getType(int index) {
+		return typeNames[types[index]];
+	}
+
+	/**
+	 * Returns the Y-coordinate at which a spawn enters the screen.
+	 *
+	 * @param index the index of the spawn
+	 * @return the Y-coordinate
+	 */
+	public double getY(int index) {
+		return positions[index];
+	}
+
+	/**
+	 * Returns the length of a pass of a looping schedule.
+	 *
+	 * @return the number of ticks after which the schedule starts over, or 0 if it plays once
+	 */
+	public int getLoopPeriod() {
+		return loopPeriod;
+	}
+}
@@ -0,0 +1,587 @@
+package com.example.demo.levels.waves;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import com.example.demo.actors.planes.planeFactory;
+
+/**
+ * A level described by a wave script: its settings and the waves of enemies it sends.
+ * <p>
+ * A script is plain text, one directive per line; blank lines and everything after {@code #} are ignored:
+ * <pre>
+ * name Gauntlet               the name the level is registered under
+ * background background2.jpg  the background image
+ * health 5                    the player's starting health
+ * kills 20                    the kills needed to advance
+ * next LevelBoss              the level that follows; omit it for the last level
+ * lanes 6                     the number of evenly spaced lanes enemies enter on
+ * loop 40                     start the waves over every 40 seconds; omit it to play them once
+ * wave at=5 type=enemy,enemy2 count=5 formation=vee lane=2 interval=0.5
+ * </pre>
+ * A wave sends {@code count} enemies, starting {@code at} seconds into the level. Each enemy is of one of the listed
+ * types, picked at random when there are several. The formation places them relative to {@code lane}: a
+ * {@code line} enters at once on consecutive lanes from there down, a {@code column} enters on that lane one after
+ * another, a {@code stagger} does both, and a {@code vee} is centred on the lane and its wings follow the leader.
+ * Enemies following each other are {@code interval} seconds apart. {@code lane=random} places the formation
+ * anywhere it fits.
+ * <p>
+ * A script is parsed and checked once; every level playing it then {@link #compile compiles} it with its own random
+ * generator into a {@link SpawnSchedule}. Scripts are immutable and can be shared between threads.
+ */
+public final class WaveScript {
+
+	/** Where wave scripts are kept among the resources. */
+	public static final String SCRIPT_LOCATION = "/com/example/demo/waves/";
+
+	private static final int DEFAULT_PLAYER_HEALTH = 5;
+	private static final int DEFAULT_LANES = 5;
+
+	/**
+	 * How the enemies of a wave are arranged.
+	 */
+	public enum Formation {
+
+		/** All at once, on consecutive lanes. */
+		LINE,
+
+		/** One after another, on the same lane. */
+		COLUMN,
+
+		/** One after another, each on the lane below the previous one. */
+		STAGGER,
+
+		/** Centred on a lane, alternately above and below, the outer ones following the inner ones. */
+		VEE
+	}
+
+	private final String name;
+	private final String backgroundImageName;
+	private final int playerHealth;
+	private final int killsToAdvance;
+	private final String nextLevelName;
+	private final int lanes;
+	private final double loopSeconds;
+	private final List<Wave> waves;
+	private final List<String> typeNames;
+	private final int enemyCount;
+
+	/**
+	 * Constructs a script from its checked settings and waves.
+	 *
+	 * @param name                the level's name
+	 * @param backgroundImageName the background image
+	 * @param playerHealth        the player's starting health
+	 * @param killsToAdvance      the kills needed to advance
+	 * @param nextLevelName       the following level, or {@code null}
+	 * @param lanes               the number of lanes
+	 * @param loopSeconds         the loop period in seconds, or 0
+	 * @param waves               the waves
+	 */
+	private WaveScript(String name, String backgroundImageName, int playerHealth, int killsToAdvance,
+			String nextLevelName, int lanes, double loopSeconds, List<Wave> waves) {
+		this.name = name;
+		this.backgroundImageName = backgroundImageName;
+		this.playerHealth = playerHealth;
+		this.killsToAdvance = killsToAdvance;
+		this.nextLevelName = nextLevelName;
+		this.lanes = lanes;
+		this.loopSeconds = loopSeconds;
+		this.waves = Collections.unmodifiableList(waves);
+		List<String> types = new ArrayList<>();
+		int enemies = 0;
+		for (Wave wave : waves) {
+			for (String type : wave.types) {
+				if (!types.contains(type)) {
+					types.add(type);
+				}
+			}
+			enemies += wave.count;
+		}
+		this.typeNames = Collections.unmodifiableList(types);
+		this.enemyCount = enemies;
+	}
+
+	/**
+	 * Reads and parses a script from the resources.
+	 *
+	 * @param resourcePath the absolute resource path of the script
+	 * @return the parsed script
+	 * @throws IllegalArgumentException if no resource exists at the given path or the script is invalid
+	 */
+	public static WaveScript load(String resourcePath) {
+		try (InputStream in = WaveScript.class.getResourceAsStream(resourcePath)) {
+			if (in == null) {
+				throw new IllegalArgumentException("Unknown wave script: " + resourcePath);
+			}
+			return parse(new String(in.readAllBytes(), StandardCharsets.UTF_8), resourcePath);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read wave script: " + resourcePath, e);
+		}
+	}
+
+	/**
+	 * Parses a script and checks that every wave fits the level.
+	 *
+	 * @param text   the script
+	 * @param source where the script came from, for error messages
+	 * @return the parsed script
+	 * @throws IllegalArgumentException if the script is invalid; the message names the offending line
+	 */
+	public static WaveScript parse(String text, String source) {
+		String name = null;
+		String background = null;
+		int health = DEFAULT_PLAYER_HEALTH;
+		int kills = -1;
+		String next = null;
+		int lanes = DEFAULT_LANES;
+		double loop = 0;
+		List<Wave> waves = new ArrayList<>();
+		List<String> tokenList = new ArrayList<>();
+		int lineNumber = 0;
+		int lineStart = 0;
+		while (lineStart < text.length()) {
+			int lineEnd = text.indexOf('\n', lineStart);
+			if (lineEnd < 0) {
+				lineEnd = text.length();
+			}
+			lineNumber++;
+			String line = tokenize(text, lineStart, lineEnd, tokenList);
+			lineStart = lineEnd + 1;
+			if (tokenList.isEmpty()) {
+				continue;
+			}
+			String[] tokens = tokenList.toArray(new String[0]);
+			String where = source + ':' + lineNumber;
+			if (tokens[0].equals("wave")) {
+				waves.add(Wave.parse(tokens, where));
+				continue;
+			}
+			if (tokens.length != 2) {
+				throw new IllegalArgumentException(where + ": expected a directive and one value: " + line);
+			}
+			String value = tokens[1];
+			switch (tokens[0]) {
+				case "name":
+					name = value;
+					break;
+				case "background":
+					background = value;
+					break;
+				case "health":
+					health = positiveInt(value, "health", where);
+					break;
+				case "kills":
+					kills = positiveInt(value, "kills", where);
+					break;
+				case "next":
+					next = value;
+					break;
+				case "lanes":
+					lanes = positiveInt(value, "lanes", where);
+					break;
+				case "loop":
+					loop = seconds(value, "loop", where);
+					if (loop == 0) {
+						throw new IllegalArgumentException(where + ": loop must be longer than 0 seconds");
+					}
+					break;
+				default:
+					throw new IllegalArgumentException(where + ": unknown directive: " + tokens[0]);
+			}
+		}
+		if (name == null || background == null || kills < 0) {
+			throw new IllegalArgumentException(source + ": name, background and kills are required");
+		}
+		if (waves.isEmpty()) {
+			throw new IllegalArgumentException(source + ": at least one wave is required");
+		}
+		for (Wave wave : waves) {
+			wave.check(lanes, loop);
+		}
+		return new WaveScript(name, background, health, kills, next, lanes, loop, waves);
+	}
+
+	/**
+	 * Resolves the timing, lanes and types of every enemy and sorts them into a schedule.
+	 *
+	 * @param random         the generator picking random lanes and types; the same generator state always gives
+	 *                       the same schedule
+	 * @param maximumY       the Y-coordinate of the lowest lane; the highest lane is at 0
+	 * @param ticksPerSecond the tick rate the level runs at
+	 * @return the compiled schedule
+	 */
+	public SpawnSchedule compile(SplittableRandom random, double maximumY, int ticksPerSecond) {
+		// every spawn is keyed by its tick and then its place in the script, so sorting the keys keeps
+		// spawns on the same tick in script order
+		long[] keys = new long[enemyCount];
+		byte[] types = new byte[enemyCount];
+		double[] positions = new double[enemyCount];
+		int spawn = 0;
+		for (Wave wave : waves) {
+			byte[] waveTypes = new byte[wave.types.length];
+			for (int t = 0; t < waveTypes.length; t++) {
+				waveTypes[t] = (byte) typeNames.indexOf(wave.types[t]);
+			}
+			int lane = wave.lane >= 0 ? wave.lane
+					: random.nextInt(-wave.lowestOffset(), lanes - wave.highestOffset());
+			for (int k = 0; k < wave.count; k++) {
+				int offset = wave.laneOffset(k);
+				int tick = (int) Math.round((wave.at + wave.followers(k) * wave.interval) * ticksPerSecond);
+				keys[spawn] = (long) tick << Integer.SIZE | spawn;
+				types[spawn] = waveTypes.length == 1 ? waveTypes[0] : waveTypes[random.nextInt(waveTypes.length)];
+				positions[spawn] = lanes == 1 ? maximumY / 2 : maximumY * (lane + offset) / (lanes - 1);
+				spawn++;
+			}
+		}
+		Arrays.sort(keys);
+		int[] sortedTicks = new int[enemyCount];
+		byte[] sortedTypes = new byte[enemyCount];
+		double[] sortedPositions = new double[enemyCount];
+		for (int i = 0; i < enemyCount; i++) {
+			int index = (int) keys[i];
+			sortedTicks[i] = (int) (keys[i] >>> Integer.SIZE);
+			sortedTypes[i] = types[index];
+			sortedPositions[i] = positions[index];
+		}
+		int loopPeriod = (int) Math.round(loopSeconds * ticksPerSecond);
+		return new SpawnSchedule(sortedTicks, sortedTypes, sortedPositions, typeNames.toArray(new String[0]),
+				loopPeriod);
+	}
+
+	/**
+	 * Returns the name the level is registered under.
+	 *
+	 * @return the level's name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the level's background image.
+	 *
+	 * @return the image file name, relative to {@link com.example.demo.assets.SpriteCache#IMAGE_LOCATION}
+	 */
+	public String getBackgroundImageName() {
+		return backgroundImageName;
+	}
+
+	/**
+	 * Returns the player's starting health.
+	 *
+	 * @return the health
+	 */
+	public int getPlayerHealth() {
+		return playerHealth;
+	}
+
+	/**
+	 * Returns the number of kills needed to advance.
+	 *
+	 * @return the kill target
+	 */
+	public int getKillsToAdvance() {
+		return killsToAdvance;
+	}
+
+	/**
+	 * Returns the name of the level that follows this one.
+	 *
+	 * @return the next level's name, or {@code null} if this is the last level
+	 */
+	public String getNextLevelName() {
+		return nextLevelName;
+	}
+
+	/**
+	 * Returns the number of enemies sent in one pass of the script.
+	 *
+	 * @return the number of enemies
+	 */
+	public int getEnemyCount() {
+		return enemyCount;
+	}
+
+	/**
+	 * Splits a line of a script into words at spaces and tabs, dropping any comment. Scripts can be long, so this
+	 * scans the characters directly instead of going through regular expressions.
+	 *
+	 * @param text   the script
+	 * @param start  the index of the first character of the line
+	 * @param end    the index of the line break ending the line, or the length of the script
+	 * @param tokens receives the words of the line; cleared first
+	 * @return the line without its comment and surrounding whitespace, for error messages
+	 */
+	private static String tokenize(String text, int start, int end, List<String> tokens) {
+		tokens.clear();
+		int tokenStart = -1;
+		for (int i = start; i <= end; i++) {
+			if (i < end && text.charAt(i) == '#') {
+				end = i;
+			}
+			boolean blank = i == end || Character.isWhitespace(text.charAt(i));
+			if (blank && tokenStart >= 0) {
+				tokens.add(text.substring(tokenStart, i));
+				tokenStart = -1;
+			} else if (!blank && tokenStart < 0) {
+				tokenStart = i;
+			}
+		}
+		return text.substring(start, end).trim();
+	}
+
+	/**
+	 * Parses a whole number that must be at least 1.
+	 *
+	 * @param value the text to parse
+	 * @param key   what the number is, for error messages
+	 * @param where the line being parsed
+	 * @return the number
+	 * @throws IllegalArgumentException if the text is not a positive whole number
+	 */
+	private static int positiveInt(String value, String key, String where) {
+		try {
+			int number = Integer.parseInt(value);
+			if (number > 0) {
+				return number;
+			}
+		} catch (NumberFormatException e) {
+			// reported below
+		}
+		throw new IllegalArgumentException(where + ": " + key + " must be a whole number above 0: " + value);
+	}
+
+	/**
+	 * Parses a duration in seconds.
+	 *
+	 * @param value the text to parse
+	 * @param key   what the duration is, for error messages
+	 * @param where the line being parsed
+	 * @return the number of seconds
+	 * @throws IllegalArgumentException if the text is not a number of seconds of at least 0
+	 */
+	private static double seconds(String value, String key, String where) {
+		try {
+			double number = Double.parseDouble(value);
+			if (number >= 0 && Double.isFinite(number)) {
+				return number;
+			}
+		} catch (NumberFormatException e) {
+			// reported below
+		}
+		throw new IllegalArgumentException(where + ": " + key + " must be a number of seconds: " + value);
+	}
+
+	/**
+	 * One wave of a script.
+	 */
+	private static final class Wave {
+
+		private final String where;
+		private final double at;
+		private final String[] types;
+		private final int count;
+		private final Formation formation;
+		/** The lane the formation is placed on, or -1 to pick one at random. */
+		private final int lane;
+		private final double interval;
+
+		/**
+		 * Constructs a wave.
+		 *
+		 * @param where     the line the wave was read from
+		 * @param at        when the wave starts, in seconds
+		 * @param types     the enemy types to pick from
+		 * @param count     the number of enemies
+		 * @param formation how the enemies are arranged
+		 * @param lane      the lane of the formation, or -1 for a random one
+		 * @param interval  the time between enemies following each other, in seconds
+		 */
+		private Wave(String where, double at, String[] types, int count, Formation formation, int lane,
+				double interval) {
+			this.where = where;
+			this.at = at;
+			this.types = types;
+			this.count = count;
+			this.formation = formation;
+			this.lane = lane;
+			this.interval = interval;
+		}
+
+		/**
+		 * Parses the {@code key=value} pairs of a wave line.
+		 *
+		 * @param tokens the words of the line, starting with {@code wave}
+		 * @param where  the line being parsed
+		 * @return the wave
+		 * @throws IllegalArgumentException if a pair is malformed or unknown, or a required one is missing
+		 */
+		static Wave parse(String[] tokens, String where) {
+			double at = -1;
+			String[] types = null;
+			int count = 1;
+			Formation formation = Formation.LINE;
+			int lane = -1;
+			double interval = 0;
+			for (int i = 1; i < tokens.length; i++) {
+				int separator = tokens[i].indexOf('=');
+				if (separator < 0) {
+					throw new IllegalArgumentException(where + ": expected key=value: " + tokens[i]);
+				}
+				String key = tokens[i].substring(0, separator);
+				String value = tokens[i].substring(separator + 1);
+				switch (key) {
+					case "at":
+						at = seconds(value, key, where);
+						break;
+					case "type":
+						types = value.toLowerCase(Locale.ROOT).split(",");
+						for (String type : types) {
+							if (!planeFactory.isEnemyType(type)) {
+								throw new IllegalArgumentException(where + ": unknown enemy type: " + type);
+							}
+						}
+						break;
+					case "count":
+						count = positiveInt(value, key, where);
+						break;
+					case "formation":
+						try {
+							formation = Formation.valueOf(value.toUpperCase(Locale.ROOT));
+						} catch (IllegalArgumentException e) {
+							throw new IllegalArgumentException(where + ": unknown formation: " + value
+									+ ", expected one of " + Arrays.toString(Formation.values()));
+						}
+						break;
+					case "lane":
+						lane = value.equals("random") ? -1 : parseLane(value, where);
+						break;
+					case "interval":
+						interval = seconds(value, key, where);
+						break;
+					default:
+						throw new IllegalArgumentException(where + ": unknown wave setting: " + key);
+				}
+			}
+			if (at < 0 || types == null) {
+				throw new IllegalArgumentException(where + ": a wave needs at least at= and type=");
+			}
+			return new Wave(where, at, types, count, formation, lane, interval);
+		}
+
+		/**
+		 * Parses a lane number.
+		 *
+		 * @param value the text to parse
+		 * @param where the line being parsed
+		 * @return the lane, counted from 0 at the top
+		 * @throws IllegalArgumentException if the text is not a whole number of at least 0
+		 */
+		private static int parseLane(String value, String where) {
+			try {
+				int number = Integer.parseInt(value);
+				if (number >= 0) {
+					return number;
+				}
+			} catch (NumberFormatException e) {
+				// reported below
+			}
+			throw new IllegalArgumentException(where + ": lane must be a lane number from 0 or random: " + value);
+		}
+
+		/**
+		 * Checks that the formation fits within the lanes and, for a looping script, within a pass.
+		 *
+		 * @param lanes       the number of lanes
+		 * @param loopSeconds the loop period, or 0
+		 * @throws IllegalArgumentException if the wave does not fit
+		 */
+		void check(int lanes, double loopSeconds) {
+			int width = highestOffset() - lowestOffset() + 1;
+			if (width > lanes) {
+				throw new IllegalArgumentException(where + ": a " + formation.name().toLowerCase(Locale.ROOT)
+						+ " of " + count + " needs " + width + " lanes, the level has " + lanes);
+			}
+			if (lane >= 0 && (lane + lowestOffset() < 0 || lane + highestOffset() >= lanes)) {
+				throw new IllegalArgumentException(where + ": the formation does not fit on lane " + lane
+						+ " of " + lanes);
+			}
+			double end = at + followers(count - 1) * interval;
+			if (loopSeconds > 0 && end >= loopSeconds) {
+				throw new IllegalArgumentException(where + ": the wave ends after " + end
+						+ " seconds, past the loop of " + loopSeconds);
+			}
+		}
+
+		/**
+		 * Returns how many enemies enter before the given one, counted along the formation.
+		 *
+		 * @param k the index of the enemy within the wave
+		 * @return the number of intervals the enemy waits after the start of the wave
+		 */
+		int followers(int k) {
+			switch (formation) {
+				case COLUMN:
+				case STAGGER:
+					return k;
+				case VEE:
+					return (k + 1) / 2;
+				default:
+					return 0;
+			}
+		}
+
+		/**
+		 * Returns the lane of an enemy relative to the lane of the formation.
+		 *
+		 * @param k the index of the enemy within the wave
+		 * @return the lane offset, negative above the formation's lane
+		 */
+		int laneOffset(int k) {
+			switch (formation) {
+				case LINE:
+				case STAGGER:
+					return k;
+				case VEE:
+					return k % 2 == 1 ? -(k + 1) / 2 : k / 2;
+				default:
+					return 0;
+			}
+		}
+
+		/**
+		 * Returns the lowest lane offset of the formation.
+		 *
+		 * @return the offset of the topmost enemy
+		 */
+		int lowestOffset() {
+			return formation == Formation.VEE ? -(count / 2) : 0;
+		}
+
+		/**
+		 * Returns the highest lane offset of the formation.
+		 *
+		 * @return the offset of the bottommost enemy
+		 */
+		int highestOffset() {
+			switch (formation) {
+				case LINE:
+				case STAGGER:
+					return count - 1;
+				case VEE:
+					return (count - 1) / 2;
+				default:
+					return 0;
+			}
+		}
+	}
+}
@@ -0,0 +1,172 @@
+package com.example.demo.profiling;
+
+/**
+ * Records how long each {@link TickPhase} takes, keeping the most recent timings of every phase
+ * in a fixed-size ring buffer.
+ * <p>
+ * Callers chain their timings: {@link #begin()} returns a timestamp, and {@link #record(TickPhase, long)}
+ * stores the time elapsed since it and returns a new timestamp for the next phase. While the profiler is
+ * disabled both return immediately without reading the clock, so the instrumentation costs one field check per
+ * phase. Nothing is allocated while recording. Each phase is recorded by a single thread; when the simulation
+ * runs on its own thread the frame phases are recorded on the JavaFX thread, whose summary may then read a tick
+ * phase's ring while a sample is being written to it, which at worst skews one refresh of the overlay.
+ */
+public final class FrameProfiler {
+
+	/** The number of recent samples kept for each phase. */
+	public static final int DEFAULT_CAPACITY = 240;
+
+	private static final TickPhase[] PHASES = TickPhase.values();
+
+	private final TimingRing[] rings;
+	private final long[] scratch;
+	private volatile boolean enabled;
+	private long lastPulse;
+
+	/**
+	 * Constructs a disabled profiler keeping {@link #DEFAULT_CAPACITY} samples per phase.
+	 */
+	public FrameProfiler() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a disabled profiler.
+	 *
+	 * @param capacity the number of recent samples kept for each phase
+	 * @throws IllegalArgumentException if the capacity is not positive
+	 */
+	public FrameProfiler(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+		}
+		this.rings = new TimingRing[PHASES.length];
+		for (int i = 0; i < rings.length; i++) {
+			rings[i] = new TimingRing(capacity);
+		}
+		this.scratch = new long[capacity];
+	}
+
+	/**
+	 * Checks whether timings are being recorded.
+	 *
+	 * @return {@code true} if the profiler is enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Starts or stops recording. Enabling the profiler discards the samples of any earlier session.
+	 *
+	 * @param enabled whether timings should be recorded
+	 */
+	public void setEnabled(boolean enabled) {
+		if (enabled && !this.enabled) {
+			for (TimingRing ring : rings) {
+				ring.clear();
+			}
+			lastPulse = 0;
+		}
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Returns the timestamp a chain of phases starts from.
+	 *
+	 * @return the current time in nanoseconds, or 0 if the profiler is disabled
+	 */
+	public long begin() {
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records the time elapsed since {@code start} for a phase.
+	 *
+	 * @param phase the phase that just finished
+	 * @param start the timestamp returned by {@link #begin()} or by the previous call
+	 * @return the timestamp the next phase starts from, or 0 if the profiler is disabled
+	 */
+	public long record(TickPhase phase, long start) {
+		if (!enabled) {
+			return 0;
+		}
+		long now = System.nanoTime();
+		rings[phase.ordinal()].record(now - start);
+		return now;
+	}
+
+	/**
+	 * Marks the start of a JavaFX pulse and records the time since the previous one as {@link TickPhase#PULSE}.
+	 */
+	public void pulse() {
+		if (!enabled) {
+			return;
+		}
+		long now = System.nanoTime();
+		if (lastPulse != 0) {
+			rings[TickPhase.PULSE.ordinal()].record(now - lastPulse);
+		}
+		lastPulse = now;
+	}
+
+	/**
+	 * Forgets the previous pulse, e.g. after the game was paused, so the pause is not recorded as a long pulse.
+	 */
+	public void resetPulse() {
+		lastPulse = 0;
+	}
+
+	/**
+	 * Returns the number of samples held for a phase.
+	 *
+	 * @param phase the phase
+	 * @return the sample count
+	 */
+	public int getSampleCount(TickPhase phase) {
+		return rings[phase.ordinal()].count();
+	}
+
+	/**
+	 * Returns a percentile of the recent timings of a phase.
+	 *
+	 * @param phase      the phase
+	 * @param percentile the percentile, from 0 to 100
+	 * @return the timing in nanoseconds, or 0 if no samples have been recorded
+	 */
+	public long getPercentile(TickPhase phase, double percentile) {
+		int count = rings[phase.ordinal()].sortInto(scratch);
+		return percentileOf(count, percentile);
+	}
+
+	/**
+	 * Appends one line per phase with its recent median and 99th percentile in milliseconds.
+	 * Each phase's samples are sorted only once.
+	 *
+	 * @param out the builder receiving the summary
+	 * @return the builder
+	 */
+	public StringBuilder appendSummary(StringBuilder out) {
+		for (TickPhase phase : PHASES) {
+			int count = rings[phase.ordinal()].sortInto(scratch);
+			out.append(String.format("%-12s p50 %6.3f  p99 %6.3f ms%n", phase.getLabel(),
+					percentileOf(count, 50) / 1e6, percentileOf(count, 99) / 1e6));
+		}
+		return out;
+	}
+
+	/**
+	 * Picks a percentile from the sorted samples at the start of the scratch array (nearest-rank method).
+	 *
+	 * @param count      the number of sorted samples
+	 * @param percentile the percentile, from 0 to 100
+	 * @return the sample at that rank, or 0 if there are no samples
+	 */
+	private long percentileOf(int count, double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+		int rank = (int) Math.ceil(percentile / 100 * count);
+		return scratch[Math.max(0, Math.min(count, rank) - 1)];
+	}
+}
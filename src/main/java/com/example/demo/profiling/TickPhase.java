@@ -0,0 +1,72 @@
+package com.example.demo.profiling;
+
+/**
+ * The phases of a game tick and of a rendered frame that the {@link FrameProfiler} times.
+ */
+public enum TickPhase {
+
+	/** Spawning new enemies. */
+	SPAWN("spawn"),
+
+	/** Running actor behaviour and moving every actor. */
+	UPDATE_ACTORS("movement"),
+
+	/** Letting enemies fire. */
+	ENEMY_FIRE("enemy fire"),
+
+	/** Destroying enemies that got past the player. */
+	ENEMY_PENETRATION("penetration"),
+
+	/** Testing user projectiles against enemies. */
+	USER_PROJECTILE_COLLISIONS("user shots"),
+
+	/** Testing enemy projectiles against friendly units. */
+	ENEMY_PROJECTILE_COLLISIONS("enemy shots"),
+
+	/** Testing friendly units against enemies. */
+	PLANE_COLLISIONS("plane hits"),
+
+	/** Retiring projectiles that left the screen or lived too long. */
+	DESPAWN("despawn"),
+
+	/** Removing destroyed actors. */
+	REMOVE_DESTROYED("removal"),
+
+	/** Checking whether the level has been won or lost. */
+	CHECK_GAME_OVER("game over"),
+
+	/** Bringing the actors on screen up to date. */
+	RENDER("render"),
+
+	/** Updating the hearts, kill count and other HUD elements. */
+	HUD("hud"),
+
+	/** The time between two consecutive JavaFX pulses that rendered the level. */
+	PULSE("pulse"),
+
+	/**
+	 * The time from a snapshot being published by the simulation thread to the first frame that draws it.
+	 * Only recorded when the simulation runs on its own thread.
+	 */
+	SNAPSHOT_LATENCY("snapshot");
+
+	private final String label;
+
+	/**
+	 * Constructs a phase.
+	 *
+	 * @param label the short name shown in the overlay
+	 */
+	TickPhase(String label) {
+		this.label = label;
+	}
+
+	/**
+	 * Returns the short name of the phase shown in the overlay.
+	 *
+	 * @return the label of the phase
+	 */
+	public String getLabel() {
+		return label;
+	}
+}
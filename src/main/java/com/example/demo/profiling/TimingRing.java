@@ -0,0 +1,67 @@
+package com.example.demo.profiling;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size ring buffer of nanosecond timings.
+ * <p>
+ * Recording overwrites the oldest sample once the ring is full and never allocates, so only the most recent
+ * samples are kept. Percentiles are computed on demand from a sorted copy of those samples.
+ */
+final class TimingRing {
+
+	private final long[] samples;
+	private int next;
+	private int count;
+
+	/**
+	 * Constructs an empty ring.
+	 *
+	 * @param capacity the number of samples kept
+	 */
+	TimingRing(int capacity) {
+		this.samples = new long[capacity];
+	}
+
+	/**
+	 * Records a sample, overwriting the oldest one if the ring is full.
+	 *
+	 * @param nanos the timing to record
+	 */
+	void record(long nanos) {
+		samples[next] = nanos;
+		next = next + 1 == samples.length ? 0 : next + 1;
+		if (count < samples.length) {
+			count++;
+		}
+	}
+
+	/**
+	 * Returns the number of samples held.
+	 *
+	 * @return the sample count, at most the capacity
+	 */
+	int count() {
+		return count;
+	}
+
+	/**
+	 * Copies the held samples into a scratch array and sorts them.
+	 *
+	 * @param scratch an array at least as long as the capacity
+	 * @return the number of sorted samples at the start of {@code scratch}
+	 */
+	int sortInto(long[] scratch) {
+		System.arraycopy(samples, 0, scratch, 0, count);
+		Arrays.sort(scratch, 0, count);
+		return count;
+	}
+
+	/**
+	 * Forgets every sample.
+	 */
+	void clear() {
+		next = 0;
+		count = 0;
+	}
+}
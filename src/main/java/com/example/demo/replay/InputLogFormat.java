@@ -0,0 +1,67 @@
+package com.example.demo.replay;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The layout of an input log, shared by {@link InputRecorder} and {@link InputReplay}.
+ * <p>
+ * A log starts with a header: the magic number, the format version, the session seed (8 bytes), the tick rate
+ * (4 bytes) and the screen height and width (8 bytes each). It is followed by records, each starting with a
+ * one-byte code:
+ * <ul>
+ * <li>{@link #LEVEL}: a level starts; followed by the length of its class name as a varint and the name in UTF-8.
+ * Ticks restart from 0.</li>
+ * <li>{@link #END}: the session ended while a level was running; followed by the tick as a varint delta.</li>
+ * <li>{@link #FIRST_INPUT} plus an {@link com.example.demo.levels.InputAction} ordinal: an input; followed by
+ * its tick as a varint delta.</li>
+ * </ul>
+ * Tick deltas count from the previous record of the same level, so a typical input takes two bytes.
+ */
+final class InputLogFormat {
+
+	/** "SKYR" in ASCII. */
+	static final int MAGIC = 0x534B5952;
+	static final byte VERSION = 1;
+	static final int HEADER_SIZE = 4 + 1 + 8 + 4 + 8 + 8;
+	static final byte LEVEL = 0;
+	static final byte END = 1;
+	static final byte FIRST_INPUT = 2;
+	/** The largest encoding of a varint, in bytes. */
+	static final int MAX_VARINT_SIZE = 10;
+
+	private InputLogFormat() {
+	}
+
+	/**
+	 * Writes a non-negative value as an unsigned LEB128 varint: seven bits per byte, low bits first.
+	 *
+	 * @param buffer the buffer to write to
+	 * @param value  the value to write
+	 */
+	static void putVarLong(ByteBuffer buffer, long value) {
+		while ((value & ~0x7FL) != 0) {
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+
+	/**
+	 * Reads an unsigned LEB128 varint.
+	 *
+	 * @param buffer the buffer to read from
+	 * @return the value read
+	 * @throws IllegalStateException if the varint is longer than {@link #MAX_VARINT_SIZE} bytes
+	 */
+	static long getVarLong(ByteBuffer buffer) {
+		long value = 0;
+		for (int shift = 0; shift < 7 * MAX_VARINT_SIZE; shift += 7) {
+			byte b = buffer.get();
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new IllegalStateException("Malformed varint in input log");
+	}
+}
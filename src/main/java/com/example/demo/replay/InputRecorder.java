@@ -0,0 +1,157 @@
+package com.example.demo.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.example.demo.levels.InputAction;
+import com.example.demo.levels.InputListener;
+
+/**
+ * Records the inputs of a game session into a compact binary log, see {@link InputLogFormat}.
+ * <p>
+ * Inputs are encoded into a direct buffer and only written to the file channel when the buffer fills up,
+ * when a level starts and when the recorder is closed, so recording an input costs a few byte writes.
+ * The methods are synchronised so the session can be closed safely from a shutdown hook.
+ */
+public class InputRecorder implements InputListener, Closeable {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final FileChannel channel;
+	private final ByteBuffer buffer;
+	private long previousTick;
+	private boolean closed;
+
+	/**
+	 * Creates the log file, replacing any existing one, and writes its header.
+	 *
+	 * @param path         the file to record to
+	 * @param seed         the session seed the levels are created with
+	 * @param tickRate     the tick rate of the session
+	 * @param screenHeight the screen height the levels are created with
+	 * @param screenWidth  the screen width the levels are created with
+	 * @throws IOException if the file cannot be created
+	 */
+	public InputRecorder(Path path, long seed, int tickRate, double screenHeight, double screenWidth) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.WRITE);
+		this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		buffer.putInt(InputLogFormat.MAGIC)
+				.put(InputLogFormat.VERSION)
+				.putLong(seed)
+				.putInt(tickRate)
+				.putDouble(screenHeight)
+				.putDouble(screenWidth);
+	}
+
+	/**
+	 * Marks the start of a level. The inputs recorded from now on belong to it, with ticks counted from 0.
+	 * The log is flushed, so everything up to the start of the level is on disk.
+	 *
+	 * @param levelClassName the fully qualified class name of the level
+	 * @throws IOException if the log cannot be written
+	 */
+	public synchronized void startLevel(String levelClassName) throws IOException {
+		if (closed) {
+			return;
+		}
+		byte[] name = levelClassName.getBytes(StandardCharsets.UTF_8);
+		ensureRoom(1 + InputLogFormat.MAX_VARINT_SIZE + name.length);
+		buffer.put(InputLogFormat.LEVEL);
+		InputLogFormat.putVarLong(buffer, name.length);
+		buffer.put(name);
+		previousTick = 0;
+		flush();
+	}
+
+	/**
+	 * Records an input of the current level.
+	 *
+	 * @param tick   the number of ticks the level had run when the input arrived
+	 * @param action the input
+	 * @throws UncheckedIOException if the buffer is full and cannot be written out
+	 */
+	@Override
+	public synchronized void inputApplied(long tick, InputAction action) {
+		if (closed) {
+			return;
+		}
+		try {
+			ensureRoom(1 + InputLogFormat.MAX_VARINT_SIZE);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		buffer.put((byte) (InputLogFormat.FIRST_INPUT + action.ordinal()));
+		InputLogFormat.putVarLong(buffer, tick - previousTick);
+		previousTick = tick;
+	}
+
+	/**
+	 * Records that the session ended while the current level was still running, e.g. because the window was closed.
+	 * A replay stops the level at that tick.
+	 *
+	 * @param tick the number of ticks the level had run
+	 * @throws IOException if the log cannot be written
+	 */
+	public synchronized void end(long tick) throws IOException {
+		if (closed) {
+			return;
+		}
+		ensureRoom(1 + InputLogFormat.MAX_VARINT_SIZE);
+		buffer.put(InputLogFormat.END);
+		InputLogFormat.putVarLong(buffer, tick - previousTick);
+		previousTick = tick;
+	}
+
+	/**
+	 * Writes the buffered records to the file.
+	 *
+	 * @throws IOException if the log cannot be written
+	 */
+	public synchronized void flush() throws IOException {
+		if (closed) {
+			return;
+		}
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * Flushes the log and closes the file. Closing an already closed recorder does nothing.
+	 *
+	 * @throws IOException if the log cannot be written
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		try {
+			flush();
+		} finally {
+			closed = true;
+			channel.close();
+		}
+	}
+
+	/**
+	 * Flushes the buffer if it cannot hold the given number of bytes.
+	 *
+	 * @param bytes the size of the record about to be written
+	 * @throws IOException if the log cannot be written
+	 */
+	private void ensureRoom(int bytes) throws IOException {
+		if (buffer.remaining() < bytes) {
+			flush();
+		}
+	}
+}
@@ -0,0 +1,194 @@
+package com.example.demo.replay;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.example.demo.levels.GameSettings;
+import com.example.demo.levels.InputAction;
+
+/**
+ * An input log read back from disk: the session settings and the inputs of every level played.
+ */
+public final class InputReplay {
+
+	private static final int INITIAL_CAPACITY = 64;
+	private static final int INPUT_ACTIONS = InputAction.values().length;
+
+	private final long seed;
+	private final int tickRate;
+	private final double screenHeight;
+	private final double screenWidth;
+	private final List<LevelReplay> levels;
+
+	/**
+	 * Constructs a replay from its parsed parts.
+	 *
+	 * @param seed         the session seed
+	 * @param tickRate     the tick rate of the session
+	 * @param screenHeight the screen height the levels were created with
+	 * @param screenWidth  the screen width the levels were created with
+	 * @param levels       the levels played, in order
+	 */
+	private InputReplay(long seed, int tickRate, double screenHeight, double screenWidth, List<LevelReplay> levels) {
+		this.seed = seed;
+		this.tickRate = tickRate;
+		this.screenHeight = screenHeight;
+		this.screenWidth = screenWidth;
+		this.levels = Collections.unmodifiableList(levels);
+	}
+
+	/**
+	 * Reads and parses an input log written by {@link InputRecorder}.
+	 *
+	 * @param path the log file
+	 * @return the replay
+	 * @throws IOException              if the file cannot be read
+	 * @throws IllegalArgumentException if the file is not a valid input log
+	 */
+	public static InputReplay read(Path path) throws IOException {
+		ByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer) < 0) {
+					throw new EOFException("Input log shrank while being read: " + path);
+				}
+			}
+		}
+		buffer.flip();
+		try {
+			return parse(buffer);
+		} catch (BufferUnderflowException | IllegalStateException e) {
+			throw new IllegalArgumentException("Truncated or corrupt input log: " + path, e);
+		}
+	}
+
+	/**
+	 * Parses a whole input log.
+	 *
+	 * @param buffer the contents of the log
+	 * @return the replay
+	 * @throws IllegalArgumentException if the header or a record is invalid, or the log was recorded at another
+	 *                                  tick rate
+	 */
+	private static InputReplay parse(ByteBuffer buffer) {
+		if (buffer.remaining() < InputLogFormat.HEADER_SIZE || buffer.getInt() != InputLogFormat.MAGIC) {
+			throw new IllegalArgumentException("Not an input log");
+		}
+		byte version = buffer.get();
+		if (version != InputLogFormat.VERSION) {
+			throw new IllegalArgumentException("Unsupported input log version: " + version);
+		}
+		long seed = buffer.getLong();
+		int tickRate = buffer.getInt();
+		if (tickRate != GameSettings.getTickRate()) {
+			throw new IllegalArgumentException("Input log recorded at " + tickRate
+					+ " ticks per second, the game runs at " + GameSettings.getTickRate());
+		}
+		double screenHeight = buffer.getDouble();
+		double screenWidth = buffer.getDouble();
+
+		List<LevelReplay> levels = new ArrayList<>();
+		String levelClassName = null;
+		long[] ticks = new long[INITIAL_CAPACITY];
+		byte[] actions = new byte[INITIAL_CAPACITY];
+		int count = 0;
+		long tick = 0;
+		long endTick = -1;
+		while (buffer.hasRemaining()) {
+			byte code = buffer.get();
+			if (code == InputLogFormat.LEVEL) {
+				if (levelClassName != null) {
+					levels.add(new LevelReplay(levelClassName, ticks, actions, count, endTick));
+					ticks = new long[INITIAL_CAPACITY];
+					actions = new byte[INITIAL_CAPACITY];
+				}
+				byte[] name = new byte[Math.toIntExact(InputLogFormat.getVarLong(buffer))];
+				buffer.get(name);
+				levelClassName = new String(name, StandardCharsets.UTF_8);
+				count = 0;
+				tick = 0;
+				endTick = -1;
+				continue;
+			}
+			if (levelClassName == null) {
+				throw new IllegalArgumentException("Input recorded outside a level");
+			}
+			tick += InputLogFormat.getVarLong(buffer);
+			if (code == InputLogFormat.END) {
+				endTick = tick;
+				continue;
+			}
+			int action = code - InputLogFormat.FIRST_INPUT;
+			if (action < 0 || action >= INPUT_ACTIONS) {
+				throw new IllegalArgumentException("Unknown record code: " + code);
+			}
+			if (count == ticks.length) {
+				ticks = Arrays.copyOf(ticks, count * 2);
+				actions = Arrays.copyOf(actions, count * 2);
+			}
+			ticks[count] = tick;
+			actions[count] = (byte) action;
+			count++;
+		}
+		if (levelClassName != null) {
+			levels.add(new LevelReplay(levelClassName, ticks, actions, count, endTick));
+		}
+		return new InputReplay(seed, tickRate, screenHeight, screenWidth, levels);
+	}
+
+	/**
+	 * Returns the seed the recorded levels were created with.
+	 *
+	 * @return the session seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Returns the tick rate of the recorded session.
+	 *
+	 * @return the ticks per second
+	 */
+	public int getTickRate() {
+		return tickRate;
+	}
+
+	/**
+	 * Returns the screen height the recorded levels were created with.
+	 *
+	 * @return the screen height
+	 */
+	public double getScreenHeight() {
+		return screenHeight;
+	}
+
+	/**
+	 * Returns the screen width the recorded levels were created with.
+	 *
+	 * @return the screen width
+	 */
+	public double getScreenWidth() {
+		return screenWidth;
+	}
+
+	/**
+	 * Returns the recorded levels in the order they were played.
+	 *
+	 * @return the levels of the session
+	 */
+	public List<LevelReplay> getLevels() {
+		return levels;
+	}
+}
@@ -0,0 +1,86 @@
+package com.example.demo.replay;
+
+import java.util.function.Consumer;
+
+import com.example.demo.levels.InputAction;
+import com.example.demo.levels.InputSource;
+
+/**
+ * The recorded inputs of one level, fed back to a level in place of the keyboard.
+ */
+public final class LevelReplay implements InputSource {
+
+	private static final InputAction[] ACTIONS = InputAction.values();
+
+	private final String levelClassName;
+	private final long[] ticks;
+	private final byte[] actions;
+	private final int inputCount;
+	private final long endTick;
+	private int next;
+
+	/**
+	 * Constructs the replay of a level.
+	 *
+	 * @param levelClassName the fully qualified class name of the level
+	 * @param ticks          the tick of every input, in recording order
+	 * @param actions        the ordinal of every input's {@link InputAction}
+	 * @param inputCount     the number of inputs held by the arrays
+	 * @param endTick        the tick at which the session ended during this level, or -1 if the level ran to its end
+	 */
+	LevelReplay(String levelClassName, long[] ticks, byte[] actions, int inputCount, long endTick) {
+		this.levelClassName = levelClassName;
+		this.ticks = ticks;
+		this.actions = actions;
+		this.inputCount = inputCount;
+		this.endTick = endTick;
+	}
+
+	/**
+	 * Hands over the recorded inputs due before the next tick.
+	 *
+	 * @param tick   the number of ticks the level has run so far
+	 * @param inputs receives the inputs to apply
+	 */
+	@Override
+	public void pollInputs(long tick, Consumer<InputAction> inputs) {
+		while (next < inputCount && ticks[next] <= tick) {
+			inputs.accept(ACTIONS[actions[next++]]);
+		}
+	}
+
+	/**
+	 * Checks whether the recording of this level stops at the given tick because the session ended.
+	 *
+	 * @param tick the number of ticks the level has run
+	 * @return {@code true} if the recorded session ended at or before this tick
+	 */
+	public boolean hasEnded(long tick) {
+		return endTick >= 0 && tick >= endTick;
+	}
+
+	/**
+	 * Starts feeding the inputs from the beginning again.
+	 */
+	public void rewind() {
+		next = 0;
+	}
+
+	/**
+	 * Returns the level the inputs were recorded in.
+	 *
+	 * @return the fully qualified class name of the level
+	 */
+	public String getLevelClassName() {
+		return levelClassName;
+	}
+
+	/**
+	 * Returns the number of recorded inputs.
+	 *
+	 * @return the input count
+	 */
+	public int getInputCount() {
+		return inputCount;
+	}
+}
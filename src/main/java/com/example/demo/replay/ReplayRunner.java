@@ -0,0 +1,105 @@
+package com.example.demo.replay;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import com.example.demo.levels.GameSettings;
+import com.example.demo.levels.LevelOutcome;
+import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.LevelRegistry;
+
+/**
+ * Replays an input log headless, without a window or keyboard, and reports how long every level took.
+ * <p>
+ * Each recorded level is created with the recorded seed and screen size and fed its recorded
+ * inputs, so it plays out exactly as it did when it was recorded. By default the ticks run as fast as possible;
+ * with {@code --realtime} they are paced at the tick rate. {@code --profile} adds the per-phase timings of
+ * the {@link com.example.demo.profiling.FrameProfiler} and the projectiles each level retired.
+ * <pre>
+ * java -cp ... com.example.demo.replay.ReplayRunner session.skyr [--realtime] [--profile]
+ * </pre>
+ */
+public final class ReplayRunner {
+
+	private ReplayRunner() {
+	}
+
+	/**
+	 * Replays the log named on the command line.
+	 *
+	 * @param args the log file, optionally followed by {@code --realtime} and {@code --profile}
+	 * @throws Exception if the log cannot be read or a level cannot be created
+	 */
+	public static void main(String[] args) throws Exception {
+		if (args.length == 0) {
+			System.err.println("Usage: ReplayRunner <input log> [--realtime] [--profile]");
+			System.exit(2);
+		}
+		boolean realtime = List.of(args).contains("--realtime");
+		boolean profile = List.of(args).contains("--profile");
+		run(InputReplay.read(Path.of(args[0])), realtime, profile, System.out);
+	}
+
+	/**
+	 * Replays every level of a recorded session and prints one line per level.
+	 * A level that does not end the way the recording did, e.g. a level lost although the recording went on
+	 * to the next one, is reported as diverged.
+	 *
+	 * @param replay   the recorded session
+	 * @param realtime whether ticks are paced at the tick rate instead of running as fast as possible
+	 * @param profile  whether to print the per-phase timings of every level
+	 * @param out      the stream the report is printed to
+	 * @return {@code true} if every level ended the way it did when recorded
+	 * @throws IllegalArgumentException if a recorded level is unknown
+	 */
+	public static boolean run(InputReplay replay, boolean realtime, boolean profile, PrintStream out) {
+		GameSettings.setSeed(replay.getSeed());
+		long tickNanos = 1_000_000_000L / replay.getTickRate();
+		List<LevelReplay> levels = replay.getLevels();
+		boolean faithful = true;
+		for (int i = 0; i < levels.size(); i++) {
+			LevelReplay levelReplay = levels.get(i);
+			levelReplay.rewind();
+			LevelParent level = createLevel(levelReplay.getLevelClassName(), replay);
+			level.setInputSource(levelReplay);
+			level.getProfiler().setEnabled(profile);
+
+			long start = System.nanoTime();
+			long deadline = start;
+			while (level.getOutcome() == LevelOutcome.IN_PROGRESS && !levelReplay.hasEnded(level.getTickCount())) {
+				if (realtime) {
+					deadline += tickNanos;
+					LockSupport.parkNanos(deadline - System.nanoTime());
+				}
+				level.tick();
+			}
+			long elapsed = System.nanoTime() - start;
+
+			boolean diverged = i < levels.size() - 1 && level.getOutcome() != LevelOutcome.ADVANCED;
+			faithful &= !diverged;
+			out.printf("%s %s ticks=%d inputs=%d time=%.3f ms (%.0f ticks/s)%s%n",
+					levelReplay.getLevelClassName(), level.getOutcome(), level.getTickCount(),
+					levelReplay.getInputCount(), elapsed / 1e6, level.getTickCount() * 1e9 / Math.max(1, elapsed),
+					diverged ? " DIVERGED" : "");
+			if (profile) {
+				out.print(level.getProfiler().appendSummary(new StringBuilder()));
+				out.println(level.getWorldBounds());
+			}
+		}
+		return faithful;
+	}
+
+	/**
+	 * Creates a level the way the game does, with the recorded screen size.
+	 *
+	 * @param className the fully qualified class name of the level
+	 * @param replay    the recorded session
+	 * @return the new level
+	 * @throws IllegalArgumentException if the level is unknown
+	 */
+	private static LevelParent createLevel(String className, InputReplay replay) {
+		return LevelRegistry.get(className).create(replay.getScreenHeight(), replay.getScreenWidth());
+	}
+}
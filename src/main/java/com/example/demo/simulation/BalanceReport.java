@@ -0,0 +1,89 @@
+package com.example.demo.simulation;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * The results of a batch of simulations: one row per balance and level.
+ */
+public final class BalanceReport {
+
+	private final List<LevelStatistics> rows;
+	private final int tickRate;
+	private final int threads;
+	private final long wallNanos;
+
+	/**
+	 * Constructs a report.
+	 *
+	 * @param rows      the statistics of every balance and level, in the order they were simulated
+	 * @param tickRate  the tick rate the sessions ran at, to turn ticks into game seconds
+	 * @param threads   the number of threads the sessions were spread across
+	 * @param wallNanos the wall-clock time the whole batch took
+	 */
+	BalanceReport(List<LevelStatistics> rows, int tickRate, int threads, long wallNanos) {
+		this.rows = rows;
+		this.tickRate = tickRate;
+		this.threads = threads;
+		this.wallNanos = wallNanos;
+	}
+
+	/**
+	 * Returns the total number of sessions simulated.
+	 *
+	 * @return the session count
+	 */
+	public int getSessions() {
+		int sessions = 0;
+		for (LevelStatistics row : rows) {
+			sessions += row.getSessions();
+		}
+		return sessions;
+	}
+
+	/**
+	 * Prints the report as an aligned table followed by the throughput of the batch.
+	 * Clear times are in game seconds, tick times in microseconds.
+	 *
+	 * @param out the stream to print to
+	 */
+	public void print(PrintStream out) {
+		out.printf("%-10s %7s %6s %6s %6s %9s %9s %7s %5s %8s %8s %8s  %s%n", "level", "runs", "win%", "loss%",
+				"time%", "clear p50", "clear p90", "peak", "max", "tick avg", "tick p50", "tick p99", "balance");
+		for (LevelStatistics row : rows) {
+			out.printf("%-10s %7d %6.1f %6.1f %6.1f %8.1fs %8.1fs %7.1f %5d %7.1fus %7.1fus %7.1fus  %s%n",
+					row.getLevelName(), row.getSessions(), row.getWinRate() * 100, row.getLossRate() * 100,
+					row.getTimeoutRate() * 100, seconds(row.getClearTicks(50)), seconds(row.getClearTicks(90)),
+					row.getMeanPeakActors(), row.getMaxPeakActors(), row.getMeanTickNanos() / 1e3,
+					row.getTickNanos(50) / 1e3, row.getTickNanos(99) / 1e3, row.getBalance());
+		}
+		out.printf("%d sessions on %d threads in %.2f s (%.0f sessions/s)%n", getSessions(), threads,
+				wallNanos / 1e9, getSessions() * 1e9 / Math.max(1, wallNanos));
+	}
+
+	/**
+	 * Prints the report as CSV with a header row, for spreadsheets and plots.
+	 *
+	 * @param out the stream to print to
+	 */
+	public void printCsv(PrintStream out) {
+		out.println("level,balance,sessions,win_rate,loss_rate,timeout_rate,clear_p50_s,clear_p90_s,"
+				+ "peak_actors_mean,peak_actors_max,tick_mean_ns,tick_p50_ns,tick_p99_ns");
+		for (LevelStatistics row : rows) {
+			out.printf("%s,\"%s\",%d,%.4f,%.4f,%.4f,%.2f,%.2f,%.2f,%d,%.0f,%d,%d%n", row.getLevelName(),
+					row.getBalance(), row.getSessions(), row.getWinRate(), row.getLossRate(), row.getTimeoutRate(),
+					seconds(row.getClearTicks(50)), seconds(row.getClearTicks(90)), row.getMeanPeakActors(),
+					row.getMaxPeakActors(), row.getMeanTickNanos(), row.getTickNanos(50), row.getTickNanos(99));
+		}
+	}
+
+	/**
+	 * Converts a number of ticks into game seconds.
+	 *
+	 * @param ticks the tick count
+	 * @return the game time in seconds
+	 */
+	private double seconds(long ticks) {
+		return (double) ticks / tickRate;
+	}
+}
@@ -0,0 +1,222 @@
+package com.example.demo.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.example.demo.balance.Balance;
+import com.example.demo.levels.GameSettings;
+import com.example.demo.levels.LevelDefinition;
+import com.example.demo.levels.LevelOutcome;
+import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.LevelRegistry;
+
+/**
+ * Plays thousands of headless sessions of the game's levels with a simulated player, spread across all cores,
+ * and reports how each {@link Balance} plays: win rate, time to clear, peak actor counts and the cost of a tick.
+ * <p>
+ * Every session runs a single level on a single thread from start to finish, and sessions share nothing,
+ * so the batch scales with the number of cores. Session {@code i} gets the same level and player seeds under
+ * every balance, so differences between the balances of a sweep are not drowned in noise. A sweep varies one
+ * or more {@link Balance.Parameter}s over a list of values and simulates every combination:
+ * <pre>
+ * java -cp ... com.example.demo.simulation.BalanceSimulator --sessions 2000 --levels LevelBoss \
+ *     --sweep BOSS_FIRE_RATE=0.02,0.04,0.06 --sweep BOSS_SHIELD_PROBABILITY=0.002,0.004
+ * </pre>
+ * Other options: {@code --threads}, {@code --seed}, {@code --player random|tracking}, {@code --max-ticks}
+ * and {@code --csv}.
+ */
+public final class BalanceSimulator {
+
+	/** The screen height of the game, see {@code Main}. */
+	private static final double SCREEN_HEIGHT = 750;
+	/** The screen width of the game, see {@code Main}. */
+	private static final double SCREEN_WIDTH = 1300;
+	private static final int DEFAULT_SESSIONS = 1000;
+	private static final long DEFAULT_SEED = 1;
+	/** Ten minutes of game time at the default tick rate. */
+	private static final long DEFAULT_MAX_TICKS = 12_000;
+
+	private final int threads;
+	private final int sessions;
+	private final long seed;
+	private final long maxTicks;
+	private final PlayerStrategy player;
+
+	/**
+	 * Constructs a simulator.
+	 *
+	 * @param threads  the number of threads to spread sessions across
+	 * @param sessions the number of sessions played per level and balance
+	 * @param seed     the seed all session seeds are drawn from
+	 * @param maxTicks the number of ticks after which a session counts as timed out
+	 * @param player   the simulated player
+	 * @throws IllegalArgumentException if the thread, session or tick count is not positive
+	 */
+	public BalanceSimulator(int threads, int sessions, long seed, long maxTicks, PlayerStrategy player) {
+		if (threads <= 0 || sessions <= 0 || maxTicks <= 0) {
+			throw new IllegalArgumentException("Threads, sessions and max ticks must be positive");
+		}
+		this.threads = threads;
+		this.sessions = sessions;
+		this.seed = seed;
+		this.maxTicks = maxTicks;
+		this.player = player;
+	}
+
+	/**
+	 * Runs the simulator from the command line and prints its report.
+	 *
+	 * @param args the options described in the class documentation
+	 * @throws Exception if a session fails
+	 */
+	public static void main(String[] args) throws Exception {
+		int threads = Runtime.getRuntime().availableProcessors();
+		int sessions = DEFAULT_SESSIONS;
+		long seed = DEFAULT_SEED;
+		long maxTicks = DEFAULT_MAX_TICKS;
+		PlayerStrategy player = PlayerStrategy.TRACKING;
+		List<String> levels = LevelRegistry.getNames();
+		List<Balance> balances = List.of(Balance.DEFAULT);
+		boolean csv = false;
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+				case "--threads":
+					threads = Integer.parseInt(args[++i]);
+					break;
+				case "--sessions":
+					sessions = Integer.parseInt(args[++i]);
+					break;
+				case "--seed":
+					seed = Long.parseLong(args[++i]);
+					break;
+				case "--max-ticks":
+					maxTicks = Long.parseLong(args[++i]);
+					break;
+				case "--player":
+					player = PlayerStrategy.valueOf(args[++i].toUpperCase(Locale.ROOT));
+					break;
+				case "--levels":
+					levels = List.of(args[++i].split(","));
+					break;
+				case "--sweep":
+					balances = sweep(balances, args[++i]);
+					break;
+				case "--csv":
+					csv = true;
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown option: " + args[i]);
+			}
+		}
+		BalanceReport report = new BalanceSimulator(threads, sessions, seed, maxTicks, player).run(levels, balances);
+		if (csv) {
+			report.printCsv(System.out);
+		} else {
+			report.print(System.out);
+		}
+	}
+
+	/**
+	 * Simulates every combination of level and balance.
+	 *
+	 * @param levelNames the levels to play: {@code LevelOne}, {@code LevelTwo} and/or {@code LevelBoss}
+	 * @param balances   the balances to play them with
+	 * @return the report
+	 * @throws IllegalArgumentException if a level name is unknown
+	 * @throws InterruptedException     if interrupted while waiting for the sessions
+	 * @throws ExecutionException       if a session fails
+	 */
+	public BalanceReport run(List<String> levelNames, List<Balance> balances)
+			throws InterruptedException, ExecutionException {
+		long[] levelSeeds = new long[sessions];
+		long[] playerSeeds = new long[sessions];
+		SplittableRandom seeds = new SplittableRandom(seed);
+		for (int i = 0; i < sessions; i++) {
+			levelSeeds[i] = seeds.nextLong();
+			playerSeeds[i] = seeds.nextLong();
+		}
+
+		long start = System.nanoTime();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<LevelStatistics> rows = new ArrayList<>();
+			List<List<Future<SessionResult>>> futures = new ArrayList<>();
+			for (Balance balance : balances) {
+				for (String levelName : levelNames) {
+					LevelDefinition definition = LevelRegistry.get(levelName);
+					List<Future<SessionResult>> rowFutures = new ArrayList<>(sessions);
+					for (int i = 0; i < sessions; i++) {
+						long levelSeed = levelSeeds[i];
+						long playerSeed = playerSeeds[i];
+						rowFutures.add(executor.submit(() -> playSession(definition, levelSeed, playerSeed, balance)));
+					}
+					rows.add(new LevelStatistics(balance, levelName));
+					futures.add(rowFutures);
+				}
+			}
+			for (int row = 0; row < rows.size(); row++) {
+				for (Future<SessionResult> future : futures.get(row)) {
+					rows.get(row).add(future.get());
+				}
+			}
+			return new BalanceReport(rows, GameSettings.getTickRate(), threads, System.nanoTime() - start);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Plays one session of a level until it ends or runs out of time.
+	 *
+	 * @param definition the level to play
+	 * @param levelSeed  the seed of the level
+	 * @param playerSeed the seed of the simulated player
+	 * @param balance    the tuning of the level
+	 * @return what happened in the session
+	 */
+	private SessionResult playSession(LevelDefinition definition, long levelSeed, long playerSeed, Balance balance) {
+		LevelParent level = definition.create(SCREEN_HEIGHT, SCREEN_WIDTH, levelSeed, balance);
+		level.setInputSource(player.createPlayer(level, new SplittableRandom(playerSeed)));
+		TickHistogram tickTimes = new TickHistogram();
+		long tickNanos = 0;
+		int peakActors = level.getActorCount();
+		while (level.getOutcome() == LevelOutcome.IN_PROGRESS && level.getTickCount() < maxTicks) {
+			long tickStart = System.nanoTime();
+			level.tick();
+			long elapsed = System.nanoTime() - tickStart;
+			tickNanos += elapsed;
+			tickTimes.record(elapsed);
+			peakActors = Math.max(peakActors, level.getActorCount());
+		}
+		return new SessionResult(level.getOutcome(), level.getTickCount(), peakActors, tickNanos, tickTimes);
+	}
+
+	/**
+	 * Multiplies a list of balances by the values of one more parameter.
+	 *
+	 * @param balances the balances so far
+	 * @param spec     the sweep, as {@code PARAMETER=value1,value2,...}
+	 * @return every balance combined with every value
+	 * @throws IllegalArgumentException if the sweep is malformed or names an unknown parameter
+	 */
+	private static List<Balance> sweep(List<Balance> balances, String spec) {
+		int equals = spec.indexOf('=');
+		if (equals < 0) {
+			throw new IllegalArgumentException("Expected PARAMETER=value1,value2,... but got: " + spec);
+		}
+		Balance.Parameter parameter = Balance.Parameter.valueOf(spec.substring(0, equals).toUpperCase(Locale.ROOT));
+		List<Balance> combined = new ArrayList<>();
+		for (Balance balance : balances) {
+			for (String value : spec.substring(equals + 1).split(",")) {
+				combined.add(balance.with(parameter, Double.parseDouble(value)));
+			}
+		}
+		return combined;
+	}
+}
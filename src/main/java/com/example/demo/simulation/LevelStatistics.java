@@ -0,0 +1,179 @@
+package com.example.demo.simulation;
+
+import java.util.Arrays;
+
+import com.example.demo.balance.Balance;
+import com.example.demo.levels.LevelOutcome;
+
+/**
+ * The aggregated results of all simulated sessions of one level under one {@link Balance}.
+ */
+final class LevelStatistics {
+
+	private final Balance balance;
+	private final String levelName;
+	private final TickHistogram tickTimes;
+	private long[] clearTicks;
+	private int sessions;
+	private int wins;
+	private int losses;
+	private int timeouts;
+	private long peakActorsSum;
+	private int peakActorsMax;
+	private long ticks;
+	private long tickNanos;
+
+	/**
+	 * Constructs empty statistics.
+	 *
+	 * @param balance   the balance the sessions were played with
+	 * @param levelName the name of the level
+	 */
+	LevelStatistics(Balance balance, String levelName) {
+		this.balance = balance;
+		this.levelName = levelName;
+		this.tickTimes = new TickHistogram();
+		this.clearTicks = new long[16];
+	}
+
+	/**
+	 * Adds the result of a session.
+	 *
+	 * @param result the session result
+	 */
+	void add(SessionResult result) {
+		sessions++;
+		if (result.isWin()) {
+			if (wins == clearTicks.length) {
+				clearTicks = Arrays.copyOf(clearTicks, wins * 2);
+			}
+			clearTicks[wins++] = result.getTicks();
+		} else if (result.getOutcome() == LevelOutcome.LOST) {
+			losses++;
+		} else {
+			timeouts++;
+		}
+		peakActorsSum += result.getPeakActors();
+		peakActorsMax = Math.max(peakActorsMax, result.getPeakActors());
+		ticks += result.getTicks();
+		tickNanos += result.getTickNanos();
+		tickTimes.add(result.getTickTimes());
+	}
+
+	/**
+	 * Returns the balance the sessions were played with.
+	 *
+	 * @return the balance
+	 */
+	Balance getBalance() {
+		return balance;
+	}
+
+	/**
+	 * Returns the name of the level.
+	 *
+	 * @return the level name
+	 */
+	String getLevelName() {
+		return levelName;
+	}
+
+	/**
+	 * Returns the number of sessions played.
+	 *
+	 * @return the session count
+	 */
+	int getSessions() {
+		return sessions;
+	}
+
+	/**
+	 * Returns the share of sessions in which the level was cleared.
+	 *
+	 * @return the win rate, from 0 to 1
+	 */
+	double getWinRate() {
+		return share(wins);
+	}
+
+	/**
+	 * Returns the share of sessions in which the player was shot down.
+	 *
+	 * @return the loss rate, from 0 to 1
+	 */
+	double getLossRate() {
+		return share(losses);
+	}
+
+	/**
+	 * Returns the share of sessions that hit the tick limit.
+	 *
+	 * @return the timeout rate, from 0 to 1
+	 */
+	double getTimeoutRate() {
+		return share(timeouts);
+	}
+
+	/**
+	 * Returns a percentile of the number of ticks the won sessions took to clear the level.
+	 *
+	 * @param percentile the percentile, from 0 to 100
+	 * @return the ticks to clear, or 0 if no session was won
+	 */
+	long getClearTicks(double percentile) {
+		if (wins == 0) {
+			return 0;
+		}
+		long[] sorted = Arrays.copyOf(clearTicks, wins);
+		Arrays.sort(sorted);
+		int rank = (int) Math.ceil(percentile / 100 * wins);
+		return sorted[Math.max(0, rank - 1)];
+	}
+
+	/**
+	 * Returns the mean of the sessions' peak actor counts.
+	 *
+	 * @return the mean peak actor count
+	 */
+	double getMeanPeakActors() {
+		return sessions == 0 ? 0 : (double) peakActorsSum / sessions;
+	}
+
+	/**
+	 * Returns the largest peak actor count of any session.
+	 *
+	 * @return the maximum peak actor count
+	 */
+	int getMaxPeakActors() {
+		return peakActorsMax;
+	}
+
+	/**
+	 * Returns the mean time of a tick over all sessions.
+	 *
+	 * @return the mean tick time in nanoseconds
+	 */
+	double getMeanTickNanos() {
+		return ticks == 0 ? 0 : (double) tickNanos / ticks;
+	}
+
+	/**
+	 * Returns an upper bound of a percentile of the tick times over all sessions.
+	 *
+	 * @param percentile the percentile, from 0 to 100
+	 * @return the tick time in nanoseconds
+	 */
+	long getTickNanos(double percentile) {
+		return tickTimes.percentile(percentile);
+	}
+
+	/**
+	 * Returns a count as a share of the sessions.
+	 *
+	 * @param count the count
+	 * @return the share, from 0 to 1
+	 */
+	private double share(int count) {
+		return sessions == 0 ? 0 : (double) count / sessions;
+	}
+}
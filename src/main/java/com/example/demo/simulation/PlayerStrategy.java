@@ -0,0 +1,37 @@
+package com.example.demo.simulation;
+
+import java.util.SplittableRandom;
+
+import com.example.demo.levels.InputSource;
+import com.example.demo.levels.LevelParent;
+
+/**
+ * The kinds of simulated player that can play a level in place of a person.
+ */
+public enum PlayerStrategy {
+
+	/** Presses random keys: changes direction now and then and fires about every other tick. */
+	RANDOM {
+		@Override
+		public InputSource createPlayer(LevelParent level, SplittableRandom random) {
+			return new RandomPlayer(random);
+		}
+	},
+
+	/** Lines up with the nearest enemy ahead and keeps firing, like an attentive player. */
+	TRACKING {
+		@Override
+		public InputSource createPlayer(LevelParent level, SplittableRandom random) {
+			return new TrackingPlayer(level);
+		}
+	};
+
+	/**
+	 * Creates a player for a level.
+	 *
+	 * @param level  the level to play
+	 * @param random the player's own random generator
+	 * @return the player, to be set as the level's {@link InputSource}
+	 */
+	public abstract InputSource createPlayer(LevelParent level, SplittableRandom random);
+}
@@ -0,0 +1,44 @@
+package com.example.demo.simulation;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+import com.example.demo.levels.InputAction;
+import com.example.demo.levels.InputSource;
+
+/**
+ * A simulated player pressing random keys.
+ */
+final class RandomPlayer implements InputSource {
+
+	private static final double MOVE_CHANGE_PROBABILITY = 0.1;
+	private static final double FIRE_PROBABILITY = 0.5;
+	private static final InputAction[] MOVES = {InputAction.MOVE_UP, InputAction.MOVE_DOWN, InputAction.STOP};
+
+	private final SplittableRandom random;
+
+	/**
+	 * Constructs a random player.
+	 *
+	 * @param random the generator choosing the player's inputs
+	 */
+	RandomPlayer(SplittableRandom random) {
+		this.random = random;
+	}
+
+	/**
+	 * Now and then picks a new direction, and fires with a fixed chance.
+	 *
+	 * @param tick   the number of ticks the level has run
+	 * @param inputs receives the player's inputs
+	 */
+	@Override
+	public void pollInputs(long tick, Consumer<InputAction> inputs) {
+		if (random.nextDouble() < MOVE_CHANGE_PROBABILITY) {
+			inputs.accept(MOVES[random.nextInt(MOVES.length)]);
+		}
+		if (random.nextDouble() < FIRE_PROBABILITY) {
+			inputs.accept(InputAction.FIRE);
+		}
+	}
+}
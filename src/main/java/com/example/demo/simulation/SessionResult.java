@@ -0,0 +1,86 @@
+package com.example.demo.simulation;
+
+import com.example.demo.levels.LevelOutcome;
+
+/**
+ * What happened in one simulated session of a level.
+ */
+final class SessionResult {
+
+	private final LevelOutcome outcome;
+	private final long ticks;
+	private final int peakActors;
+	private final long tickNanos;
+	private final TickHistogram tickTimes;
+
+	/**
+	 * Constructs a session result.
+	 *
+	 * @param outcome    how the level ended, {@link LevelOutcome#IN_PROGRESS} if it ran out of time
+	 * @param ticks      the number of ticks run
+	 * @param peakActors the largest number of actors in the level at the end of a tick
+	 * @param tickNanos  the total time spent running ticks
+	 * @param tickTimes  the duration of every tick
+	 */
+	SessionResult(LevelOutcome outcome, long ticks, int peakActors, long tickNanos, TickHistogram tickTimes) {
+		this.outcome = outcome;
+		this.ticks = ticks;
+		this.peakActors = peakActors;
+		this.tickNanos = tickNanos;
+		this.tickTimes = tickTimes;
+	}
+
+	/**
+	 * Returns how the level ended.
+	 *
+	 * @return the outcome, {@link LevelOutcome#IN_PROGRESS} if the session ran out of time
+	 */
+	LevelOutcome getOutcome() {
+		return outcome;
+	}
+
+	/**
+	 * Checks whether the player cleared the level.
+	 *
+	 * @return {@code true} if the level was won or left for the next one
+	 */
+	boolean isWin() {
+		return outcome == LevelOutcome.WON || outcome == LevelOutcome.ADVANCED;
+	}
+
+	/**
+	 * Returns the number of ticks run.
+	 *
+	 * @return the tick count
+	 */
+	long getTicks() {
+		return ticks;
+	}
+
+	/**
+	 * Returns the largest number of actors the level held.
+	 *
+	 * @return the peak actor count
+	 */
+	int getPeakActors() {
+		return peakActors;
+	}
+
+	/**
+	 * Returns the total time spent running ticks.
+	 *
+	 * @return the time in nanoseconds
+	 */
+	long getTickNanos() {
+		return tickNanos;
+	}
+
+	/**
+	 * Returns the histogram of tick durations.
+	 *
+	 * @return the tick times
+	 */
+	TickHistogram getTickTimes() {
+		return tickTimes;
+	}
+}
@@ -0,0 +1,99 @@
+package com.example.demo.simulation;
+
+/**
+ * A histogram of tick durations with logarithmic buckets: eight buckets per power of two,
+ * so any recorded value is known to within about 12%. Recording is a few shifts and an array increment.
+ */
+final class TickHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+	private final long[] counts = new long[BUCKETS];
+	private long total;
+
+	/**
+	 * Records a duration.
+	 *
+	 * @param nanos the duration in nanoseconds, not negative
+	 */
+	void record(long nanos) {
+		counts[bucketOf(nanos)]++;
+		total++;
+	}
+
+	/**
+	 * Adds the counts of another histogram to this one.
+	 *
+	 * @param other the histogram to merge in
+	 */
+	void add(TickHistogram other) {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] += other.counts[i];
+		}
+		total += other.total;
+	}
+
+	/**
+	 * Returns the number of recorded durations.
+	 *
+	 * @return the sample count
+	 */
+	long count() {
+		return total;
+	}
+
+	/**
+	 * Returns an upper bound of a percentile of the recorded durations.
+	 *
+	 * @param percentile the percentile, from 0 to 100
+	 * @return the largest value of the bucket holding that percentile, or 0 if nothing was recorded
+	 */
+	long percentile(double percentile) {
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return upperBoundOf(i);
+			}
+		}
+		return upperBoundOf(BUCKETS - 1);
+	}
+
+	/**
+	 * Returns the bucket of a value. Values below {@link #SUB_BUCKETS} get a bucket each; larger values are
+	 * grouped by their highest set bit and the {@link #SUB_BUCKET_BITS} bits below it.
+	 *
+	 * @param value the value
+	 * @return the bucket index
+	 */
+	private static int bucketOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) Math.max(0, value);
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+		return (shift + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * Returns the largest value falling into a bucket.
+	 *
+	 * @param bucket the bucket index
+	 * @return the bucket's upper bound
+	 */
+	private static long upperBoundOf(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int shift = bucket / SUB_BUCKETS - 1;
+		long subBucket = bucket % SUB_BUCKETS;
+		return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+	}
+}
@@ -0,0 +1,89 @@
+package com.example.demo.simulation;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.planes.UserPlane;
+import com.example.demo.levels.InputAction;
+import com.example.demo.levels.InputSource;
+import com.example.demo.levels.LevelParent;
+
+/**
+ * A simulated player that flies towards the height of the nearest enemy ahead of it and fires all the time.
+ * It only sends a movement input when its direction changes, like a player holding a key down.
+ */
+final class TrackingPlayer implements InputSource {
+
+	/** How close, in pixels, the plane's centre must be to the target's centre to stop moving. */
+	private static final double DEAD_ZONE = 10;
+
+	private final LevelParent level;
+	private InputAction currentMove;
+
+	/**
+	 * Constructs a tracking player.
+	 *
+	 * @param level the level being played
+	 */
+	TrackingPlayer(LevelParent level) {
+		this.level = level;
+		this.currentMove = InputAction.STOP;
+	}
+
+	/**
+	 * Steers towards the nearest enemy ahead and fires.
+	 *
+	 * @param tick   the number of ticks the level has run
+	 * @param inputs receives the player's inputs
+	 */
+	@Override
+	public void pollInputs(long tick, Consumer<InputAction> inputs) {
+		UserPlane user = level.getUser();
+		ActiveActorDestructible target = nearestEnemyAhead(user);
+		InputAction move = InputAction.STOP;
+		if (target != null) {
+			double offset = centreY(target) - centreY(user);
+			if (offset < -DEAD_ZONE) {
+				move = InputAction.MOVE_UP;
+			} else if (offset > DEAD_ZONE) {
+				move = InputAction.MOVE_DOWN;
+			}
+		}
+		if (move != currentMove) {
+			currentMove = move;
+			inputs.accept(move);
+		}
+		inputs.accept(InputAction.FIRE);
+	}
+
+	/**
+	 * Finds the enemy closest to the player's plane among those still in front of it.
+	 *
+	 * @param user the player's plane
+	 * @return the enemy to aim at, or {@code null} if there is none
+	 */
+	private ActiveActorDestructible nearestEnemyAhead(UserPlane user) {
+		List<ActiveActorDestructible> enemies = level.getEnemies();
+		ActiveActorDestructible nearest = null;
+		for (int i = 0; i < enemies.size(); i++) {
+			ActiveActorDestructible enemy = enemies.get(i);
+			if (!enemy.isDestroyed() && enemy.getX() > user.getX()
+					&& (nearest == null || enemy.getX() < nearest.getX())) {
+				nearest = enemy;
+			}
+		}
+		return nearest;
+	}
+
+	/**
+	 * Returns the vertical centre of an actor.
+	 *
+	 * @param actor the actor
+	 * @return the y-coordinate of its centre
+	 */
+	private static double centreY(ActiveActor actor) {
+		return actor.getY() + actor.getHeight() / 2;
+	}
+}
@@ -0,0 +1,120 @@
+package com.example.demo.assets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the word-at-a-time overlap of collision masks against a pixel-by-pixel check, at offsets that are negative
+ * and that do not line up with the 64-pixel words.
+ */
+class CollisionMaskTest {
+
+	private static final int[] ROW_OFFSETS = {-40, -7, -1, 0, 1, 13, 50};
+	private static final int[] WORD_EDGE_OFFSETS = {-129, -128, -127, -65, -64, -63, -1, 0, 1, 63, 64, 65, 127, 128};
+
+	/**
+	 * A mask three words wide against a narrow one, over every column offset at which they can touch.
+	 */
+	@Test
+	void wideAgainstNarrowMatchesPixelCheck() {
+		CollisionMask boss = mask("bossplane.png", 150, 90);
+		CollisionMask shot = mask("fireball.png", 40, 30);
+		for (int dy : ROW_OFFSETS) {
+			for (int dx = -shot.getColumns() - 2; dx <= boss.getColumns() + 2; dx++) {
+				assertMatches(boss, shot, dx, dy);
+				assertMatches(shot, boss, -dx, -dy);
+			}
+		}
+	}
+
+	/**
+	 * Two masks wider than a word, around every word boundary and over every row offset at which they can touch.
+	 */
+	@Test
+	void wideAgainstWideMatchesPixelCheck() {
+		CollisionMask enemy = mask("enemyplane.png", 130, 80);
+		CollisionMask user = mask("userplane.png", 100, 60);
+		for (int dx : WORD_EDGE_OFFSETS) {
+			for (int dy = -user.getRows() - 2; dy <= enemy.getRows() + 2; dy++) {
+				assertMatches(enemy, user, dx, dy);
+				assertMatches(user, enemy, -dx, -dy);
+			}
+		}
+	}
+
+	/**
+	 * A mask overlaps itself in place and not once it is moved entirely past its own edge.
+	 */
+	@Test
+	void maskOverlapsItselfOnlyWhenTouching() {
+		CollisionMask enemy = mask("enemyplane2.png", 120, 70);
+		assertTrue(enemy.overlaps(enemy, 0, 0));
+		assertFalse(enemy.overlaps(enemy, enemy.getColumns(), 0));
+		assertFalse(enemy.overlaps(enemy, -enemy.getColumns(), 0));
+		assertFalse(enemy.overlaps(enemy, 0, enemy.getRows()));
+		assertFalse(enemy.overlaps(enemy, 0, -enemy.getRows()));
+	}
+
+	/**
+	 * A clip rectangle keeps only the pixels whose centre lies inside it.
+	 */
+	@Test
+	void clipKeepsOnlyPixelsInside() {
+		CollisionMask whole = mask("bossplane.png", 150, 90);
+		CollisionMask clipped = CollisionMask.forSprite(SpriteCache.IMAGE_LOCATION + "bossplane.png", 150, 90, 20, 10,
+				100, 60);
+		for (int y = 0; y < whole.getRows(); y++) {
+			for (int x = 0; x < whole.getColumns(); x++) {
+				boolean inside = x + 0.5 >= 20 && x + 0.5 <= 120 && y + 0.5 >= 10 && y + 0.5 <= 70;
+				assertEquals(inside && whole.isSolid(x, y), clipped.isSolid(x, y), "pixel " + x + "," + y);
+			}
+		}
+	}
+
+	/**
+	 * Returns the unclipped mask of a bundled sprite drawn at the given size.
+	 *
+	 * @param imageName the sprite, relative to {@link SpriteCache#IMAGE_LOCATION}
+	 * @param width     the drawn width
+	 * @param height    the drawn height
+	 * @return the mask
+	 */
+	private static CollisionMask mask(String imageName, double width, double height) {
+		return CollisionMask.forSprite(SpriteCache.IMAGE_LOCATION + imageName, width, height, 0, 0, width, height);
+	}
+
+	/**
+	 * Checks that {@link CollisionMask#overlaps} agrees with testing every pixel.
+	 *
+	 * @param mask  the mask
+	 * @param other the other mask
+	 * @param dx    the column of {@code mask} at which {@code other}'s left edge lies
+	 * @param dy    the row of {@code mask} at which {@code other}'s top edge lies
+	 */
+	private static void assertMatches(CollisionMask mask, CollisionMask other, int dx, int dy) {
+		assertEquals(overlapsByPixel(mask, other, dx, dy), mask.overlaps(other, dx, dy), "offset " + dx + "," + dy);
+	}
+
+	/**
+	 * Checks for a shared solid pixel one pixel at a time.
+	 *
+	 * @param mask  the mask
+	 * @param other the other mask
+	 * @param dx    the column of {@code mask} at which {@code other}'s left edge lies
+	 * @param dy    the row of {@code mask} at which {@code other}'s top edge lies
+	 * @return {@code true} if the masks share a solid pixel
+	 */
+	private static boolean overlapsByPixel(CollisionMask mask, CollisionMask other, int dx, int dy) {
+		for (int y = Math.max(0, dy); y < Math.min(mask.getRows(), other.getRows() + dy); y++) {
+			for (int x = Math.max(0, dx); x < Math.min(mask.getColumns(), other.getColumns() + dx); x++) {
+				if (mask.isSolid(x, y) && other.isSolid(x - dx, y - dy)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+}
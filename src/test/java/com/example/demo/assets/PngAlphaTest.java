@@ -0,0 +1,286 @@
+package com.example.demo.assets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests decoding the alpha channel of PNG images, both the bundled sprites and small images encoded here with
+ * every colour type and scanline filter.
+ */
+class PngAlphaTest {
+
+	private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+	private static final int GREYSCALE = 0;
+	private static final int TRUECOLOUR = 2;
+	private static final int GREYSCALE_ALPHA = 4;
+	private static final int TRUECOLOUR_ALPHA = 6;
+	private static final int FILTER_TYPES = 5;
+
+	/**
+	 * Sample pixels of every bundled PNG: the image, its size, then the column, row and expected alpha of each
+	 * sample. The expected values were read with {@code javax.imageio}.
+	 */
+	private static final Object[][] SPRITES = {
+			{"bossplane.png", 568, 112, new int[] {0, 0, 0, 567, 111, 0, 284, 56, 255, 189, 56, 255, 284, 37, 255,
+					378, 74, 255, 408, 0, 23, 309, 107, 194}},
+			{"enemyFire.png", 295, 93, new int[] {0, 0, 0, 294, 92, 0, 147, 46, 255, 98, 46, 255, 147, 31, 255,
+					196, 62, 0, 144, 0, 72, 209, 92, 242}},
+			{"enemyplane.png", 651, 214, new int[] {0, 0, 0, 650, 213, 0, 325, 107, 0, 217, 107, 255, 325, 71, 0,
+					434, 142, 255, 624, 1, 72, 376, 212, 47}},
+			{"enemyplane2.png", 651, 214, new int[] {0, 0, 0, 650, 213, 0, 325, 107, 0, 217, 107, 255, 325, 71, 0,
+					434, 142, 255}},
+			{"fireball.png", 800, 318, new int[] {0, 0, 0, 799, 317, 0, 400, 159, 255, 266, 159, 255, 400, 106, 255,
+					533, 212, 0, 766, 0, 8, 168, 317, 4}},
+			{"heart.png", 300, 300, new int[] {0, 0, 0, 299, 299, 0, 150, 150, 255, 100, 150, 255, 150, 100, 255,
+					200, 200, 255, 70, 0, 40, 153, 299, 124}},
+			{"userfire.png", 124, 29, new int[] {0, 0, 0, 123, 28, 0, 62, 14, 255, 41, 14, 255, 62, 9, 255, 82, 19, 255,
+					58, 0, 47, 62, 28, 96}},
+			{"userplane.png", 596, 159, new int[] {0, 0, 0, 595, 158, 0, 298, 79, 255, 198, 79, 255, 298, 53, 0,
+					397, 106, 255, 37, 3, 96, 317, 155, 242}},
+			{"gameover.png", 1300, 1300, new int[] {0, 0, 0, 1299, 1299, 0, 650, 650, 255, 433, 650, 255, 650, 433, 255,
+					866, 866, 255, 1137, 135, 2, 941, 1165, 101}},
+			{"youwin.png", 480, 360, new int[] {0, 0, 0, 479, 359, 0, 240, 180, 255, 160, 180, 255, 240, 120, 0,
+					320, 240, 255, 213, 55, 10, 420, 319, 12}},
+	};
+
+	/**
+	 * Every bundled PNG decodes to its known size and the alpha values a reference decoder reads.
+	 */
+	@Test
+	void decodesBundledImages() {
+		for (Object[] sprite : SPRITES) {
+			String name = (String) sprite[0];
+			PngAlpha alpha = PngAlpha.read(SpriteCache.IMAGE_LOCATION + name);
+			assertEquals(sprite[1], alpha.getWidth(), name);
+			assertEquals(sprite[2], alpha.getHeight(), name);
+			int[] samples = (int[]) sprite[3];
+			for (int i = 0; i < samples.length; i += 3) {
+				assertEquals(samples[i + 2], alpha.getAlpha(samples[i], samples[i + 1]),
+						name + " at " + samples[i] + "," + samples[i + 1]);
+			}
+		}
+	}
+
+	/**
+	 * Every scanline filter is reversed exactly, alone and mixed row by row, for both colour types with alpha.
+	 *
+	 * @throws IOException never, the image is in memory
+	 */
+	@Test
+	void reversesEveryFilterType() throws IOException {
+		int width = 13;
+		int height = 9;
+		for (int colourType : new int[] {GREYSCALE_ALPHA, TRUECOLOUR_ALPHA}) {
+			int channels = colourType == GREYSCALE_ALPHA ? 2 : 4;
+			byte[] pixels = randomPixels(width * height * channels, colourType);
+			for (int filter = 0; filter <= FILTER_TYPES; filter++) {
+				// FILTER_TYPES itself stands for every filter in turn, one per row
+				PngAlpha alpha = decode(encode(width, height, colourType, pixels, filter));
+				for (int y = 0; y < height; y++) {
+					for (int x = 0; x < width; x++) {
+						int expected = pixels[(y * width + x) * channels + channels - 1] & 0xff;
+						assertEquals(expected, alpha.getAlpha(x, y),
+								"colour type " + colourType + ", filter " + filter + " at " + x + "," + y);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Images without an alpha channel are fully opaque.
+	 *
+	 * @throws IOException never, the image is in memory
+	 */
+	@Test
+	void imagesWithoutAlphaAreOpaque() throws IOException {
+		for (int colourType : new int[] {GREYSCALE, TRUECOLOUR}) {
+			int channels = colourType == GREYSCALE ? 1 : 3;
+			PngAlpha alpha = decode(encode(4, 3, colourType, randomPixels(4 * 3 * channels, colourType), 4));
+			for (int y = 0; y < 3; y++) {
+				for (int x = 0; x < 4; x++) {
+					assertEquals(255, alpha.getAlpha(x, y));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Streams that are not PNG images, use an unsupported format or lack image data are rejected.
+	 *
+	 * @throws IOException never, the images are in memory
+	 */
+	@Test
+	void rejectsUnsupportedImages() throws IOException {
+		byte[] image = encode(4, 3, TRUECOLOUR_ALPHA, randomPixels(4 * 3 * 4, TRUECOLOUR_ALPHA), 0);
+
+		byte[] notPng = image.clone();
+		notPng[1] = 'J';
+		assertThrows(IllegalArgumentException.class, () -> decode(notPng));
+
+		byte[] sixteenBit = image.clone();
+		// the bit depth follows the signature, the IHDR length and type, the width and the height
+		sixteenBit[SIGNATURE.length + 16] = 16;
+		assertThrows(IllegalArgumentException.class, () -> decode(sixteenBit));
+
+		byte[] unknownFilter = encode(4, 3, TRUECOLOUR_ALPHA, randomPixels(4 * 3 * 4, TRUECOLOUR_ALPHA), 7);
+		assertThrows(IllegalArgumentException.class, () -> decode(unknownFilter));
+
+		byte[] headerOnly = new byte[SIGNATURE.length + 25];
+		System.arraycopy(image, 0, headerOnly, 0, headerOnly.length);
+		assertThrows(IllegalArgumentException.class, () -> decode(headerOnly));
+
+		assertThrows(IllegalArgumentException.class, () -> PngAlpha.read("/com/example/demo/images/missing.png"));
+	}
+
+	/**
+	 * Decodes an image held in memory.
+	 *
+	 * @param image the PNG file
+	 * @return the alpha channel
+	 * @throws IOException if the stream cannot be read
+	 */
+	private static PngAlpha decode(byte[] image) throws IOException {
+		return PngAlpha.read(new DataInputStream(new ByteArrayInputStream(image)), "test.png");
+	}
+
+	/**
+	 * Returns random pixel bytes, with a spread of alpha values including fully transparent and opaque ones.
+	 *
+	 * @param length     the number of bytes
+	 * @param colourType the PNG colour type, to seed each type differently
+	 * @return the pixels
+	 */
+	private static byte[] randomPixels(int length, int colourType) {
+		SplittableRandom random = new SplittableRandom(2024 + colourType);
+		byte[] pixels = new byte[length];
+		for (int i = 0; i < length; i++) {
+			int roll = random.nextInt(10);
+			pixels[i] = (byte) (roll == 0 ? 0 : roll == 1 ? 255 : random.nextInt(256));
+		}
+		return pixels;
+	}
+
+	/**
+	 * Encodes an 8-bit PNG image.
+	 *
+	 * @param width      the width of the image
+	 * @param height     the height of the image
+	 * @param colourType the PNG colour type
+	 * @param pixels     the unfiltered pixel bytes, row by row
+	 * @param filter     the filter type of every row, or {@link #FILTER_TYPES} to use each filter in turn
+	 * @return the PNG file
+	 * @throws IOException never, the image is written to memory
+	 */
+	private static byte[] encode(int width, int height, int colourType, byte[] pixels, int filter)
+			throws IOException {
+		int bpp = pixels.length / (width * height);
+		int stride = width * bpp;
+		ByteArrayOutputStream scanlines = new ByteArrayOutputStream();
+		for (int y = 0; y < height; y++) {
+			int rowFilter = filter == FILTER_TYPES ? y % FILTER_TYPES : filter;
+			scanlines.write(rowFilter);
+			for (int i = 0; i < stride; i++) {
+				int raw = pixels[y * stride + i] & 0xff;
+				int left = i >= bpp ? pixels[y * stride + i - bpp] & 0xff : 0;
+				int up = y > 0 ? pixels[(y - 1) * stride + i] & 0xff : 0;
+				int upLeft = y > 0 && i >= bpp ? pixels[(y - 1) * stride + i - bpp] & 0xff : 0;
+				scanlines.write(raw - predict(rowFilter, left, up, upLeft));
+			}
+		}
+		Deflater deflater = new Deflater();
+		deflater.setInput(scanlines.toByteArray());
+		deflater.finish();
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		byte[] buffer = new byte[256];
+		while (!deflater.finished()) {
+			compressed.write(buffer, 0, deflater.deflate(buffer));
+		}
+		deflater.end();
+
+		ByteArrayOutputStream header = new ByteArrayOutputStream();
+		DataOutputStream headerData = new DataOutputStream(header);
+		headerData.writeInt(width);
+		headerData.writeInt(height);
+		headerData.writeByte(8);
+		headerData.writeByte(colourType);
+		headerData.writeByte(0);
+		headerData.writeByte(0);
+		headerData.writeByte(0);
+
+		ByteArrayOutputStream file = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(file);
+		out.write(SIGNATURE);
+		writeChunk(out, "IHDR", header.toByteArray());
+		// split the data over two chunks, as encoders may
+		byte[] data = compressed.toByteArray();
+		int half = data.length / 2;
+		writeChunk(out, "IDAT", Arrays.copyOfRange(data, 0, half));
+		writeChunk(out, "IDAT", Arrays.copyOfRange(data, half, data.length));
+		writeChunk(out, "IEND", new byte[0]);
+		return file.toByteArray();
+	}
+
+	/**
+	 * Predicts a byte the way a scanline filter does.
+	 *
+	 * @param filter the filter type; unknown types predict 0
+	 * @param left   the byte to the left
+	 * @param up     the byte above
+	 * @param upLeft the byte above and to the left
+	 * @return the predicted byte
+	 */
+	private static int predict(int filter, int left, int up, int upLeft) {
+		switch (filter) {
+			case 1:
+				return left;
+			case 2:
+				return up;
+			case 3:
+				return (left + up) / 2;
+			case 4:
+				int estimate = left + up - upLeft;
+				int distanceLeft = Math.abs(estimate - left);
+				int distanceUp = Math.abs(estimate - up);
+				int distanceUpLeft = Math.abs(estimate - upLeft);
+				if (distanceLeft <= distanceUp && distanceLeft <= distanceUpLeft) {
+					return left;
+				}
+				return distanceUp <= distanceUpLeft ? up : upLeft;
+			default:
+				return 0;
+		}
+	}
+
+	/**
+	 * Writes a chunk with its length and CRC.
+	 *
+	 * @param out  the stream
+	 * @param type the four-letter chunk type
+	 * @param data the chunk's data
+	 * @throws IOException never, the chunk is written to memory
+	 */
+	private static void writeChunk(DataOutputStream out, String type, byte[] data) throws IOException {
+		byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+		CRC32 crc = new CRC32();
+		crc.update(typeBytes);
+		crc.update(data);
+		out.writeInt(data.length);
+		out.write(typeBytes);
+		out.write(data);
+		out.writeInt((int) crc.getValue());
+	}
+}
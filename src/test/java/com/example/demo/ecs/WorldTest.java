@@ -0,0 +1,181 @@
+package com.example.demo.ecs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.demo.actors.HitboxInsets;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the bookkeeping of a {@link World}: handles of despawned entities, rows moved when another entity is
+ * removed, entities moved between archetypes when components are added or removed, and queued despawns.
+ */
+class WorldTest {
+
+	private static final long SEED = 2024;
+	private static final Prefab PLANE = Prefab.of("Plane", "enemyplane.png", 80, HitboxInsets.NONE,
+			Component.VELOCITY, Component.HEALTH, Component.ENEMY)
+			.with(Field.VELOCITY_X, -6)
+			.with(Field.HEALTH, 1);
+	private static final Prefab SHIELDED_PLANE = PLANE.withComponents(Component.SHIELD)
+			.with(Field.SHIELD_TICKS, 7)
+			.with(Field.SHIELD_DURATION, 100);
+
+	/**
+	 * A despawned entity's handle stays dead once its slot holds a new entity, which gets a newer generation.
+	 */
+	@Test
+	void reusedSlotRejectsOldHandle() {
+		World world = new World(SEED);
+		long old = world.spawn(PLANE, 10, 20);
+		world.despawn(old);
+		long reused = world.spawn(PLANE, 30, 40);
+
+		assertEquals(EntityHandle.index(old), EntityHandle.index(reused));
+		assertNotEquals(EntityHandle.generation(old), EntityHandle.generation(reused));
+		assertFalse(world.isAlive(old));
+		assertTrue(world.isAlive(reused));
+		assertThrows(IllegalArgumentException.class, () -> world.getDouble(old, Field.X));
+		assertThrows(IllegalArgumentException.class, () -> world.setInt(old, Field.HEALTH, 5));
+		assertThrows(IllegalArgumentException.class, () -> world.despawn(old));
+		assertEquals(30, world.getDouble(reused, Field.X));
+		assertEquals(1, world.size());
+	}
+
+	/**
+	 * Despawning moves the last entity of the archetype into the freed row, across chunks too, and the moved
+	 * entity's handle still finds its own fields.
+	 */
+	@Test
+	void despawnKeepsMovedEntityReachable() {
+		World world = new World(SEED);
+		int count = Chunk.CAPACITY + 2;
+		long[] entities = new long[count];
+		for (int i = 0; i < count; i++) {
+			entities[i] = world.spawn(PLANE, i, 0);
+			world.setInt(entities[i], Field.HEALTH, 1000 + i);
+		}
+
+		// the last entity, in the second chunk, moves into the first row of the first chunk
+		world.despawn(entities[0]);
+		Chunk first = world.query(Component.ENEMY).getArchetype(0).getChunk(0);
+		assertEquals(entities[count - 1], first.getEntity(0));
+		world.despawn(entities[5]);
+		assertEquals(entities[count - 2], first.getEntity(5));
+
+		for (int i = 1; i < count; i++) {
+			if (i == 5) {
+				continue;
+			}
+			assertEquals(i, world.getDouble(entities[i], Field.X), "X of entity " + i);
+			assertEquals(1000 + i, world.getInt(entities[i], Field.HEALTH), "health of entity " + i);
+		}
+		world.setInt(entities[count - 1], Field.HEALTH, 7);
+		assertEquals(7, first.ints(Field.HEALTH)[0]);
+		assertEquals(count - 2, world.size());
+	}
+
+	/**
+	 * Adding and removing components moves the entity to another archetype: fields it keeps survive the move,
+	 * fields it gains start at 0 even in a row another entity used before, and fields it loses are gone.
+	 */
+	@Test
+	void componentMovesKeepSharedFields() {
+		World world = new World(SEED);
+		// leave a row of the shielded archetype holding non-zero shield fields
+		world.despawn(world.spawn(SHIELDED_PLANE, 0, 0));
+		long entity = world.spawn(PLANE, 120, 340);
+		world.setInt(entity, Field.HEALTH, 3);
+		world.setDouble(entity, Field.VELOCITY_Y, 5);
+		Query shielded = world.query(Component.SHIELD);
+		assertEquals(0, shielded.count());
+
+		world.addComponents(entity, Component.SHIELD);
+		assertTrue(world.has(entity, Component.SHIELD));
+		assertEquals(1, shielded.count());
+		assertEquals(0, world.getInt(entity, Field.SHIELD_TICKS));
+		assertEquals(0, world.getInt(entity, Field.SHIELD_DURATION));
+		assertEquals(120, world.getDouble(entity, Field.X));
+		assertEquals(340, world.getDouble(entity, Field.PREVIOUS_Y));
+		assertEquals(-6, world.getDouble(entity, Field.VELOCITY_X));
+		assertEquals(5, world.getDouble(entity, Field.VELOCITY_Y));
+		assertEquals(3, world.getInt(entity, Field.HEALTH));
+
+		world.setInt(entity, Field.SHIELD_DURATION, 40);
+		world.removeComponents(entity, Component.VELOCITY);
+		assertFalse(world.has(entity, Component.VELOCITY));
+		assertThrows(IllegalArgumentException.class, () -> world.getDouble(entity, Field.VELOCITY_X));
+		assertEquals(40, world.getInt(entity, Field.SHIELD_DURATION));
+		assertEquals(3, world.getInt(entity, Field.HEALTH));
+		assertEquals(120, world.getDouble(entity, Field.X));
+
+		world.addComponents(entity, Component.VELOCITY);
+		assertEquals(0, world.getDouble(entity, Field.VELOCITY_X));
+		assertEquals(1, world.size());
+	}
+
+	/**
+	 * Moving an entity out of an archetype moves the archetype's last entity into its row, like a despawn.
+	 */
+	@Test
+	void componentMoveKeepsEntityLeftBehindReachable() {
+		World world = new World(SEED);
+		long moving = world.spawn(PLANE, 1, 0);
+		long staying = world.spawn(PLANE, 2, 0);
+		world.setInt(staying, Field.HEALTH, 9);
+
+		world.addComponents(moving, Component.SHIELD);
+		assertEquals(2, world.getDouble(staying, Field.X));
+		assertEquals(9, world.getInt(staying, Field.HEALTH));
+		assertEquals(1, world.getDouble(moving, Field.X));
+	}
+
+	/**
+	 * Position, hitbox and sprite cannot be removed, and components cannot be changed on a dead entity.
+	 */
+	@Test
+	void rejectsInvalidComponentChanges() {
+		World world = new World(SEED);
+		long entity = world.spawn(PLANE, 0, 0);
+		assertThrows(IllegalArgumentException.class, () -> world.removeComponents(entity, Component.POSITION));
+		assertThrows(IllegalArgumentException.class, () -> world.removeComponents(entity, Component.HITBOX));
+		assertThrows(IllegalArgumentException.class, () -> world.removeComponents(entity, Component.SPRITE));
+		world.despawn(entity);
+		assertThrows(IllegalArgumentException.class, () -> world.addComponents(entity, Component.SHIELD));
+	}
+
+	/**
+	 * Queued despawns of an entity despawned twice, already despawned, or whose slot was reused since, despawn
+	 * nothing else; queued spawns are applied after the despawns.
+	 */
+	@Test
+	void commandBufferIgnoresRepeatedAndStaleDespawns() {
+		World world = new World(SEED);
+		long twice = world.spawn(PLANE, 0, 0);
+		long gone = world.spawn(PLANE, 0, 0);
+		long stale = world.spawn(PLANE, 0, 0);
+		long survivor = world.spawn(PLANE, 0, 0);
+		world.despawn(gone);
+		world.despawn(stale);
+		long reused = world.spawn(PLANE, 0, 0);
+		assertEquals(EntityHandle.index(stale), EntityHandle.index(reused));
+
+		CommandBuffer commands = world.commands();
+		commands.despawn(twice);
+		commands.despawn(twice);
+		commands.despawn(gone);
+		commands.despawn(stale);
+		commands.spawn(PLANE, 50, 60);
+		assertFalse(commands.isEmpty());
+		world.flush();
+
+		assertTrue(commands.isEmpty());
+		assertFalse(world.isAlive(twice));
+		assertTrue(world.isAlive(reused));
+		assertTrue(world.isAlive(survivor));
+		assertEquals(3, world.size());
+	}
+}
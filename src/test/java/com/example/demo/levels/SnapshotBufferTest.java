@@ -0,0 +1,156 @@
+package com.example.demo.levels;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.example.demo.UI.RenderSnapshot;
+import com.example.demo.profiling.FrameProfiler;
+import com.example.demo.profiling.TickPhase;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests handing snapshots from a writing thread to a reading thread through a {@link SnapshotBuffer}, and the
+ * {@link SnapshotCounters} the reading side keeps.
+ */
+class SnapshotBufferTest {
+
+	private static final int PUBLISHED = 200_000;
+
+	/**
+	 * The reader gets the newest snapshot published, and keeps it until a newer one is published.
+	 */
+	@Test
+	void latestReturnsNewestPublishedSnapshot() {
+		SnapshotBuffer buffer = new SnapshotBuffer();
+		for (int sequence = 0; sequence < 3; sequence++) {
+			publish(buffer, sequence);
+		}
+		RenderSnapshot latest = buffer.latest();
+		assertEquals(2, latest.getSequence());
+		assertSame(latest, buffer.latest());
+
+		publish(buffer, 3);
+		assertEquals(3, buffer.latest().getSequence());
+	}
+
+	/**
+	 * The writer is never handed the snapshot the reader holds, however often it publishes.
+	 */
+	@Test
+	void writerNeverGetsReadersSnapshot() {
+		SnapshotBuffer buffer = new SnapshotBuffer();
+		for (int sequence = 0; sequence < 10; sequence++) {
+			publish(buffer, sequence);
+			RenderSnapshot read = buffer.latest();
+			for (int more = 0; more < 3; more++) {
+				assertNotSame(read, buffer.writable());
+				publish(buffer, 100 + more);
+			}
+		}
+	}
+
+	/**
+	 * The counters count skipped sequence numbers as dropped and frames without a new snapshot as repeated, and
+	 * record the latency of new snapshots only.
+	 */
+	@Test
+	void countersCountDroppedAndRepeatedFrames() {
+		FrameProfiler profiler = new FrameProfiler();
+		profiler.setEnabled(true);
+		SnapshotCounters counters = new SnapshotCounters();
+		RenderSnapshot snapshot = new RenderSnapshot();
+
+		snapshot.stamp(0, 0, System.nanoTime());
+		assertTrue(counters.frameDrawn(snapshot, profiler));
+		assertFalse(counters.frameDrawn(snapshot, profiler));
+		snapshot.stamp(4, 0, System.nanoTime());
+		assertTrue(counters.frameDrawn(snapshot, profiler));
+		snapshot.stamp(5, 0, System.nanoTime());
+		assertTrue(counters.frameDrawn(snapshot, profiler));
+
+		assertEquals(3, counters.getDroppedSnapshots());
+		assertEquals(1, counters.getRepeatedFrames());
+		assertEquals(3, profiler.getSampleCount(TickPhase.SNAPSHOT_LATENCY));
+	}
+
+	/**
+	 * A reader polling while another thread publishes never sees a torn snapshot or an older one than before, and
+	 * the dropped count adds up to exactly the sequence numbers it never saw.
+	 *
+	 * @throws InterruptedException if interrupted while waiting for the writer
+	 */
+	@Test
+	void concurrentReaderSeesWholeSnapshotsInOrder() throws InterruptedException {
+		SnapshotBuffer buffer = new SnapshotBuffer();
+		publish(buffer, 0);
+		AtomicReference<Throwable> writerFailure = new AtomicReference<>();
+		Thread writer = new Thread(() -> {
+			for (int sequence = 1; sequence < PUBLISHED; sequence++) {
+				publish(buffer, sequence);
+			}
+		}, "snapshot-writer");
+		writer.setUncaughtExceptionHandler((thread, failure) -> writerFailure.set(failure));
+
+		FrameProfiler profiler = new FrameProfiler(PUBLISHED);
+		profiler.setEnabled(true);
+		SnapshotCounters counters = new SnapshotCounters();
+		long lastSequence = -1;
+		long seen = 0;
+		long frames = 0;
+		long skipped = 0;
+		writer.start();
+		while (lastSequence < PUBLISHED - 1) {
+			RenderSnapshot snapshot = buffer.latest();
+			long sequence = snapshot.getSequence();
+			assertTrue(sequence >= lastSequence, "sequence went back from " + lastSequence + " to " + sequence);
+			assertConsistent(snapshot);
+			if (counters.frameDrawn(snapshot, profiler)) {
+				skipped += sequence - lastSequence - 1;
+				seen++;
+			}
+			lastSequence = sequence;
+			frames++;
+		}
+		writer.join();
+
+		assertNull(writerFailure.get());
+		assertEquals(skipped, counters.getDroppedSnapshots());
+		assertEquals(PUBLISHED, seen + counters.getDroppedSnapshots());
+		assertEquals(frames - seen, counters.getRepeatedFrames());
+		assertEquals(seen, profiler.getSampleCount(TickPhase.SNAPSHOT_LATENCY));
+	}
+
+	/**
+	 * Fills the writer's snapshot with values derived from a sequence number and publishes it.
+	 *
+	 * @param buffer   the buffer
+	 * @param sequence the sequence number
+	 */
+	private static void publish(SnapshotBuffer buffer, int sequence) {
+		RenderSnapshot snapshot = buffer.writable();
+		snapshot.clear();
+		snapshot.setHud(sequence, sequence * 2);
+		snapshot.setBossHealth(sequence * 3);
+		snapshot.stamp(sequence, sequence * 5L, System.nanoTime());
+		buffer.publish();
+	}
+
+	/**
+	 * Checks that every value of a snapshot was written for the same sequence number.
+	 *
+	 * @param snapshot the snapshot
+	 */
+	private static void assertConsistent(RenderSnapshot snapshot) {
+		long sequence = snapshot.getSequence();
+		assertEquals(sequence, snapshot.getPlayerHealth());
+		assertEquals(sequence * 2, snapshot.getKills());
+		assertEquals(sequence * 3, snapshot.getBossHealth());
+		assertEquals(sequence * 5, snapshot.getTickTimeNanos());
+	}
+}
@@ -0,0 +1,116 @@
+package com.example.demo.levels.waves;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests parsing wave scripts, the errors reported for invalid ones, and compiling them into spawn schedules.
+ */
+class WaveScriptTest {
+
+	private static final String SOURCE = "test.waves";
+	private static final String HEADER = "name Test\nbackground background1.jpg\nkills 10\nlanes 5\n";
+	private static final double MAXIMUM_Y = 400;
+	private static final int TICKS_PER_SECOND = 50;
+	private static final long SEED = 2024;
+
+	/**
+	 * An unknown directive or wave setting is reported with the line it is on.
+	 */
+	@Test
+	void rejectsUnknownKeys() {
+		assertParseError(HEADER + "gravity 3\nwave at=0 type=enemy\n",
+				SOURCE + ":5: unknown directive: gravity");
+		assertParseError(HEADER + "wave at=0 type=enemy speed=3\n",
+				SOURCE + ":5: unknown wave setting: speed");
+		assertParseError(HEADER + "wave at=0 type=tank\n",
+				SOURCE + ":5: unknown enemy type: tank");
+	}
+
+	/**
+	 * A formation wider than the level, or placed so that it sticks out of the lanes, is reported.
+	 */
+	@Test
+	void rejectsFormationsOverflowingLanes() {
+		assertParseError(HEADER + "wave at=0 type=enemy count=6 formation=line\n",
+				SOURCE + ":5: a line of 6 needs 6 lanes, the level has 5");
+		assertParseError(HEADER + "wave at=0 type=enemy count=3 formation=stagger lane=3 interval=1\n",
+				SOURCE + ":5: the formation does not fit on lane 3 of 5");
+		assertParseError(HEADER + "wave at=0 type=enemy count=5 formation=vee lane=1 interval=1\n",
+				SOURCE + ":5: the formation does not fit on lane 1 of 5");
+	}
+
+	/**
+	 * A wave of a looping script that is still sending enemies when the loop starts over is reported.
+	 */
+	@Test
+	void rejectsWavesPastTheLoop() {
+		assertParseError(HEADER + "loop 10\nwave at=8 type=enemy count=3 formation=column interval=1\n",
+				SOURCE + ":6: the wave ends after 10.0 seconds, past the loop of 10.0");
+	}
+
+	/**
+	 * Spawns are sorted by tick, spawns on the same tick keep their script order, and each formation places its
+	 * enemies on the lanes and ticks it describes.
+	 */
+	@Test
+	void compilesSpawnsInTickAndScriptOrder() {
+		WaveScript script = WaveScript.parse(HEADER
+				+ "loop 20\n"
+				+ "wave at=2 type=enemy count=3 formation=column lane=1 interval=0.5\n"
+				+ "wave at=1 type=enemy2 count=3 formation=vee lane=2 interval=1\n"
+				+ "wave at=2 type=enemy count=2 formation=line lane=3\n", SOURCE);
+		SpawnSchedule schedule = script.compile(new SplittableRandom(SEED), MAXIMUM_Y, TICKS_PER_SECOND);
+
+		int[] ticks = {50, 100, 100, 100, 100, 100, 125, 150};
+		String[] types = {"enemy2", "enemy", "enemy2", "enemy2", "enemy", "enemy", "enemy", "enemy"};
+		double[] positions = {200, 100, 100, 300, 300, 400, 100, 100};
+		assertEquals(ticks.length, schedule.size());
+		for (int i = 0; i < ticks.length; i++) {
+			assertEquals(ticks[i], schedule.getTick(i), "tick of spawn " + i);
+			assertEquals(types[i], schedule.getType(i), "type of spawn " + i);
+			assertEquals(positions[i], schedule.getY(i), "position of spawn " + i);
+		}
+		assertEquals(20 * TICKS_PER_SECOND, schedule.getLoopPeriod());
+	}
+
+	/**
+	 * Random lanes and types are drawn from the generator only, so the same seed always compiles the same
+	 * schedule, and random formations still fit within the lanes.
+	 */
+	@Test
+	void compilesSameScheduleForSameSeed() {
+		WaveScript script = WaveScript.load(WaveScript.SCRIPT_LOCATION + "gauntlet.waves");
+		SpawnSchedule first = script.compile(new SplittableRandom(SEED), MAXIMUM_Y, TICKS_PER_SECOND);
+		SpawnSchedule second = script.compile(new SplittableRandom(SEED), MAXIMUM_Y, TICKS_PER_SECOND);
+
+		assertEquals(script.getEnemyCount(), first.size());
+		assertEquals(first.size(), second.size());
+		for (int i = 0; i < first.size(); i++) {
+			assertEquals(first.getTick(i), second.getTick(i), "tick of spawn " + i);
+			assertEquals(first.getType(i), second.getType(i), "type of spawn " + i);
+			assertEquals(first.getY(i), second.getY(i), "position of spawn " + i);
+			if (i > 0) {
+				assertTrue(first.getTick(i - 1) <= first.getTick(i), "spawn " + i + " is out of order");
+			}
+			assertTrue(first.getY(i) >= 0 && first.getY(i) <= MAXIMUM_Y, "spawn " + i + " is off the lanes");
+		}
+	}
+
+	/**
+	 * Checks that parsing a script fails with the given message.
+	 *
+	 * @param text    the script
+	 * @param message the expected message
+	 */
+	private static void assertParseError(String text, String message) {
+		IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+				() -> WaveScript.parse(text, SOURCE));
+		assertEquals(message, error.getMessage());
+	}
+}
@@ -0,0 +1,208 @@
+package com.example.demo.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.example.demo.levels.GameSettings;
+import com.example.demo.levels.InputAction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests the varint encoding of input logs, and that logs cut off inside a record are rejected rather than replayed
+ * in part.
+ */
+class InputLogFormatTest {
+
+	private static final long SEED = 2024;
+	private static final int TICK_RATE = GameSettings.TICK_RATE;
+	private static final String LEVEL = "com.example.demo.levels.LevelOne";
+
+	/**
+	 * Values round-trip through their encoding, which takes one byte per seven bits, up to the largest long.
+	 */
+	@Test
+	void varintsRoundTrip() {
+		long[] values = {0, 1, 127, 128, 255, 300, 16_383, 16_384, 2_097_151, 2_097_152, Integer.MAX_VALUE,
+				1L << 35, (1L << 56) - 1, 1L << 56, Long.MAX_VALUE, -1};
+		int[] sizes = {1, 1, 1, 2, 2, 2, 2, 3, 3, 4, 5, 6, 8, 9, 9, 10};
+		ByteBuffer buffer = ByteBuffer.allocate(values.length * InputLogFormat.MAX_VARINT_SIZE);
+		for (int i = 0; i < values.length; i++) {
+			int start = buffer.position();
+			InputLogFormat.putVarLong(buffer, values[i]);
+			assertEquals(sizes[i], buffer.position() - start, "size of " + values[i]);
+		}
+		buffer.flip();
+		for (long value : values) {
+			assertEquals(value, InputLogFormat.getVarLong(buffer));
+		}
+		assertFalse(buffer.hasRemaining());
+	}
+
+	/**
+	 * Known values encode to the bytes of unsigned LEB128, low seven bits first.
+	 */
+	@Test
+	void varintsEncodeLowBitsFirst() {
+		assertEncoding(0, 0x00);
+		assertEncoding(127, 0x7f);
+		assertEncoding(128, 0x80, 0x01);
+		assertEncoding(300, 0xac, 0x02);
+		assertEncoding(16_384, 0x80, 0x80, 0x01);
+	}
+
+	/**
+	 * A varint that never ends within {@link InputLogFormat#MAX_VARINT_SIZE} bytes is malformed.
+	 */
+	@Test
+	void rejectsOverlongVarints() {
+		byte[] continued = new byte[InputLogFormat.MAX_VARINT_SIZE + 1];
+		Arrays.fill(continued, (byte) 0x80);
+		assertThrows(IllegalStateException.class, () -> InputLogFormat.getVarLong(ByteBuffer.wrap(continued)));
+	}
+
+	/**
+	 * A recorded log replays its level and inputs, with tick deltas of several bytes restored exactly.
+	 *
+	 * @param directory a temporary directory for the log
+	 * @throws IOException if the log cannot be written or read
+	 */
+	@Test
+	void replaysRecordedLog(@TempDir Path directory) throws IOException {
+		Path log = record(directory);
+		InputReplay replay = InputReplay.read(log);
+		assertEquals(SEED, replay.getSeed());
+		assertEquals(TICK_RATE, replay.getTickRate());
+		assertEquals(1, replay.getLevels().size());
+
+		LevelReplay level = replay.getLevels().get(0);
+		assertEquals(LEVEL, level.getLevelClassName());
+		assertEquals(Arrays.asList(InputAction.MOVE_UP), poll(level, 126));
+		assertEquals(Arrays.asList(InputAction.FIRE), poll(level, 127));
+		assertEquals(Arrays.asList(InputAction.STOP), poll(level, 19_999));
+		assertEquals(Arrays.asList(InputAction.MOVE_DOWN), poll(level, 20_000));
+		assertEquals(Arrays.asList(), poll(level, Long.MAX_VALUE));
+		assertFalse(level.hasEnded(19_999_999));
+		assertTrue(level.hasEnded(20_000_000));
+	}
+
+	/**
+	 * A log cut anywhere inside its header or a record is rejected as truncated, and one cut between records is not.
+	 *
+	 * @param directory a temporary directory for the logs
+	 * @throws IOException if the logs cannot be written
+	 */
+	@Test
+	void rejectsTruncatedLog(@TempDir Path directory) throws IOException {
+		byte[] whole = Files.readAllBytes(record(directory));
+		// a log cut at the end of a record is well formed, it just holds fewer records
+		List<Integer> boundaries = recordBoundaries(whole);
+		for (int length = 1; length < whole.length; length++) {
+			Path cut = directory.resolve("cut-" + length + ".log");
+			Files.write(cut, Arrays.copyOf(whole, length));
+			if (boundaries.contains(length)) {
+				InputReplay.read(cut);
+			} else {
+				assertThrows(IllegalArgumentException.class, () -> InputReplay.read(cut), "cut at " + length);
+			}
+		}
+	}
+
+	/**
+	 * A log recorded at another tick rate than the game's is rejected, since it would not play out the same.
+	 *
+	 * @param directory a temporary directory for the log
+	 * @throws IOException if the log cannot be written
+	 */
+	@Test
+	void rejectsLogOfOtherTickRate(@TempDir Path directory) throws IOException {
+		Path log = directory.resolve("fast.log");
+		try (InputRecorder recorder = new InputRecorder(log, SEED, TICK_RATE * 3, 750, 1300)) {
+			recorder.startLevel(LEVEL);
+		}
+		assertThrows(IllegalArgumentException.class, () -> InputReplay.read(log));
+	}
+
+	/**
+	 * Records a log of one level whose inputs are far enough apart for their tick deltas to take one, two and three
+	 * bytes, ended by the session closing.
+	 *
+	 * @param directory the directory to write the log to
+	 * @return the log file
+	 * @throws IOException if the log cannot be written
+	 */
+	private static Path record(Path directory) throws IOException {
+		Path log = directory.resolve("session.log");
+		try (InputRecorder recorder = new InputRecorder(log, SEED, TICK_RATE, 750, 1300)) {
+			recorder.startLevel(LEVEL);
+			recorder.inputApplied(0, InputAction.MOVE_UP);
+			recorder.inputApplied(127, InputAction.FIRE);
+			recorder.inputApplied(255, InputAction.STOP);
+			recorder.inputApplied(20_000, InputAction.MOVE_DOWN);
+			recorder.end(20_000_000);
+		}
+		return log;
+	}
+
+	/**
+	 * Collects the inputs a level replay hands over for a tick.
+	 *
+	 * @param level the level replay
+	 * @param tick  the number of ticks the level has run
+	 * @return the inputs due
+	 */
+	private static List<InputAction> poll(LevelReplay level, long tick) {
+		List<InputAction> actions = new ArrayList<>();
+		level.pollInputs(tick, actions::add);
+		return actions;
+	}
+
+	/**
+	 * Finds the offsets at which the header and each record of a log end.
+	 *
+	 * @param log the log
+	 * @return the end offset of the header and of every record
+	 */
+	private static List<Integer> recordBoundaries(byte[] log) {
+		ByteBuffer buffer = ByteBuffer.wrap(log);
+		buffer.position(InputLogFormat.HEADER_SIZE);
+		List<Integer> boundaries = new ArrayList<>();
+		boundaries.add(buffer.position());
+		while (buffer.hasRemaining()) {
+			byte code = buffer.get();
+			long value = InputLogFormat.getVarLong(buffer);
+			if (code == InputLogFormat.LEVEL) {
+				buffer.position(buffer.position() + (int) value);
+			}
+			boundaries.add(buffer.position());
+		}
+		return boundaries;
+	}
+
+	/**
+	 * Checks the bytes a value encodes to.
+	 *
+	 * @param value    the value
+	 * @param expected the expected bytes
+	 */
+	private static void assertEncoding(long value, int... expected) {
+		ByteBuffer buffer = ByteBuffer.allocate(InputLogFormat.MAX_VARINT_SIZE);
+		InputLogFormat.putVarLong(buffer, value);
+		byte[] bytes = new byte[expected.length];
+		for (int i = 0; i < expected.length; i++) {
+			bytes[i] = (byte) expected[i];
+		}
+		assertEquals(Arrays.toString(bytes), Arrays.toString(Arrays.copyOf(buffer.array(), buffer.position())),
+				"encoding of " + value);
+	}
+}